@@ -1,21 +1,15 @@
 package io.github.bigdaditor.sasa;
 
+import io.github.bigdaditor.sasa.core.DefaultApiSpecGenerator;
 import io.github.bigdaditor.sasa.extractor.api.EndpointExtractor;
 import io.github.bigdaditor.sasa.extractor.api.ExceptionHandlerExtractor;
 import io.github.bigdaditor.sasa.extractor.impl.DefaultEndpointExtractor;
 import io.github.bigdaditor.sasa.extractor.impl.DefaultExceptionHandlerExtractor;
-import io.github.bigdaditor.sasa.generator.HtmlGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.bigdaditor.sasa.extractor.impl.ErrorResponseIndex;
+import io.github.bigdaditor.sasa.extractor.impl.StringPool;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
-import java.io.File;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -67,26 +61,8 @@ public class SasaApplication {
      */
     public static void generateApiSpec(RequestMappingHandlerMapping mapping, ApplicationContext applicationContext, SasaConfig config) {
         try {
-            ObjectMapper mapper = createObjectMapper();
-            Map<String, Object> apiSpec = extractApiSpec(mapping, applicationContext, config);
-
-            String json = mapper.writeValueAsString(apiSpec);
-
-            // 콘솔 출력
-            if (config.isEnableConsoleOutput()) {
-                System.out.println("\n=== SASA: API Specification ===");
-                System.out.println(json);
-                System.out.println("=== SASA: End ===\n");
-            }
-
-            // 파일 저장
-            if (config.isEnableFileOutput()) {
-                saveToFile(mapper, apiSpec, config.getOutputFilePath());
-
-                // HTML 파일 생성
-                String htmlPath = config.getOutputFilePath().replace(".json", ".html");
-                saveHtmlFile(apiSpec, htmlPath);
-            }
+            new DefaultApiSpecGenerator(config, endpointExtractor(config), exceptionHandlerExtractor)
+                    .generateAndOutput(mapping, applicationContext);
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate API spec", e);
         }
@@ -103,62 +79,58 @@ public class SasaApplication {
      * API 스펙 추출 (ApplicationContext 포함)
      */
     public static Map<String, Object> extractApiSpec(RequestMappingHandlerMapping mapping, ApplicationContext applicationContext, SasaConfig config) {
+        return extractApiSpec(mapping, applicationContext, config, new StringPool());
+    }
+
+    /**
+     * API 스펙 추출 (문자열 풀 지정)
+     *
+     * <p>{@link SasaConfig#isEnableStringDeduplication()}이 켜져 있으면 스펙의 문자열을 주어진 풀로 중복 제거합니다.
+     * 추출 후 {@link StringPool#report()}로 절감된 메모리를 확인할 수 있습니다.</p>
+     */
+    public static Map<String, Object> extractApiSpec(RequestMappingHandlerMapping mapping, ApplicationContext applicationContext,
+                                                     SasaConfig config, StringPool stringPool) {
         // Endpoints 추출 (새로운 인터페이스 기반 extractor 사용)
-        List<Map<String, Object>> endpoints = endpointExtractor.extract(mapping, config);
+        List<Map<String, Object>> endpoints = endpointExtractor(config).extract(mapping, config);
 
         // Exception handlers 추출 (새로운 인터페이스 기반 extractor 사용)
         List<Map<String, Object>> exceptionHandlers = new ArrayList<>();
         if (applicationContext != null) {
             exceptionHandlers = exceptionHandlerExtractor.extract(applicationContext);
+            if (config.isIncludeErrorResponses()) {
+                ErrorResponseIndex.build(applicationContext, exceptionHandlerExtractor).attach(mapping, endpoints);
+            }
         }
 
-        // API 스펙 생성
-        Map<String, Object> spec = new LinkedHashMap<>();
-        spec.put("applicationName", config.getApplicationName());
-        spec.put("version", "0.0.1-SNAPSHOT");
-        spec.put("generatedAt", LocalDateTime.now().toString());
-        spec.put("endpoints", endpoints);
-        spec.put("exceptionHandlers", exceptionHandlers);
-
-        return spec;
+        return buildSpec(config, endpoints, exceptionHandlers, stringPool);
     }
 
     /**
-     * ObjectMapper 생성
+     * 설정에 스키마 추출기가 지정되어 있으면 그 추출기로 만든 엔드포인트 추출기, 아니면 공유 기본 추출기
      */
-    private static ObjectMapper createObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return mapper;
+    private static EndpointExtractor endpointExtractor(SasaConfig config) {
+        return config.getTypeSchemaExtractor() != null ? DefaultEndpointExtractor.of(config) : endpointExtractor;
     }
 
     /**
-     * 파일로 저장
-     */
-    private static void saveToFile(ObjectMapper mapper, Map<String, Object> spec, String filePath) throws Exception {
-        Path path = Paths.get(filePath);
-        Path parent = path.getParent();
-        if (parent != null && !Files.exists(parent)) {
-            Files.createDirectories(parent);
-        }
-        mapper.writeValue(new File(filePath), spec);
-        System.out.println("API Spec (JSON) saved to: " + path.toAbsolutePath());
-    }
-
-    /**
-     * HTML 파일로 저장
+     * 추출된 엔드포인트와 exception handler로 API 스펙 맵을 만듭니다 (WebFlux 등 다른 매핑에서 추출한 경우에도 사용).
+     *
+     * @param config            SASA 설정 (애플리케이션 이름, 문자열 중복 제거 여부)
+     * @param endpoints         엔드포인트 목록
+     * @param exceptionHandlers exception handler 목록
+     * @param stringPool        문자열 중복 제거에 사용할 풀
+     * @return API 스펙
      */
-    private static void saveHtmlFile(Map<String, Object> spec, String filePath) throws Exception {
-        Path path = Paths.get(filePath);
-        Path parent = path.getParent();
-        if (parent != null && !Files.exists(parent)) {
-            Files.createDirectories(parent);
-        }
+    public static Map<String, Object> buildSpec(SasaConfig config, List<Map<String, Object>> endpoints,
+                                                List<Map<String, Object>> exceptionHandlers, StringPool stringPool) {
+        // API 스펙 생성
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("applicationName", config.getApplicationName());
+        spec.put("version", "0.0.1-SNAPSHOT");
+        spec.put("generatedAt", LocalDateTime.now().toString());
+        spec.put("endpoints", endpoints);
+        spec.put("exceptionHandlers", exceptionHandlers);
 
-        String html = HtmlGenerator.generateHtml(spec);
-        Files.write(path, html.getBytes(StandardCharsets.UTF_8));
-        System.out.println("API Spec (HTML) saved to: " + path.toAbsolutePath());
+        return config.isEnableStringDeduplication() ? stringPool.deduplicate(spec) : spec;
     }
-}
\ No newline at end of file
+}
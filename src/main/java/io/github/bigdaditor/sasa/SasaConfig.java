@@ -1,8 +1,15 @@
 package io.github.bigdaditor.sasa;
 
+import io.github.bigdaditor.sasa.extractor.api.TypeSchemaExtractor;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.zip.Deflater;
 
 /**
  * SASA 설정을 위한 빌더 클래스
@@ -13,22 +20,46 @@ public class SasaConfig {
     private final boolean enableFileOutput;
     private final String outputFilePath;
     private final String applicationName;
+    private final boolean enableGzipOutput;
+    private final int gzipCompressionLevel;
+    private final List<OutputGenerator> additionalOutputGenerators;
+    private final boolean enableStringDeduplication;
     private final Set<String> includePathPatterns;
     private final Set<String> excludePathPatterns;
     private final Set<String> includeHttpMethods;
     private final Set<String> excludeHttpMethods;
     private final Predicate<String> customEndpointFilter;
+    private final boolean lazyEndpointDetails;
+    private final int endpointDetailCacheSize;
+    private final int maxSchemaDepth;
+    private final int maxFieldsPerType;
+    private final long maxSchemaNodes;
+    private final Duration extractionTimeBudget;
+    private final boolean includeErrorResponses;
+    private final TypeSchemaExtractor typeSchemaExtractor;
 
     private SasaConfig(Builder builder) {
         this.enableConsoleOutput = builder.enableConsoleOutput;
         this.enableFileOutput = builder.enableFileOutput;
         this.outputFilePath = builder.outputFilePath;
         this.applicationName = builder.applicationName;
+        this.enableGzipOutput = builder.enableGzipOutput;
+        this.gzipCompressionLevel = builder.gzipCompressionLevel;
+        this.additionalOutputGenerators = List.copyOf(builder.additionalOutputGenerators);
+        this.enableStringDeduplication = builder.enableStringDeduplication;
         this.includePathPatterns = builder.includePathPatterns;
         this.excludePathPatterns = builder.excludePathPatterns;
         this.includeHttpMethods = builder.includeHttpMethods;
         this.excludeHttpMethods = builder.excludeHttpMethods;
         this.customEndpointFilter = builder.customEndpointFilter;
+        this.lazyEndpointDetails = builder.lazyEndpointDetails;
+        this.endpointDetailCacheSize = builder.endpointDetailCacheSize;
+        this.maxSchemaDepth = builder.maxSchemaDepth;
+        this.maxFieldsPerType = builder.maxFieldsPerType;
+        this.maxSchemaNodes = builder.maxSchemaNodes;
+        this.extractionTimeBudget = builder.extractionTimeBudget;
+        this.includeErrorResponses = builder.includeErrorResponses;
+        this.typeSchemaExtractor = builder.typeSchemaExtractor;
     }
 
     public boolean isEnableConsoleOutput() {
@@ -47,6 +78,22 @@ public class SasaConfig {
         return applicationName;
     }
 
+    public boolean isEnableGzipOutput() {
+        return enableGzipOutput;
+    }
+
+    public int getGzipCompressionLevel() {
+        return gzipCompressionLevel;
+    }
+
+    public List<OutputGenerator> getAdditionalOutputGenerators() {
+        return additionalOutputGenerators;
+    }
+
+    public boolean isEnableStringDeduplication() {
+        return enableStringDeduplication;
+    }
+
     public Set<String> getIncludePathPatterns() {
         return includePathPatterns;
     }
@@ -67,6 +114,44 @@ public class SasaConfig {
         return customEndpointFilter;
     }
 
+    public boolean isLazyEndpointDetails() {
+        return lazyEndpointDetails;
+    }
+
+    public int getEndpointDetailCacheSize() {
+        return endpointDetailCacheSize;
+    }
+
+    public int getMaxSchemaDepth() {
+        return maxSchemaDepth;
+    }
+
+    public int getMaxFieldsPerType() {
+        return maxFieldsPerType;
+    }
+
+    public long getMaxSchemaNodes() {
+        return maxSchemaNodes;
+    }
+
+    /**
+     * @return 엔드포인트당 추출 시간 한도, 없으면 {@code null}
+     */
+    public Duration getExtractionTimeBudget() {
+        return extractionTimeBudget;
+    }
+
+    public boolean isIncludeErrorResponses() {
+        return includeErrorResponses;
+    }
+
+    /**
+     * @return 파라미터/응답 스키마 추출기, 지정하지 않았으면 {@code null} (기본 추출기 사용)
+     */
+    public TypeSchemaExtractor getTypeSchemaExtractor() {
+        return typeSchemaExtractor;
+    }
+
     /**
      * 경로가 필터 조건을 통과하는지 확인
      */
@@ -128,11 +213,23 @@ public class SasaConfig {
         private boolean enableFileOutput = true;
         private String outputFilePath = "build/api-spec.json";
         private String applicationName = "SASA";
+        private boolean enableGzipOutput = false;
+        private int gzipCompressionLevel = Deflater.BEST_COMPRESSION;
+        private List<OutputGenerator> additionalOutputGenerators = new ArrayList<>();
+        private boolean enableStringDeduplication = true;
         private Set<String> includePathPatterns = new HashSet<>();
         private Set<String> excludePathPatterns = new HashSet<>();
         private Set<String> includeHttpMethods = new HashSet<>();
         private Set<String> excludeHttpMethods = new HashSet<>();
         private Predicate<String> customEndpointFilter = null;
+        private boolean lazyEndpointDetails = false;
+        private int endpointDetailCacheSize = 256;
+        private int maxSchemaDepth = 1;
+        private int maxFieldsPerType = Integer.MAX_VALUE;
+        private long maxSchemaNodes = Long.MAX_VALUE;
+        private Duration extractionTimeBudget = null;
+        private boolean includeErrorResponses = true;
+        private TypeSchemaExtractor typeSchemaExtractor = null;
 
         /**
          * 콘솔 출력 활성화/비활성화
@@ -166,6 +263,42 @@ public class SasaConfig {
             return this;
         }
 
+        /**
+         * 출력 파일마다 .gz 압축본을 함께 생성할지 여부 (정적 호스팅/CDN용)
+         */
+        public Builder enableGzipOutput(boolean enable) {
+            this.enableGzipOutput = enable;
+            return this;
+        }
+
+        /**
+         * .gz 압축 레벨 설정 (1~9, -1은 기본 레벨, 기본값: 9)
+         */
+        public Builder gzipCompressionLevel(int level) {
+            if (level != Deflater.DEFAULT_COMPRESSION
+                    && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+                throw new IllegalArgumentException("Invalid gzip compression level: " + level);
+            }
+            this.gzipCompressionLevel = level;
+            return this;
+        }
+
+        /**
+         * JSON/HTML 외에 추가로 출력할 생성기 등록 (예: 바이너리 아카이브)
+         */
+        public Builder addOutputGenerator(OutputGenerator generator) {
+            this.additionalOutputGenerators.add(generator);
+            return this;
+        }
+
+        /**
+         * 스펙 내 같은 내용의 문자열(타입명, 필드명, 미디어 타입 등)을 하나의 인스턴스로 합칠지 여부 (기본값: true)
+         */
+        public Builder enableStringDeduplication(boolean enable) {
+            this.enableStringDeduplication = enable;
+            return this;
+        }
+
         /**
          * 포함할 경로 패턴 추가 (예: "/api/**", "/user/*")
          */
@@ -242,6 +375,89 @@ public class SasaConfig {
             return this;
         }
 
+        /**
+         * 스냅샷에는 엔드포인트 요약(경로, 메서드, 핸들러, 설명)만 두고 파라미터/응답 스키마는
+         * 처음 조회될 때 계산할지 여부 (기본값: false, {@code SasaViewController}에만 적용)
+         */
+        public Builder lazyEndpointDetails(boolean enable) {
+            this.lazyEndpointDetails = enable;
+            return this;
+        }
+
+        /**
+         * 지연 계산한 엔드포인트 상세 정보를 보관할 최대 엔드포인트 수, 넘으면 가장 오래 조회되지 않은 것부터 제거 (기본값: 256)
+         */
+        public Builder endpointDetailCacheSize(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Endpoint detail cache size must be positive: " + size);
+            }
+            this.endpointDetailCacheSize = size;
+            return this;
+        }
+
+        /**
+         * 스키마 최대 깊이 (기본값: 1, 최상위 타입의 필드만). 2 이상이면 DTO 타입 필드(컬렉션/배열 요소 포함)를
+         * 중첩 스키마로 펼치며, 한도에 닿은 필드는 {@code "truncated": "maxSchemaDepth"}로 표시
+         */
+        public Builder maxSchemaDepth(int depth) {
+            if (depth < 1) {
+                throw new IllegalArgumentException("Max schema depth must be at least 1: " + depth);
+            }
+            this.maxSchemaDepth = depth;
+            return this;
+        }
+
+        /**
+         * 타입 하나에서 추출할 최대 필드 수 (기본값: 제한 없음)
+         */
+        public Builder maxFieldsPerType(int fields) {
+            if (fields < 1) {
+                throw new IllegalArgumentException("Max fields per type must be positive: " + fields);
+            }
+            this.maxFieldsPerType = fields;
+            return this;
+        }
+
+        /**
+         * 엔드포인트 하나의 파라미터/응답 스키마 전체에서 추출할 최대 필드 수 (기본값: 제한 없음)
+         */
+        public Builder maxSchemaNodes(long nodes) {
+            if (nodes < 1) {
+                throw new IllegalArgumentException("Max schema nodes must be positive: " + nodes);
+            }
+            this.maxSchemaNodes = nodes;
+            return this;
+        }
+
+        /**
+         * 엔드포인트 하나의 상세 정보 추출 시간 한도, 넘으면 남은 스키마 필드를 생략 (기본값: 없음).
+         * 결과가 기기 부하에 따라 달라지므로 재현 가능한 출력이 필요하면 설정하지 않습니다. {@code null}이면 한도 없음
+         */
+        public Builder extractionTimeBudget(Duration budget) {
+            if (budget != null && (budget.isNegative() || budget.isZero())) {
+                throw new IllegalArgumentException("Extraction time budget must be positive: " + budget);
+            }
+            this.extractionTimeBudget = budget;
+            return this;
+        }
+
+        /**
+         * 각 엔드포인트에 적용되는 exception handler를 {@code errorResponses}로 붙일지 여부 (기본값: true)
+         */
+        public Builder includeErrorResponses(boolean include) {
+            this.includeErrorResponses = include;
+            return this;
+        }
+
+        /**
+         * 파라미터/응답 스키마 추출기 (기본값: {@code DefaultTypeSchemaExtractor}).
+         * 애플리케이션의 {@code ObjectMapper}로 직렬화 규칙을 반영하려면 {@code JacksonTypeSchemaExtractor}를 지정합니다
+         */
+        public Builder typeSchemaExtractor(TypeSchemaExtractor extractor) {
+            this.typeSchemaExtractor = extractor;
+            return this;
+        }
+
         public SasaConfig build() {
             return new SasaConfig(this);
         }
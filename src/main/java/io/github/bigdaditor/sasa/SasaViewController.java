@@ -1,43 +1,161 @@
 package io.github.bigdaditor.sasa;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.bigdaditor.sasa.SasaApplication;
 import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultEndpointExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.EndpointDetailCache;
+import io.github.bigdaditor.sasa.extractor.impl.StringPool;
+import io.github.bigdaditor.sasa.generator.HtmlGenerator;
+import io.github.bigdaditor.sasa.runtime.RuntimeSpecContributor;
+import io.github.bigdaditor.sasa.util.ClassScopedCache;
+import io.github.bigdaditor.sasa.util.ETags;
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * SASA UI를 위한 API 스펙 제공 컨트롤러
  */
 @RestController
-public class SasaViewController {
+public class SasaViewController implements DisposableBean {
+
+    private static final ObjectMapper ETAG_MAPPER = new ObjectMapper();
 
     private final RequestMappingHandlerMapping handlerMapping;
     private final ApplicationContext applicationContext;
-    private Map<String, Object> cachedApiSpec;
+    private final SasaConfig config;
+    private final EndpointDetailCache detailCache;
+    private final Object snapshotLock = new Object();
+    private volatile Snapshot snapshot;
+    private volatile List<RuntimeSpecContributor> contributors;
+    private volatile SnapshotETag snapshotETag;
 
+    @Autowired
     public SasaViewController(RequestMappingHandlerMapping handlerMapping, ApplicationContext applicationContext) {
+        this(handlerMapping, applicationContext, SasaConfig.builder().build());
+    }
+
+    /**
+     * @param config 추출 설정 (필터, 문자열 중복 제거, 상세 정보 지연 계산 등; 출력 설정은 사용하지 않음)
+     */
+    public SasaViewController(RequestMappingHandlerMapping handlerMapping, ApplicationContext applicationContext,
+                              SasaConfig config) {
         this.handlerMapping = handlerMapping;
         this.applicationContext = applicationContext;
+        this.config = config;
+        this.detailCache = config.isLazyEndpointDetails()
+                ? new EndpointDetailCache(handlerMapping, DefaultEndpointExtractor.of(config), config)
+                : null;
     }
 
     /**
      * 현재 애플리케이션의 API 스펙을 JSON으로 반환 (exception handler 포함)
+     *
+     * <p>응답에는 본문 기준 ETag가 붙고, {@code If-None-Match}가 일치하면 본문 없이 304를 반환합니다.
+     * 실행 정보가 없으면 ETag는 스냅샷마다 한 번만 계산되며, 실행 정보가 병합되면 요청마다 계산됩니다.</p>
      */
     @GetMapping("/sasa/api-spec")
+    public Map<String, Object> getApiSpec(WebRequest request) {
+        Map<String, Object> spec = getApiSpec();
+        if (request.checkNotModified(eTag(spec))) {
+            return null;
+        }
+        return spec;
+    }
+
+    /**
+     * 현재 애플리케이션의 API 스펙 (exception handler 포함)
+     *
+     * <p>{@link RuntimeSpecContributor} 빈이 있으면 캐시된 스펙의 사본에 실행 정보(예시, 지연 시간 등)를 덧붙여 반환합니다.</p>
+     */
     public Map<String, Object> getApiSpec() {
-        // 캐시된 스펙이 없으면 생성
-        if (cachedApiSpec == null) {
-            SasaConfig config = SasaConfig.builder()
-                    .enableConsoleOutput(false)
-                    .enableFileOutput(false)
-                    .build();
-            cachedApiSpec = SasaApplication.extractApiSpec(handlerMapping, applicationContext, config);
+        return withRuntimeInfo(cachedSpec());
+    }
+
+    /**
+     * 실행 정보가 병합되지 않은 캐시된 스펙을 반환 (없으면 생성)
+     *
+     * <p>새로고침 전까지 같은 인스턴스를 반환하므로, 스펙에서 무언가를 미리 계산하는 컴포넌트는
+     * 인스턴스 비교로 스냅샷 변경을 감지할 수 있습니다. 반환된 맵은 수정하지 않아야 합니다.</p>
+     */
+    public Map<String, Object> getSpecSnapshot() {
+        return cachedSpec();
+    }
+
+    private Map<String, Object> cachedSpec() {
+        return snapshot().spec;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // 동시 첫 요청이 두 번 추출하지 않도록 한 스레드만 생성
+        synchronized (snapshotLock) {
+            current = snapshot;
+            if (current == null) {
+                // 풀은 추출 동안만 사용하고 리포트만 보관 (풀의 맵까지 유지하지 않도록)
+                StringPool stringPool = new StringPool();
+                Map<String, Object> spec = SasaApplication.extractApiSpec(handlerMapping, applicationContext, config, stringPool);
+                current = new Snapshot(spec, stringPool.report());
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 엔드포인트 하나의 전체 정보를 반환 (실행 정보 포함)
+     *
+     * <p>상세 정보 지연 계산 모드에서는 빠진 파라미터/응답 스키마를 이때 계산해 크기 제한 캐시에 보관합니다.</p>
+     *
+     * @param key 엔드포인트 키 ({@code handler.fullControllerName + "#" + handler.signature})
+     */
+    @GetMapping("/sasa/api-spec/endpoint")
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getEndpoint(@RequestParam("key") String key) {
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) cachedSpec().getOrDefault("endpoints", List.of())) {
+            if (!key.equals(EndpointKey.of(endpoint))) {
+                continue;
+            }
+            Map<String, Object> copy = new LinkedHashMap<>(endpoint);
+            if (detailCache != null && Boolean.TRUE.equals(copy.remove("detailsDeferred"))) {
+                Map<String, Object> details = detailCache.get(key);
+                if (details != null) {
+                    copy.putAll(details);
+                }
+            }
+            for (RuntimeSpecContributor contributor : runtimeContributors()) {
+                contributor.contribute(key, copy);
+            }
+            return copy;
         }
-        return cachedApiSpec;
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown endpoint: " + key);
+    }
+
+    /**
+     * 실행 정보가 병합된 현재 API 스펙을 HTML 문서로 반환
+     */
+    @GetMapping(value = "/sasa/api-spec/html", produces = MediaType.TEXT_HTML_VALUE)
+    public String getApiSpecHtml() {
+        return HtmlGenerator.generateHtml(getApiSpec());
     }
 
     /**
@@ -45,7 +163,123 @@ public class SasaViewController {
      */
     @GetMapping("/sasa/api-spec/refresh")
     public Map<String, Object> refreshApiSpec() {
-        cachedApiSpec = null;
+        snapshot = null;
+        if (detailCache != null) {
+            detailCache.clear();
+        }
         return getApiSpec();
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시된 스펙의 문자열 중복 제거 리포트 (조회 수, 고유 문자열 수, 절감 바이트 추정치)
+     *
+     * <p>상세 정보 지연 계산 모드에서는 상세 정보 캐시 통계({@code endpointDetailCache})도 함께 반환합니다.</p>
+     */
+    @GetMapping("/sasa/api-spec/memory")
+    public Map<String, Object> getMemoryReport() {
+        Map<String, Object> memoryReport = snapshot().memoryReport;
+        if (detailCache == null) {
+            return memoryReport;
+        }
+        Map<String, Object> report = new LinkedHashMap<>(memoryReport);
+        report.put("endpointDetailCache", detailCache.stats());
+        return report;
+    }
+
+    private String eTag(Map<String, Object> spec) {
+        SnapshotETag cached = snapshotETag;
+        if (cached != null && cached.spec == spec) {
+            return cached.eTag;
+        }
+        String eTag;
+        try {
+            eTag = ETags.of(ETAG_MAPPER.writeValueAsBytes(spec));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize API spec", e);
+        }
+        Snapshot current = snapshot;
+        if (current != null && spec == current.spec) {
+            snapshotETag = new SnapshotETag(spec, eTag);
+        }
+        return eTag;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> withRuntimeInfo(Map<String, Object> spec) {
+        List<RuntimeSpecContributor> runtimeContributors = runtimeContributors();
+        if (runtimeContributors.isEmpty()) {
+            return spec;
+        }
+
+        Map<String, Object> merged = new LinkedHashMap<>(spec);
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) spec.getOrDefault("endpoints", List.of())) {
+            Map<String, Object> copy = new LinkedHashMap<>(endpoint);
+            String endpointKey = EndpointKey.of(copy);
+            if (endpointKey != null) {
+                for (RuntimeSpecContributor contributor : runtimeContributors) {
+                    contributor.contribute(endpointKey, copy);
+                }
+            }
+            endpoints.add(copy);
+        }
+        merged.put("endpoints", endpoints);
+
+        for (RuntimeSpecContributor contributor : runtimeContributors) {
+            contributor.contributeSpec(merged);
+        }
+        return merged;
+    }
+
+    private List<RuntimeSpecContributor> runtimeContributors() {
+        List<RuntimeSpecContributor> resolved = contributors;
+        if (resolved == null) {
+            resolved = applicationContext == null
+                    ? List.of()
+                    : applicationContext.getBeanProvider(RuntimeSpecContributor.class).orderedStream().toList();
+            contributors = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * ApplicationContext 종료 시 (devtools 재시작, 리디플로이) 스펙과 클래스 메타데이터 캐시를 비움.
+     * 종료 콜백은 생성된 빈에만 호출되므로, 한 번도 요청되지 않은 지연 컨트롤러는 종료 때도 만들어지지 않음
+     */
+    @Override
+    public void destroy() {
+        snapshot = null;
+        contributors = null;
+        snapshotETag = null;
+        if (detailCache != null) {
+            detailCache.clear();
+        }
+        ClassScopedCache.invalidateAll();
+    }
+
+    /**
+     * 추출된 스펙과 그 스펙을 만들 때의 문자열 풀 리포트 (함께 교체되도록 한 객체로 보관)
+     */
+    private static final class Snapshot {
+        private final Map<String, Object> spec;
+        private final Map<String, Object> memoryReport;
+
+        Snapshot(Map<String, Object> spec, Map<String, Object> memoryReport) {
+            this.spec = spec;
+            this.memoryReport = memoryReport;
+        }
+    }
+
+    /**
+     * 실행 정보가 없는 스냅샷의 ETag (스냅샷 인스턴스와 함께 보관해 새로고침 후 잘못 재사용되지 않도록 함)
+     */
+    private static final class SnapshotETag {
+        private final Map<String, Object> spec;
+        private final String eTag;
+
+        SnapshotETag(Map<String, Object> spec, String eTag) {
+            this.spec = spec;
+            this.eTag = eTag;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.bigdaditor.sasa.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.SasaApplication;
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.SasaViewController;
+import io.github.bigdaditor.sasa.extractor.impl.JacksonTypeSchemaExtractor;
+import io.github.bigdaditor.sasa.reactive.SasaReactiveViewController;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * SASA 자동 설정.
+ *
+ * <p>{@code sasa.enabled=true}일 때만 적용됩니다. Spring Boot는 자동 설정의 조건을 클래스 로드 없이
+ * 바이트코드 메타데이터로 평가하므로, 꺼져 있으면 SASA 클래스는 하나도 로드되지 않습니다.</p>
+ *
+ * <p>켜져 있어도 빈은 모두 지연 등록됩니다. 컨트롤러({@link SasaViewController}, WebFlux에서는
+ * {@link SasaReactiveViewController})는 핸들러 매핑에 빈 이름으로만 등록되어 첫 {@code /sasa/**} 요청 때 생성되고,
+ * 추출기와 캐시도 그때 처음 만들어집니다. {@code sasa.startup.warm-up} 또는 {@code sasa.startup.write-files}를 켜면
+ * 애플리케이션 준비 시점에 추출합니다.</p>
+ *
+ * <p>컨텍스트에 {@code ObjectMapper} 빈이 하나 있으면 {@link JacksonTypeSchemaExtractor}로 스키마를 추출해,
+ * 스펙의 필드 이름과 구성이 실제 JSON 응답과 같아집니다.</p>
+ *
+ * <p>{@link SasaConfig}나 컨트롤러 빈을 직접 등록하면 그 빈이 사용됩니다.</p>
+ */
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "sasa", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SasaProperties.class)
+public class SasaAutoConfiguration {
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    public SasaConfig sasaConfig(SasaProperties properties, ObjectProvider<ObjectMapper> objectMapper) {
+        SasaConfig.Builder builder = properties.toConfigBuilder();
+        // 애플리케이션의 ObjectMapper가 있으면 실제 직렬화 규칙(이름 전략, @JsonIgnore 등)대로 스키마를 만듦
+        objectMapper.ifUnique(mapper -> builder.typeSchemaExtractor(new JacksonTypeSchemaExtractor(mapper)));
+        return builder.build();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletConfiguration {
+
+        @Bean
+        @Lazy
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "sasa", name = "controller.enabled", havingValue = "true", matchIfMissing = true)
+        public SasaViewController sasaViewController(RequestMappingHandlerMapping requestMappingHandlerMapping,
+                                                     ApplicationContext applicationContext, SasaConfig sasaConfig) {
+            return new SasaViewController(requestMappingHandlerMapping, applicationContext, sasaConfig);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "sasa", name = "startup.warm-up", havingValue = "true")
+        SasaStartupTrigger sasaStartupWarmUp(ObjectProvider<SasaViewController> controller,
+                                             ObjectProvider<RequestMappingHandlerMapping> requestMappingHandlerMapping,
+                                             ObjectProvider<SasaConfig> sasaConfig, ApplicationContext applicationContext) {
+            return new SasaStartupTrigger(snapshot(controller, requestMappingHandlerMapping, sasaConfig, applicationContext),
+                    sasaConfig, applicationContext, false);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "sasa", name = "startup.write-files", havingValue = "true")
+        SasaStartupTrigger sasaStartupWriteFiles(ObjectProvider<SasaViewController> controller,
+                                                 ObjectProvider<RequestMappingHandlerMapping> requestMappingHandlerMapping,
+                                                 ObjectProvider<SasaConfig> sasaConfig, ApplicationContext applicationContext) {
+            return new SasaStartupTrigger(snapshot(controller, requestMappingHandlerMapping, sasaConfig, applicationContext),
+                    sasaConfig, applicationContext, true);
+        }
+
+        private static Supplier<Map<String, Object>> snapshot(ObjectProvider<SasaViewController> controller,
+                                                              ObjectProvider<RequestMappingHandlerMapping> requestMappingHandlerMapping,
+                                                              ObjectProvider<SasaConfig> sasaConfig,
+                                                              ApplicationContext applicationContext) {
+            return () -> {
+                SasaViewController viewController = controller.getIfAvailable();
+                return viewController != null
+                        ? viewController.getSpecSnapshot()
+                        : SasaApplication.extractApiSpec(requestMappingHandlerMapping.getObject(), applicationContext,
+                        sasaConfig.getObject());
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveConfiguration {
+
+        @Bean
+        @Lazy
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "sasa", name = "controller.enabled", havingValue = "true", matchIfMissing = true)
+        public SasaReactiveViewController sasaReactiveViewController(
+                org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping requestMappingHandlerMapping,
+                ApplicationContext applicationContext, SasaConfig sasaConfig) {
+            return new SasaReactiveViewController(requestMappingHandlerMapping, applicationContext, sasaConfig);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "sasa", name = "startup.warm-up", havingValue = "true")
+        SasaStartupTrigger sasaStartupWarmUp(ObjectProvider<SasaReactiveViewController> controller,
+                                             ObjectProvider<org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping> requestMappingHandlerMapping,
+                                             ObjectProvider<SasaConfig> sasaConfig, ApplicationContext applicationContext) {
+            return new SasaStartupTrigger(snapshot(controller, requestMappingHandlerMapping, sasaConfig, applicationContext),
+                    sasaConfig, applicationContext, false);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "sasa", name = "startup.write-files", havingValue = "true")
+        SasaStartupTrigger sasaStartupWriteFiles(ObjectProvider<SasaReactiveViewController> controller,
+                                                 ObjectProvider<org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping> requestMappingHandlerMapping,
+                                                 ObjectProvider<SasaConfig> sasaConfig, ApplicationContext applicationContext) {
+            return new SasaStartupTrigger(snapshot(controller, requestMappingHandlerMapping, sasaConfig, applicationContext),
+                    sasaConfig, applicationContext, true);
+        }
+
+        private static Supplier<Map<String, Object>> snapshot(
+                ObjectProvider<SasaReactiveViewController> controller,
+                ObjectProvider<org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping> requestMappingHandlerMapping,
+                ObjectProvider<SasaConfig> sasaConfig, ApplicationContext applicationContext) {
+            // 준비 이벤트는 메인 스레드에서 발행되므로 스케줄러의 추출을 기다려도 이벤트 루프를 막지 않음
+            return () -> controller.getIfAvailable(() -> new SasaReactiveViewController(
+                            requestMappingHandlerMapping.getObject(), applicationContext, sasaConfig.getObject()))
+                    .getSpecSnapshot()
+                    .block();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.bigdaditor.sasa.autoconfigure;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code sasa.*} 설정 속성.
+ *
+ * <pre>{@code
+ * sasa.enabled=true
+ * sasa.application-name=Orders API
+ * sasa.exclude-paths=/actuator/**,/error
+ * sasa.lazy-endpoint-details=true
+ * sasa.startup.warm-up=true
+ * }</pre>
+ */
+@ConfigurationProperties(prefix = "sasa")
+public class SasaProperties {
+
+    /** SASA 자동 설정 사용 여부 (기본값: false) */
+    private boolean enabled = false;
+
+    private String applicationName = "SASA";
+    private String outputFilePath = "build/api-spec.json";
+    private List<String> includePaths = new ArrayList<>();
+    private List<String> excludePaths = new ArrayList<>();
+    private List<String> includeHttpMethods = new ArrayList<>();
+    private List<String> excludeHttpMethods = new ArrayList<>();
+    private boolean lazyEndpointDetails = false;
+    private int endpointDetailCacheSize = 256;
+    private int maxSchemaDepth = 1;
+    private Duration extractionTimeBudget;
+    private boolean includeErrorResponses = true;
+
+    private final Controller controller = new Controller();
+    private final Startup startup = new Startup();
+
+    /**
+     * @return 속성으로 만든 SASA 설정 (검증은 {@link SasaConfig.Builder}가 수행)
+     */
+    public SasaConfig toConfig() {
+        return toConfigBuilder().build();
+    }
+
+    /**
+     * @return 속성을 적용한 설정 빌더 (속성으로 표현할 수 없는 항목을 더 지정할 때 사용)
+     */
+    public SasaConfig.Builder toConfigBuilder() {
+        SasaConfig.Builder builder = SasaConfig.builder()
+                .applicationName(applicationName)
+                .outputFilePath(outputFilePath)
+                .lazyEndpointDetails(lazyEndpointDetails)
+                .endpointDetailCacheSize(endpointDetailCacheSize)
+                .maxSchemaDepth(maxSchemaDepth)
+                .extractionTimeBudget(extractionTimeBudget)
+                .includeErrorResponses(includeErrorResponses);
+        includePaths.forEach(builder::includePath);
+        excludePaths.forEach(builder::excludePath);
+        includeHttpMethods.forEach(builder::includeHttpMethod);
+        excludeHttpMethods.forEach(builder::excludeHttpMethod);
+        return builder;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public void setApplicationName(String applicationName) {
+        this.applicationName = applicationName;
+    }
+
+    public String getOutputFilePath() {
+        return outputFilePath;
+    }
+
+    public void setOutputFilePath(String outputFilePath) {
+        this.outputFilePath = outputFilePath;
+    }
+
+    public List<String> getIncludePaths() {
+        return includePaths;
+    }
+
+    public void setIncludePaths(List<String> includePaths) {
+        this.includePaths = includePaths;
+    }
+
+    public List<String> getExcludePaths() {
+        return excludePaths;
+    }
+
+    public void setExcludePaths(List<String> excludePaths) {
+        this.excludePaths = excludePaths;
+    }
+
+    public List<String> getIncludeHttpMethods() {
+        return includeHttpMethods;
+    }
+
+    public void setIncludeHttpMethods(List<String> includeHttpMethods) {
+        this.includeHttpMethods = includeHttpMethods;
+    }
+
+    public List<String> getExcludeHttpMethods() {
+        return excludeHttpMethods;
+    }
+
+    public void setExcludeHttpMethods(List<String> excludeHttpMethods) {
+        this.excludeHttpMethods = excludeHttpMethods;
+    }
+
+    public boolean isLazyEndpointDetails() {
+        return lazyEndpointDetails;
+    }
+
+    public void setLazyEndpointDetails(boolean lazyEndpointDetails) {
+        this.lazyEndpointDetails = lazyEndpointDetails;
+    }
+
+    public int getEndpointDetailCacheSize() {
+        return endpointDetailCacheSize;
+    }
+
+    public void setEndpointDetailCacheSize(int endpointDetailCacheSize) {
+        this.endpointDetailCacheSize = endpointDetailCacheSize;
+    }
+
+    public int getMaxSchemaDepth() {
+        return maxSchemaDepth;
+    }
+
+    public void setMaxSchemaDepth(int maxSchemaDepth) {
+        this.maxSchemaDepth = maxSchemaDepth;
+    }
+
+    public Duration getExtractionTimeBudget() {
+        return extractionTimeBudget;
+    }
+
+    public void setExtractionTimeBudget(Duration extractionTimeBudget) {
+        this.extractionTimeBudget = extractionTimeBudget;
+    }
+
+    public boolean isIncludeErrorResponses() {
+        return includeErrorResponses;
+    }
+
+    public void setIncludeErrorResponses(boolean includeErrorResponses) {
+        this.includeErrorResponses = includeErrorResponses;
+    }
+
+    public Controller getController() {
+        return controller;
+    }
+
+    public Startup getStartup() {
+        return startup;
+    }
+
+    /**
+     * {@code sasa.controller.*}
+     */
+    public static class Controller {
+
+        /** {@code /sasa/api-spec} 컨트롤러 등록 여부 (기본값: true) */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * {@code sasa.startup.*}: 첫 요청 대신 애플리케이션 준비 시점에 추출할지 여부
+     */
+    public static class Startup {
+
+        /** 준비 시점에 컨트롤러 스냅샷을 미리 만듦 (기본값: false) */
+        private boolean warmUp = false;
+
+        /** 준비 시점에 스펙을 파일로 출력함, {@code SasaApplication.generateApiSpec}과 같은 출력 (기본값: false) */
+        private boolean writeFiles = false;
+
+        public boolean isWarmUp() {
+            return warmUp;
+        }
+
+        public void setWarmUp(boolean warmUp) {
+            this.warmUp = warmUp;
+        }
+
+        public boolean isWriteFiles() {
+            return writeFiles;
+        }
+
+        public void setWriteFiles(boolean writeFiles) {
+            this.writeFiles = writeFiles;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.bigdaditor.sasa.autoconfigure;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.core.DefaultApiSpecGenerator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 애플리케이션 준비 시점에 스펙을 미리 추출하는 리스너 ({@code sasa.startup.*})
+ *
+ * <p>컨트롤러가 등록되어 있으면 그 스냅샷을 만들어 첫 요청이 추출을 기다리지 않게 합니다.
+ * 파일 출력도 같은 스냅샷을 사용하므로 미리 만들기와 파일 출력을 함께 켜도 추출은 한 번만 일어납니다.</p>
+ */
+final class SasaStartupTrigger implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final Supplier<Map<String, Object>> snapshot;
+    private final ObjectProvider<SasaConfig> config;
+    private final ApplicationContext applicationContext;
+    private final boolean writeFiles;
+
+    /**
+     * @param snapshot 스펙 스냅샷 (컨트롤러가 있으면 컨트롤러의 캐시된 스냅샷)
+     * @param writeFiles 스냅샷을 설정된 파일로 출력할지 여부
+     */
+    SasaStartupTrigger(Supplier<Map<String, Object>> snapshot, ObjectProvider<SasaConfig> config,
+                       ApplicationContext applicationContext, boolean writeFiles) {
+        this.snapshot = snapshot;
+        this.config = config;
+        this.applicationContext = applicationContext;
+        this.writeFiles = writeFiles;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        // 자식 컨텍스트의 이벤트는 부모로도 전파되므로 자신의 컨텍스트만 처리
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        Map<String, Object> spec = snapshot.get();
+        if (writeFiles) {
+            new DefaultApiSpecGenerator(config.getObject()).output(spec);
+        }
+    }
+}
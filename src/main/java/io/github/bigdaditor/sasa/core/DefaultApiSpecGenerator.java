@@ -5,18 +5,32 @@ import io.github.bigdaditor.sasa.extractor.api.EndpointExtractor;
 import io.github.bigdaditor.sasa.extractor.api.ExceptionHandlerExtractor;
 import io.github.bigdaditor.sasa.extractor.impl.DefaultEndpointExtractor;
 import io.github.bigdaditor.sasa.extractor.impl.DefaultExceptionHandlerExtractor;
-import io.github.bigdaditor.sasa.generator.HtmlGenerator;
+import io.github.bigdaditor.sasa.extractor.impl.ErrorResponseIndex;
+import io.github.bigdaditor.sasa.extractor.impl.StringPool;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+import io.github.bigdaditor.sasa.generator.impl.HtmlOutputGenerator;
 import io.github.bigdaditor.sasa.generator.impl.JsonOutputGenerator;
 import io.github.bigdaditor.sasa.output.FileOutputWriter;
+import io.github.bigdaditor.sasa.output.OutputPipeline;
 import io.github.bigdaditor.sasa.output.OutputWriter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * API Spec 생성기 기본 구현
+ *
+ * <p>출력 시 각 {@link OutputGenerator}는 {@link OutputPipeline}을 통해 독립 작업으로 병렬 실행됩니다.
+ * executor를 지정하지 않으면 출력마다 작은 전용 스레드 풀을 만들고 끝나면 종료하므로, 블로킹 파일 쓰기와 gzip 압축이
+ * 애플리케이션의 공용 {@code ForkJoinPool}(병렬 스트림, {@code CompletableFuture})을 점유하지 않습니다.</p>
  */
 public class DefaultApiSpecGenerator implements ApiSpecGenerator {
 
@@ -24,28 +38,54 @@ public class DefaultApiSpecGenerator implements ApiSpecGenerator {
     private final EndpointExtractor endpointExtractor;
     private final ExceptionHandlerExtractor exceptionHandlerExtractor;
     private final JsonOutputGenerator jsonGenerator;
+    private final List<OutputGenerator> outputGenerators;
     private final OutputWriter outputWriter;
+    private final Executor outputExecutor;
 
     public DefaultApiSpecGenerator() {
         this(SasaConfig.builder().build());
     }
 
     public DefaultApiSpecGenerator(SasaConfig config) {
-        this.config = config;
-        this.endpointExtractor = new DefaultEndpointExtractor();
-        this.exceptionHandlerExtractor = new DefaultExceptionHandlerExtractor();
-        this.jsonGenerator = new JsonOutputGenerator();
-        this.outputWriter = new FileOutputWriter();
+        this(config, new DefaultEndpointExtractor(), new DefaultExceptionHandlerExtractor());
     }
 
     public DefaultApiSpecGenerator(SasaConfig config,
                                    EndpointExtractor endpointExtractor,
                                    ExceptionHandlerExtractor exceptionHandlerExtractor) {
+        this(config, endpointExtractor, exceptionHandlerExtractor,
+                defaultAdditionalGenerators(config),
+                new FileOutputWriter(config.isEnableGzipOutput(), config.getGzipCompressionLevel()),
+                null);
+    }
+
+    /**
+     * @param additionalGenerators JSON 외에 추가로 출력할 생성기 목록 (JSON은 항상 출력)
+     * @param outputWriter         출력 작성기
+     * @param outputExecutor       생성기/작성 작업을 실행할 executor ({@code null}이면 출력마다 전용 스레드 풀 사용)
+     */
+    public DefaultApiSpecGenerator(SasaConfig config,
+                                   EndpointExtractor endpointExtractor,
+                                   ExceptionHandlerExtractor exceptionHandlerExtractor,
+                                   List<OutputGenerator> additionalGenerators,
+                                   OutputWriter outputWriter,
+                                   Executor outputExecutor) {
         this.config = config;
         this.endpointExtractor = endpointExtractor;
         this.exceptionHandlerExtractor = exceptionHandlerExtractor;
         this.jsonGenerator = new JsonOutputGenerator();
-        this.outputWriter = new FileOutputWriter();
+        this.outputGenerators = new ArrayList<>();
+        this.outputGenerators.add(jsonGenerator);
+        this.outputGenerators.addAll(additionalGenerators);
+        this.outputWriter = outputWriter;
+        this.outputExecutor = outputExecutor;
+    }
+
+    private static List<OutputGenerator> defaultAdditionalGenerators(SasaConfig config) {
+        List<OutputGenerator> generators = new ArrayList<>();
+        generators.add(new HtmlOutputGenerator());
+        generators.addAll(config.getAdditionalOutputGenerators());
+        return generators;
     }
 
     @Override
@@ -60,6 +100,9 @@ public class DefaultApiSpecGenerator implements ApiSpecGenerator {
         List<Map<String, Object>> exceptionHandlers = new ArrayList<>();
         if (applicationContext != null) {
             exceptionHandlers = exceptionHandlerExtractor.extract(applicationContext);
+            if (config.isIncludeErrorResponses()) {
+                ErrorResponseIndex.build(applicationContext, exceptionHandlerExtractor).attach(mapping, endpoints);
+            }
         }
 
         Map<String, Object> spec = new LinkedHashMap<>();
@@ -69,7 +112,7 @@ public class DefaultApiSpecGenerator implements ApiSpecGenerator {
         spec.put("endpoints", endpoints);
         spec.put("exceptionHandlers", exceptionHandlers);
 
-        return spec;
+        return config.isEnableStringDeduplication() ? new StringPool().deduplicate(spec) : spec;
     }
 
     @Override
@@ -79,29 +122,69 @@ public class DefaultApiSpecGenerator implements ApiSpecGenerator {
 
     @Override
     public void generateAndOutput(RequestMappingHandlerMapping mapping, ApplicationContext applicationContext) {
-        Map<String, Object> apiSpec = generate(mapping, applicationContext);
+        output(generate(mapping, applicationContext));
+    }
 
-        // 콘솔 출력
+    /**
+     * 이미 추출한 스펙을 설정된 대상(콘솔, 파일)으로 출력
+     *
+     * @param apiSpec 출력할 API 스펙 (예: {@code SasaViewController}의 스냅샷)
+     */
+    public void output(Map<String, Object> apiSpec) {
+        if (outputExecutor != null) {
+            output(apiSpec, outputExecutor);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(outputGenerators.size(), Runtime.getRuntime().availableProcessors()), daemonThreads());
+        try {
+            output(apiSpec, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void output(Map<String, Object> apiSpec, Executor executor) {
+        OutputPipeline pipeline = new OutputPipeline(apiSpec, outputWriter, executor);
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+
+        // 콘솔 출력 (파일 저장과 동일한 JSON 렌더링 결과 재사용)
         if (config.isEnableConsoleOutput()) {
-            String json = jsonGenerator.generate(apiSpec);
-            System.out.println("\n=== SASA: API Specification ===");
-            System.out.println(json);
-            System.out.println("=== SASA: End ===\n");
+            tasks.add(pipeline.render(jsonGenerator).thenAccept(json -> {
+                System.out.println("\n=== SASA: API Specification ===");
+                System.out.println(json);
+                System.out.println("=== SASA: End ===\n");
+            }));
         }
 
-        // 파일 저장
+        // 파일 저장 (생성기별 병렬 실행)
         if (config.isEnableFileOutput()) {
-            String jsonPath = config.getOutputFilePath();
-            String htmlPath = jsonPath.replace(".json", ".html");
+            for (OutputGenerator generator : outputGenerators) {
+                tasks.add(pipeline.write(generator, resolveOutputPath(generator)));
+            }
+        }
+
+        OutputPipeline.await(tasks);
+    }
 
-            // JSON
-            String json = jsonGenerator.generate(apiSpec);
-            outputWriter.write(json, jsonPath);
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sasa-output-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 
-            // HTML
-            String html = HtmlGenerator.generateHtml(apiSpec);
-            outputWriter.write(html, htmlPath);
+    /**
+     * 생성기의 확장자로 출력 경로 결정 (예: build/api-spec.json → build/api-spec.html)
+     */
+    private String resolveOutputPath(OutputGenerator generator) {
+        String basePath = config.getOutputFilePath();
+        if (basePath.endsWith(".json")) {
+            basePath = basePath.substring(0, basePath.length() - ".json".length());
         }
+        return basePath + generator.getFileExtension();
     }
 
     @Override
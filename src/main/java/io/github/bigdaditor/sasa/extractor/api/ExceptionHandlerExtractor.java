@@ -17,4 +17,17 @@ public interface ExceptionHandlerExtractor {
      * @return exception handler 정보 리스트
      */
     List<Map<String, Object>> extract(ApplicationContext applicationContext);
+
+    /**
+     * 한 클래스(advice 또는 컨트롤러)에 선언된 exception handler를 응답 본문 스키마와 함께 추출
+     *
+     * <p>엔드포인트별 {@code errorResponses}를 만들 때 사용됩니다. 기본 구현은 빈 목록을 반환하므로
+     * 재정의하지 않은 추출기로는 엔드포인트에 오류 응답이 붙지 않습니다.</p>
+     *
+     * @param handlerType advice 또는 컨트롤러 클래스 (프록시가 아닌 원래 클래스)
+     * @return exception handler 정보 리스트 (선언 순서)
+     */
+    default List<Map<String, Object>> extractHandlers(Class<?> handlerType) {
+        return List.of();
+    }
 }
@@ -17,7 +17,8 @@ import java.util.Map;
  *   <li>fullType - 반환 타입 (전체 패키지 경로)</li>
  *   <li>genericType - 제네릭 타입 파라미터 (있는 경우)</li>
  *   <li>genericFullType - 제네릭 타입 파라미터 전체 경로</li>
- *   <li>elementType - 컬렉션 요소 타입 (List 등인 경우)</li>
+ *   <li>genericSignature - 해석된 전체 제네릭 시그니처 (예: {@code ResponseEntity<Page<List<OrderDTO>>>})</li>
+ *   <li>elementType - 컬렉션/배열/중첩 제네릭의 최종 요소 타입</li>
  *   <li>schema - DTO인 경우 필드 스키마</li>
  * </ul>
  *
@@ -26,7 +27,10 @@ import java.util.Map;
  *   <li>단순 타입: {@code String}, {@code Integer}, {@code UserDto}</li>
  *   <li>ResponseEntity: {@code ResponseEntity<UserDto>}</li>
  *   <li>컬렉션: {@code List<UserDto>}, {@code Set<String>}</li>
- *   <li>중첩 제네릭: {@code ResponseEntity<List<UserDto>>}</li>
+ *   <li>중첩 제네릭: {@code ResponseEntity<List<UserDto>>}, {@code ResponseEntity<Page<List<UserDto>>>}</li>
+ *   <li>Map: {@code Map<String, UserDto>} (값 타입 기준)</li>
+ *   <li>배열: {@code UserDto[]}</li>
+ *   <li>제네릭 DTO/상위 클래스의 타입 변수: {@code PageResponse<UserDto>}</li>
  * </ul>
  *
  * <h2>사용 예시</h2>
@@ -53,6 +57,20 @@ public interface ResponseExtractor {
      */
     Map<String, Object> extractResponseInfo(Method method);
 
+    /**
+     * 실제 핸들러 클래스 문맥에서 메서드의 응답 정보를 추출합니다.
+     *
+     * <p>제네릭 상위 컨트롤러({@code BaseController<T>})에 선언된 메서드의 타입 변수를
+     * 핸들러 클래스 기준으로 해석합니다. 기본 구현은 {@link #extractResponseInfo(Method)}로 위임합니다.</p>
+     *
+     * @param method 대상 메서드
+     * @param handlerType 실제 핸들러(컨트롤러) 클래스
+     * @return 응답 정보 맵
+     */
+    default Map<String, Object> extractResponseInfo(Method method, Class<?> handlerType) {
+        return extractResponseInfo(method);
+    }
+
     /**
      * 단순 클래스 타입의 응답 정보를 추출합니다.
      *
@@ -1,5 +1,7 @@
 package io.github.bigdaditor.sasa.extractor.api;
 
+import org.springframework.core.ResolvableType;
+
 import java.util.Map;
 
 /**
@@ -15,6 +17,19 @@ public interface TypeSchemaExtractor {
      */
     Map<String, Object> extractTypeSchema(Class<?> type);
 
+    /**
+     * 제네릭 문맥을 포함한 타입의 스키마를 추출
+     *
+     * <p>{@code PageResponse<OrderDTO>}처럼 타입 인자가 주어지면 필드의 타입 변수를 실제 타입으로 치환합니다.
+     * 기본 구현은 원시 클래스로 위임합니다.</p>
+     *
+     * @param type 대상 타입
+     * @return 스키마 정보 맵 (fields, example 포함)
+     */
+    default Map<String, Object> extractTypeSchema(ResolvableType type) {
+        return extractTypeSchema(type.resolve(Object.class));
+    }
+
     /**
      * 단순 타입인지 확인
      *
@@ -2,6 +2,7 @@ package io.github.bigdaditor.sasa.extractor.impl;
 
 import io.github.bigdaditor.sasa.annotation.ApiDescription;
 import io.github.bigdaditor.sasa.extractor.api.DescriptionExtractor;
+import io.github.bigdaditor.sasa.javadoc.JavadocIndex;
 
 import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
@@ -9,6 +10,9 @@ import java.util.Map;
 
 /**
  * API Description 추출 기본 구현
+ *
+ * <p>우선순위: 메서드의 {@link ApiDescription} → 빌드 시 색인된 메서드 Javadoc({@link JavadocIndex})
+ * → 클래스의 {@link ApiDescription}.</p>
  */
 public class DefaultDescriptionExtractor implements DescriptionExtractor {
 
@@ -23,7 +27,14 @@ public class DefaultDescriptionExtractor implements DescriptionExtractor {
             return result;
         }
 
-        // 2. 클래스 레벨 어노테이션
+        // 2. 빌드 시 색인된 메서드 Javadoc
+        String javadoc = JavadocIndex.forClass(method.getDeclaringClass()).find(method);
+        if (javadoc != null) {
+            populateDescription(result, javadoc, "");
+            return result;
+        }
+
+        // 3. 클래스 레벨 어노테이션
         ApiDescription classAnnotation = beanType.getAnnotation(ApiDescription.class);
         if (classAnnotation != null) {
             populateDescription(result, classAnnotation);
@@ -33,8 +44,10 @@ public class DefaultDescriptionExtractor implements DescriptionExtractor {
     }
 
     private void populateDescription(Map<String, Object> result, ApiDescription annotation) {
-        String value = annotation.value();
-        String summary = annotation.summary();
+        populateDescription(result, annotation.value(), annotation.summary());
+    }
+
+    private void populateDescription(Map<String, Object> result, String value, String summary) {
 
         if (!value.isEmpty()) {
             result.put("description", value);
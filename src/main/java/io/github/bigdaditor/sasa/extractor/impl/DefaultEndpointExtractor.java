@@ -5,7 +5,10 @@ import io.github.bigdaditor.sasa.extractor.api.DescriptionExtractor;
 import io.github.bigdaditor.sasa.extractor.api.EndpointExtractor;
 import io.github.bigdaditor.sasa.extractor.api.ParameterExtractor;
 import io.github.bigdaditor.sasa.extractor.api.ResponseExtractor;
+import io.github.bigdaditor.sasa.extractor.api.TypeSchemaExtractor;
+import io.github.bigdaditor.sasa.util.EndpointKey;
 import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -28,6 +31,30 @@ public class DefaultEndpointExtractor implements EndpointExtractor {
         this.descriptionExtractor = new DefaultDescriptionExtractor();
     }
 
+    /**
+     * 파라미터/응답 스키마를 주어진 추출기로 만듭니다 (예: {@link JacksonTypeSchemaExtractor}).
+     *
+     * @param typeSchemaExtractor 타입 스키마 추출기
+     */
+    public DefaultEndpointExtractor(TypeSchemaExtractor typeSchemaExtractor) {
+        this(new DefaultParameterExtractor(typeSchemaExtractor),
+                new DefaultResponseExtractor(typeSchemaExtractor),
+                new DefaultDescriptionExtractor());
+    }
+
+    /**
+     * 설정의 스키마 추출기({@link SasaConfig#getTypeSchemaExtractor()})를 사용하는 추출기를 만듭니다 (지정하지 않았으면 기본 추출기).
+     *
+     * @param config SASA 설정
+     * @return 엔드포인트 추출기
+     */
+    public static DefaultEndpointExtractor of(SasaConfig config) {
+        TypeSchemaExtractor typeSchemaExtractor = config.getTypeSchemaExtractor();
+        return typeSchemaExtractor != null
+                ? new DefaultEndpointExtractor(typeSchemaExtractor)
+                : new DefaultEndpointExtractor();
+    }
+
     public DefaultEndpointExtractor(ParameterExtractor parameterExtractor,
                                     ResponseExtractor responseExtractor,
                                     DescriptionExtractor descriptionExtractor) {
@@ -42,17 +69,14 @@ public class DefaultEndpointExtractor implements EndpointExtractor {
 
         for (var entry : mapping.getHandlerMethods().entrySet()) {
             RequestMappingInfo info = entry.getKey();
-            HandlerMethod handlerMethod = entry.getValue();
-
-            Set<String> paths = extractPaths(info);
-            Set<String> methods = extractMethods(info);
-
-            if (!shouldIncludeEndpoint(paths, methods, config)) {
-                continue;
+            Map<String, Object> endpoint = extractEndpoint(extractPaths(info),
+                    methodNames(info.getMethodsCondition().getMethods()),
+                    mediaTypeNames(info.getConsumesCondition().getConsumableMediaTypes()),
+                    mediaTypeNames(info.getProducesCondition().getProducibleMediaTypes()),
+                    entry.getValue(), config);
+            if (endpoint != null) {
+                endpoints.add(endpoint);
             }
-
-            Map<String, Object> endpoint = extractEndpointInfo(info, handlerMethod);
-            endpoints.add(endpoint);
         }
 
         return endpoints;
@@ -64,33 +88,68 @@ public class DefaultEndpointExtractor implements EndpointExtractor {
                 : Set.of();
     }
 
-    private Set<String> extractMethods(RequestMappingInfo info) {
-        Set<String> methods = info.getMethodsCondition().getMethods().stream()
+    static Set<String> methodNames(Set<RequestMethod> requestMethods) {
+        Set<String> methods = requestMethods.stream()
                 .map(Enum::name)
                 .collect(Collectors.toSet());
         return methods.isEmpty() ? Set.of("ANY") : methods;
     }
 
-    private Map<String, Object> extractEndpointInfo(RequestMappingInfo info, HandlerMethod handlerMethod) {
-        Map<String, Object> endpoint = new LinkedHashMap<>();
-
-        endpoint.put("paths", extractPaths(info));
-        endpoint.put("methods", extractMethods(info));
-
-        Set<String> consumes = info.getConsumesCondition().getConsumableMediaTypes().stream()
+    static Set<String> mediaTypeNames(Set<MediaType> mediaTypes) {
+        return mediaTypes.stream()
                 .map(MediaType::toString)
                 .collect(Collectors.toSet());
-        endpoint.put("consumes", consumes);
+    }
 
-        Set<String> produces = info.getProducesCondition().getProducibleMediaTypes().stream()
-                .map(MediaType::toString)
-                .collect(Collectors.toSet());
+    /**
+     * 엔드포인트의 상세 정보(파라미터, 응답 스키마)를 추출합니다.
+     *
+     * <p>{@link SasaConfig#isLazyEndpointDetails()}가 켜져 있으면 {@link #extract}는 이 정보를 빼고
+     * {@code detailsDeferred: true}만 표시하므로, 필요한 엔드포인트만 이 메서드로 따로 계산합니다.</p>
+     *
+     * <p>스키마 추출은 설정의 {@link ExtractionBudget} 한도 안에서 이루어지며, 한도에 걸린 부분이 있으면
+     * {@code truncated}에 그 이유를 담습니다.</p>
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @param config        추출 한도 설정
+     * @return {@code parameters}, {@code response}, 필요하면 {@code truncated}
+     */
+    public Map<String, Object> extractDetails(HandlerMethod handlerMethod, SasaConfig config) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        try (ExtractionBudget budget = ExtractionBudget.open(config)) {
+            details.put("parameters", parameterExtractor.extract(handlerMethod.getMethod()));
+            details.put("response", responseExtractor.extractResponseInfo(
+                    handlerMethod.getMethod(), handlerMethod.getBeanType()));
+            if (!budget.getTruncationReasons().isEmpty()) {
+                details.put("truncated", new ArrayList<>(budget.getTruncationReasons()));
+            }
+        }
+        return details;
+    }
+
+    /**
+     * 매핑 조건과 핸들러 메서드로 엔드포인트 하나를 추출합니다 (Servlet/WebFlux 매핑 공용).
+     *
+     * @return 엔드포인트 맵, 설정의 필터에 걸리면 {@code null}
+     */
+    Map<String, Object> extractEndpoint(Set<String> paths, Set<String> methods, Set<String> consumes,
+                                        Set<String> produces, HandlerMethod handlerMethod, SasaConfig config) {
+        if (!shouldIncludeEndpoint(paths, methods, config)) {
+            return null;
+        }
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+
+        endpoint.put("paths", paths);
+        endpoint.put("methods", methods);
+        endpoint.put("consumes", consumes);
         endpoint.put("produces", produces);
 
         Map<String, Object> handler = new LinkedHashMap<>();
         handler.put("controller", handlerMethod.getBeanType().getSimpleName());
         handler.put("method", handlerMethod.getMethod().getName());
         handler.put("fullControllerName", handlerMethod.getBeanType().getName());
+        handler.put("signature", EndpointKey.signature(handlerMethod.getMethod()));
         endpoint.put("handler", handler);
 
         Map<String, Object> descriptionInfo = descriptionExtractor.extract(
@@ -99,11 +158,11 @@ public class DefaultEndpointExtractor implements EndpointExtractor {
             endpoint.put("description", descriptionInfo);
         }
 
-        List<Map<String, Object>> parameters = parameterExtractor.extract(handlerMethod.getMethod());
-        endpoint.put("parameters", parameters);
-
-        Map<String, Object> responseInfo = responseExtractor.extractResponseInfo(handlerMethod.getMethod());
-        endpoint.put("response", responseInfo);
+        if (config.isLazyEndpointDetails()) {
+            endpoint.put("detailsDeferred", true);
+        } else {
+            endpoint.putAll(extractDetails(handlerMethod, config));
+        }
 
         return endpoint;
     }
@@ -2,92 +2,162 @@ package io.github.bigdaditor.sasa.extractor.impl;
 
 import io.github.bigdaditor.sasa.extractor.api.ExceptionHandlerExtractor;
 import io.github.bigdaditor.sasa.extractor.api.ResponseExtractor;
+import io.github.bigdaditor.sasa.util.ClassScopedCache;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
  * Exception Handler 정보 추출 기본 구현
+ *
+ * <p>{@code @ControllerAdvice} 빈은 이름과 타입으로만 찾으므로 ({@code getBeanNamesForAnnotation},
+ * {@code getType}) 추출 때문에 advice 빈(특히 {@code @Lazy} 빈)이 생성되지 않습니다. 프록시 클래스는
+ * {@link ClassUtils#getUserClass(Class)}로 원래 클래스로 바꿉니다.</p>
+ *
+ * <p>advice 클래스는 병렬로 분석되며, 결과는 클래스별로 {@link ClassScopedCache}에 보관되어 스펙을 다시 만들 때
+ * 재사용됩니다.</p>
  */
 public class DefaultExceptionHandlerExtractor implements ExceptionHandlerExtractor {
 
     private final ResponseExtractor responseExtractor;
+    private final Executor executor;
+    private final ClassScopedCache<Class<?>, List<Map<String, Object>>> cache = new ClassScopedCache<>(null);
+    private final ClassScopedCache<Class<?>, List<Map<String, Object>>> detailedCache = new ClassScopedCache<>(null);
 
     public DefaultExceptionHandlerExtractor() {
-        this.responseExtractor = new DefaultResponseExtractor();
+        this(new DefaultResponseExtractor());
     }
 
     public DefaultExceptionHandlerExtractor(ResponseExtractor responseExtractor) {
+        this(responseExtractor, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param responseExtractor 응답 정보 추출기
+     * @param executor          advice 클래스 분석을 실행할 Executor
+     */
+    public DefaultExceptionHandlerExtractor(ResponseExtractor responseExtractor, Executor executor) {
         this.responseExtractor = responseExtractor;
+        this.executor = executor;
     }
 
     @Override
     public List<Map<String, Object>> extract(ApplicationContext applicationContext) {
+        List<CompletableFuture<List<Map<String, Object>>>> tasks = new ArrayList<>();
+        for (Class<?> adviceClass : findAdviceClasses(applicationContext)) {
+            tasks.add(CompletableFuture.supplyAsync(
+                    () -> cache.get(adviceClass, adviceClass, type -> extractHandlers(type, false)), executor));
+        }
+
         List<Map<String, Object>> handlers = new ArrayList<>();
+        for (CompletableFuture<List<Map<String, Object>>> task : tasks) {
+            handlers.addAll(task.join());
+        }
+        return handlers;
+    }
 
-        Map<String, Object> adviceBeans = applicationContext.getBeansWithAnnotation(ControllerAdvice.class);
-        adviceBeans.putAll(applicationContext.getBeansWithAnnotation(RestControllerAdvice.class));
+    /**
+     * {@inheritDoc}
+     *
+     * <p>응답은 {@link ResponseExtractor#extractResponseInfo(Method, Class)}로 추출하므로
+     * {@code ResponseEntity<ErrorResponse>} 같은 반환 타입도 본문 스키마까지 나타납니다.</p>
+     */
+    @Override
+    public List<Map<String, Object>> extractHandlers(Class<?> handlerType) {
+        return detailedCache.get(handlerType, handlerType, type -> extractHandlers(type, true));
+    }
 
-        for (Map.Entry<String, Object> entry : adviceBeans.entrySet()) {
-            Object adviceBean = entry.getValue();
-            Class<?> adviceClass = adviceBean.getClass();
+    /**
+     * 캐시를 비웁니다.
+     */
+    public void clear() {
+        cache.clear();
+        detailedCache.clear();
+    }
 
-            // 프록시 클래스인 경우 실제 클래스 찾기
-            if (adviceClass.getName().contains("$$")) {
-                adviceClass = adviceClass.getSuperclass();
+    /**
+     * advice 빈을 생성하지 않고 advice 클래스를 찾습니다 (빈 정의 순서, 중복 제거).
+     */
+    static Set<Class<?>> findAdviceClasses(ApplicationContext applicationContext) {
+        // @RestControllerAdvice는 @ControllerAdvice 메타 어노테이션이므로 함께 조회됨
+        Set<Class<?>> adviceClasses = new LinkedHashSet<>();
+        for (String beanName : applicationContext.getBeanNamesForAnnotation(ControllerAdvice.class)) {
+            // FactoryBean 초기화도 하지 않음
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType != null) {
+                adviceClasses.add(ClassUtils.getUserClass(beanType));
             }
+        }
+        return adviceClasses;
+    }
 
-            for (Method method : adviceClass.getDeclaredMethods()) {
-                ExceptionHandler exceptionHandler = AnnotatedElementUtils.findMergedAnnotation(method, ExceptionHandler.class);
-
-                if (exceptionHandler != null) {
-                    Map<String, Object> handlerInfo = new LinkedHashMap<>();
-
-                    Class<? extends Throwable>[] exceptionTypes = exceptionHandler.value();
-                    if (exceptionTypes.length == 0) {
-                        exceptionTypes = extractExceptionTypesFromMethodParams(method);
-                    }
-
-                    List<String> exceptionTypeNames = Arrays.stream(exceptionTypes)
-                            .map(Class::getSimpleName)
-                            .collect(Collectors.toList());
+    private List<Map<String, Object>> extractHandlers(Class<?> adviceClass, boolean detailedResponse) {
+        List<Map<String, Object>> handlers = new ArrayList<>();
+        String adviceType = AnnotatedElementUtils.hasAnnotation(adviceClass, RestControllerAdvice.class)
+                ? "RestControllerAdvice"
+                : AnnotatedElementUtils.hasAnnotation(adviceClass, ControllerAdvice.class) ? "ControllerAdvice" : null;
 
-                    handlerInfo.put("exceptionTypes", exceptionTypeNames);
+        for (Method method : adviceClass.getDeclaredMethods()) {
+            ExceptionHandler exceptionHandler = AnnotatedElementUtils.findMergedAnnotation(method, ExceptionHandler.class);
 
-                    Map<String, Object> handler = new LinkedHashMap<>();
-                    handler.put("controller", adviceClass.getSimpleName());
-                    handler.put("method", method.getName());
-                    handler.put("fullControllerName", adviceClass.getName());
-                    handlerInfo.put("handler", handler);
+            if (exceptionHandler != null) {
+                Map<String, Object> handlerInfo = new LinkedHashMap<>();
 
-                    HttpStatus httpStatus = extractHttpStatus(method, exceptionTypes);
-                    if (httpStatus != null) {
-                        Map<String, Object> statusInfo = new LinkedHashMap<>();
-                        statusInfo.put("code", httpStatus.value());
-                        statusInfo.put("reasonPhrase", httpStatus.getReasonPhrase());
-                        handlerInfo.put("httpStatus", statusInfo);
-                    }
+                Class<? extends Throwable>[] exceptionTypes = exceptionHandler.value();
+                if (exceptionTypes.length == 0) {
+                    exceptionTypes = extractExceptionTypesFromMethodParams(method);
+                }
 
-                    Map<String, Object> responseInfo = responseExtractor.extractSimpleResponseInfo(method.getReturnType());
-                    handlerInfo.put("response", responseInfo);
+                List<String> exceptionTypeNames = Arrays.stream(exceptionTypes)
+                        .map(Class::getSimpleName)
+                        .collect(Collectors.toList());
+
+                handlerInfo.put("exceptionTypes", exceptionTypeNames);
+                handlerInfo.put("fullExceptionTypes", Arrays.stream(exceptionTypes)
+                        .map(Class::getName)
+                        .collect(Collectors.toList()));
+
+                Map<String, Object> handler = new LinkedHashMap<>();
+                handler.put("controller", adviceClass.getSimpleName());
+                handler.put("method", method.getName());
+                handler.put("fullControllerName", adviceClass.getName());
+                handlerInfo.put("handler", handler);
+
+                HttpStatus httpStatus = extractHttpStatus(method, exceptionTypes);
+                if (httpStatus != null) {
+                    Map<String, Object> statusInfo = new LinkedHashMap<>();
+                    statusInfo.put("code", httpStatus.value());
+                    statusInfo.put("reasonPhrase", httpStatus.getReasonPhrase());
+                    handlerInfo.put("httpStatus", statusInfo);
+                }
 
-                    boolean isRestControllerAdvice = AnnotatedElementUtils.hasAnnotation(adviceClass, RestControllerAdvice.class);
-                    handlerInfo.put("adviceType", isRestControllerAdvice ? "RestControllerAdvice" : "ControllerAdvice");
+                Map<String, Object> responseInfo = detailedResponse
+                        ? responseExtractor.extractResponseInfo(method, adviceClass)
+                        : responseExtractor.extractSimpleResponseInfo(method.getReturnType());
+                handlerInfo.put("response", responseInfo);
 
-                    handlers.add(handlerInfo);
+                // 컨트롤러 내부 @ExceptionHandler는 advice가 아님
+                if (adviceType != null) {
+                    handlerInfo.put("adviceType", adviceType);
                 }
+
+                handlers.add(handlerInfo);
             }
         }
 
-        return handlers;
+        return List.copyOf(handlers);
     }
 
     @SuppressWarnings("unchecked")
@@ -2,75 +2,119 @@ package io.github.bigdaditor.sasa.extractor.impl;
 
 import io.github.bigdaditor.sasa.extractor.api.ResponseExtractor;
 import io.github.bigdaditor.sasa.extractor.api.TypeSchemaExtractor;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
 
-import java.lang.reflect.*;
-import java.util.*;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 응답 정보 추출 기본 구현
+ *
+ * <p>반환 타입은 {@link TypeResolver}로 해석되어 중첩 제네릭, {@code Map} 값 타입, 배열,
+ * 상위 컨트롤러/DTO의 타입 변수가 실제 타입으로 치환됩니다.</p>
+ *
+ * <p>{@code Mono<T>}처럼 값 하나를 내보내는 리액티브 타입은 {@code T}로, {@code Flux<T>}처럼 여러 값을 내보내는 타입은
+ * {@code List<T>}로 바꿔 실제로 직렬화되는 본문을 나타내고, 원래 타입은 {@code reactiveType}에 남깁니다.
+ * 리액티브 타입은 {@link ReactiveAdapterRegistry}로 판별하므로 Reactor 외의 라이브러리도 지원됩니다.</p>
  */
 public class DefaultResponseExtractor implements ResponseExtractor {
 
     private final TypeSchemaExtractor typeSchemaExtractor;
+    private final TypeResolver typeResolver;
 
     public DefaultResponseExtractor() {
-        this.typeSchemaExtractor = new DefaultTypeSchemaExtractor();
+        this(new DefaultTypeSchemaExtractor());
     }
 
     public DefaultResponseExtractor(TypeSchemaExtractor typeSchemaExtractor) {
+        this(typeSchemaExtractor, TypeResolver.getDefault());
+    }
+
+    public DefaultResponseExtractor(TypeSchemaExtractor typeSchemaExtractor, TypeResolver typeResolver) {
         this.typeSchemaExtractor = typeSchemaExtractor;
+        this.typeResolver = typeResolver;
     }
 
     @Override
     public Map<String, Object> extractResponseInfo(Method method) {
+        return extractResponseInfo(method, method.getDeclaringClass());
+    }
+
+    @Override
+    public Map<String, Object> extractResponseInfo(Method method, Class<?> handlerType) {
         Map<String, Object> responseInfo = new LinkedHashMap<>();
 
-        Type genericReturnType = method.getGenericReturnType();
-        Class<?> returnType = method.getReturnType();
+        ResolvedType declaredType = typeResolver.resolveReturnType(method, handlerType);
+        ResolvedType returnType = unwrapReactive(declaredType);
 
         responseInfo.put("type", returnType.getSimpleName());
         responseInfo.put("fullType", returnType.getName());
+        if (returnType != declaredType) {
+            responseInfo.put("reactiveType", declaredType.getSimpleName());
+        }
 
-        if (genericReturnType instanceof ParameterizedType) {
-            ParameterizedType paramType = (ParameterizedType) genericReturnType;
-            Type[] typeArguments = paramType.getActualTypeArguments();
-
-            if (typeArguments.length > 0) {
-                Type actualType = typeArguments[0];
-
-                if (actualType instanceof Class) {
-                    Class<?> actualClass = (Class<?>) actualType;
-                    responseInfo.put("genericType", actualClass.getSimpleName());
-                    responseInfo.put("genericFullType", actualClass.getName());
-
-                    Map<String, Object> schema = typeSchemaExtractor.extractTypeSchema(actualClass);
-                    responseInfo.put("schema", schema);
-                } else if (actualType instanceof ParameterizedType) {
-                    ParameterizedType nestedParamType = (ParameterizedType) actualType;
-                    Class<?> rawType = (Class<?>) nestedParamType.getRawType();
-                    responseInfo.put("genericType", rawType.getSimpleName());
-
-                    if (nestedParamType.getActualTypeArguments().length > 0 &&
-                        nestedParamType.getActualTypeArguments()[0] instanceof Class) {
-                        Class<?> elementType = (Class<?>) nestedParamType.getActualTypeArguments()[0];
-                        responseInfo.put("elementType", elementType.getSimpleName());
-                        responseInfo.put("elementFullType", elementType.getName());
-
-                        Map<String, Object> schema = typeSchemaExtractor.extractTypeSchema(elementType);
-                        responseInfo.put("schema", schema);
-                    }
-                }
-            }
-        } else {
-            Map<String, Object> schema = typeSchemaExtractor.extractTypeSchema(returnType);
-            if (!schema.isEmpty()) {
-                responseInfo.put("schema", schema);
-            }
+        ResolvedType payload = returnType.getContentType().orElse(null);
+        if (payload == null) {
+            putSchema(responseInfo, returnType);
+            return responseInfo;
+        }
+
+        if (returnType.hasGenerics()) {
+            responseInfo.put("genericType", payload.getSimpleName());
+            responseInfo.put("genericFullType", payload.getName());
+        }
+        responseInfo.put("genericSignature", returnType.getSignature());
+
+        // 컬렉션/Map/배열/프레임워크 래퍼를 벗겨 최종 요소 타입까지 내려감
+        ResolvedType element = returnType.isArray() ? payload : unwrap(payload);
+        if (element != payload || returnType.isArray()) {
+            responseInfo.put("elementType", element.getSimpleName());
+            responseInfo.put("elementFullType", element.getName());
         }
 
+        putSchema(responseInfo, element);
         return responseInfo;
     }
 
+    private ResolvedType unwrapReactive(ResolvedType type) {
+        ReactiveAdapter adapter = ReactiveAdapterRegistry.getSharedInstance().getAdapter(type.getRawClass());
+        if (adapter == null) {
+            return type;
+        }
+        if (adapter.isNoValue()) {
+            return new ResolvedType(Void.class, List.of(), null);
+        }
+        ResolvedType content = type.getContentType().orElseGet(() -> new ResolvedType(Object.class, List.of(), null));
+        return adapter.isMultiValue() ? new ResolvedType(List.class, List.of(content), null) : content;
+    }
+
+    private ResolvedType unwrap(ResolvedType type) {
+        ResolvedType current = type;
+        while (isContainer(current)) {
+            ResolvedType content = current.getContentType().orElse(null);
+            if (content == null) {
+                break;
+            }
+            current = content;
+        }
+        return current;
+    }
+
+    private boolean isContainer(ResolvedType type) {
+        return type.isArray()
+                || (type.hasGenerics() && typeSchemaExtractor.isSimpleType(type.getRawClass()));
+    }
+
+    private void putSchema(Map<String, Object> responseInfo, ResolvedType type) {
+        Map<String, Object> schema = typeSchemaExtractor.extractTypeSchema(type.getResolvableType());
+        if (!schema.isEmpty()) {
+            responseInfo.put("schema", schema);
+        }
+    }
+
     @Override
     public Map<String, Object> extractSimpleResponseInfo(Class<?> returnType) {
         Map<String, Object> responseInfo = new LinkedHashMap<>();
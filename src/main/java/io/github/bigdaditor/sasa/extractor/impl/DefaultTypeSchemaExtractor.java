@@ -2,77 +2,260 @@ package io.github.bigdaditor.sasa.extractor.impl;
 
 import io.github.bigdaditor.sasa.extractor.api.TypeSchemaExtractor;
 import io.github.bigdaditor.sasa.extractor.api.ValidationExtractor;
+import io.github.bigdaditor.sasa.javadoc.JavadocIndex;
+import io.github.bigdaditor.sasa.util.ClassScopedCache;
+import org.springframework.core.ResolvableType;
 
 import java.lang.reflect.*;
 import java.util.*;
 
 /**
  * 타입 스키마 추출 기본 구현
+ *
+ * <p>상위 클래스(예: 감사 필드를 가진 {@code BaseEntityDTO})의 필드는 하위 클래스마다 다시 추출하지 않습니다.
+ * 상위 클래스 스키마는 한 번만 추출해 캐시하고, 하위 클래스 스키마는 {@code extends}(상위 타입 시그니처)와
+ * 공유된 {@code superclass} 스키마, 자신이 선언한 {@code fields}로 구성됩니다. {@code example}은 상속받은 필드를
+ * 포함한 전체 예시입니다.</p>
  */
 public class DefaultTypeSchemaExtractor implements TypeSchemaExtractor {
 
     private final ValidationExtractor validationExtractor;
+    private final TypeResolver typeResolver;
+    private final ClassScopedCache<SuperclassKey, SharedSchema> superclassSchemas = new ClassScopedCache<>(
+            (key, schema) -> key.type.referencedClasses());
 
     public DefaultTypeSchemaExtractor() {
-        this.validationExtractor = new DefaultValidationExtractor();
+        this(new DefaultValidationExtractor());
     }
 
     public DefaultTypeSchemaExtractor(ValidationExtractor validationExtractor) {
+        this(validationExtractor, TypeResolver.getDefault());
+    }
+
+    public DefaultTypeSchemaExtractor(ValidationExtractor validationExtractor, TypeResolver typeResolver) {
         this.validationExtractor = validationExtractor;
+        this.typeResolver = typeResolver;
     }
 
     @Override
     public Map<String, Object> extractTypeSchema(Class<?> type) {
+        return extractTypeSchema(ResolvableType.forClass(type));
+    }
+
+    /**
+     * 현재 스레드의 {@link ExtractionBudget} 한도 안에서 스키마를 추출합니다.
+     * 한도에 걸린 타입은 {@code truncated}(이유)와 {@code omittedFields}(생략된 필드 수)를 함께 담습니다.
+     */
+    @Override
+    public Map<String, Object> extractTypeSchema(ResolvableType type) {
+        return extractSchema(typeResolver.describe(type), ExtractionBudget.current(), 1, new HashSet<>());
+    }
+
+    private Map<String, Object> extractSchema(ResolvedType owner, ExtractionBudget budget, int depth, Set<Class<?>> path) {
         Map<String, Object> schema = new LinkedHashMap<>();
 
-        if (isSimpleType(type)) {
+        Class<?> rawClass = owner.getRawClass();
+        if (isSimpleType(rawClass)) {
             return schema;
         }
 
+        path.add(rawClass);
+        ResolvedType superType = superclass(owner);
+        Map<String, Object> inherited = superType != null ? superclassSchema(superType, budget, depth) : Map.of();
+
         List<Map<String, Object>> fields = new ArrayList<>();
-        for (Field field : type.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+        String truncated = null;
+        int omitted = 0;
+        for (SchemaProperty property : properties(owner)) {
+            if (truncated != null) {
+                omitted++;
+                continue;
+            }
+            if (fields.size() >= budget.getMaxFieldsPerType()) {
+                truncated = ExtractionBudget.MAX_FIELDS_PER_TYPE;
+                budget.markTruncated(truncated);
+                omitted++;
+                continue;
+            }
+            if (!budget.tryAddNode()) {
+                truncated = budget.getTruncationReasons().contains(ExtractionBudget.TIME_BUDGET)
+                        ? ExtractionBudget.TIME_BUDGET : ExtractionBudget.MAX_NODES;
+                omitted++;
                 continue;
             }
 
+            ResolvedType fieldType = property.getType();
+
             Map<String, Object> fieldInfo = new LinkedHashMap<>();
-            fieldInfo.put("name", field.getName());
-            fieldInfo.put("type", field.getType().getSimpleName());
-            fieldInfo.put("fullType", field.getType().getName());
+            fieldInfo.put("name", property.getName());
+            fieldInfo.put("type", fieldType.getSimpleName());
+            fieldInfo.put("fullType", fieldType.getName());
 
             // 제네릭 타입 정보
-            Type genericType = field.getGenericType();
-            if (genericType instanceof ParameterizedType) {
-                ParameterizedType paramType = (ParameterizedType) genericType;
-                Type[] typeArgs = paramType.getActualTypeArguments();
+            if (fieldType.hasGenerics()) {
                 List<String> genericTypes = new ArrayList<>();
-                for (Type typeArg : typeArgs) {
-                    if (typeArg instanceof Class) {
-                        genericTypes.add(((Class<?>) typeArg).getSimpleName());
-                    }
+                for (ResolvedType generic : fieldType.getGenerics()) {
+                    genericTypes.add(generic.getSimpleName());
+                }
+                fieldInfo.put("genericTypes", genericTypes);
+            }
+            if (fieldType.hasGenerics() || fieldType.isArray()) {
+                fieldInfo.put("genericSignature", fieldType.getSignature());
+            }
+
+            // Validation annotations 추출, 빌드 시 색인된 필드 Javadoc
+            if (property.getField() != null) {
+                Map<String, Object> validations = validationExtractor.extract(property.getField());
+                if (!validations.isEmpty()) {
+                    fieldInfo.put("validations", validations);
                 }
-                if (!genericTypes.isEmpty()) {
-                    fieldInfo.put("genericTypes", genericTypes);
+                String description = JavadocIndex.forClass(property.getField().getDeclaringClass()).find(property.getField());
+                if (description != null) {
+                    fieldInfo.put("description", description);
                 }
             }
 
-            // Validation annotations 추출
-            Map<String, Object> validations = validationExtractor.extract(field);
-            if (!validations.isEmpty()) {
-                fieldInfo.put("validations", validations);
+            // 중첩 DTO (컬렉션/배열 요소 포함)는 maxSchemaDepth가 1보다 클 때만 펼침
+            ResolvedType nested = nestedType(fieldType);
+            if (nested != null && budget.getMaxDepth() > 1) {
+                if (path.contains(nested.getRawClass())) {
+                    fieldInfo.put("truncated", ExtractionBudget.CYCLE);
+                    budget.markTruncated(ExtractionBudget.CYCLE);
+                } else if (depth >= budget.getMaxDepth()) {
+                    fieldInfo.put("truncated", ExtractionBudget.MAX_DEPTH);
+                    budget.markTruncated(ExtractionBudget.MAX_DEPTH);
+                } else {
+                    Map<String, Object> nestedSchema = extractSchema(nested, budget, depth + 1, path);
+                    if (!nestedSchema.isEmpty()) {
+                        fieldInfo.put("schema", nestedSchema);
+                    }
+                }
             }
 
             fields.add(fieldInfo);
         }
+        path.remove(rawClass);
 
+        if (!inherited.isEmpty()) {
+            schema.put("extends", superType.getSignature());
+            schema.put("superclass", inherited);
+        }
         if (!fields.isEmpty()) {
             schema.put("fields", fields);
-            schema.put("example", generateJsonExample(fields));
+        }
+        Map<String, Object> example = new LinkedHashMap<>();
+        if (inherited.get("example") instanceof Map<?, ?> inheritedExample) {
+            inheritedExample.forEach((name, value) -> example.put((String) name, value));
+        }
+        example.putAll(generateJsonExample(fields));
+        if (!example.isEmpty()) {
+            schema.put("example", example);
+        }
+        if (truncated != null) {
+            schema.put("truncated", truncated);
+            schema.put("omittedFields", omitted);
         }
 
         return schema;
     }
 
+    /**
+     * 상위 클래스 스키마를 캐시에서 가져오거나 한 번 추출합니다.
+     *
+     * <p>같은 상위 타입을 상속하는 모든 하위 클래스가 같은 (수정 불가) 맵을 공유합니다. 캐시 미스 시에는 같은 한도를 가진
+     * 별도 한도로 추출하므로, 캐시된 결과는 어느 엔드포인트에서 처음 추출되었는지에 따라 달라지지 않습니다.
+     * 캐시 키에 한도 설정이 포함되므로 다른 설정으로 잘린 결과를 쓰지 않습니다. 재사용할 때는 스키마의 노드 수를
+     * 현재 엔드포인트 한도에 더하고, 남은 한도에 들어가지 않으면 남은 한도 안에서 다시 추출합니다.
+     * 시간 한도로 잘린 결과는 캐시에 남기지 않습니다.</p>
+     */
+    private Map<String, Object> superclassSchema(ResolvedType superType, ExtractionBudget budget, int depth) {
+        SharedSchema shared = superclassSchemas.get(superType.getRawClass(),
+                new SuperclassKey(superType, budget.getMaxDepth() - depth, budget.getMaxFieldsPerType(), budget.getMaxNodes()),
+                key -> extractShared(superType, budget, depth));
+        if (shared.truncationReasons.contains(ExtractionBudget.TIME_BUDGET)) {
+            superclassSchemas.invalidate(superType.getRawClass());
+        }
+        if (!budget.tryAddNodes(shared.nodeCount)) {
+            return extractSchema(superType, budget, depth, new HashSet<>());
+        }
+        shared.truncationReasons.forEach(budget::markTruncated);
+        return shared.schema;
+    }
+
+    private SharedSchema extractShared(ResolvedType superType, ExtractionBudget budget, int depth) {
+        ExtractionBudget isolated = budget.isolated();
+        Map<String, Object> schema = Collections.unmodifiableMap(extractSchema(superType, isolated, depth, new HashSet<>()));
+        return new SharedSchema(schema, isolated.getNodeCount(), Set.copyOf(isolated.getTruncationReasons()));
+    }
+
+    /**
+     * 스키마를 따로 추출해 공유할 상위 타입을 반환합니다. 기본 구현은 타입 변수가 해석된 직접 상위 클래스이며,
+     * {@code Object}나 JDK/Spring 클래스면 {@code null}입니다.
+     *
+     * <p>{@link #properties(ResolvedType)}가 상속받은 프로퍼티까지 반환하는 구현은 {@code null}을 반환하도록
+     * 재정의합니다.</p>
+     *
+     * @param owner 하위 타입
+     * @return 상위 타입, 없으면 {@code null}
+     */
+    protected ResolvedType superclass(ResolvedType owner) {
+        Type superclass = owner.getRawClass().getGenericSuperclass();
+        if (superclass == null || owner.getRawClass().isEnum()) {
+            return null;
+        }
+        ResolvedType superType = typeResolver.resolve(superclass, owner, owner.getRawClass());
+        Class<?> raw = superType.getRawClass();
+        if (raw == Object.class || raw.isInterface() || isSimpleType(raw) || isPlatformClass(raw)) {
+            return null;
+        }
+        return superType;
+    }
+
+    /**
+     * 스키마에 나타낼 프로퍼티 목록을 반환합니다. 기본 구현은 이 타입이 직접 선언한 인스턴스 필드이며,
+     * 상속받은 필드는 {@link #superclass(ResolvedType)}의 공유 스키마에 나타납니다.
+     *
+     * <p>직렬화 라이브러리의 프로퍼티 정의를 따르려면 이 메서드를 재정의합니다
+     * (예: {@link JacksonTypeSchemaExtractor}).</p>
+     *
+     * @param owner 스키마를 추출할 타입 (타입 변수가 해석된 상태)
+     * @return 프로퍼티 목록 (순서대로 스키마에 나타남)
+     */
+    protected List<SchemaProperty> properties(ResolvedType owner) {
+        List<SchemaProperty> properties = new ArrayList<>();
+        for (Field field : owner.getRawClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            // 타입 변수(T 등)는 실제 타입 문맥으로 치환
+            properties.add(new SchemaProperty(field.getName(), typeResolver.resolveField(field, owner), field));
+        }
+        return properties;
+    }
+
+    /**
+     * @return 중첩 스키마로 펼칠 타입 (필드 자체 또는 컬렉션/배열 요소), 값 타입이면 {@code null}
+     */
+    private ResolvedType nestedType(ResolvedType fieldType) {
+        ResolvedType target = fieldType;
+        if (fieldType.isArray() || fieldType.isCollection()) {
+            target = fieldType.getContentType().orElse(null);
+        }
+        if (target == null) {
+            return null;
+        }
+        Class<?> raw = target.getRawClass();
+        if (raw.isEnum() || raw.isArray() || isSimpleType(raw)) {
+            return null;
+        }
+        return isPlatformClass(raw) ? null : target;
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.");
+    }
+
     @Override
     public boolean isSimpleType(Class<?> type) {
         return type.isPrimitive() ||
@@ -102,6 +285,11 @@ public class DefaultTypeSchemaExtractor implements TypeSchemaExtractor {
             List<String> genericTypes = (List<String>) field.get("genericTypes");
 
             Object exampleValue = generateExampleValue(fieldType, genericTypes);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> nested = (Map<String, Object>) field.get("schema");
+            if (nested != null && nested.get("example") != null) {
+                exampleValue = exampleValue instanceof Collection<?> || fieldType.endsWith("[]") ? List.of(nested.get("example")) : nested.get("example");
+            }
             example.put(fieldName, exampleValue);
         }
 
@@ -136,4 +324,47 @@ public class DefaultTypeSchemaExtractor implements TypeSchemaExtractor {
             default -> type.toLowerCase();
         };
     }
+
+    private static final class SuperclassKey {
+        private final ResolvedType type;
+        /** 상위 스키마 아래로 더 펼칠 수 있는 깊이 (같은 타입이라도 깊이 한도에 따라 결과가 다름) */
+        private final int remainingDepth;
+        private final int maxFieldsPerType;
+        private final long maxNodes;
+
+        SuperclassKey(ResolvedType type, int remainingDepth, int maxFieldsPerType, long maxNodes) {
+            this.type = type;
+            this.remainingDepth = remainingDepth;
+            this.maxFieldsPerType = maxFieldsPerType;
+            this.maxNodes = maxNodes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SuperclassKey other)) return false;
+            return remainingDepth == other.remainingDepth && maxFieldsPerType == other.maxFieldsPerType
+                    && maxNodes == other.maxNodes && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, remainingDepth, maxFieldsPerType, maxNodes);
+        }
+    }
+
+    /**
+     * 캐시된 상위 클래스 스키마와 추출할 때 쓴 노드 수, 생략 이유
+     */
+    private static final class SharedSchema {
+        private final Map<String, Object> schema;
+        private final long nodeCount;
+        private final Set<String> truncationReasons;
+
+        SharedSchema(Map<String, Object> schema, long nodeCount, Set<String> truncationReasons) {
+            this.schema = schema;
+            this.nodeCount = nodeCount;
+            this.truncationReasons = truncationReasons;
+        }
+    }
 }
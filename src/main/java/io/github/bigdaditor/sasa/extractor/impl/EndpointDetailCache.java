@@ -0,0 +1,89 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import io.github.bigdaditor.sasa.util.LruCache;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 엔드포인트 상세 정보(파라미터, 응답 스키마)를 처음 조회될 때 계산하는 크기 제한 캐시.
+ *
+ * <p>{@link io.github.bigdaditor.sasa.SasaConfig#isLazyEndpointDetails()} 모드에서 스냅샷에 빠진 상세 정보를
+ * 엔드포인트 키({@link EndpointKey})로 계산해 {@link LruCache}에 보관합니다. 시작 비용과 상주 메모리가
+ * 전체 엔드포인트 수가 아니라 실제로 조회된 엔드포인트 수에 비례합니다.</p>
+ */
+public class EndpointDetailCache {
+
+    private final Supplier<? extends Collection<HandlerMethod>> handlerMethods;
+    private final DefaultEndpointExtractor extractor;
+    private final SasaConfig config;
+    private final LruCache<String, Map<String, Object>> cache;
+    private volatile Map<String, HandlerMethod> handlers;
+
+    /**
+     * @param mapping   핸들러를 찾을 매핑
+     * @param extractor 상세 정보 추출기
+     * @param config    캐시 용량({@link SasaConfig#getEndpointDetailCacheSize()})과 추출 한도 설정
+     */
+    public EndpointDetailCache(RequestMappingHandlerMapping mapping, DefaultEndpointExtractor extractor, SasaConfig config) {
+        this(() -> mapping.getHandlerMethods().values(), extractor, config);
+    }
+
+    /**
+     * @param handlerMethods 핸들러 메서드 목록 (처음 조회될 때와 {@link #clear()} 후에 다시 읽음, 예: WebFlux 매핑)
+     * @param extractor      상세 정보 추출기
+     * @param config         캐시 용량과 추출 한도 설정
+     */
+    public EndpointDetailCache(Supplier<? extends Collection<HandlerMethod>> handlerMethods,
+                               DefaultEndpointExtractor extractor, SasaConfig config) {
+        this.handlerMethods = handlerMethods;
+        this.extractor = extractor;
+        this.config = config;
+        this.cache = new LruCache<>(config.getEndpointDetailCacheSize());
+    }
+
+    /**
+     * @param endpointKey 엔드포인트 키
+     * @return {@code parameters}, {@code response} (반환된 맵은 공유되므로 수정하지 않아야 함), 없는 엔드포인트면 {@code null}
+     */
+    public Map<String, Object> get(String endpointKey) {
+        return cache.get(endpointKey, key -> {
+            HandlerMethod handlerMethod = handlers().get(key);
+            return handlerMethod != null ? extractor.extractDetails(handlerMethod, config) : null;
+        });
+    }
+
+    /**
+     * 캐시와 핸들러 색인을 비웁니다 (스펙 새로고침 시).
+     */
+    public void clear() {
+        handlers = null;
+        cache.clear();
+    }
+
+    /**
+     * @return 캐시 크기, 용량, 적중/미스/제거 수
+     */
+    public Map<String, Object> stats() {
+        return cache.stats();
+    }
+
+    private Map<String, HandlerMethod> handlers() {
+        Map<String, HandlerMethod> resolved = handlers;
+        if (resolved == null) {
+            // 이미 존재하는 HandlerMethod 참조만 담으므로 가벼움
+            resolved = new HashMap<>();
+            for (HandlerMethod handlerMethod : handlerMethods.get()) {
+                resolved.putIfAbsent(EndpointKey.of(handlerMethod), handlerMethod);
+            }
+            handlers = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import io.github.bigdaditor.sasa.extractor.api.ExceptionHandlerExtractor;
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 오류 응답 색인.
+ *
+ * <p>스냅샷마다 한 번 {@code @ControllerAdvice}의 적용 범위({@code basePackages}/{@code basePackageClasses},
+ * {@code assignableTypes}, {@code annotations})를 색인해 두고, 컨트롤러 클래스마다 적용되는 exception handler를
+ * 한 번만 계산합니다. 같은 컨트롤러의 엔드포인트는 같은 목록을 공유하므로 비용은 엔드포인트 × advice가 아니라
+ * 컨트롤러 수에 비례합니다.</p>
+ *
+ * <p>목록은 Spring이 handler를 고르는 순서를 따릅니다. 컨트롤러 내부 {@code @ExceptionHandler}가 먼저,
+ * 그 다음 advice가 {@code @Order} 순으로 오고, 앞선 클래스의 handler가 (상위 타입으로라도) 이미 처리하는 예외만 다루는
+ * handler는 빠집니다. {@code basePackages}는 Spring의 {@code HandlerTypePredicate}처럼 문자열 접두사로 비교하므로
+ * {@code com.foo}는 {@code com.foobar}에도 적용됩니다. 각 항목에는 {@code scope}({@code controller}/{@code advice})가 붙습니다.</p>
+ *
+ * <pre>{@code
+ * ErrorResponseIndex index = ErrorResponseIndex.build(applicationContext, exceptionHandlerExtractor);
+ * index.attach(mapping, endpoints); // 각 엔드포인트에 "errorResponses"
+ * }</pre>
+ */
+public final class ErrorResponseIndex {
+
+    private final ExceptionHandlerExtractor extractor;
+    private final List<Advice> global = new ArrayList<>();
+    private final Map<String, List<Advice>> byPackage = new HashMap<>();
+    private final Map<Class<?>, List<Advice>> byAssignableType = new HashMap<>();
+    private final Map<Class<? extends Annotation>, List<Advice>> byAnnotation = new LinkedHashMap<>();
+    private final Map<Class<?>, List<Map<String, Object>>> byController = new ConcurrentHashMap<>();
+
+    private ErrorResponseIndex(ExceptionHandlerExtractor extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * advice 빈을 생성하지 않고 (빈 이름과 타입만으로) 색인을 만듭니다.
+     *
+     * @param applicationContext advice를 찾을 컨텍스트
+     * @param extractor          클래스별 exception handler 추출기
+     * @return 색인
+     */
+    public static ErrorResponseIndex build(ApplicationContext applicationContext, ExceptionHandlerExtractor extractor) {
+        ErrorResponseIndex index = new ErrorResponseIndex(extractor);
+        int position = 0;
+        for (Class<?> adviceClass : DefaultExceptionHandlerExtractor.findAdviceClasses(applicationContext)) {
+            index.add(new Advice(adviceClass, OrderUtils.getOrder(adviceClass, Ordered.LOWEST_PRECEDENCE), position++));
+        }
+        return index;
+    }
+
+    /**
+     * 매핑의 각 엔드포인트에 {@code errorResponses}를 붙입니다 (오류 응답이 없으면 붙이지 않음).
+     *
+     * @param mapping   엔드포인트의 컨트롤러 클래스를 찾을 매핑
+     * @param endpoints 추출된 엔드포인트 맵 (수정됨)
+     */
+    public void attach(RequestMappingHandlerMapping mapping, List<Map<String, Object>> endpoints) {
+        attach(mapping.getHandlerMethods().values(), endpoints);
+    }
+
+    /**
+     * 각 엔드포인트에 {@code errorResponses}를 붙입니다 (예: WebFlux 매핑의 핸들러 메서드).
+     *
+     * @param handlerMethods 엔드포인트의 컨트롤러 클래스를 찾을 핸들러 메서드
+     * @param endpoints      추출된 엔드포인트 맵 (수정됨)
+     */
+    public void attach(Collection<HandlerMethod> handlerMethods, List<Map<String, Object>> endpoints) {
+        Map<String, Class<?>> controllerTypes = new HashMap<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            controllerTypes.putIfAbsent(EndpointKey.of(handlerMethod), handlerMethod.getBeanType());
+        }
+        for (Map<String, Object> endpoint : endpoints) {
+            String key = EndpointKey.of(endpoint);
+            Class<?> controllerType = key != null ? controllerTypes.get(key) : null;
+            if (controllerType == null) {
+                continue;
+            }
+            List<Map<String, Object>> errorResponses = errorResponses(controllerType);
+            if (!errorResponses.isEmpty()) {
+                endpoint.put("errorResponses", errorResponses);
+            }
+        }
+    }
+
+    /**
+     * @param controllerType 컨트롤러 클래스
+     * @return 이 컨트롤러의 엔드포인트가 낼 수 있는 오류 응답 (컨트롤러 단위로 계산되어 공유됨)
+     */
+    public List<Map<String, Object>> errorResponses(Class<?> controllerType) {
+        return byController.computeIfAbsent(controllerType, this::resolve);
+    }
+
+    private void add(Advice advice) {
+        ControllerAdvice annotation = AnnotatedElementUtils.findMergedAnnotation(advice.type, ControllerAdvice.class);
+        if (annotation == null) {
+            return;
+        }
+        Set<String> basePackages = new LinkedHashSet<>();
+        Collections.addAll(basePackages, annotation.value());
+        Collections.addAll(basePackages, annotation.basePackages());
+        for (Class<?> basePackageClass : annotation.basePackageClasses()) {
+            basePackages.add(basePackageClass.getPackageName());
+        }
+
+        boolean scoped = false;
+        for (String basePackage : basePackages) {
+            if (!basePackage.isBlank()) {
+                byPackage.computeIfAbsent(basePackage, k -> new ArrayList<>()).add(advice);
+                scoped = true;
+            }
+        }
+        for (Class<?> assignableType : annotation.assignableTypes()) {
+            byAssignableType.computeIfAbsent(assignableType, k -> new ArrayList<>()).add(advice);
+            scoped = true;
+        }
+        for (Class<? extends Annotation> annotationType : annotation.annotations()) {
+            byAnnotation.computeIfAbsent(annotationType, k -> new ArrayList<>()).add(advice);
+            scoped = true;
+        }
+        // 범위가 없으면 모든 컨트롤러에 적용
+        if (!scoped) {
+            global.add(advice);
+        }
+    }
+
+    private List<Map<String, Object>> resolve(Class<?> controllerType) {
+        Set<Advice> applicable = new TreeSet<>(Comparator.comparingInt((Advice advice) -> advice.order)
+                .thenComparingInt(advice -> advice.position));
+        applicable.addAll(global);
+
+        // Spring과 같이 패키지 경계가 아닌 문자열 접두사로 비교
+        String packageName = controllerType.getPackageName();
+        for (Map.Entry<String, List<Advice>> entry : byPackage.entrySet()) {
+            if (packageName.startsWith(entry.getKey())) {
+                applicable.addAll(entry.getValue());
+            }
+        }
+
+        if (!byAssignableType.isEmpty()) {
+            for (Class<?> type : supertypes(controllerType)) {
+                applicable.addAll(byAssignableType.getOrDefault(type, List.of()));
+            }
+        }
+        for (Map.Entry<Class<? extends Annotation>, List<Advice>> entry : byAnnotation.entrySet()) {
+            if (AnnotatedElementUtils.hasAnnotation(controllerType, entry.getKey())) {
+                applicable.addAll(entry.getValue());
+            }
+        }
+
+        List<Map<String, Object>> errorResponses = new ArrayList<>();
+        List<Object> handledTypes = new ArrayList<>();
+        addHandlers(controllerType, extractor.extractHandlers(controllerType), "controller", handledTypes, errorResponses);
+        for (Advice advice : applicable) {
+            addHandlers(advice.type, extractor.extractHandlers(advice.type), "advice", handledTypes, errorResponses);
+        }
+        return List.copyOf(errorResponses);
+    }
+
+    /**
+     * Spring은 예외(또는 그 상위 타입)를 처리하는 첫 클래스의 handler를 쓰므로, 앞선 클래스가 모든 예외 타입을 이미 처리하는
+     * handler는 호출되지 않아 제외합니다. 같은 클래스 안에서는 가장 가까운 타입의 handler가 골라지므로 서로 가리지 않고,
+     * 클래스를 다 본 뒤에 처리한 타입으로 더합니다.
+     */
+    private static void addHandlers(Class<?> handlerType, List<Map<String, Object>> handlers, String scope,
+                                    List<Object> handledTypes, List<Map<String, Object>> errorResponses) {
+        List<Object> declaredTypes = new ArrayList<>();
+        for (Map<String, Object> handler : handlers) {
+            List<Object> exceptionTypes = exceptionTypes(handlerType, handler);
+            if (!exceptionTypes.isEmpty() && exceptionTypes.stream().allMatch(type -> isHandled(type, handledTypes))) {
+                continue;
+            }
+            declaredTypes.addAll(exceptionTypes);
+            Map<String, Object> errorResponse = new LinkedHashMap<>(handler);
+            errorResponse.put("scope", scope);
+            errorResponses.add(errorResponse);
+        }
+        handledTypes.addAll(declaredTypes);
+    }
+
+    /**
+     * @return handler의 예외 클래스 ({@code fullExceptionTypes}를 로드할 수 없으면 이름으로 대신 비교)
+     */
+    private static List<Object> exceptionTypes(Class<?> handlerType, Map<String, Object> handler) {
+        List<Object> exceptionTypes = new ArrayList<>();
+        if (handler.get("fullExceptionTypes") instanceof Collection<?> names) {
+            for (Object name : names) {
+                try {
+                    exceptionTypes.add(Class.forName(String.valueOf(name), false, handlerType.getClassLoader()));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    exceptionTypes.add(name);
+                }
+            }
+        } else if (handler.get("exceptionTypes") instanceof Collection<?> names) {
+            exceptionTypes.addAll(names);
+        }
+        return exceptionTypes;
+    }
+
+    private static boolean isHandled(Object type, List<Object> handledTypes) {
+        for (Object handled : handledTypes) {
+            if (handled instanceof Class<?> handledClass && type instanceof Class<?> typeClass
+                    ? handledClass.isAssignableFrom(typeClass)
+                    : handled.equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Class<?>> supertypes(Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (!types.add(current)) {
+                continue;
+            }
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+            Collections.addAll(queue, current.getInterfaces());
+        }
+        return types;
+    }
+
+    private static final class Advice {
+        private final Class<?> type;
+        private final int order;
+        /** 같은 order 사이의 순서 (빈 정의 순서) */
+        private final int position;
+
+        Advice(Class<?> type, int order, int position) {
+            this.type = type;
+            this.order = order;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 엔드포인트 하나를 추출하는 동안의 스키마 추출 한도 (스레드 범위).
+ *
+ * <p>추출기 인터페이스에 설정을 넘기지 않고도 {@link DefaultTypeSchemaExtractor}가 한도를 지킬 수 있도록,
+ * {@link DefaultEndpointExtractor}가 엔드포인트마다 {@link #open(SasaConfig)}으로 현재 스레드에 한도를 걸고
+ * 추출이 끝나면 닫습니다. 열린 한도가 없으면 {@link #current()}는 매번 새 무제한 한도를 반환합니다.</p>
+ *
+ * <p>한도에 걸린 부분은 예외 없이 생략하고, 생략 이유를 {@link #getTruncationReasons()}에 모아
+ * 출력에 {@code truncated} 표시로 남깁니다.</p>
+ *
+ * <pre>{@code
+ * try (ExtractionBudget budget = ExtractionBudget.open(config)) {
+ *     Map<String, Object> schema = typeSchemaExtractor.extractTypeSchema(type);
+ *     budget.getTruncationReasons(); // [maxFieldsPerType]
+ * }
+ * }</pre>
+ */
+public final class ExtractionBudget implements AutoCloseable {
+
+    /** 타입의 필드 수가 {@link SasaConfig#getMaxFieldsPerType()}를 넘음 */
+    public static final String MAX_FIELDS_PER_TYPE = "maxFieldsPerType";
+    /** 엔드포인트의 스키마 노드 수가 {@link SasaConfig#getMaxSchemaNodes()}를 넘음 */
+    public static final String MAX_NODES = "maxSchemaNodes";
+    /** 엔드포인트 추출 시간이 {@link SasaConfig#getExtractionTimeBudget()}를 넘음 */
+    public static final String TIME_BUDGET = "timeBudget";
+    /** 중첩 스키마가 {@link SasaConfig#getMaxSchemaDepth()}에 닿음 */
+    public static final String MAX_DEPTH = "maxSchemaDepth";
+    /** 중첩 스키마가 자기 자신(또는 상위 타입)을 다시 참조함 */
+    public static final String CYCLE = "cycle";
+
+    private static final ThreadLocal<ExtractionBudget> CURRENT = new ThreadLocal<>();
+
+    private final int maxDepth;
+    private final int maxFieldsPerType;
+    private final long maxNodes;
+    private final long deadlineNanos;
+    private final ExtractionBudget previous;
+    private final Set<String> truncationReasons = new TreeSet<>();
+    private long nodes;
+
+    private ExtractionBudget(int maxDepth, int maxFieldsPerType, long maxNodes, long timeBudgetNanos, ExtractionBudget previous) {
+        this(maxDepth, maxFieldsPerType, maxNodes, previous,
+                timeBudgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + timeBudgetNanos);
+    }
+
+    private ExtractionBudget(int maxDepth, int maxFieldsPerType, long maxNodes, ExtractionBudget previous, long deadlineNanos) {
+        this.maxDepth = maxDepth;
+        this.maxFieldsPerType = maxFieldsPerType;
+        this.maxNodes = maxNodes;
+        this.deadlineNanos = deadlineNanos;
+        this.previous = previous;
+    }
+
+    /**
+     * 현재 스레드에 설정의 한도를 겁니다. 반드시 닫아야 합니다 (try-with-resources).
+     *
+     * @param config 한도 설정
+     * @return 열린 한도
+     */
+    public static ExtractionBudget open(SasaConfig config) {
+        Duration timeBudget = config.getExtractionTimeBudget();
+        ExtractionBudget budget = new ExtractionBudget(config.getMaxSchemaDepth(), config.getMaxFieldsPerType(),
+                config.getMaxSchemaNodes(), timeBudget == null ? Long.MAX_VALUE : timeBudget.toNanos(), CURRENT.get());
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    /**
+     * @return 현재 스레드에 열린 한도, 없으면 새 무제한 한도 (깊이 1)
+     */
+    public static ExtractionBudget current() {
+        ExtractionBudget budget = CURRENT.get();
+        return budget != null ? budget : new ExtractionBudget(1, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @return 스키마 최대 깊이 (1이면 최상위 타입의 필드만, 중첩 스키마 없음)
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxFieldsPerType() {
+        return maxFieldsPerType;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * 같은 한도(마감 시각 포함)를 가진, 노드 수와 생략 이유를 따로 세는 한도를 만듭니다. 현재 스레드에 걸지 않습니다.
+     *
+     * <p>엔드포인트 사이에서 공유·캐시되는 스키마를 호출 문맥(이미 쓴 노드 수)과 무관하게 추출할 때 씁니다.</p>
+     *
+     * @return 새 한도
+     */
+    ExtractionBudget isolated() {
+        return new ExtractionBudget(maxDepth, maxFieldsPerType, maxNodes, null, deadlineNanos);
+    }
+
+    /**
+     * 스키마 노드(필드) 하나를 추가해도 되는지 확인하고 셉니다.
+     *
+     * @return 추가할 수 있으면 {@code true}, 노드 수나 시간 한도를 넘었으면 {@code false} (이유는 기록됨)
+     */
+    public boolean tryAddNode() {
+        if (nodes >= maxNodes) {
+            truncationReasons.add(MAX_NODES);
+            return false;
+        }
+        if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos > 0) {
+            truncationReasons.add(TIME_BUDGET);
+            return false;
+        }
+        nodes++;
+        return true;
+    }
+
+    /**
+     * 이미 추출된 스키마의 노드 수를 한 번에 셉니다 (캐시된 스키마 재사용 시).
+     *
+     * @param count 노드 수
+     * @return 남은 한도 안에 들어가면 {@code true} (이때만 셈), 아니면 {@code false}
+     */
+    public boolean tryAddNodes(long count) {
+        if (count > maxNodes - nodes) {
+            return false;
+        }
+        if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos > 0) {
+            return false;
+        }
+        nodes += count;
+        return true;
+    }
+
+    /**
+     * @param reason 생략 이유 (이 클래스의 상수)
+     */
+    public void markTruncated(String reason) {
+        truncationReasons.add(reason);
+    }
+
+    /**
+     * @return 지금까지 생략이 일어난 이유 (정렬됨, 없으면 빈 Set)
+     */
+    public Set<String> getTruncationReasons() {
+        return truncationReasons;
+    }
+
+    /**
+     * @return 지금까지 추가된 스키마 노드 수
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    @Override
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.bigdaditor.sasa.extractor.api.ValidationExtractor;
+import io.github.bigdaditor.sasa.util.ClassScopedCache;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 애플리케이션 {@link ObjectMapper}의 직렬화 설정으로 프로퍼티를 정하는 타입 스키마 추출기.
+ *
+ * <p>필드 목록 대신 Jackson이 직렬화할 때 쓰는 {@link BeanDescription}을 사용하므로 스키마가 실제 응답 본문과 같습니다.</p>
+ * <ul>
+ *   <li>{@code @JsonIgnore}, {@code @JsonIgnoreProperties}로 제외된 프로퍼티는 나타나지 않습니다.</li>
+ *   <li>{@code @JsonProperty} 이름 변경과 {@code PropertyNamingStrategy}가 적용된 이름을 씁니다.</li>
+ *   <li>필드 없는 getter 전용 프로퍼티와 record 컴포넌트도 포함합니다.</li>
+ * </ul>
+ *
+ * <p>검증 어노테이션은 프로퍼티에 대응하는 필드가 있을 때만 읽습니다. 프로퍼티 목록은 타입별로
+ * {@link ClassScopedCache}에 보관되므로 여러 엔드포인트가 같은 DTO를 써도 introspection은 한 번만 일어납니다.</p>
+ *
+ * <pre>{@code
+ * SasaConfig config = SasaConfig.builder()
+ *         .typeSchemaExtractor(new JacksonTypeSchemaExtractor(objectMapper))
+ *         .build();
+ * }</pre>
+ *
+ * <p>자동 설정은 컨텍스트에 {@code ObjectMapper} 빈이 있으면 이 추출기를 사용합니다.</p>
+ */
+public class JacksonTypeSchemaExtractor extends DefaultTypeSchemaExtractor {
+
+    /** 자기 참조 타입 인자(예: {@code T extends Comparable<T>})에서 무한 재귀를 막기 위한 최대 깊이 */
+    private static final int MAX_DEPTH = 8;
+
+    private final ObjectMapper objectMapper;
+    private final ClassScopedCache<ResolvedType, List<SchemaProperty>> cache = new ClassScopedCache<>(
+            (owner, properties) -> {
+                Set<Class<?>> classes = owner.referencedClasses();
+                for (SchemaProperty property : properties) {
+                    classes.addAll(property.getType().referencedClasses());
+                }
+                return classes;
+            });
+
+    public JacksonTypeSchemaExtractor(ObjectMapper objectMapper) {
+        this(objectMapper, new DefaultValidationExtractor());
+    }
+
+    public JacksonTypeSchemaExtractor(ObjectMapper objectMapper, ValidationExtractor validationExtractor) {
+        this(objectMapper, validationExtractor, TypeResolver.getDefault());
+    }
+
+    public JacksonTypeSchemaExtractor(ObjectMapper objectMapper, ValidationExtractor validationExtractor,
+                                      TypeResolver typeResolver) {
+        super(validationExtractor, typeResolver);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected List<SchemaProperty> properties(ResolvedType owner) {
+        return cache.get(owner.getRawClass(), owner, this::introspect);
+    }
+
+    /**
+     * Jackson 프로퍼티 목록은 상속받은 프로퍼티를 직렬화 순서대로 이미 포함하므로 상위 스키마를 나누지 않습니다.
+     */
+    @Override
+    protected ResolvedType superclass(ResolvedType owner) {
+        return null;
+    }
+
+    /**
+     * 캐시를 비웁니다 (ObjectMapper 설정이 바뀐 경우).
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private List<SchemaProperty> introspect(ResolvedType owner) {
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        BeanDescription description = config.introspect(toJavaType(owner, config.getTypeFactory()));
+        Set<String> ignored = config.getDefaultPropertyIgnorals(owner.getRawClass(), description.getClassInfo())
+                .findIgnoredForSerialization();
+
+        List<SchemaProperty> properties = new ArrayList<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor == null || ignored.contains(property.getName())) {
+                continue;
+            }
+            AnnotatedField field = property.getField();
+            Field validationSource = field != null ? field.getAnnotated() : null;
+            properties.add(new SchemaProperty(property.getName(), toResolvedType(accessor.getType(), 0), validationSource));
+        }
+        return List.copyOf(properties);
+    }
+
+    private JavaType toJavaType(ResolvedType type, TypeFactory typeFactory) {
+        if (type.isArray()) {
+            return typeFactory.constructArrayType(toJavaType(type.getComponentType(), typeFactory));
+        }
+        if (!type.hasGenerics()) {
+            return typeFactory.constructType(type.getRawClass());
+        }
+        JavaType[] arguments = type.getGenerics().stream()
+                .map(generic -> toJavaType(generic, typeFactory))
+                .toArray(JavaType[]::new);
+        try {
+            return typeFactory.constructParametricType(type.getRawClass(), arguments);
+        } catch (IllegalArgumentException e) {
+            // 타입 인자 수가 맞지 않으면 (상위 타입 인자만 알려진 경우 등) 원시 타입으로
+            return typeFactory.constructType(type.getRawClass());
+        }
+    }
+
+    private ResolvedType toResolvedType(JavaType type, int depth) {
+        if (type.isArrayType()) {
+            return new ResolvedType(type.getRawClass(), List.of(), toResolvedType(type.getContentType(), depth + 1));
+        }
+        List<ResolvedType> generics = new ArrayList<>();
+        if (depth < MAX_DEPTH) {
+            for (JavaType generic : type.getBindings().getTypeParameters()) {
+                generics.add(toResolvedType(generic, depth + 1));
+            }
+        }
+        return new ResolvedType(type.getRawClass(), generics, null);
+    }
+}
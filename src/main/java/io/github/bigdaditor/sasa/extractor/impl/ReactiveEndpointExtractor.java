@@ -0,0 +1,75 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * WebFlux {@link RequestMappingHandlerMapping}의 엔드포인트 정보 추출기.
+ *
+ * <p>엔드포인트 맵의 형태는 Servlet 스택과 같으며, 상세 정보는 주어진 {@link DefaultEndpointExtractor}가 만듭니다.
+ * {@code Mono}/{@code Flux} 반환 타입은 응답 추출 시 실제 본문 타입으로 풀립니다 ({@link DefaultResponseExtractor}).</p>
+ *
+ * <p>스키마 추출은 리플렉션과 캐시 채우기로 블로킹될 수 있으므로 이벤트 루프 스레드에서 호출하지 않아야 합니다
+ * (예: {@code Schedulers.boundedElastic()}에서 호출).</p>
+ */
+public class ReactiveEndpointExtractor {
+
+    private final DefaultEndpointExtractor endpointExtractor;
+
+    public ReactiveEndpointExtractor() {
+        this(new DefaultEndpointExtractor());
+    }
+
+    /**
+     * @param endpointExtractor 엔드포인트 상세 정보 추출기
+     */
+    public ReactiveEndpointExtractor(DefaultEndpointExtractor endpointExtractor) {
+        this.endpointExtractor = endpointExtractor;
+    }
+
+    /**
+     * 모든 엔드포인트 정보를 추출합니다.
+     *
+     * @param mapping WebFlux RequestMappingHandlerMapping
+     * @param config  SASA 설정 (필터링 조건 포함)
+     * @return 엔드포인트 정보 리스트
+     */
+    public List<Map<String, Object>> extract(RequestMappingHandlerMapping mapping, SasaConfig config) {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+
+        for (var entry : mapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            Map<String, Object> endpoint = endpointExtractor.extractEndpoint(extractPaths(info),
+                    DefaultEndpointExtractor.methodNames(info.getMethodsCondition().getMethods()),
+                    DefaultEndpointExtractor.mediaTypeNames(info.getConsumesCondition().getConsumableMediaTypes()),
+                    DefaultEndpointExtractor.mediaTypeNames(info.getProducesCondition().getProducibleMediaTypes()),
+                    entry.getValue(), config);
+            if (endpoint != null) {
+                endpoints.add(endpoint);
+            }
+        }
+
+        return endpoints;
+    }
+
+    /**
+     * @return 상세 정보 추출기 (지연 계산 모드에서 {@link EndpointDetailCache}에 사용)
+     */
+    public DefaultEndpointExtractor getEndpointExtractor() {
+        return endpointExtractor;
+    }
+
+    private Set<String> extractPaths(RequestMappingInfo info) {
+        return info.getPatternsCondition().getPatterns().stream()
+                .map(PathPattern::getPatternString)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import org.springframework.core.ResolvableType;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 제네릭이 모두 해석된 타입 정보 (불변).
+ *
+ * <p>{@link TypeResolver}가 생성하며, 중첩 제네릭({@code Page<List<OrderDTO>>}), 배열, 상속받은 타입 변수가
+ * 실제 타입으로 치환된 상태를 나타냅니다. 해석할 수 없는 타입 변수는 {@code Object}(또는 상한 타입)로 표현됩니다.</p>
+ */
+public final class ResolvedType {
+
+    private final Class<?> rawClass;
+    private final List<ResolvedType> generics;
+    private final ResolvedType componentType;
+    private final String signature;
+    private final int hash;
+    private volatile ResolvableType resolvableType;
+
+    ResolvedType(Class<?> rawClass, List<ResolvedType> generics, ResolvedType componentType) {
+        this.rawClass = rawClass;
+        this.generics = List.copyOf(generics);
+        this.componentType = componentType;
+        this.signature = buildSignature();
+        this.hash = Objects.hash(rawClass, this.generics, componentType);
+    }
+
+    /**
+     * @return 원시 클래스 (해석 불가 시 {@code Object})
+     */
+    public Class<?> getRawClass() {
+        return rawClass;
+    }
+
+    public String getSimpleName() {
+        return rawClass.getSimpleName();
+    }
+
+    public String getName() {
+        return rawClass.getName();
+    }
+
+    /**
+     * @return 해석된 타입 인자 목록 (원시 타입/비제네릭 타입은 빈 목록)
+     */
+    public List<ResolvedType> getGenerics() {
+        return generics;
+    }
+
+    public boolean hasGenerics() {
+        return !generics.isEmpty();
+    }
+
+    /**
+     * @return 배열 요소 타입, 배열이 아니면 {@code null}
+     */
+    public ResolvedType getComponentType() {
+        return componentType;
+    }
+
+    public boolean isArray() {
+        return componentType != null;
+    }
+
+    public boolean isCollection() {
+        return Collection.class.isAssignableFrom(rawClass);
+    }
+
+    public boolean isMap() {
+        return Map.class.isAssignableFrom(rawClass);
+    }
+
+    /**
+     * 값을 감싸는 타입의 "내용물" 타입을 반환합니다.
+     *
+     * <p>배열은 요소 타입, {@code Map}은 값 타입, 그 외 제네릭 타입은 첫 번째 타입 인자입니다.</p>
+     *
+     * @return 내용물 타입, 없으면 empty
+     */
+    public Optional<ResolvedType> getContentType() {
+        if (componentType != null) {
+            return Optional.of(componentType);
+        }
+        if (generics.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(isMap() ? generics.get(generics.size() - 1) : generics.get(0));
+    }
+
+    /**
+     * 이 구조만으로 다시 만든 Spring {@link ResolvableType}을 반환합니다.
+     *
+     * <p>해석 당시의 변수 해석 체인(다른 소유 타입 등)을 포함하지 않으므로, 캐시에 보관해도
+     * 이 타입 트리에 있는 클래스 외에는 참조하지 않습니다.</p>
+     *
+     * @return 스키마 추출 시 필드 타입 변수를 해석하기 위한 타입
+     */
+    public ResolvableType getResolvableType() {
+        ResolvableType type = resolvableType;
+        if (type == null) {
+            type = toResolvableType();
+            resolvableType = type;
+        }
+        return type;
+    }
+
+    /**
+     * @return 간단한 이름 기반 시그니처 (예: {@code Page<List<OrderDTO>>}, {@code Map<String, Foo>}, {@code OrderDTO[]})
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * @return 이 타입 트리가 참조하는 모든 클래스 (캐시의 클래스로더 가시성 검사용)
+     */
+    public Set<Class<?>> referencedClasses() {
+        Set<Class<?>> classes = new HashSet<>();
+        collectClasses(classes);
+        return classes;
+    }
+
+    private void collectClasses(Set<Class<?>> classes) {
+        classes.add(rawClass);
+        if (componentType != null) {
+            componentType.collectClasses(classes);
+        }
+        for (ResolvedType generic : generics) {
+            generic.collectClasses(classes);
+        }
+    }
+
+    private ResolvableType toResolvableType() {
+        if (componentType != null) {
+            return ResolvableType.forArrayComponent(componentType.getResolvableType());
+        }
+        if (generics.isEmpty() || generics.size() != rawClass.getTypeParameters().length) {
+            return ResolvableType.forClass(rawClass);
+        }
+        ResolvableType[] arguments = new ResolvableType[generics.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = generics.get(i).getResolvableType();
+        }
+        return ResolvableType.forClassWithGenerics(rawClass, arguments);
+    }
+
+    private String buildSignature() {
+        if (componentType != null) {
+            return componentType.getSignature() + "[]";
+        }
+        if (generics.isEmpty()) {
+            return rawClass.getSimpleName();
+        }
+        StringBuilder builder = new StringBuilder(rawClass.getSimpleName()).append('<');
+        for (int i = 0; i < generics.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(generics.get(i).getSignature());
+        }
+        return builder.append('>').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResolvedType other)) return false;
+        return hash == other.hash
+                && rawClass == other.rawClass
+                && generics.equals(other.generics)
+                && Objects.equals(componentType, other.componentType);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return signature;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import java.lang.reflect.Field;
+
+/**
+ * 스키마에 나타나는 프로퍼티 하나 (이름, 해석된 타입, 검증 어노테이션을 읽을 필드).
+ *
+ * <p>{@link DefaultTypeSchemaExtractor#properties(ResolvedType)}가 반환하며, 필드 기반 추출에서는 필드 이름 그대로,
+ * Jackson 기반 추출에서는 직렬화되는 이름(rename, naming strategy 적용)을 가집니다.</p>
+ */
+public final class SchemaProperty {
+
+    private final String name;
+    private final ResolvedType type;
+    private final Field field;
+
+    /**
+     * @param name  스키마에 표시할 이름
+     * @param type  해석된 타입
+     * @param field 검증 어노테이션을 읽을 필드 (getter 전용 프로퍼티처럼 필드가 없으면 {@code null})
+     */
+    public SchemaProperty(String name, ResolvedType type, Field field) {
+        this.name = name;
+        this.type = type;
+        this.field = field;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ResolvedType getType() {
+        return type;
+    }
+
+    /**
+     * @return 필드, 없으면 {@code null}
+     */
+    public Field getField() {
+        return field;
+    }
+}
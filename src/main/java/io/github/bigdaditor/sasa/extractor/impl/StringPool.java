@@ -0,0 +1,166 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스펙 단위 문자열 풀.
+ *
+ * <p>추출기들이 {@code getSimpleName()}/{@code getName()}/{@code MediaType.toString()} 등으로 만든 문자열은
+ * 내용이 같아도 각각 별도 인스턴스입니다. 수천 개 엔드포인트 스펙에서는 {@code fullType}, 컨트롤러명, 필드명,
+ * 미디어 타입, validation 키가 수만 번 반복되므로, 스펙 하나를 만드는 동안 같은 내용의 문자열을 하나의
+ * 인스턴스로 합쳐 캐시된 스펙의 유지 크기를 줄입니다.</p>
+ *
+ * <p>{@link String#intern()}과 달리 JVM 전역 풀을 사용하지 않으므로, 스펙과 함께 풀도 GC 대상이 됩니다.</p>
+ *
+ * <pre>{@code
+ * StringPool pool = new StringPool();
+ * Map<String, Object> spec = pool.deduplicate(rawSpec);
+ * pool.report(); // {lookups=..., uniqueStrings=..., duplicatesRemoved=..., bytesSaved=...}
+ * }</pre>
+ */
+public class StringPool {
+
+    /** String 객체 헤더 + 필드 (압축 OOP 기준 근사값) */
+    private static final int STRING_OBJECT_BYTES = 24;
+    /** byte[] 배열 헤더 */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong duplicatesRemoved = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    /**
+     * 같은 내용의 문자열이 이미 풀에 있으면 그 인스턴스를 반환합니다.
+     *
+     * @param value 문자열 ({@code null} 허용)
+     * @return 풀의 대표 인스턴스
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        lookups.incrementAndGet();
+        String canonical = pool.putIfAbsent(value, value);
+        if (canonical == null) {
+            return value;
+        }
+        if (canonical != value) {
+            duplicatesRemoved.incrementAndGet();
+            bytesSaved.addAndGet(retainedSize(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * 스펙 트리(Map/Collection 중첩 구조)의 모든 문자열 키와 값을 풀 인스턴스로 교체한 사본을 반환합니다.
+     *
+     * <p>Map은 {@link LinkedHashMap}, List는 {@link ArrayList}, Set은 {@link LinkedHashSet}으로 복사되어
+     * 순서가 유지되고, 불변 컬렉션은 복사 후에도 불변으로 감쌉니다. 문자열/컬렉션 외의 값은 그대로 유지됩니다.</p>
+     *
+     * <p>여러 곳에서 공유되는 컬렉션 인스턴스(상위 클래스 스키마, 컨트롤러 단위 오류 응답 목록 등)는 한 번만 복사되며
+     * 사본도 같은 방식으로 공유됩니다.</p>
+     *
+     * @param spec 원본 스펙
+     * @return 문자열이 중복 제거된 스펙
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> deduplicate(Map<String, Object> spec) {
+        return (Map<String, Object>) canonicalize(spec, new IdentityHashMap<>());
+    }
+
+    /**
+     * @return 고유 문자열 수
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * @return 조회 수, 고유 문자열 수, 제거된 중복 수, 절감된 바이트(추정) 리포트
+     */
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("lookups", lookups.get());
+        report.put("uniqueStrings", pool.size());
+        report.put("duplicatesRemoved", duplicatesRemoved.get());
+        report.put("bytesSaved", bytesSaved.get());
+        return report;
+    }
+
+    private Object canonicalize(Object value, Map<Object, Object> copies) {
+        if (value instanceof String string) {
+            return intern(string);
+        }
+        if (!(value instanceof Map<?, ?>) && !(value instanceof Collection<?>)) {
+            return value;
+        }
+        Object existing = copies.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        boolean unmodifiable = isUnmodifiable(value);
+        // 순환/공유 참조가 같은 사본을 보도록 채우기 전에 등록
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>(Math.max(4, (int) (map.size() / 0.75f) + 1));
+            copies.put(value, unmodifiable ? Collections.unmodifiableMap(copy) : copy);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(canonicalize(entry.getKey(), copies), canonicalize(entry.getValue(), copies));
+            }
+        } else if (value instanceof Set<?> set) {
+            Set<Object> copy = new LinkedHashSet<>(Math.max(4, (int) (set.size() / 0.75f) + 1));
+            copies.put(value, unmodifiable ? Collections.unmodifiableSet(copy) : copy);
+            for (Object element : set) {
+                copy.add(canonicalize(element, copies));
+            }
+        } else {
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> copy = new ArrayList<>(collection.size());
+            copies.put(value, unmodifiable ? Collections.unmodifiableList(copy) : copy);
+            for (Object element : collection) {
+                copy.add(canonicalize(element, copies));
+            }
+        }
+        return copies.get(value);
+    }
+
+    /**
+     * {@code List.of}/{@code Map.of}, {@code Collections.unmodifiable*}/{@code empty*}/{@code singleton*} 여부
+     */
+    private static boolean isUnmodifiable(Object collection) {
+        String name = collection.getClass().getName();
+        return name.startsWith("java.util.ImmutableCollections$")
+                || name.startsWith("java.util.Collections$Unmodifiable")
+                || name.startsWith("java.util.Collections$Empty")
+                || name.startsWith("java.util.Collections$Singleton");
+    }
+
+    /**
+     * 중복 문자열 하나가 유지하던 크기 추정 (compact strings: Latin-1은 1바이트, 그 외 2바이트/문자, 8바이트 정렬)
+     */
+    private static long retainedSize(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                latin1 = false;
+                break;
+            }
+        }
+        long payload = latin1 ? value.length() : value.length() * 2L;
+        return STRING_OBJECT_BYTES + align(ARRAY_HEADER_BYTES + payload);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.bigdaditor.sasa.extractor.impl;
+
+import io.github.bigdaditor.sasa.util.ClassScopedCache;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Spring {@link ResolvableType} 기반 제네릭 타입 해석기.
+ *
+ * <p>임의 깊이의 중첩 제네릭, 배열, 상위 클래스/인터페이스에 선언된 타입 변수를 실제 타입으로 해석합니다.
+ * 결과는 {@code (Type, owner)} 쌍 단위로 캐시되므로, 수천 개 엔드포인트가 같은 제네릭 시그니처를 공유해도
+ * 해석 비용은 시그니처당 한 번만 발생합니다.</p>
+ *
+ * <p>캐시는 {@link ClassScopedCache}로 소유 클래스에 매달리므로 재시작/리디플로이된 클래스로더를 붙잡지 않습니다.</p>
+ *
+ * <pre>{@code
+ * TypeResolver resolver = TypeResolver.getDefault();
+ * ResolvedType type = resolver.resolveReturnType(method, controllerClass);
+ * type.getSignature(); // "ResponseEntity<Page<List<OrderDTO>>>"
+ * }</pre>
+ */
+public class TypeResolver {
+
+    /** 자기 참조 상한(예: {@code T extends Comparable<T>})에서 무한 재귀를 막기 위한 최대 깊이 */
+    private static final int MAX_DEPTH = 8;
+
+    private static final TypeResolver DEFAULT = new TypeResolver();
+
+    private final ClassScopedCache<CacheKey, ResolvedType> cache = new ClassScopedCache<>(
+            (key, value) -> {
+                Set<Class<?>> classes = key.owner.referencedClasses();
+                classes.addAll(value.referencedClasses());
+                return classes;
+            });
+
+    /**
+     * @return 기본 추출기들이 공유하는 인스턴스
+     */
+    public static TypeResolver getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 메서드 반환 타입을 해석합니다.
+     *
+     * @param method 대상 메서드
+     * @param implementationClass 실제 구현 클래스 (상위 클래스의 타입 변수 해석용, {@code null}이면 선언 클래스)
+     * @return 해석된 타입
+     */
+    public ResolvedType resolveReturnType(Method method, Class<?> implementationClass) {
+        Class<?> owner = implementationClass != null ? implementationClass : method.getDeclaringClass();
+        return resolve(method.getGenericReturnType(), new ResolvedType(owner, List.of(), null), method.getDeclaringClass());
+    }
+
+    /**
+     * 필드 타입을 해석합니다.
+     *
+     * @param field 대상 필드
+     * @param owner 필드를 포함하는 실제 타입 (예: {@code PageResponse<OrderDTO>})
+     * @return 해석된 타입
+     */
+    public ResolvedType resolveField(Field field, ResolvedType owner) {
+        return resolve(field.getGenericType(), owner, field.getDeclaringClass());
+    }
+
+    /**
+     * 타입을 소유 타입 문맥에서 해석합니다.
+     *
+     * @param type 대상 타입
+     * @param owner 타입 변수를 해석할 소유 타입
+     * @param declaringClass {@code type}이 선언된 클래스 (소유 타입 또는 그 상위 타입)
+     * @return 해석된 타입
+     */
+    public ResolvedType resolve(Type type, ResolvedType owner, Class<?> declaringClass) {
+        return cache.get(owner.getRawClass(), new CacheKey(type, owner),
+                key -> build(ResolvableType.forType(type, owner.getResolvableType().as(declaringClass)), 0));
+    }
+
+    /**
+     * Spring {@link ResolvableType}을 구조적 타입 정보로 변환합니다 (캐시하지 않음).
+     *
+     * @param type 대상 타입
+     * @return 해석된 타입
+     */
+    public ResolvedType describe(ResolvableType type) {
+        return build(type, 0);
+    }
+
+    /**
+     * 캐시를 비웁니다.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private ResolvedType build(ResolvableType resolvable, int depth) {
+        if (resolvable.isArray()) {
+            ResolvedType component = build(resolvable.getComponentType(), depth + 1);
+            Class<?> arrayClass = resolvable.resolve(component.getRawClass().arrayType());
+            return new ResolvedType(arrayClass, List.of(), component);
+        }
+
+        Class<?> rawClass = resolvable.resolve(Object.class);
+        List<ResolvedType> generics = new ArrayList<>();
+        // 원시 타입(Class)은 타입 인자를 표기하지 않음 (List → List, List<Object> 아님)
+        if (!(resolvable.getType() instanceof Class) && depth < MAX_DEPTH) {
+            for (ResolvableType generic : resolvable.getGenerics()) {
+                generics.add(build(generic, depth + 1));
+            }
+        }
+        return new ResolvedType(rawClass, generics, null);
+    }
+
+    private static final class CacheKey {
+        private final Type type;
+        private final ResolvedType owner;
+        private final int hash;
+
+        CacheKey(Type type, ResolvedType owner) {
+            this.type = type;
+            this.owner = owner;
+            this.hash = 31 * type.hashCode() + owner.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey other)) return false;
+            return type.equals(other.type) && owner.equals(other.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.bigdaditor.sasa.format;
+
+import io.github.bigdaditor.sasa.util.EndpointKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SASA 바이너리 스펙 아카이브(.sasa) 포맷 정의.
+ *
+ * <h2>파일 구조</h2>
+ * <pre>
+ * [header]        int MAGIC, int VERSION
+ * [string table]  varint count, (varint length, UTF-8 bytes)*
+ * [records]       schema 레코드*, endpoint 레코드*, metadata 레코드 — 각각 (varint length, value)
+ * [index]         int schemaCount, int offset*,
+ *                 int endpointCount, (int idStringIndex, int offset)* (endpoint ID 오름차순),
+ *                 int metadataOffset
+ * [trailer]       int indexOffset, int MAGIC
+ * </pre>
+ *
+ * <p>값은 태그 1바이트 뒤에 내용이 오는 형태로 인코딩되며, 문자열(맵 키 포함)은 모두 문자열 테이블 인덱스로 참조됩니다.
+ * 동일한 {@code schema} 맵은 한 번만 스키마 레코드로 기록되고 {@link #TAG_SCHEMA_REF}로 참조됩니다.
+ * 오프셋은 모두 파일 시작 기준 절대 위치이며, 파일 크기는 2GB 미만이어야 합니다.</p>
+ *
+ * @see BinarySpecReader
+ * @see io.github.bigdaditor.sasa.generator.impl.BinarySpecOutputGenerator
+ */
+public final class BinarySpecFormat {
+
+    private BinarySpecFormat() {
+        // 인스턴스화 방지
+    }
+
+    /** "SASA" */
+    public static final int MAGIC = 0x53415341;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int TRAILER_SIZE = 8;
+
+    // === Value Tags ===
+    public static final byte TAG_NULL = 0;
+    public static final byte TAG_STRING = 1;
+    public static final byte TAG_INT = 2;
+    public static final byte TAG_LONG = 3;
+    public static final byte TAG_DOUBLE = 4;
+    public static final byte TAG_TRUE = 5;
+    public static final byte TAG_FALSE = 6;
+    public static final byte TAG_LIST = 7;
+    public static final byte TAG_MAP = 8;
+    public static final byte TAG_SCHEMA_REF = 9;
+
+    /** 스키마 레코드로 분리되는 맵 키 */
+    public static final String SCHEMA_KEY = "schema";
+
+    /**
+     * 엔드포인트 ID 생성 (예: {@code "GET /api/users"}, 여러 값은 정렬 후 쉼표로 연결)
+     *
+     * @param endpoint 엔드포인트 맵 (paths, methods 포함)
+     * @return 엔드포인트 ID
+     */
+    public static String endpointId(Map<String, Object> endpoint) {
+        return joinSorted(endpoint.get("methods")) + " " + joinSorted(endpoint.get("paths"));
+    }
+
+    /**
+     * 아카이브에 기록할 엔드포인트 ID 목록을 만듭니다 (입력 순서).
+     *
+     * <p>기본은 {@link #endpointId(Map)}이며, params/headers/consumes/produces 조건만 다른 매핑처럼 ID가 겹치는
+     * 엔드포인트는 모두 뒤에 핸들러 키({@link EndpointKey#of(Map)})를 붙입니다
+     * (예: {@code "GET /api/users com.example.UserController#search(java.lang.String)"}).</p>
+     *
+     * @param endpoints 엔드포인트 맵 목록
+     * @return 유일한 엔드포인트 ID 목록
+     * @throws IllegalArgumentException 핸들러 키로도 구분되지 않는 엔드포인트가 있는 경우
+     */
+    public static List<String> endpointIds(List<Map<String, Object>> endpoints) {
+        List<String> baseIds = new ArrayList<>(endpoints.size());
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map<String, Object> endpoint : endpoints) {
+            String id = endpointId(endpoint);
+            baseIds.add(id);
+            counts.merge(id, 1, Integer::sum);
+        }
+
+        List<String> ids = new ArrayList<>(endpoints.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < endpoints.size(); i++) {
+            String id = baseIds.get(i);
+            if (counts.get(id) > 1) {
+                String key = EndpointKey.of(endpoints.get(i));
+                id = key != null ? id + " " + key : null;
+            }
+            if (id == null || !seen.add(id)) {
+                throw new IllegalArgumentException("Duplicate endpoint id in spec: " + baseIds.get(i));
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static String joinSorted(Object values) {
+        if (!(values instanceof Collection<?> collection)) {
+            return "";
+        }
+        List<String> sorted = new ArrayList<>();
+        for (Object value : collection) {
+            sorted.add(String.valueOf(value));
+        }
+        Collections.sort(sorted);
+        return String.join(",", sorted);
+    }
+}
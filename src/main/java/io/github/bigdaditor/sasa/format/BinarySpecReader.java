@@ -0,0 +1,249 @@
+package io.github.bigdaditor.sasa.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static io.github.bigdaditor.sasa.format.BinarySpecFormat.*;
+
+/**
+ * 바이너리 스펙 아카이브(.sasa) 리더.
+ *
+ * <p>파일을 메모리 매핑하고 요청된 엔드포인트 레코드만 디코딩합니다. 힙에는 문자열 테이블의 오프셋 배열만 유지되며,
+ * 엔드포인트 조회는 정렬된 인덱스에서 이진 탐색으로 수행됩니다. 모든 읽기는 절대 위치 기반이므로 여러 스레드에서
+ * 동시에 사용할 수 있습니다.</p>
+ *
+ * <pre>{@code
+ * try (BinarySpecReader reader = BinarySpecReader.open(Path.of("build/api-spec.sasa"))) {
+ *     Optional<Map<String, Object>> endpoint = reader.findEndpoint("GET /api/users");
+ * }
+ * }</pre>
+ *
+ * @see BinarySpecFormat
+ */
+public class BinarySpecReader implements Closeable {
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final int[] schemaOffsets;
+    private final int endpointIndexOffset;
+    private final int endpointCount;
+    private final int metadataOffset;
+
+    private BinarySpecReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        int limit = buffer.limit();
+        if (limit < HEADER_SIZE + TRAILER_SIZE
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(limit - 4) != MAGIC) {
+            throw new IllegalArgumentException("Not a SASA binary spec archive");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported SASA binary spec version: " + version);
+        }
+
+        Cursor cursor = new Cursor(HEADER_SIZE);
+        int stringCount = readVarInt(cursor);
+        this.stringOffsets = new int[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            stringOffsets[i] = cursor.position;
+            int length = readVarInt(cursor);
+            cursor.position += length;
+        }
+
+        int position = buffer.getInt(limit - TRAILER_SIZE);
+        int schemaCount = buffer.getInt(position);
+        position += 4;
+        this.schemaOffsets = new int[schemaCount];
+        for (int i = 0; i < schemaCount; i++) {
+            schemaOffsets[i] = buffer.getInt(position);
+            position += 4;
+        }
+        this.endpointCount = buffer.getInt(position);
+        this.endpointIndexOffset = position + 4;
+        this.metadataOffset = buffer.getInt(endpointIndexOffset + endpointCount * 8);
+    }
+
+    /**
+     * 아카이브 파일을 메모리 매핑하여 엽니다.
+     *
+     * @param path 아카이브 파일 경로
+     * @return 리더
+     */
+    public static BinarySpecReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new BinarySpecReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 메모리에 있는 아카이브 바이트로 리더를 생성합니다.
+     *
+     * @param buffer 아카이브 전체를 담은 버퍼
+     * @return 리더
+     */
+    public static BinarySpecReader of(ByteBuffer buffer) {
+        return new BinarySpecReader(buffer);
+    }
+
+    /**
+     * @return 엔드포인트 수
+     */
+    public int getEndpointCount() {
+        return endpointCount;
+    }
+
+    /**
+     * @return 모든 엔드포인트 ID (오름차순)
+     */
+    public List<String> getEndpointIds() {
+        List<String> ids = new ArrayList<>(endpointCount);
+        for (int i = 0; i < endpointCount; i++) {
+            ids.add(endpointIdAt(i));
+        }
+        return ids;
+    }
+
+    /**
+     * ID로 엔드포인트를 조회하여 해당 레코드만 디코딩합니다.
+     *
+     * @param endpointId 엔드포인트 ID (예: {@code "GET /api/users"}, 조건만 다른 매핑은 핸들러 키가 붙은 ID)
+     * @return 엔드포인트 맵, 없으면 empty
+     * @see BinarySpecFormat#endpointIds(List)
+     */
+    public Optional<Map<String, Object>> findEndpoint(String endpointId) {
+        int low = 0;
+        int high = endpointCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = endpointIdAt(mid).compareTo(endpointId);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return Optional.of(getEndpoint(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 인덱스 순서(ID 오름차순)의 n번째 엔드포인트를 디코딩합니다.
+     *
+     * @param index 인덱스 (0 ~ {@link #getEndpointCount()} - 1)
+     * @return 엔드포인트 맵
+     */
+    public Map<String, Object> getEndpoint(int index) {
+        Objects.checkIndex(index, endpointCount);
+        return readRecord(buffer.getInt(endpointIndexOffset + index * 8 + 4));
+    }
+
+    /**
+     * @return 엔드포인트를 제외한 최상위 항목 (applicationName, version, generatedAt, exceptionHandlers 등)
+     */
+    public Map<String, Object> getMetadata() {
+        return readRecord(metadataOffset);
+    }
+
+    @Override
+    public void close() {
+        // 매핑된 버퍼는 GC 시 해제됨
+    }
+
+    private String endpointIdAt(int index) {
+        return stringAt(buffer.getInt(endpointIndexOffset + index * 8));
+    }
+
+    private String stringAt(int index) {
+        Cursor cursor = new Cursor(stringOffsets[index]);
+        int length = readVarInt(cursor);
+        byte[] bytes = new byte[length];
+        buffer.get(cursor.position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readRecord(int offset) {
+        Cursor cursor = new Cursor(offset);
+        readVarInt(cursor); // 레코드 길이
+        return (Map<String, Object>) readValue(cursor);
+    }
+
+    private Object readValue(Cursor cursor) {
+        byte tag = buffer.get(cursor.position++);
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_INT: {
+                int value = buffer.getInt(cursor.position);
+                cursor.position += 4;
+                return value;
+            }
+            case TAG_LONG: {
+                long value = buffer.getLong(cursor.position);
+                cursor.position += 8;
+                return value;
+            }
+            case TAG_DOUBLE: {
+                double value = buffer.getDouble(cursor.position);
+                cursor.position += 8;
+                return value;
+            }
+            case TAG_STRING:
+                return stringAt(readVarInt(cursor));
+            case TAG_LIST: {
+                int size = readVarInt(cursor);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(cursor));
+                }
+                return list;
+            }
+            case TAG_MAP: {
+                int size = readVarInt(cursor);
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = stringAt(readVarInt(cursor));
+                    map.put(key, readValue(cursor));
+                }
+                return map;
+            }
+            case TAG_SCHEMA_REF:
+                return readRecord(schemaOffsets[readVarInt(cursor)]);
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag + " at offset " + (cursor.position - 1));
+        }
+    }
+
+    private int readVarInt(Cursor cursor) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(cursor.position++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static class Cursor {
+        int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+    }
+}
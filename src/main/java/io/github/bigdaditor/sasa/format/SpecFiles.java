@@ -0,0 +1,62 @@
+package io.github.bigdaditor.sasa.format;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 저장된 스펙 파일을 스펙 맵으로 읽는 유틸리티.
+ *
+ * <p>파일 이름으로 형식을 판단합니다: {@code .sasa}는 {@link BinarySpecReader}, {@code .gz}는 gzip 압축된 JSON,
+ * 그 외는 JSON. 읽은 스펙은 {@code /sasa/api-spec} 응답과 같은 구조이며, JSON에서 읽은 {@code paths}/{@code methods}는
+ * Set이 아닌 List입니다.</p>
+ */
+public final class SpecFiles {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private SpecFiles() {
+    }
+
+    /**
+     * @param path 스펙 파일 경로 ({@code api-spec.json}, {@code api-spec.json.gz}, {@code api-spec.sasa})
+     * @return 스펙 맵
+     */
+    public static Map<String, Object> read(Path path) throws IOException {
+        String fileName = path.getFileName().toString();
+        if (fileName.endsWith(".sasa")) {
+            return readBinary(path);
+        }
+        try (InputStream in = open(path, fileName.endsWith(".gz"))) {
+            return OBJECT_MAPPER.readValue(in, new TypeReference<LinkedHashMap<String, Object>>() {
+            });
+        }
+    }
+
+    private static InputStream open(Path path, boolean gzip) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024);
+        return gzip ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static Map<String, Object> readBinary(Path path) throws IOException {
+        try (BinarySpecReader reader = BinarySpecReader.open(path)) {
+            Map<String, Object> spec = new LinkedHashMap<>(reader.getMetadata());
+            List<Map<String, Object>> endpoints = new ArrayList<>(reader.getEndpointCount());
+            for (int i = 0; i < reader.getEndpointCount(); i++) {
+                endpoints.add(reader.getEndpoint(i));
+            }
+            spec.put("endpoints", endpoints);
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.bigdaditor.sasa.gateway;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 한 서비스 인스턴스의 폴링 상태와 마지막으로 받은 스펙.
+ *
+ * <p>폴링 결과를 적용하는 스레드 하나에서만 변경되고, 카탈로그는 같은 스레드에서 만들어집니다.</p>
+ */
+final class ServiceState {
+
+    enum Status {
+        /** 아직 한 번도 받지 못함 */
+        DOWN,
+        /** 마지막 폴링 성공 */
+        UP,
+        /** 마지막 폴링은 실패했지만 이전에 받은 스펙을 제공 중 */
+        STALE
+    }
+
+    private final String service;
+    private final URI specUri;
+    private Map<String, Object> spec;
+    private String eTag;
+    private Status status = Status.DOWN;
+    private Instant lastChangedAt;
+    private String lastError;
+
+    ServiceState(String service, URI specUri) {
+        this.service = service;
+        this.specUri = specUri;
+    }
+
+    String getService() {
+        return service;
+    }
+
+    URI getSpecUri() {
+        return specUri;
+    }
+
+    /**
+     * @return 조건부 요청에 쓸 마지막 ETag (없으면 {@code null})
+     */
+    String getETag() {
+        return eTag;
+    }
+
+    Map<String, Object> getSpec() {
+        return spec;
+    }
+
+    /**
+     * 새 스펙을 받음 (200)
+     *
+     * @return 카탈로그가 바뀌었으면 {@code true}
+     */
+    boolean updated(Map<String, Object> spec, String eTag) {
+        // ETag를 지원하지 않는 인스턴스는 매번 200을 주므로 내용이 같으면 변경으로 보지 않음
+        boolean changed = !spec.equals(this.spec) || !Objects.equals(eTag, this.eTag);
+        if (changed) {
+            this.spec = spec;
+            this.eTag = eTag;
+            this.lastChangedAt = Instant.now();
+        }
+        return notModified() || changed;
+    }
+
+    /**
+     * 스펙이 바뀌지 않음 (304)
+     *
+     * @return 카탈로그가 바뀌었으면 {@code true} (실패 상태에서 회복한 경우)
+     */
+    boolean notModified() {
+        boolean changed = status != Status.UP;
+        this.lastError = null;
+        this.status = Status.UP;
+        return changed;
+    }
+
+    /**
+     * 폴링 실패 (타임아웃, 연결 실패, 오류 응답). 마지막으로 받은 스펙은 유지합니다.
+     *
+     * @return 카탈로그가 바뀌었으면 {@code true}
+     */
+    boolean failed(String error) {
+        Status next = spec != null ? Status.STALE : Status.DOWN;
+        boolean changed = next != status || !error.equals(lastError);
+        this.status = next;
+        this.lastError = error;
+        return changed;
+    }
+
+    /**
+     * @return 카탈로그의 서비스 항목 (폴링 시각처럼 매번 바뀌는 값은 ETag가 흔들리지 않도록 넣지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("service", service);
+        map.put("specUri", specUri.toString());
+        map.put("status", status.name());
+        if (spec != null) {
+            map.put("applicationName", spec.get("applicationName"));
+            map.put("endpoints", ((List<Object>) spec.getOrDefault("endpoints", List.of())).size());
+            map.put("eTag", eTag);
+            map.put("lastChangedAt", lastChangedAt.toString());
+        }
+        if (lastError != null) {
+            map.put("lastError", lastError);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.bigdaditor.sasa.gateway;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * {@link SpecCatalogGateway}의 카탈로그를 제공하는 컨트롤러.
+ *
+ * <p>미리 직렬화된 바이트를 그대로 쓰고, {@code If-None-Match}가 카탈로그 ETag와 같으면 304를 반환합니다.
+ * 조회는 서비스 인스턴스로 요청을 보내지 않습니다.</p>
+ */
+@RestController
+public class SpecCatalogController {
+
+    private final SpecCatalogGateway gateway;
+
+    public SpecCatalogController(SpecCatalogGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @GetMapping(value = "/sasa/catalog", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] getCatalog(WebRequest request) {
+        SpecCatalogGateway.Catalog catalog = gateway.getCatalog();
+        if (request.checkNotModified(catalog.getETag())) {
+            return null;
+        }
+        return catalog.getBody();
+    }
+}
@@ -0,0 +1,297 @@
+package io.github.bigdaditor.sasa.gateway;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.util.ETags;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 서비스 인스턴스의 {@code /sasa/api-spec}을 주기적으로 모아 하나의 카탈로그로 제공하는 게이트웨이.
+ *
+ * <p>폴링마다 모든 인스턴스에 동시에 요청하며, 이전 응답의 ETag로 {@code If-None-Match} 조건부 요청을 보내므로
+ * 바뀌지 않은 스펙은 304로 끝나 본문을 다시 받거나 파싱하지 않습니다. 요청이 실패하면 마지막으로 받은 스펙을
+ * 계속 제공하고 서비스 상태를 {@code STALE}로 표시합니다.</p>
+ *
+ * <p>카탈로그는 무언가 바뀐 폴링에서만 다시 직렬화되어 바이트와 ETag로 보관됩니다({@link Catalog}).
+ * {@link SpecCatalogController}는 이 바이트를 그대로 내보내므로, 포털 조회가 아무리 많아도 서비스로 요청이 퍼지지 않습니다.</p>
+ *
+ * <pre>{@code
+ * @Bean(destroyMethod = "close")
+ * SpecCatalogGateway specCatalogGateway() {
+ *     return SpecCatalogGateway.builder()
+ *             .instance("orders", URI.create("http://orders:8080"))
+ *             .instance("users", URI.create("http://users:8080"))
+ *             .pollInterval(Duration.ofSeconds(30))
+ *             .build()
+ *             .start();
+ * }
+ * }</pre>
+ */
+public class SpecCatalogGateway implements Closeable {
+
+    private static final String SPEC_PATH = "/sasa/api-spec";
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<ServiceState> services;
+    private final Duration pollInterval;
+    private final Duration requestTimeout;
+    private final HttpClient client;
+    private final ScheduledExecutorService scheduler;
+    private volatile Catalog catalog;
+
+    private SpecCatalogGateway(Builder builder) {
+        this.services = new ArrayList<>(builder.services);
+        this.pollInterval = builder.pollInterval;
+        this.requestTimeout = builder.requestTimeout;
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder().connectTimeout(requestTimeout);
+        if (builder.executor != null) {
+            clientBuilder.executor(builder.executor);
+        }
+        this.client = clientBuilder.build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sasa-catalog-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.catalog = render();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 주기적 폴링을 시작합니다 (첫 폴링은 바로 실행).
+     *
+     * @return this
+     */
+    public SpecCatalogGateway start() {
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * 모든 인스턴스를 한 번 폴링하고 끝날 때까지 기다립니다.
+     *
+     * <p>주기 폴링과 겹치지 않도록 직렬화됩니다.</p>
+     *
+     * @return 카탈로그가 바뀌었으면 {@code true}
+     */
+    public synchronized boolean poll() {
+        List<CompletableFuture<HttpResponse<byte[]>>> responses = new ArrayList<>(services.size());
+        for (ServiceState service : services) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(service.getSpecUri())
+                    .timeout(requestTimeout)
+                    .header("Accept", "application/json");
+            if (service.getETag() != null) {
+                request.header("If-None-Match", service.getETag());
+            }
+            responses.add(client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray()));
+        }
+
+        boolean changed = false;
+        for (int i = 0; i < services.size(); i++) {
+            changed |= apply(services.get(i), responses.get(i));
+        }
+        if (changed) {
+            catalog = render();
+        }
+        return changed;
+    }
+
+    /**
+     * @return 마지막으로 만든 카탈로그 (폴링 전에는 서비스 목록만 있음)
+     */
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean apply(ServiceState service, CompletableFuture<HttpResponse<byte[]>> pending) {
+        HttpResponse<byte[]> response;
+        try {
+            // 요청마다 타임아웃이 있으므로 여기서 오래 막히지 않음
+            response = pending.join();
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return service.failed(cause.getClass().getSimpleName() + (cause.getMessage() != null ? ": " + cause.getMessage() : ""));
+        }
+
+        int status = response.statusCode();
+        if (status == 304) {
+            return service.notModified();
+        }
+        if (status != 200) {
+            return service.failed("HTTP " + status);
+        }
+        try {
+            Map<String, Object> spec = objectMapper.readValue(response.body(), MAP_TYPE);
+            return service.updated(spec, response.headers().firstValue("ETag").orElse(null));
+        } catch (IOException e) {
+            return service.failed("Invalid spec: " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Catalog render() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("services");
+            for (ServiceState service : services) {
+                generator.writeObject(service.toMap());
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("endpoints");
+            for (ServiceState service : services) {
+                for (Map<String, Object> endpoint : section(service, "endpoints")) {
+                    writeTagged(generator, service, endpoint);
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("exceptionHandlers");
+            for (ServiceState service : services) {
+                for (Map<String, Object> handler : section(service, "exceptionHandlers")) {
+                    writeTagged(generator, service, handler);
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render spec catalog", e);
+        }
+        byte[] body = out.toByteArray();
+        return new Catalog(body, ETags.of(body));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> section(ServiceState service, String name) {
+        Map<String, Object> spec = service.getSpec();
+        return spec != null ? (List<Map<String, Object>>) spec.getOrDefault(name, List.of()) : List.of();
+    }
+
+    private static void writeTagged(JsonGenerator generator, ServiceState service, Map<String, Object> value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("service", service.getService());
+        for (Map.Entry<String, Object> entry : value.entrySet()) {
+            generator.writeObjectField(entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (예외가 나면 주기 실행이 멈추므로 삼킴)
+        }
+    }
+
+    /**
+     * 직렬화된 카탈로그 (불변)
+     */
+    public static final class Catalog {
+        private final byte[] body;
+        private final String eTag;
+
+        Catalog(byte[] body, String eTag) {
+            this.body = body;
+            this.eTag = eTag;
+        }
+
+        /**
+         * @return JSON 본문 (공유 배열이므로 수정하지 않아야 함)
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * @return 본문 기준 strong ETag
+         */
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    public static class Builder {
+        private final List<ServiceState> services = new ArrayList<>();
+        private Duration pollInterval = Duration.ofSeconds(30);
+        private Duration requestTimeout = Duration.ofSeconds(5);
+        private Executor executor;
+
+        /**
+         * 폴링할 인스턴스를 추가합니다.
+         *
+         * @param service 카탈로그에 표시할 서비스 이름
+         * @param baseUri 인스턴스 주소 (예: {@code http://orders:8080}), {@code /sasa/api-spec}을 요청함
+         */
+        public Builder instance(String service, URI baseUri) {
+            if (services.stream().anyMatch(state -> state.getService().equals(service))) {
+                throw new IllegalArgumentException("Duplicate service: " + service);
+            }
+            services.add(new ServiceState(service, baseUri.resolve(SPEC_PATH)));
+            return this;
+        }
+
+        /**
+         * 폴링 간격, 이전 폴링이 끝난 뒤부터 잼 (기본값: 30초)
+         */
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * 인스턴스별 요청 타임아웃 (기본값: 5초)
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * {@link HttpClient} executor (기본값: HttpClient 기본 풀)
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public SpecCatalogGateway build() {
+            if (services.isEmpty()) {
+                throw new IllegalStateException("At least one instance is required");
+            }
+            return new SpecCatalogGateway(this);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.github.bigdaditor.sasa.generator;
 
+import io.github.bigdaditor.sasa.util.SchemaFields;
+
 import java.util.*;
 
 /**
@@ -25,6 +27,13 @@ public class HtmlGenerator {
         // 개요
         html.append(generateOverview(apiSpec));
 
+        // 할당량 상위 엔드포인트 (AllocationProfiler 사용 시)
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> heaviestEndpoints = (List<Map<String, Object>>) apiSpec.get("heaviestEndpoints");
+        if (heaviestEndpoints != null && !heaviestEndpoints.isEmpty()) {
+            html.append(generateHeaviestEndpointsSection(heaviestEndpoints));
+        }
+
         // 엔드포인트 목록
         @SuppressWarnings("unchecked")
         List<Map<String, Object>> endpoints = (List<Map<String, Object>>) apiSpec.get("endpoints");
@@ -224,6 +233,47 @@ public class HtmlGenerator {
             font-weight: 600;
         }
 
+        .latency-table {
+            width: 100%%;
+            border-collapse: collapse;
+            font-size: 0.9rem;
+        }
+
+        .latency-table th {
+            text-align: left;
+            color: #6b7280;
+            font-weight: 500;
+        }
+
+        .latency-table td {
+            font-family: monospace;
+            padding-top: 0.25rem;
+        }
+
+        .latency-meta {
+            margin-top: 0.5rem;
+            color: #6b7280;
+            font-size: 0.85rem;
+        }
+
+        .ranking-table {
+            width: 100%%;
+            border-collapse: collapse;
+            font-size: 0.9rem;
+        }
+
+        .ranking-table th,
+        .ranking-table td {
+            text-align: left;
+            padding: 0.5rem;
+            border-bottom: 1px solid #e5e7eb;
+        }
+
+        .ranking-table th {
+            color: #6b7280;
+            font-weight: 500;
+        }
+
         .parameter {
             background: #f9fafb;
             padding: 0.75rem;
@@ -396,15 +446,18 @@ public class HtmlGenerator {
      * 네비게이션 생성
      */
     private static String generateNavigation(Map<String, Object> apiSpec) {
+        String heaviestLink = apiSpec.get("heaviestEndpoints") != null
+                ? "\n            <a href=\"#heaviest\">Heaviest Endpoints</a>"
+                : "";
         return """
     <div class="nav">
         <div class="container">
-            <a href="#overview">Overview</a>
+            <a href="#overview">Overview</a>%s
             <a href="#endpoints">Endpoints</a>
             <a href="#exceptions">Exception Handlers</a>
         </div>
     </div>
-""";
+""".formatted(heaviestLink);
     }
 
     /**
@@ -436,6 +489,36 @@ public class HtmlGenerator {
 """.formatted(endpointCount, exceptionCount);
     }
 
+    /**
+     * 할당량 상위 엔드포인트 섹션 생성
+     */
+    private static String generateHeaviestEndpointsSection(List<Map<String, Object>> heaviestEndpoints) {
+        StringBuilder html = new StringBuilder();
+        html.append("    <div id=\"heaviest\" class=\"section\">\n");
+        html.append("        <h2 class=\"section-title\">Heaviest Endpoints</h2>\n");
+        html.append("        <table class=\"ranking-table\">\n");
+        html.append("            <tr><th>#</th><th>Endpoint</th><th>Avg Allocated</th><th>Max Allocated</th>"
+                + "<th>Avg Request</th><th>Avg Response</th><th>Samples</th></tr>\n");
+
+        int rank = 1;
+        for (Map<String, Object> entry : heaviestEndpoints) {
+            html.append("            <tr>");
+            html.append(String.format("<td>%d</td>", rank++));
+            html.append(String.format("<td><span class=\"method-badge method-%s\">%s</span> <code>%s</code></td>",
+                    entry.get("method"), entry.get("method"), escapeHtml(String.valueOf(entry.get("path")))));
+            html.append(String.format("<td>%s</td>", formatBytes(entry.get("avgAllocatedBytes"))));
+            html.append(String.format("<td>%s</td>", formatBytes(entry.get("maxAllocatedBytes"))));
+            html.append(String.format("<td>%s</td>", formatBytes(entry.get("avgRequestBytes"))));
+            html.append(String.format("<td>%s</td>", formatBytes(entry.get("avgResponseBytes"))));
+            html.append(String.format("<td>%s</td>", entry.get("sampledRequests")));
+            html.append("</tr>\n");
+        }
+
+        html.append("        </table>\n");
+        html.append("    </div>\n");
+        return html.toString();
+    }
+
     /**
      * 엔드포인트 섹션 생성
      */
@@ -486,6 +569,20 @@ public class HtmlGenerator {
         html.append("                        <h4>Handler</h4>\n");
         html.append(String.format("                        <code>%s</code>\n", endpoint.get("handler")));
         html.append("                    </div>\n");
+
+        // Latency 정보 (LatencyInterceptor 사용 시)
+        @SuppressWarnings("unchecked")
+        Map<String, Object> latency = (Map<String, Object>) endpoint.get("latency");
+        if (latency != null && !latency.isEmpty()) {
+            html.append(generateLatency(latency));
+        }
+
+        // Allocation 정보 (AllocationProfiler 사용 시)
+        @SuppressWarnings("unchecked")
+        Map<String, Object> allocation = (Map<String, Object>) endpoint.get("allocation");
+        if (allocation != null && !allocation.isEmpty()) {
+            html.append(generateAllocation(allocation));
+        }
         html.append("                </div>\n");
 
         // Parameters
@@ -535,6 +632,61 @@ public class HtmlGenerator {
         return html.toString();
     }
 
+    /**
+     * Latency 섹션 생성
+     */
+    private static String generateLatency(Map<String, Object> latency) {
+        StringBuilder html = new StringBuilder();
+        html.append("                    <div class=\"info-box\">\n");
+        html.append("                        <h4>Latency</h4>\n");
+        html.append("                        <table class=\"latency-table\">\n");
+        html.append("                            <tr><th>p50</th><th>p90</th><th>p99</th><th>max</th></tr>\n");
+        html.append(String.format("                            <tr><td>%s ms</td><td>%s ms</td><td>%s ms</td><td>%s ms</td></tr>\n",
+                latency.getOrDefault("p50Ms", "-"), latency.getOrDefault("p90Ms", "-"),
+                latency.getOrDefault("p99Ms", "-"), latency.getOrDefault("maxMs", "-")));
+        html.append("                        </table>\n");
+        html.append(String.format("                        <div class=\"latency-meta\">%s requests · %s req/s</div>\n",
+                latency.getOrDefault("count", 0), latency.getOrDefault("requestsPerSecond", 0)));
+        html.append("                    </div>\n");
+        return html.toString();
+    }
+
+    /**
+     * Allocation 섹션 생성
+     */
+    private static String generateAllocation(Map<String, Object> allocation) {
+        StringBuilder html = new StringBuilder();
+        html.append("                    <div class=\"info-box\">\n");
+        html.append("                        <h4>Allocation</h4>\n");
+        html.append(String.format("                        <div><strong>Avg Allocated:</strong> %s (max %s)</div>\n",
+                formatBytes(allocation.get("avgAllocatedBytes")), formatBytes(allocation.get("maxAllocatedBytes"))));
+        html.append(String.format("                        <div><strong>Avg Request:</strong> %s</div>\n",
+                formatBytes(allocation.get("avgRequestBytes"))));
+        html.append(String.format("                        <div><strong>Avg Response:</strong> %s (max %s)</div>\n",
+                formatBytes(allocation.get("avgResponseBytes")), formatBytes(allocation.get("maxResponseBytes"))));
+        html.append(String.format("                        <div class=\"latency-meta\">%s sampled requests</div>\n",
+                allocation.getOrDefault("sampledRequests", 0)));
+        html.append("                    </div>\n");
+        return html.toString();
+    }
+
+    /**
+     * 바이트 수를 읽기 쉬운 단위로 변환 (값이 없으면 "-")
+     */
+    private static String formatBytes(Object value) {
+        if (!(value instanceof Number number)) {
+            return "-";
+        }
+        double bytes = number.doubleValue();
+        if (bytes < 1024) {
+            return String.format("%d B", number.longValue());
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024);
+        }
+        return String.format("%.1f MB", bytes / (1024 * 1024));
+    }
+
     /**
      * Parameters 섹션 생성
      */
@@ -609,8 +761,7 @@ public class HtmlGenerator {
      * Schema 생성
      */
     private static String generateSchema(Map<String, Object> schema, int indent) {
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> fields = (List<Map<String, Object>>) schema.get("fields");
+        List<Map<String, Object>> fields = SchemaFields.of(schema);
         @SuppressWarnings("unchecked")
         Map<String, Object> example = (Map<String, Object>) schema.get("example");
 
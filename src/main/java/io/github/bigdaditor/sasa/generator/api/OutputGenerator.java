@@ -1,5 +1,8 @@
 package io.github.bigdaditor.sasa.generator.api;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -15,6 +18,28 @@ public interface OutputGenerator {
      */
     String generate(Map<String, Object> apiSpec);
 
+    /**
+     * API Spec을 스트림으로 직접 기록
+     *
+     * <p>기본 구현은 {@link #generate(Map)} 결과를 UTF-8로 기록합니다.
+     * 바이너리 또는 스트리밍 포맷은 이 메서드를 재정의하고 {@link #isStreaming()}을 {@code true}로 반환합니다.</p>
+     *
+     * @param apiSpec API 스펙 맵
+     * @param out     출력 스트림 (호출자가 닫음)
+     */
+    default void generate(Map<String, Object> apiSpec, OutputStream out) throws IOException {
+        out.write(generate(apiSpec).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 대신 스트림으로 출력해야 하는 생성기인지 여부
+     *
+     * @return 스트리밍 생성기 여부 (기본값: false)
+     */
+    default boolean isStreaming() {
+        return false;
+    }
+
     /**
      * 출력 파일 확장자
      *
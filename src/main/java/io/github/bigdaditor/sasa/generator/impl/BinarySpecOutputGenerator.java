@@ -0,0 +1,234 @@
+package io.github.bigdaditor.sasa.generator.impl;
+
+import io.github.bigdaditor.sasa.format.BinarySpecFormat;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static io.github.bigdaditor.sasa.format.BinarySpecFormat.*;
+
+/**
+ * 인덱스가 포함된 바이너리 스펙 아카이브 출력 생성기.
+ *
+ * <p>문자열 테이블로 타입명/경로/필드명을 중복 제거하고, 엔드포인트와 스키마를 길이 접두 레코드로 기록한 뒤
+ * 엔드포인트 ID → 오프셋 인덱스를 파일 끝에 둡니다. {@link io.github.bigdaditor.sasa.format.BinarySpecReader}로
+ * 파일 전체를 읽지 않고 개별 엔드포인트를 조회할 수 있습니다. 포맷 상세는 {@link BinarySpecFormat} 참고.</p>
+ *
+ * <p>아카이브는 바이너리이므로 문자열 형태({@link #generate(Map)})는 지원하지 않습니다.
+ * 항상 스트림으로 기록되며({@link #isStreaming()}), 바이트를 저장할 수 있는 작성기가 필요합니다.</p>
+ *
+ * <p>엔드포인트 ID는 {@link BinarySpecFormat#endpointIds(List)}로 만들어 인덱스 안에서 항상 유일합니다.</p>
+ */
+public class BinarySpecOutputGenerator implements OutputGenerator {
+
+    /**
+     * @throws UnsupportedOperationException 항상 (바이너리 아카이브에는 문자열 형태가 없음)
+     */
+    @Override
+    public String generate(Map<String, Object> apiSpec) {
+        throw new UnsupportedOperationException("Binary spec archive has no text form, use generate(Map, OutputStream)");
+    }
+
+    @Override
+    public void generate(Map<String, Object> apiSpec, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder();
+
+        // 엔드포인트 레코드 인코딩 (스키마/문자열 수집)
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) apiSpec.getOrDefault("endpoints", List.of());
+        List<String> endpointIds = BinarySpecFormat.endpointIds(endpoints);
+        List<EndpointRecord> endpointRecords = new ArrayList<>(endpoints.size());
+        for (int i = 0; i < endpoints.size(); i++) {
+            int idIndex = encoder.stringIndex(endpointIds.get(i));
+            endpointRecords.add(new EndpointRecord(idIndex, encoder.encodeRecord(endpoints.get(i))));
+        }
+
+        // 나머지 최상위 항목은 메타데이터 레코드로 기록
+        Map<String, Object> metadata = new LinkedHashMap<>(apiSpec);
+        metadata.remove("endpoints");
+        byte[] metadataRecord = encoder.encodeRecord(metadata);
+
+        byte[] stringTable = encoder.encodeStringTable();
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.write(stringTable);
+
+        int position = HEADER_SIZE + stringTable.length;
+
+        int[] schemaOffsets = new int[encoder.schemaRecords.size()];
+        for (int i = 0; i < schemaOffsets.length; i++) {
+            schemaOffsets[i] = position;
+            position += writeRecord(data, encoder.schemaRecords.get(i));
+        }
+
+        for (EndpointRecord record : endpointRecords) {
+            record.offset = position;
+            position += writeRecord(data, record.bytes);
+        }
+
+        int metadataOffset = position;
+        position += writeRecord(data, metadataRecord);
+
+        // 인덱스 (엔드포인트 ID 오름차순, 리더에서 이진 탐색)
+        List<String> strings = encoder.strings;
+        endpointRecords.sort(Comparator.comparing(record -> strings.get(record.idIndex)));
+
+        int indexOffset = position;
+        data.writeInt(schemaOffsets.length);
+        for (int offset : schemaOffsets) {
+            data.writeInt(offset);
+        }
+        data.writeInt(endpointRecords.size());
+        for (EndpointRecord record : endpointRecords) {
+            data.writeInt(record.idIndex);
+            data.writeInt(record.offset);
+        }
+        data.writeInt(metadataOffset);
+
+        data.writeInt(indexOffset);
+        data.writeInt(MAGIC);
+        data.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".sasa";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/vnd.sasa.spec";
+    }
+
+    private static int writeRecord(DataOutputStream data, byte[] record) throws IOException {
+        int prefixLength = writeVarInt(data, record.length);
+        data.write(record);
+        return prefixLength + record.length;
+    }
+
+    private static int writeVarInt(OutputStream out, int value) throws IOException {
+        int written = 1;
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+            written++;
+        }
+        out.write(value);
+        return written;
+    }
+
+    private static class EndpointRecord {
+        final int idIndex;
+        final byte[] bytes;
+        int offset;
+
+        EndpointRecord(int idIndex, byte[] bytes) {
+            this.idIndex = idIndex;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * 문자열 테이블과 스키마 레코드를 수집하면서 값을 인코딩
+     */
+    private static class Encoder {
+
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Map<?, ?>, Integer> schemaIndexes = new HashMap<>();
+        private final List<byte[]> schemaRecords = new ArrayList<>();
+
+        int stringIndex(String value) {
+            Integer index = stringIndexes.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.add(value);
+                stringIndexes.put(value, index);
+            }
+            return index;
+        }
+
+        byte[] encodeRecord(Object value) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            DataOutputStream data = new DataOutputStream(buffer);
+            encodeValue(data, value);
+            data.flush();
+            return buffer.toByteArray();
+        }
+
+        byte[] encodeStringTable() throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            writeVarInt(buffer, strings.size());
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(buffer, bytes.length);
+                buffer.write(bytes);
+            }
+            return buffer.toByteArray();
+        }
+
+        private void encodeValue(DataOutputStream data, Object value) throws IOException {
+            if (value == null) {
+                data.writeByte(TAG_NULL);
+            } else if (value instanceof Boolean bool) {
+                data.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                data.writeByte(TAG_INT);
+                data.writeInt(((Number) value).intValue());
+            } else if (value instanceof Long longValue) {
+                data.writeByte(TAG_LONG);
+                data.writeLong(longValue);
+            } else if (value instanceof Float || value instanceof Double) {
+                data.writeByte(TAG_DOUBLE);
+                data.writeDouble(((Number) value).doubleValue());
+            } else if (value instanceof Map<?, ?> map) {
+                data.writeByte(TAG_MAP);
+                writeVarInt(data, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    String key = String.valueOf(entry.getKey());
+                    writeVarInt(data, stringIndex(key));
+                    if (SCHEMA_KEY.equals(key) && entry.getValue() instanceof Map<?, ?> schema) {
+                        data.writeByte(TAG_SCHEMA_REF);
+                        writeVarInt(data, schemaIndex(schema));
+                    } else {
+                        encodeValue(data, entry.getValue());
+                    }
+                }
+            } else if (value instanceof Collection<?> collection) {
+                data.writeByte(TAG_LIST);
+                writeVarInt(data, collection.size());
+                for (Object element : collection) {
+                    encodeValue(data, element);
+                }
+            } else {
+                data.writeByte(TAG_STRING);
+                writeVarInt(data, stringIndex(value.toString()));
+            }
+        }
+
+        private int schemaIndex(Map<?, ?> schema) throws IOException {
+            Integer index = schemaIndexes.get(schema);
+            if (index == null) {
+                // 중첩 스키마가 먼저 등록되도록 인코딩 후 인덱스 부여
+                byte[] record = encodeRecord(schema);
+                index = schemaRecords.size();
+                schemaRecords.add(record);
+                schemaIndexes.put(schema, index);
+            }
+            return index;
+        }
+    }
+}
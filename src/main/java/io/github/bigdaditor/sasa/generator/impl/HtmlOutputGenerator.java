@@ -0,0 +1,27 @@
+package io.github.bigdaditor.sasa.generator.impl;
+
+import io.github.bigdaditor.sasa.generator.HtmlGenerator;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+
+import java.util.Map;
+
+/**
+ * HTML 출력 생성기 ({@link HtmlGenerator}를 {@link OutputGenerator}로 노출)
+ */
+public class HtmlOutputGenerator implements OutputGenerator {
+
+    @Override
+    public String generate(Map<String, Object> apiSpec) {
+        return HtmlGenerator.generateHtml(apiSpec);
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".html";
+    }
+
+    @Override
+    public String getContentType() {
+        return "text/html";
+    }
+}
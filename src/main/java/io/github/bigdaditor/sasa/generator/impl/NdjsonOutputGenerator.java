@@ -0,0 +1,133 @@
+package io.github.bigdaditor.sasa.generator.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NDJSON(줄 단위 JSON) 출력 생성기.
+ *
+ * <p>첫 줄은 애플리케이션 메타데이터 헤더, 이후 엔드포인트 한 줄씩, 마지막으로 예외 핸들러 한 줄씩 기록합니다.
+ * 각 줄에는 레코드 종류를 나타내는 {@code record} 필드({@code header}, {@code endpoint}, {@code exceptionHandler})가
+ * 붙으며, 레코드마다 flush되므로 grep/jq 등 하위 도구가 파일 쓰기가 끝나기 전부터 줄 단위로 처리할 수 있습니다.</p>
+ *
+ * <p>다른 {@link OutputGenerator}와 같이 추출이 모두 끝난 스펙을 받아 기록하므로, 첫 줄은 추출이 끝난 뒤에 나옵니다.
+ * 추출 도중에 레코드를 내보내지는 않습니다.</p>
+ *
+ * <pre>
+ * {"record":"header","applicationName":"My API","version":"0.0.1-SNAPSHOT","generatedAt":"...","endpointCount":2,"exceptionHandlerCount":1}
+ * {"record":"endpoint","paths":["/api/users"],"methods":["GET"],...}
+ * {"record":"endpoint","paths":["/api/users/{id}"],"methods":["GET"],...}
+ * {"record":"exceptionHandler","exceptionTypes":["ResourceNotFoundException"],...}
+ * </pre>
+ */
+public class NdjsonOutputGenerator implements OutputGenerator {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+
+    public NdjsonOutputGenerator() {
+        this(createObjectMapper());
+    }
+
+    public NdjsonOutputGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Override
+    public String generate(Map<String, Object> apiSpec) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            generate(apiSpec, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate NDJSON", e);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void generate(Map<String, Object> apiSpec, OutputStream out) throws IOException {
+        List<Map<String, Object>> endpoints = records(apiSpec, "endpoints");
+        List<Map<String, Object>> exceptionHandlers = records(apiSpec, "exceptionHandlers");
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("record", "header");
+        for (Map.Entry<String, Object> entry : apiSpec.entrySet()) {
+            if (!"endpoints".equals(entry.getKey()) && !"exceptionHandlers".equals(entry.getKey())) {
+                header.put(entry.getKey(), entry.getValue());
+            }
+        }
+        header.put("endpointCount", endpoints.size());
+        header.put("exceptionHandlerCount", exceptionHandlers.size());
+        writeLine(generator, header);
+
+        for (Map<String, Object> endpoint : endpoints) {
+            writeLine(generator, withRecordType("endpoint", endpoint));
+        }
+
+        for (Map<String, Object> handler : exceptionHandlers) {
+            writeLine(generator, withRecordType("exceptionHandler", handler));
+        }
+
+        generator.close();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".ndjson";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/x-ndjson";
+    }
+
+    private void writeLine(JsonGenerator generator, Map<String, Object> record) throws IOException {
+        lineWriter.writeValue(generator, record);
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    private static Map<String, Object> withRecordType(String recordType, Map<String, Object> source) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("record", recordType);
+        record.putAll(source);
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> records(Map<String, Object> apiSpec, String key) {
+        Object value = apiSpec.get(key);
+        return value instanceof List ? (List<Map<String, Object>>) value : List.of();
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.INDENT_OUTPUT);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+}
@@ -0,0 +1,839 @@
+package io.github.bigdaditor.sasa.generator.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+import io.github.bigdaditor.sasa.util.SchemaFields;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * OpenAPI 3.1 JSON 출력 생성기.
+ *
+ * <p>SASA가 추출한 스펙을 별도의 인트로스펙션 없이 OpenAPI 문서로 변환합니다. 문서는 {@link JsonGenerator}로
+ * 경로 단위 스트리밍 기록되며, DTO 스키마는 {@code components/schemas}에 한 번만 기록되고 {@code $ref}로 참조됩니다.</p>
+ *
+ * <ul>
+ *   <li>{@code validations} → JSON Schema 키워드 ({@code minLength}, {@code maximum}, {@code pattern}, {@code required} 등)</li>
+ *   <li>예외 핸들러 → 상태 코드별 {@code components/responses} 오류 응답. 엔드포인트에 {@code errorResponses}가 있으면
+ *       그 엔드포인트에 적용되는 것만, 없는 스펙이면 모든 예외 핸들러를 참조하며, 성공 응답과 같은 상태 코드는 건너뜀</li>
+ *   <li>메서드가 {@code ANY}인 엔드포인트 → get/post/put/patch/delete operation</li>
+ * </ul>
+ */
+public class OpenApiOutputGenerator implements OutputGenerator {
+
+    private static final String OPENAPI_VERSION = "3.1.0";
+    private static final List<String> OPERATION_ORDER = List.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final List<String> ANY_METHOD_OPERATIONS = List.of("get", "post", "put", "patch", "delete");
+    private static final String DEFAULT_MEDIA_TYPE = "application/json";
+    private static final String SUCCESS_STATUS = "200";
+    /** Spring {@code ValueConstants.DEFAULT_NONE}에 포함된 문자 */
+    private static final String SPRING_DEFAULT_NONE_MARKER = "\uE000";
+
+    private final ObjectMapper objectMapper;
+
+    public OpenApiOutputGenerator() {
+        this(createObjectMapper());
+    }
+
+    public OpenApiOutputGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String generate(Map<String, Object> apiSpec) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            generate(apiSpec, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to generate OpenAPI document", e);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void generate(Map<String, Object> apiSpec, OutputStream out) throws IOException {
+        List<Map<String, Object>> endpoints = records(apiSpec, "endpoints");
+        List<Map<String, Object>> exceptionHandlers = records(apiSpec, "exceptionHandlers");
+
+        // 스키마와 오류 응답을 먼저 모두 등록해 두어야 $ref 여부가 엔드포인트 순서에 따라 달라지지 않음
+        SchemaRegistry schemas = new SchemaRegistry();
+        ErrorResponseRegistry errorResponses = new ErrorResponseRegistry();
+        boolean perEndpointErrors = endpoints.stream().anyMatch(endpoint -> endpoint.get("errorResponses") instanceof List);
+        List<ErrorResponse> globalErrors = perEndpointErrors ? List.of() : errorResponses.register(exceptionHandlers, schemas);
+        Map<Map<String, Object>, List<ErrorResponse>> endpointErrors = new IdentityHashMap<>();
+        for (Map<String, Object> endpoint : endpoints) {
+            registerSchemas(endpoint, schemas);
+            endpointErrors.put(endpoint, perEndpointErrors
+                    ? errorResponses.register(records(endpoint, "errorResponses"), schemas)
+                    : globalErrors);
+        }
+        Set<String> operationIds = new HashSet<>();
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.useDefaultPrettyPrinter();
+
+        generator.writeStartObject();
+        generator.writeStringField("openapi", OPENAPI_VERSION);
+
+        generator.writeObjectFieldStart("info");
+        generator.writeStringField("title", String.valueOf(apiSpec.getOrDefault("applicationName", "API")));
+        generator.writeStringField("version", String.valueOf(apiSpec.getOrDefault("version", "0.0.0")));
+        if (apiSpec.get("generatedAt") != null) {
+            generator.writeStringField("x-generatedAt", String.valueOf(apiSpec.get("generatedAt")));
+        }
+        generator.writeEndObject();
+
+        // paths (경로 단위로 기록 후 flush)
+        generator.writeObjectFieldStart("paths");
+        for (Map.Entry<String, Map<String, Map<String, Object>>> path : groupByPath(endpoints).entrySet()) {
+            generator.writeObjectFieldStart(path.getKey());
+            for (String operation : OPERATION_ORDER) {
+                Map<String, Object> endpoint = path.getValue().get(operation);
+                if (endpoint != null) {
+                    writeOperation(generator, operation, endpoint, schemas, endpointErrors.get(endpoint), operationIds);
+                }
+            }
+            generator.writeEndObject();
+            generator.flush();
+        }
+        generator.writeEndObject();
+
+        // components
+        generator.writeObjectFieldStart("components");
+        generator.writeObjectFieldStart("schemas");
+        for (Map.Entry<String, Map<String, Object>> schema : schemas.schemasByName.entrySet()) {
+            generator.writeObjectFieldStart(schema.getKey());
+            writeObjectSchema(generator, schema.getValue(), schemas);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+        if (!errorResponses.byName.isEmpty()) {
+            generator.writeObjectFieldStart("responses");
+            for (ErrorResponse errorResponse : errorResponses.byName.values()) {
+                generator.writeObjectFieldStart(errorResponse.componentName);
+                writeErrorResponse(generator, errorResponse);
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".openapi.json";
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/vnd.oai.openapi+json";
+    }
+
+    // === Paths ===
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, Map<String, Object>>> groupByPath(List<Map<String, Object>> endpoints) {
+        Map<String, Map<String, Map<String, Object>>> paths = new TreeMap<>();
+
+        for (Map<String, Object> endpoint : endpoints) {
+            Collection<String> endpointPaths = (Collection<String>) endpoint.getOrDefault("paths", List.of());
+            Collection<String> methods = (Collection<String>) endpoint.getOrDefault("methods", List.of());
+
+            for (String path : endpointPaths) {
+                Map<String, Map<String, Object>> operations = paths.computeIfAbsent(toOpenApiPath(path), p -> new HashMap<>());
+                for (String method : methods) {
+                    List<String> operationNames = "ANY".equals(method)
+                            ? ANY_METHOD_OPERATIONS
+                            : List.of(method.toLowerCase(Locale.ROOT));
+                    for (String operation : operationNames) {
+                        // 같은 경로/메서드의 첫 번째 매핑만 기록 (params/headers 조건으로 구분되는 매핑)
+                        operations.putIfAbsent(operation, endpoint);
+                    }
+                }
+            }
+        }
+
+        return paths;
+    }
+
+    /**
+     * Spring 경로 패턴을 OpenAPI 경로 템플릿으로 변환 (예: {@code /{id:\d+}} → {@code /{id}})
+     */
+    private String toOpenApiPath(String path) {
+        StringBuilder result = new StringBuilder(path.length());
+        int i = 0;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '{') {
+                int end = path.indexOf('}', i);
+                if (end < 0) {
+                    result.append(path, i, path.length());
+                    break;
+                }
+                String variable = path.substring(i + 1, end);
+                int colon = variable.indexOf(':');
+                result.append('{').append(colon >= 0 ? variable.substring(0, colon) : variable).append('}');
+                i = end + 1;
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeOperation(JsonGenerator generator, String operation, Map<String, Object> endpoint,
+                                SchemaRegistry schemas, List<ErrorResponse> errorResponses,
+                                Set<String> operationIds) throws IOException {
+        Map<String, Object> handler = (Map<String, Object>) endpoint.getOrDefault("handler", Map.of());
+        Map<String, Object> description = (Map<String, Object>) endpoint.get("description");
+        List<Map<String, Object>> parameters = (List<Map<String, Object>>) endpoint.getOrDefault("parameters", List.of());
+
+        generator.writeObjectFieldStart(operation);
+
+        if (handler.get("controller") != null) {
+            generator.writeArrayFieldStart("tags");
+            generator.writeString(String.valueOf(handler.get("controller")));
+            generator.writeEndArray();
+        }
+        if (description != null) {
+            writeStringIfPresent(generator, "summary", description.get("summary"));
+            writeStringIfPresent(generator, "description", description.get("description"));
+        }
+        generator.writeStringField("operationId", uniqueOperationId(handler, operation, operationIds));
+
+        // parameters
+        List<Map<String, Object>> requestParameters = new ArrayList<>();
+        Map<String, Object> requestBody = null;
+        for (Map<String, Object> parameter : parameters) {
+            String parameterType = (String) parameter.get("parameterType");
+            if ("REQUEST_BODY".equals(parameterType)) {
+                requestBody = parameter;
+            } else if (parameterLocation(parameterType) != null) {
+                requestParameters.add(parameter);
+            }
+        }
+
+        if (!requestParameters.isEmpty()) {
+            generator.writeArrayFieldStart("parameters");
+            for (Map<String, Object> parameter : requestParameters) {
+                writeParameter(generator, parameter);
+            }
+            generator.writeEndArray();
+        }
+
+        if (requestBody != null) {
+            generator.writeObjectFieldStart("requestBody");
+            generator.writeBooleanField("required", !Boolean.FALSE.equals(requestBody.get("required")));
+            generator.writeObjectFieldStart("content");
+            for (String mediaType : mediaTypes(endpoint.get("consumes"))) {
+                generator.writeObjectFieldStart(mediaType);
+                generator.writeObjectFieldStart("schema");
+                writeValueSchema(generator, (String) requestBody.get("type"), (String) requestBody.get("fullType"),
+                        null, (Map<String, Object>) requestBody.get("schema"), schemas);
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+
+        // responses
+        generator.writeObjectFieldStart("responses");
+        writeSuccessResponse(generator, endpoint, schemas);
+        Set<String> statusCodes = new HashSet<>(Set.of(SUCCESS_STATUS));
+        for (ErrorResponse errorResponse : errorResponses) {
+            // 200을 반환하는 advice 등 이미 기록한 상태 코드는 건너뜀 (키 중복 방지)
+            if (!statusCodes.add(errorResponse.statusCode)) {
+                continue;
+            }
+            generator.writeObjectFieldStart(errorResponse.statusCode);
+            generator.writeStringField("$ref", "#/components/responses/" + errorResponse.componentName);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+
+        if (handler.get("fullControllerName") != null) {
+            generator.writeStringField("x-handler", handler.get("fullControllerName") + "#" + handler.get("method"));
+        }
+
+        generator.writeEndObject();
+    }
+
+    private String uniqueOperationId(Map<String, Object> handler, String operation, Set<String> operationIds) {
+        String base = handler.get("method") != null
+                ? handler.get("controller") + "_" + handler.get("method")
+                : operation;
+        String operationId = base;
+        if (!operationIds.add(operationId)) {
+            operationId = base + "_" + operation;
+            int suffix = 2;
+            while (!operationIds.add(operationId)) {
+                operationId = base + "_" + operation + "_" + suffix++;
+            }
+        }
+        return operationId;
+    }
+
+    private String parameterLocation(String parameterType) {
+        if (parameterType == null) {
+            return null;
+        }
+        return switch (parameterType) {
+            case "PATH_VARIABLE" -> "path";
+            case "REQUEST_PARAM" -> "query";
+            case "REQUEST_HEADER" -> "header";
+            default -> null;
+        };
+    }
+
+    private void writeParameter(JsonGenerator generator, Map<String, Object> parameter) throws IOException {
+        String location = parameterLocation((String) parameter.get("parameterType"));
+        String paramName = (String) parameter.get("paramName");
+        String name = paramName != null && !paramName.isEmpty() ? paramName : (String) parameter.get("name");
+
+        generator.writeStartObject();
+        generator.writeStringField("name", name);
+        generator.writeStringField("in", location);
+        // path 파라미터는 OpenAPI 규격상 항상 required
+        boolean required = "path".equals(location) || Boolean.TRUE.equals(parameter.get("required"));
+        generator.writeBooleanField("required", required);
+
+        generator.writeObjectFieldStart("schema");
+        writeTypeKeywords(generator, (String) parameter.get("type"), null, null, null);
+        Object defaultValue = parameter.get("defaultValue");
+        if (defaultValue instanceof String value && !value.isEmpty() && !value.contains(SPRING_DEFAULT_NONE_MARKER)) {
+            generator.writeStringField("default", value);
+        }
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeSuccessResponse(JsonGenerator generator, Map<String, Object> endpoint,
+                                      SchemaRegistry schemas) throws IOException {
+        Map<String, Object> response = (Map<String, Object>) endpoint.get("response");
+        String type = response != null ? (String) response.get("type") : null;
+
+        generator.writeObjectFieldStart(SUCCESS_STATUS);
+        generator.writeStringField("description", "OK");
+
+        if (type != null && !"void".equals(type) && !"Void".equals(type)) {
+            generator.writeObjectFieldStart("content");
+            for (String mediaType : mediaTypes(endpoint.get("produces"))) {
+                generator.writeObjectFieldStart(mediaType);
+                generator.writeObjectFieldStart("schema");
+                writeResponseSchema(generator, response, schemas);
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * 응답 정보(type, genericType, elementType)로부터 본문 스키마 결정
+     */
+    @SuppressWarnings("unchecked")
+    private void writeResponseSchema(JsonGenerator generator, Map<String, Object> response,
+                                     SchemaRegistry schemas) throws IOException {
+        String[] valueType = responseValueType(response);
+        Map<String, Object> schema = (Map<String, Object>) response.get("schema");
+
+        boolean array = response.get("elementType") != null
+                || (response.get("genericType") != null && isCollectionType((String) response.get("type")));
+        if (array) {
+            // ResponseEntity<List<UserDTO>>, List<UserDTO> 형태
+            generator.writeStringField("type", "array");
+            generator.writeObjectFieldStart("items");
+            writeValueSchema(generator, valueType[0], valueType[1], null, schema, schemas);
+            generator.writeEndObject();
+        } else {
+            // UserDTO, ResponseEntity<UserDTO>, Optional<UserDTO> 등
+            writeValueSchema(generator, valueType[0], valueType[1], null, schema, schemas);
+        }
+    }
+
+    /**
+     * 응답 본문 값(또는 배열 요소)의 {@code [type, fullType]}
+     */
+    private static String[] responseValueType(Map<String, Object> response) {
+        if (response.get("elementType") != null) {
+            return new String[]{(String) response.get("elementType"), (String) response.get("elementFullType")};
+        }
+        if (response.get("genericType") != null) {
+            return new String[]{(String) response.get("genericType"), (String) response.get("genericFullType")};
+        }
+        return new String[]{(String) response.get("type"), (String) response.get("fullType")};
+    }
+
+    /**
+     * 엔드포인트가 참조하는 요청/응답 본문 스키마를 경로를 기록하기 전에 등록
+     */
+    @SuppressWarnings("unchecked")
+    private static void registerSchemas(Map<String, Object> endpoint, SchemaRegistry schemas) {
+        for (Map<String, Object> parameter : (List<Map<String, Object>>) endpoint.getOrDefault("parameters", List.of())) {
+            if ("REQUEST_BODY".equals(parameter.get("parameterType"))) {
+                schemas.register((String) parameter.get("type"), (String) parameter.get("fullType"),
+                        (Map<String, Object>) parameter.get("schema"));
+            }
+        }
+        if (endpoint.get("response") instanceof Map<?, ?> response) {
+            String[] valueType = responseValueType((Map<String, Object>) response);
+            schemas.register(valueType[0], valueType[1], (Map<String, Object>) response.get("schema"));
+        }
+    }
+
+    private List<String> mediaTypes(Object declared) {
+        if (declared instanceof Collection<?> collection && !collection.isEmpty()) {
+            List<String> mediaTypes = new ArrayList<>();
+            for (Object mediaType : collection) {
+                mediaTypes.add(String.valueOf(mediaType));
+            }
+            Collections.sort(mediaTypes);
+            return mediaTypes;
+        }
+        return List.of(DEFAULT_MEDIA_TYPE);
+    }
+
+    // === Error Responses ===
+
+    private void writeErrorResponse(JsonGenerator generator, ErrorResponse errorResponse) throws IOException {
+        String description = errorResponse.reasonPhrase != null ? errorResponse.reasonPhrase : "Error";
+        if (!errorResponse.exceptionTypes.isEmpty()) {
+            description += " (" + String.join(", ", errorResponse.exceptionTypes) + ")";
+        }
+        generator.writeStringField("description", description);
+
+        if (errorResponse.schemaNames.isEmpty()) {
+            return;
+        }
+
+        generator.writeObjectFieldStart("content");
+        generator.writeObjectFieldStart(DEFAULT_MEDIA_TYPE);
+        generator.writeObjectFieldStart("schema");
+        if (errorResponse.schemaNames.size() == 1) {
+            generator.writeStringField("$ref", "#/components/schemas/" + errorResponse.schemaNames.iterator().next());
+        } else {
+            generator.writeArrayFieldStart("oneOf");
+            for (String name : errorResponse.schemaNames) {
+                generator.writeStartObject();
+                generator.writeStringField("$ref", "#/components/schemas/" + name);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    // === Schemas ===
+
+    /**
+     * 값 스키마 기록: DTO 스키마가 있으면 components 참조, 없으면 타입 키워드
+     */
+    private void writeValueSchema(JsonGenerator generator, String type, String fullType, List<String> genericTypes,
+                                  Map<String, Object> schema, SchemaRegistry schemas) throws IOException {
+        String name = schemas.register(type, fullType, schema);
+        if (name != null) {
+            generator.writeStringField("$ref", "#/components/schemas/" + name);
+        } else {
+            writeTypeKeywords(generator, type, fullType, genericTypes, schemas);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeObjectSchema(JsonGenerator generator, Map<String, Object> schema,
+                                   SchemaRegistry schemas) throws IOException {
+        List<Map<String, Object>> fields = SchemaFields.of(schema);
+
+        generator.writeStringField("type", "object");
+
+        List<String> required = new ArrayList<>();
+        generator.writeObjectFieldStart("properties");
+        for (Map<String, Object> field : fields) {
+            String name = (String) field.get("name");
+            String type = (String) field.get("type");
+            Map<String, Object> validations = (Map<String, Object>) field.get("validations");
+
+            generator.writeObjectFieldStart(name);
+            writeTypeKeywords(generator, type, (String) field.get("fullType"),
+                    (List<String>) field.get("genericTypes"), schemas);
+            if (validations != null) {
+                writeValidationKeywords(generator, type, validations);
+                if (Boolean.TRUE.equals(validations.get("notNull"))
+                        || Boolean.TRUE.equals(validations.get("notEmpty"))
+                        || Boolean.TRUE.equals(validations.get("notBlank"))) {
+                    required.add(name);
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+
+        if (!required.isEmpty()) {
+            generator.writeArrayFieldStart("required");
+            for (String name : required) {
+                generator.writeString(name);
+            }
+            generator.writeEndArray();
+        }
+
+        Object example = schema.get("example");
+        if (example instanceof Map<?, ?> exampleMap && !exampleMap.isEmpty()) {
+            generator.writeArrayFieldStart("examples");
+            generator.writeObject(example);
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Java 타입 이름을 JSON Schema 타입 키워드로 변환
+     */
+    private void writeTypeKeywords(JsonGenerator generator, String type, String fullType, List<String> genericTypes,
+                                   SchemaRegistry schemas) throws IOException {
+        if (type == null) {
+            generator.writeStringField("type", "object");
+            return;
+        }
+
+        switch (type) {
+            case "String", "char", "Character", "CharSequence" -> generator.writeStringField("type", "string");
+            case "UUID" -> writeTypeAndFormat(generator, "string", "uuid");
+            case "int", "Integer", "short", "Short", "byte", "Byte" -> writeTypeAndFormat(generator, "integer", "int32");
+            case "long", "Long" -> writeTypeAndFormat(generator, "integer", "int64");
+            case "BigInteger" -> generator.writeStringField("type", "integer");
+            case "double", "Double" -> writeTypeAndFormat(generator, "number", "double");
+            case "float", "Float" -> writeTypeAndFormat(generator, "number", "float");
+            case "BigDecimal", "Number" -> generator.writeStringField("type", "number");
+            case "boolean", "Boolean" -> generator.writeStringField("type", "boolean");
+            case "LocalDate" -> writeTypeAndFormat(generator, "string", "date");
+            case "LocalTime" -> writeTypeAndFormat(generator, "string", "time");
+            case "LocalDateTime", "OffsetDateTime", "ZonedDateTime", "Instant", "Date" ->
+                    writeTypeAndFormat(generator, "string", "date-time");
+            case "List", "ArrayList", "LinkedList", "Collection", "Iterable",
+                 "Set", "HashSet", "LinkedHashSet", "TreeSet" -> {
+                generator.writeStringField("type", "array");
+                if (type.endsWith("Set")) {
+                    generator.writeBooleanField("uniqueItems", true);
+                }
+                if (genericTypes != null && !genericTypes.isEmpty()) {
+                    generator.writeObjectFieldStart("items");
+                    writeTypeKeywords(generator, genericTypes.get(0), null, null, schemas);
+                    generator.writeEndObject();
+                }
+            }
+            case "Map", "HashMap", "LinkedHashMap", "TreeMap" -> {
+                generator.writeStringField("type", "object");
+                if (genericTypes != null && genericTypes.size() > 1) {
+                    generator.writeObjectFieldStart("additionalProperties");
+                    writeTypeKeywords(generator, genericTypes.get(1), null, null, schemas);
+                    generator.writeEndObject();
+                }
+            }
+            default -> {
+                if (type.endsWith("[]")) {
+                    generator.writeStringField("type", "array");
+                    generator.writeObjectFieldStart("items");
+                    writeTypeKeywords(generator, type.substring(0, type.length() - 2), arrayElementFullType(fullType),
+                            null, schemas);
+                    generator.writeEndObject();
+                    return;
+                }
+                String name = schemas != null ? schemas.lookup(type, fullType) : null;
+                if (name != null) {
+                    generator.writeStringField("$ref", "#/components/schemas/" + name);
+                } else {
+                    generator.writeStringField("type", "object");
+                    generator.writeStringField("title", type);
+                }
+            }
+        }
+    }
+
+    private void writeTypeAndFormat(JsonGenerator generator, String type, String format) throws IOException {
+        generator.writeStringField("type", type);
+        generator.writeStringField("format", format);
+    }
+
+    /**
+     * {@code validations} 맵을 JSON Schema 키워드로 변환 (같은 키워드는 더 엄격한 경계값 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private void writeValidationKeywords(JsonGenerator generator, String type,
+                                         Map<String, Object> validations) throws IOException {
+        boolean array = isCollectionType(type) || (type != null && type.endsWith("[]"));
+        String minKeyword = array ? "minItems" : "minLength";
+        String maxKeyword = array ? "maxItems" : "maxLength";
+
+        Map<String, BigDecimal> lowerBounds = new LinkedHashMap<>();
+        Map<String, BigDecimal> upperBounds = new LinkedHashMap<>();
+
+        if (Boolean.TRUE.equals(validations.get("notEmpty")) || Boolean.TRUE.equals(validations.get("notBlank"))) {
+            lowerBounds.merge(minKeyword, BigDecimal.ONE, BigDecimal::max);
+        }
+
+        Map<String, Object> size = (Map<String, Object>) validations.get("size");
+        if (size != null) {
+            if (size.get("min") instanceof Number min && min.intValue() > 0) {
+                lowerBounds.merge(minKeyword, BigDecimal.valueOf(min.intValue()), BigDecimal::max);
+            }
+            if (size.get("max") instanceof Number max && max.intValue() != Integer.MAX_VALUE) {
+                upperBounds.merge(maxKeyword, BigDecimal.valueOf(max.intValue()), BigDecimal::min);
+            }
+        }
+
+        if (validations.get("min") instanceof Number min) {
+            lowerBounds.merge("minimum", BigDecimal.valueOf(min.longValue()), BigDecimal::max);
+        }
+        if (validations.get("max") instanceof Number max) {
+            upperBounds.merge("maximum", BigDecimal.valueOf(max.longValue()), BigDecimal::min);
+        }
+        if (Boolean.TRUE.equals(validations.get("positive"))) {
+            lowerBounds.merge("exclusiveMinimum", BigDecimal.ZERO, BigDecimal::max);
+        }
+        if (Boolean.TRUE.equals(validations.get("positiveOrZero"))) {
+            lowerBounds.merge("minimum", BigDecimal.ZERO, BigDecimal::max);
+        }
+        if (Boolean.TRUE.equals(validations.get("negative"))) {
+            upperBounds.merge("exclusiveMaximum", BigDecimal.ZERO, BigDecimal::min);
+        }
+        if (Boolean.TRUE.equals(validations.get("negativeOrZero"))) {
+            upperBounds.merge("maximum", BigDecimal.ZERO, BigDecimal::min);
+        }
+
+        BigDecimal decimalMin = parseDecimal(validations.get("decimalMin"));
+        if (decimalMin != null) {
+            String keyword = Boolean.FALSE.equals(validations.get("decimalMinInclusive")) ? "exclusiveMinimum" : "minimum";
+            lowerBounds.merge(keyword, decimalMin, BigDecimal::max);
+        }
+        BigDecimal decimalMax = parseDecimal(validations.get("decimalMax"));
+        if (decimalMax != null) {
+            String keyword = Boolean.FALSE.equals(validations.get("decimalMaxInclusive")) ? "exclusiveMaximum" : "maximum";
+            upperBounds.merge(keyword, decimalMax, BigDecimal::min);
+        }
+
+        for (Map.Entry<String, BigDecimal> bound : lowerBounds.entrySet()) {
+            generator.writeNumberField(bound.getKey(), bound.getValue());
+        }
+        for (Map.Entry<String, BigDecimal> bound : upperBounds.entrySet()) {
+            generator.writeNumberField(bound.getKey(), bound.getValue());
+        }
+
+        if (Boolean.TRUE.equals(validations.get("email"))) {
+            generator.writeStringField("format", "email");
+        }
+        if (validations.get("pattern") instanceof String pattern) {
+            generator.writeStringField("pattern", pattern);
+        } else if (Boolean.TRUE.equals(validations.get("notBlank"))) {
+            generator.writeStringField("pattern", "\\S");
+        }
+        if (validations.get("message") instanceof String message) {
+            generator.writeStringField("x-validation-message", message);
+        }
+    }
+
+    private BigDecimal parseDecimal(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            // 숫자가 아닌 경계값은 무시
+            return null;
+        }
+    }
+
+    private void writeStringIfPresent(JsonGenerator generator, String field, Object value) throws IOException {
+        if (value instanceof String text && !text.isEmpty()) {
+            generator.writeStringField(field, text);
+        }
+    }
+
+    /**
+     * 배열의 바이너리 이름({@code [Lcom.example.UserDTO;})에서 요소 타입의 전체 이름 추출 (객체 배열이 아니면 null)
+     */
+    private static String arrayElementFullType(String fullType) {
+        if (fullType != null && fullType.startsWith("[L") && fullType.endsWith(";")) {
+            return fullType.substring(2, fullType.length() - 1);
+        }
+        return null;
+    }
+
+    private static boolean isCollectionType(String type) {
+        return type != null && switch (type) {
+            case "List", "ArrayList", "LinkedList", "Collection", "Iterable",
+                 "Set", "HashSet", "LinkedHashSet", "TreeSet" -> true;
+            default -> false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> records(Map<String, Object> apiSpec, String key) {
+        Object value = apiSpec.get(key);
+        return value instanceof List ? (List<Map<String, Object>>) value : List.of();
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+
+    /**
+     * components/schemas에 기록할 DTO 스키마 (타입당 한 번만 등록)
+     */
+    private static class SchemaRegistry {
+
+        final Map<String, Map<String, Object>> schemasByName = new LinkedHashMap<>();
+        private final Map<String, String> namesByFullType = new HashMap<>();
+        private final Map<String, String> namesBySimpleName = new HashMap<>();
+
+        /**
+         * 필드가 있는 스키마를 등록하고 컴포넌트 이름 반환 (스키마가 비어 있으면 null)
+         */
+        @SuppressWarnings("unchecked")
+        String register(String type, String fullType, Map<String, Object> schema) {
+            if (type == null || SchemaFields.of(schema).isEmpty()) {
+                return null;
+            }
+
+            String key = fullType != null ? fullType : type;
+            String existing = namesByFullType.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            // 단순 이름이 다른 타입과 겹치면 전체 이름 사용
+            String name = schemasByName.containsKey(type) ? key : type;
+            namesByFullType.put(key, name);
+            namesBySimpleName.putIfAbsent(type, name);
+            schemasByName.put(name, schema);
+
+            // 중첩 DTO 필드(컬렉션/배열 요소 포함)도 컴포넌트로 등록해 $ref로 참조
+            for (Map<String, Object> field : SchemaFields.of(schema)) {
+                if (field.get("schema") instanceof Map<?, ?> nested) {
+                    String fieldType = (String) field.get("type");
+                    String fieldFullType = (String) field.get("fullType");
+                    List<String> genericTypes = (List<String>) field.get("genericTypes");
+                    if (isCollectionType(fieldType)) {
+                        if (genericTypes != null && !genericTypes.isEmpty()) {
+                            register(genericTypes.get(0), null, (Map<String, Object>) nested);
+                        }
+                    } else if (fieldType != null && fieldType.endsWith("[]")) {
+                        register(fieldType.substring(0, fieldType.length() - 2), arrayElementFullType(fieldFullType),
+                                (Map<String, Object>) nested);
+                    } else {
+                        register(fieldType, fieldFullType, (Map<String, Object>) nested);
+                    }
+                }
+            }
+            return name;
+        }
+
+        String lookup(String type, String fullType) {
+            if (fullType != null && namesByFullType.containsKey(fullType)) {
+                return namesByFullType.get(fullType);
+            }
+            return namesBySimpleName.get(type);
+        }
+    }
+
+    /**
+     * components/responses에 기록할 오류 응답 (같은 내용은 한 번만 등록)
+     *
+     * <p>상태 코드별 첫 변형은 {@code Error404}, 예외 타입이나 스키마가 다른 변형은 {@code Error404_2}처럼 이름을 붙입니다.</p>
+     */
+    private static class ErrorResponseRegistry {
+
+        final Map<String, ErrorResponse> byName = new TreeMap<>();
+        private final Map<String, ErrorResponse> byContent = new HashMap<>();
+        private final Map<String, Integer> variants = new HashMap<>();
+
+        /**
+         * 예외 핸들러 목록을 상태 코드별로 묶어 등록하고, 상태 코드 순 오류 응답 목록 반환
+         */
+        @SuppressWarnings("unchecked")
+        List<ErrorResponse> register(List<Map<String, Object>> handlers, SchemaRegistry schemas) {
+            Map<String, ErrorResponse> grouped = new TreeMap<>();
+            for (Map<String, Object> handler : handlers) {
+                Map<String, Object> status = (Map<String, Object>) handler.get("httpStatus");
+                if (status == null || status.get("code") == null) {
+                    continue;
+                }
+
+                String statusCode = String.valueOf(status.get("code"));
+                ErrorResponse errorResponse = grouped.computeIfAbsent(statusCode,
+                        code -> new ErrorResponse(code, (String) status.get("reasonPhrase")));
+                errorResponse.exceptionTypes.addAll((Collection<String>) handler.getOrDefault("exceptionTypes", List.of()));
+
+                Map<String, Object> response = (Map<String, Object>) handler.get("response");
+                if (response != null) {
+                    Map<String, Object> schema = (Map<String, Object>) response.get("schema");
+                    String name = schemas.register((String) response.get("type"), (String) response.get("fullType"), schema);
+                    if (name != null) {
+                        errorResponse.schemaNames.add(name);
+                    }
+                }
+            }
+
+            List<ErrorResponse> registered = new ArrayList<>(grouped.size());
+            for (ErrorResponse errorResponse : grouped.values()) {
+                String key = errorResponse.statusCode + "|" + errorResponse.reasonPhrase + "|"
+                        + errorResponse.exceptionTypes + "|" + errorResponse.schemaNames;
+                ErrorResponse existing = byContent.get(key);
+                if (existing == null) {
+                    int variant = variants.merge(errorResponse.statusCode, 1, Integer::sum);
+                    errorResponse.componentName = "Error" + errorResponse.statusCode + (variant == 1 ? "" : "_" + variant);
+                    byContent.put(key, errorResponse);
+                    byName.put(errorResponse.componentName, errorResponse);
+                    existing = errorResponse;
+                }
+                registered.add(existing);
+            }
+            return registered;
+        }
+    }
+
+    /**
+     * 상태 코드별로 묶인 예외 핸들러 오류 응답
+     */
+    private static class ErrorResponse {
+
+        final String statusCode;
+        final String reasonPhrase;
+        final Set<String> exceptionTypes = new LinkedHashSet<>();
+        final Set<String> schemaNames = new LinkedHashSet<>();
+        String componentName;
+
+        ErrorResponse(String statusCode, String reasonPhrase) {
+            this.statusCode = statusCode;
+            this.reasonPhrase = reasonPhrase;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package io.github.bigdaditor.sasa.javadoc;
+
+import io.github.bigdaditor.sasa.util.EndpointKey;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * 빌드 시 만들어진 Javadoc 설명 색인 ({@value #RESOURCE}).
+ *
+ * <p>{@link JavadocIndexProcessor}가 컴파일 중에 컨트롤러 메서드와 DTO 필드의 Javadoc을 이 형식으로 기록합니다.
+ * 런타임에는 소스를 파싱하지 않고 색인 파일을 메모리 매핑(jar 안의 항목은 direct buffer로 복사)한 뒤
+ * 키로 이진 탐색하므로, 조회된 설명만 힙에 문자열로 만들어집니다.</p>
+ *
+ * <h2>형식</h2>
+ * <pre>
+ * int magic ('SASJ'), int version (1), int count
+ * count × { int keyOffset, int keyLength, int valueOffset, int valueLength }  // 키의 UTF-8 바이트 순으로 정렬
+ * UTF-8 키와 값 데이터
+ * </pre>
+ *
+ * <p>키는 메서드가 {@code 선언 클래스 이름#시그니처}({@link EndpointKey#signature(Method)} 형식),
+ * 필드가 {@code 선언 클래스 이름#필드 이름}이며 클래스 이름은 바이너리 이름({@code Outer$Inner})입니다.</p>
+ */
+public final class JavadocIndex {
+
+    /** 색인 리소스 경로 */
+    public static final String RESOURCE = "META-INF/sasa/javadoc.idx";
+
+    private static final int MAGIC = 0x5341534A;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int ENTRY_SIZE = 16;
+
+    private static final System.Logger LOGGER = System.getLogger(JavadocIndex.class.getName());
+
+    private static final JavadocIndex EMPTY = new JavadocIndex(List.of());
+    private static final Map<ClassLoader, JavadocIndex> BY_CLASS_LOADER = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<ByteBuffer> buffers;
+
+    private JavadocIndex(List<ByteBuffer> buffers) {
+        this.buffers = buffers;
+    }
+
+    /**
+     * 클래스의 클래스로더에서 보이는 모든 색인 리소스를 합친 색인을 반환합니다 (클래스로더별로 한 번 로드).
+     *
+     * @param type 조회할 클래스
+     * @return 색인 (리소스가 없으면 빈 색인)
+     */
+    public static JavadocIndex forClass(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return EMPTY;
+        }
+        JavadocIndex index = BY_CLASS_LOADER.get(classLoader);
+        if (index == null) {
+            index = load(classLoader);
+            BY_CLASS_LOADER.put(classLoader, index);
+        }
+        return index;
+    }
+
+    /**
+     * 읽을 수 없거나 형식이 맞지 않는 리소스(다른 도구가 같은 경로에 둔 파일 등)는 경고를 남기고 건너뜁니다.
+     *
+     * @param classLoader 리소스를 찾을 클래스로더
+     * @return 보이는 모든 유효한 {@value #RESOURCE}를 합친 색인
+     */
+    public static JavadocIndex load(ClassLoader classLoader) {
+        Enumeration<URL> resources;
+        try {
+            resources = classLoader.getResources(RESOURCE);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Failed to look up " + RESOURCE + ", Javadoc descriptions are disabled", e);
+            return EMPTY;
+        }
+        List<ByteBuffer> buffers = new ArrayList<>();
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            try {
+                buffers.add(map(url));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Skipping invalid Javadoc index " + url, e);
+            }
+        }
+        return buffers.isEmpty() ? EMPTY : new JavadocIndex(List.copyOf(buffers));
+    }
+
+    /**
+     * @param file 색인 파일
+     * @return 파일을 메모리 매핑한 색인
+     */
+    public static JavadocIndex open(Path file) throws IOException {
+        return new JavadocIndex(List.of(mapFile(file)));
+    }
+
+    /**
+     * @param method 메서드
+     * @return 메서드의 Javadoc 설명, 없으면 {@code null}
+     */
+    public String find(Method method) {
+        return find(methodKey(method.getDeclaringClass().getName(), EndpointKey.signature(method)));
+    }
+
+    /**
+     * @param field 필드
+     * @return 필드의 Javadoc 설명, 없으면 {@code null}
+     */
+    public String find(Field field) {
+        return find(memberKey(field.getDeclaringClass().getName(), field.getName()));
+    }
+
+    /**
+     * @param key 색인 키
+     * @return 설명, 없으면 {@code null}
+     */
+    public String find(String key) {
+        if (buffers.isEmpty()) {
+            return null;
+        }
+        byte[] target = key.getBytes(StandardCharsets.UTF_8);
+        for (ByteBuffer buffer : buffers) {
+            String value = search(buffer, target);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 색인된 설명 수
+     */
+    public int size() {
+        int size = 0;
+        for (ByteBuffer buffer : buffers) {
+            size += buffer.getInt(8);
+        }
+        return size;
+    }
+
+    static String methodKey(String className, String signature) {
+        return className + "#" + signature;
+    }
+
+    static String memberKey(String className, String member) {
+        return className + "#" + member;
+    }
+
+    /**
+     * 색인을 기록합니다.
+     *
+     * @param descriptions 키 → 설명
+     * @param out          출력 (닫지 않음)
+     */
+    public static void write(Map<String, String> descriptions, OutputStream out) throws IOException {
+        byte[][] keys = new byte[descriptions.size()][];
+        int i = 0;
+        for (String key : descriptions.keySet()) {
+            keys[i++] = key.getBytes(StandardCharsets.UTF_8);
+        }
+        Arrays.sort(keys, Arrays::compareUnsigned);
+
+        byte[][] values = new byte[keys.length][];
+        int offset = HEADER_SIZE + keys.length * ENTRY_SIZE;
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(keys.length);
+        for (i = 0; i < keys.length; i++) {
+            values[i] = descriptions.get(new String(keys[i], StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            data.writeInt(offset);
+            data.writeInt(keys[i].length);
+            data.writeInt(offset + keys[i].length);
+            data.writeInt(values[i].length);
+            offset += keys[i].length + values[i].length;
+        }
+        for (i = 0; i < keys.length; i++) {
+            data.write(keys[i]);
+            data.write(values[i]);
+        }
+        data.flush();
+    }
+
+    private static String search(ByteBuffer buffer, byte[] target) {
+        // 절대 위치 읽기만 사용하므로 여러 스레드가 같은 버퍼를 조회해도 안전
+        int low = 0;
+        int high = buffer.getInt(8) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = HEADER_SIZE + mid * ENTRY_SIZE;
+            int cmp = compare(buffer, buffer.getInt(entry), buffer.getInt(entry + 4), target);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                byte[] value = new byte[buffer.getInt(entry + 12)];
+                buffer.get(buffer.getInt(entry + 8), value);
+                return new String(value, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static int compare(ByteBuffer buffer, int offset, int length, byte[] target) {
+        int common = Math.min(length, target.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Integer.compare(buffer.get(offset + i) & 0xFF, target[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, target.length);
+    }
+
+    private static ByteBuffer map(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return mapFile(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid index location: " + url, e);
+            }
+        }
+        // jar 안의 항목은 매핑할 수 없으므로 힙 밖(direct buffer)으로 복사
+        URLConnection connection = url.openConnection();
+        long length = connection.getContentLengthLong();
+        try (InputStream in = connection.getInputStream()) {
+            if (length < 0) {
+                byte[] bytes = in.readAllBytes();
+                return validate(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip(), url.toString());
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.toIntExact(length));
+            ReadableByteChannel channel = Channels.newChannel(in);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽음
+            }
+            return validate(buffer.flip(), url.toString());
+        }
+    }
+
+    private static ByteBuffer mapFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return validate(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file.toString());
+        }
+    }
+
+    private static ByteBuffer validate(ByteBuffer buffer, String source) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a SASA Javadoc index: " + source);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported SASA Javadoc index version " + buffer.getInt(4) + ": " + source);
+        }
+        // 잘린 파일이 조회 중에 IndexOutOfBoundsException을 내지 않도록 항목 표의 범위를 미리 확인
+        int count = buffer.getInt(8);
+        if (count < 0 || count > (buffer.limit() - HEADER_SIZE) / ENTRY_SIZE) {
+            throw new IOException("Truncated SASA Javadoc index: " + source);
+        }
+        for (int i = 0; i < count; i++) {
+            int entry = HEADER_SIZE + i * ENTRY_SIZE;
+            if (!inBounds(buffer, buffer.getInt(entry), buffer.getInt(entry + 4))
+                    || !inBounds(buffer, buffer.getInt(entry + 8), buffer.getInt(entry + 12))) {
+                throw new IOException("Corrupt SASA Javadoc index entry " + i + ": " + source);
+            }
+        }
+        return buffer;
+    }
+
+    private static boolean inBounds(ByteBuffer buffer, int offset, int length) {
+        return offset >= 0 && length >= 0 && length <= buffer.limit() - offset;
+    }
+}
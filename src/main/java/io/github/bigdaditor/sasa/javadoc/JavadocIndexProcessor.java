@@ -0,0 +1,193 @@
+package io.github.bigdaditor.sasa.javadoc;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일 중에 Javadoc을 {@link JavadocIndex} 리소스({@value JavadocIndex#RESOURCE})로 기록하는 어노테이션 프로세서.
+ *
+ * <p>{@code @Controller}/{@code @RestController} 클래스의 메서드와, 컴파일되는 모든 클래스의 인스턴스 필드 중
+ * Javadoc이 있는 것만 기록합니다. 설명은 본문만 남기고 블록 태그({@code @param} 등)는 버리며,
+ * {@code {@code x}}/{@code {@link x}} 같은 인라인 태그는 내용만 남깁니다.
+ * 어떤 어노테이션도 처리했다고 표시하지 않으므로 다른 프로세서에 영향을 주지 않습니다.</p>
+ *
+ * <p>{@code META-INF/services}에 등록되어 다른 프로세서(Lombok, MapStruct 등)와 함께 자동 탐색되지만,
+ * {@code -Asasa.javadoc=true}를 주지 않으면 아무 어노테이션도 지원하지 않아 javac가 호출하지 않습니다.
+ * 자동 탐색을 끄는 {@code -processor}는 필요 없습니다.</p>
+ *
+ * <pre>
+ * dependencies {
+ *     annotationProcessor 'io.github.bigdaditor:sasa:0.0.1-SNAPSHOT'
+ * }
+ * tasks.withType(JavaCompile).configureEach {
+ *     options.compilerArgs += ['-Asasa.javadoc=true']
+ * }
+ * </pre>
+ */
+@SupportedOptions(JavadocIndexProcessor.OPTION)
+public class JavadocIndexProcessor extends AbstractProcessor {
+
+    /** 색인 기록을 켜는 프로세서 옵션 ({@code -Asasa.javadoc=true}) */
+    public static final String OPTION = "sasa.javadoc";
+
+    private static final Set<String> CONTROLLER_ANNOTATIONS = Set.of(
+            "org.springframework.stereotype.Controller",
+            "org.springframework.web.bind.annotation.RestController");
+    private static final Pattern INLINE_TAG = Pattern.compile("\\{@(?:code|link|linkplain|literal|value)\\s*([^}]*)}");
+
+    private final Map<String, String> descriptions = new TreeMap<>();
+    private boolean enabled;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        enabled = Boolean.parseBoolean(processingEnv.getOptions().get(OPTION));
+    }
+
+    /**
+     * 켜져 있으면 모든 타입({@code *}), 꺼져 있으면 없음 (javac가 {@link #process}를 호출하지 않음)
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return enabled ? Set.of("*") : Set.of();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement type) {
+                collect(type);
+            }
+        }
+        if (roundEnv.processingOver() && !descriptions.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void collect(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        String className = elements.getBinaryName(type).toString();
+        boolean controller = isController(type);
+
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement nested) {
+                collect(nested);
+            } else if (controller && member.getKind() == ElementKind.METHOD) {
+                put(JavadocIndex.methodKey(className, signature((ExecutableElement) member)), member);
+            } else if (member.getKind() == ElementKind.FIELD && !member.getModifiers().contains(Modifier.STATIC)) {
+                put(JavadocIndex.memberKey(className, member.getSimpleName().toString()), member);
+            }
+        }
+    }
+
+    private void put(String key, Element member) {
+        String comment = processingEnv.getElementUtils().getDocComment(member);
+        String description = comment != null ? clean(comment) : "";
+        if (!description.isEmpty()) {
+            descriptions.put(key, description);
+        }
+    }
+
+    /**
+     * 직접 또는 메타 어노테이션(한 단계)으로 컨트롤러 어노테이션이 붙었는지 확인
+     */
+    private boolean isController(TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (CONTROLLER_ANNOTATIONS.contains(annotationType.getQualifiedName().toString())) {
+                return true;
+            }
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                Element metaType = meta.getAnnotationType().asElement();
+                if (CONTROLLER_ANNOTATIONS.contains(((TypeElement) metaType).getQualifiedName().toString())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 런타임 {@code Method}에서 만드는 시그니처와 같은 형식 (예: {@code getUser(java.lang.Long,int[])})
+     */
+    private String signature(ExecutableElement method) {
+        StringBuilder builder = new StringBuilder(method.getSimpleName()).append('(');
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(typeName(method.getParameters().get(i).asType()));
+        }
+        return builder.append(')').toString();
+    }
+
+    private String typeName(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return processingEnv.getElementUtils().getBinaryName((TypeElement) types.asElement(erased)).toString();
+        }
+        return erased.toString();
+    }
+
+    private static String clean(String comment) {
+        StringBuilder text = new StringBuilder();
+        for (String line : comment.split("\\R")) {
+            String trimmed = line.strip();
+            if (trimmed.startsWith("@")) {
+                break;
+            }
+            if (text.length() > 0) {
+                text.append('\n');
+            }
+            text.append(trimmed);
+        }
+        return INLINE_TAG.matcher(text.toString().strip()).replaceAll("$1");
+    }
+
+    private void write() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", JavadocIndex.RESOURCE);
+            try (OutputStream out = resource.openOutputStream()) {
+                JavadocIndex.write(descriptions, out);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "SASA: failed to write " + JavadocIndex.RESOURCE + ": " + e.getMessage());
+        }
+    }
+}
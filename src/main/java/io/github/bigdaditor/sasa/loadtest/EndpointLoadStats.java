@@ -0,0 +1,80 @@
+package io.github.bigdaditor.sasa.loadtest;
+
+import io.github.bigdaditor.sasa.runtime.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 중 한 (메서드, 경로)의 결과 집계 (스레드 안전).
+ */
+final class EndpointLoadStats {
+
+    private final String method;
+    private final String path;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    EndpointLoadStats(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    /**
+     * @param nanos   예정된 전송 시각부터 응답 완료까지의 시간
+     * @param outcome 상태 코드 또는 예외 이름
+     * @param error   2xx/3xx 이외의 응답이거나 예외이면 {@code true}
+     */
+    void record(long nanos, String outcome, boolean error) {
+        latency.record(nanos);
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @param elapsedSeconds 측정 구간 길이
+     * @return 메서드, 경로, 요청 수, 초당 처리량, 오류 수/비율, 결과별 건수, 지연 시간 백분위
+     */
+    Map<String, Object> report(double elapsedSeconds) {
+        long count = getRequests();
+        long errorCount = getErrors();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("method", method);
+        report.put("path", path);
+        report.put("requests", count);
+        report.put("throughput", round(count / elapsedSeconds));
+        report.put("errors", errorCount);
+        report.put("errorRate", count == 0 ? 0.0 : round((double) errorCount / count));
+        Map<String, Long> byOutcome = new TreeMap<>();
+        outcomes.forEach((outcome, adder) -> byOutcome.put(outcome, adder.sum()));
+        report.put("outcomes", byOutcome);
+
+        // 처리량은 측정 구간 기준으로 따로 계산하므로 히스토그램의 생성 이후 평균은 제외
+        Map<String, Object> latencySnapshot = new LinkedHashMap<>(latency.snapshot());
+        latencySnapshot.remove("count");
+        latencySnapshot.remove("requestsPerSecond");
+        report.put("latency", latencySnapshot);
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.bigdaditor.sasa.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.util.SchemaFields;
+
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엔드포인트 스펙으로 만든 요청 틀 (불변).
+ *
+ * <p>경로 변수와 필수 요청 파라미터/헤더는 타입에 맞는 값으로 채우고, 본문은 스키마 예시에 검증 규칙(이메일, 최소/최대,
+ * 길이 등)을 반영해 서버 검증을 통과하도록 만듭니다. 기본값이 있는 선택 파라미터는 보내지 않습니다.
+ * 요청 URI와 본문은 생성 시 한 번만 만들어 둡니다.</p>
+ */
+final class RequestTemplate {
+
+    /** Spring {@code ValueConstants.DEFAULT_NONE}(기본값 없음)에 포함된 문자 */
+    private static final String SPRING_DEFAULT_NONE_MARKER = "\uE000";
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^}:]+)(?::[^}]*)?}");
+    private static final Set<String> INTEGER_TYPES = Set.of("int", "Integer", "long", "Long", "short", "Short", "byte", "Byte", "BigInteger");
+    private static final Set<String> NUMBER_TYPES = Set.of("double", "Double", "float", "Float", "BigDecimal");
+    private static final Set<String> BOOLEAN_TYPES = Set.of("boolean", "Boolean");
+
+    private final String method;
+    private final String path;
+    private final String pathAndQuery;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    private RequestTemplate(String method, String path, String pathAndQuery, Map<String, String> headers, byte[] body) {
+        this.method = method;
+        this.path = path;
+        this.pathAndQuery = pathAndQuery;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * 엔드포인트의 (메서드, 경로) 조합마다 요청 틀을 만듭니다.
+     *
+     * @param endpoint     엔드포인트 맵
+     * @param methods      허용할 HTTP 메서드 (선언되지 않은 엔드포인트는 GET으로 간주)
+     * @param overrides    이름별 고정 값 (경로 변수/파라미터/헤더 공통, 예: 실제 존재하는 id)
+     * @param objectMapper 본문 직렬화용
+     * @return 요청 틀 목록 (와일드카드 경로는 제외)
+     */
+    @SuppressWarnings("unchecked")
+    static List<RequestTemplate> fromEndpoint(Map<String, Object> endpoint, Set<String> methods,
+                                              Map<String, String> overrides, ObjectMapper objectMapper) {
+        List<Map<String, Object>> parameters = (List<Map<String, Object>>) endpoint.getOrDefault("parameters", List.of());
+        Map<String, String> pathValues = new LinkedHashMap<>();
+        StringBuilder query = new StringBuilder();
+        Map<String, String> headers = new LinkedHashMap<>();
+        byte[] body = null;
+
+        for (Map<String, Object> parameter : parameters) {
+            String name = parameterName(parameter);
+            String type = String.valueOf(parameter.get("type"));
+            switch (String.valueOf(parameter.get("parameterType"))) {
+                case "PATH_VARIABLE" -> pathValues.put(name, overrides.getOrDefault(name, sampleValue(type)));
+                case "REQUEST_PARAM" -> {
+                    if (overrides.containsKey(name) || needsValue(parameter)) {
+                        query.append(query.length() == 0 ? '?' : '&')
+                                .append(encode(name)).append('=')
+                                .append(encode(overrides.getOrDefault(name, sampleValue(type))));
+                    }
+                }
+                case "REQUEST_HEADER" -> {
+                    if (overrides.containsKey(name) || needsValue(parameter)) {
+                        headers.put(name, overrides.getOrDefault(name, sampleValue(type)));
+                    }
+                }
+                case "REQUEST_BODY" -> body = body((Map<String, Object>) parameter.get("schema"), objectMapper);
+                default -> {
+                    // 서블릿 객체 등은 요청으로 표현하지 않음
+                }
+            }
+        }
+        if (body != null) {
+            headers.put("Content-Type", "application/json");
+        }
+
+        List<String> declaredMethods = strings(endpoint.get("methods"));
+        if (declaredMethods.isEmpty()) {
+            declaredMethods = List.of("GET");
+        }
+
+        List<RequestTemplate> templates = new ArrayList<>();
+        for (String path : strings(endpoint.get("paths"))) {
+            if (path.contains("*")) {
+                continue;
+            }
+            String expanded = expand(path, pathValues, overrides);
+            for (String method : declaredMethods) {
+                if (methods.contains(method)) {
+                    templates.add(new RequestTemplate(method, path, expanded + query, headers, body));
+                }
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * @return HTTP 메서드
+     */
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return 스펙의 경로 패턴 (리포트 키)
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * @return 변수가 채워진 경로와 쿼리 문자열
+     */
+    String getPathAndQuery() {
+        return pathAndQuery;
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return JSON 본문, 본문이 없으면 {@code null} (공유 배열이므로 수정하지 않아야 함)
+     */
+    byte[] getBody() {
+        return body;
+    }
+
+    private static String expand(String path, Map<String, String> pathValues, Map<String, String> overrides) {
+        Matcher matcher = PATH_VARIABLE.matcher(path);
+        StringBuilder expanded = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String value = pathValues.getOrDefault(name, overrides.getOrDefault(name, "1"));
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(encode(value)));
+        }
+        matcher.appendTail(expanded);
+        return expanded.toString();
+    }
+
+    private static String parameterName(Map<String, Object> parameter) {
+        return parameter.get("paramName") instanceof String paramName && !paramName.isEmpty()
+                ? paramName
+                : String.valueOf(parameter.get("name"));
+    }
+
+    private static boolean needsValue(Map<String, Object> parameter) {
+        boolean hasDefault = parameter.get("defaultValue") instanceof String value && !value.contains(SPRING_DEFAULT_NONE_MARKER);
+        return Boolean.TRUE.equals(parameter.get("required")) && !hasDefault;
+    }
+
+    private static String sampleValue(String type) {
+        if (INTEGER_TYPES.contains(type) || NUMBER_TYPES.contains(type)) {
+            return "1";
+        }
+        if (BOOLEAN_TYPES.contains(type)) {
+            return "true";
+        }
+        return switch (type) {
+            case "UUID" -> "00000000-0000-0000-0000-000000000001";
+            case "LocalDate" -> "2024-01-01";
+            case "LocalDateTime" -> "2024-01-01T00:00:00";
+            default -> "sample";
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] body(Map<String, Object> schema, ObjectMapper objectMapper) {
+        Object example = schema != null ? schema.get("example") : null;
+        Map<String, Object> body = example instanceof Map<?, ?> map
+                ? new LinkedHashMap<>((Map<String, Object>) map)
+                : new LinkedHashMap<>();
+        for (Map<String, Object> info : SchemaFields.of(schema)) {
+            if (info.get("validations") instanceof Map<?, ?> validations) {
+                String name = String.valueOf(info.get("name"));
+                body.put(name, satisfy(body.get(name), String.valueOf(info.get("type")), (Map<String, Object>) validations));
+            }
+        }
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize request body example", e);
+        }
+    }
+
+    /**
+     * 예시 값을 검증 규칙을 만족하는 값으로 조정 ({@code pattern}처럼 생성할 수 없는 규칙은 그대로 둠)
+     */
+    private static Object satisfy(Object value, String type, Map<String, Object> validations) {
+        if (Boolean.TRUE.equals(validations.get("email"))) {
+            return "user@example.com";
+        }
+        if (value instanceof String text) {
+            if (Boolean.TRUE.equals(validations.get("future")) || Boolean.TRUE.equals(validations.get("futureOrPresent"))) {
+                text = text.replaceFirst("^\\d{4}", "2999");
+            }
+            if (validations.get("size") instanceof Map<?, ?> size && size.get("min") instanceof Number min
+                    && text.length() < min.intValue()) {
+                text = text + "a".repeat(min.intValue() - text.length());
+            }
+            if (validations.get("size") instanceof Map<?, ?> size && size.get("max") instanceof Number max
+                    && text.length() > max.intValue()) {
+                text = text.substring(0, max.intValue());
+            }
+            return text;
+        }
+        if (value instanceof Number || INTEGER_TYPES.contains(type) || NUMBER_TYPES.contains(type)) {
+            BigDecimal number = value instanceof Number current ? new BigDecimal(current.toString()) : BigDecimal.ZERO;
+            if (Boolean.TRUE.equals(validations.get("positive"))) {
+                number = number.max(BigDecimal.ONE);
+            }
+            if (Boolean.TRUE.equals(validations.get("negative"))) {
+                number = number.min(BigDecimal.ONE.negate());
+            }
+            if (Boolean.TRUE.equals(validations.get("negativeOrZero"))) {
+                number = number.min(BigDecimal.ZERO);
+            }
+            number = bound(number, validations.get("min"), validations.get("decimalMin"), true);
+            number = bound(number, validations.get("max"), validations.get("decimalMax"), false);
+            return INTEGER_TYPES.contains(type) ? (Object) number.longValue() : (Object) number.doubleValue();
+        }
+        return value;
+    }
+
+    private static BigDecimal bound(BigDecimal number, Object limit, Object decimalLimit, boolean lower) {
+        for (Object candidate : new Object[]{limit, decimalLimit}) {
+            if (candidate == null) {
+                continue;
+            }
+            try {
+                BigDecimal bound = new BigDecimal(candidate.toString());
+                number = lower ? number.max(bound) : number.min(bound);
+            } catch (NumberFormatException e) {
+                // 잘못된 경계 값은 무시
+            }
+        }
+        return number;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static List<String> strings(Object values) {
+        List<String> strings = new ArrayList<>();
+        if (values instanceof Collection<?> collection) {
+            for (Object value : collection) {
+                strings.add(String.valueOf(value));
+            }
+        }
+        return strings;
+    }
+}
@@ -0,0 +1,372 @@
+package io.github.bigdaditor.sasa.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.format.SpecFiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SASA 스펙으로 로컬 인스턴스에 부하를 거는 생성기.
+ *
+ * <p>스펙의 엔드포인트마다 경로 변수/필수 파라미터/본문 예시로 요청을 만들고({@code RequestTemplate}),
+ * 목표 초당 요청 수로 일정 간격마다 요청을 보냅니다(개방형 모델). 응답을 기다리지 않고 다음 요청을 보내며
+ * ({@link HttpClient#sendAsync}), 동시 요청 수가 상한에 닿으면 그 요청은 보내지 않고 {@code dropped}로 셉니다.
+ * 지연 시간은 실제 전송 시각이 아니라 예정된 전송 시각부터 재므로, 서버가 느려져 생성기가 밀려도 지연이 과소 측정되지 않습니다.</p>
+ *
+ * <p>기본값으로 GET 엔드포인트만 호출합니다. 데이터를 바꾸는 메서드는 {@link Builder#methods(String...)}로 명시해야 합니다.</p>
+ *
+ * <pre>{@code
+ * Map<String, Object> report = SasaLoadGenerator.builder(Path.of("build/api-spec.json"))
+ *         .baseUri(URI.create("http://localhost:8080"))
+ *         .targetRate(200)
+ *         .duration(Duration.ofSeconds(30))
+ *         .build()
+ *         .run();
+ * }</pre>
+ */
+public class SasaLoadGenerator {
+
+    private static final Set<String> DEFAULT_EXCLUDED_PREFIXES = Set.of("/sasa/", "/error");
+    /** 요청 간격을 나노초 단위로 맞추므로 초당 10억 건(간격 1ns)이 상한 */
+    private static final double MAX_TARGET_RATE = 1_000_000_000;
+
+    private final URI baseUri;
+    private final double targetRate;
+    private final Duration duration;
+    private final Duration requestTimeout;
+    private final int maxInFlight;
+    private final Map<String, String> headers;
+    private final List<RequestTemplate> templates;
+    private final Executor executor;
+
+    private SasaLoadGenerator(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.targetRate = builder.targetRate;
+        this.duration = builder.duration;
+        this.requestTimeout = builder.requestTimeout;
+        this.maxInFlight = builder.maxInFlight;
+        this.headers = Map.copyOf(builder.headers);
+        this.templates = templates(builder);
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder(Map<String, Object> spec) {
+        return new Builder(spec);
+    }
+
+    /**
+     * @param specFile 스펙 파일 ({@link SpecFiles}가 읽을 수 있는 형식)
+     */
+    public static Builder builder(Path specFile) throws IOException {
+        return new Builder(SpecFiles.read(specFile));
+    }
+
+    /**
+     * @return 호출 대상 (메서드, 경로) 수
+     */
+    public int getTargetCount() {
+        return templates.size();
+    }
+
+    /**
+     * 부하를 걸고 끝날 때까지 기다립니다 (호출 스레드가 요청 간격을 맞춤).
+     * 실행마다 통계를 새로 모으고, executor를 지정하지 않았으면 실행마다 만들어 끝나면 종료하므로 여러 번 호출할 수 있습니다.
+     *
+     * @return 전체 요약과 엔드포인트별 처리량/오류율/지연 시간 백분위
+     */
+    public Map<String, Object> run() throws InterruptedException {
+        if (templates.isEmpty()) {
+            throw new IllegalStateException("No endpoints to call (check methods and excluded paths)");
+        }
+
+        List<EndpointLoadStats> stats = new ArrayList<>(templates.size());
+        for (RequestTemplate template : templates) {
+            stats.add(new EndpointLoadStats(template.getMethod(), template.getPath()));
+        }
+        ExecutorService ownedExecutor = executor == null
+                ? Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), daemonThreads())
+                : null;
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor != null ? executor : ownedExecutor)
+                .connectTimeout(requestTimeout)
+                .build();
+        HttpRequest[] requests = new HttpRequest[templates.size()];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = request(templates.get(i));
+        }
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        LongAdder dropped = new LongAdder();
+        long interval = (long) (1_000_000_000L / targetRate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long sent = 0;
+
+        try {
+            for (long scheduled = start; scheduled < end; scheduled += interval) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                int index = (int) (sent++ % requests.length);
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                EndpointLoadStats endpointStats = stats.get(index);
+                long intended = scheduled;
+                client.sendAsync(requests[index], HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            long elapsed = System.nanoTime() - intended;
+                            if (failure != null) {
+                                Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+                                endpointStats.record(elapsed, cause.getClass().getSimpleName(), true);
+                            } else {
+                                int status = response.statusCode();
+                                endpointStats.record(elapsed, String.valueOf(status), status >= 400);
+                            }
+                            inFlight.release();
+                        });
+            }
+
+            // 남은 요청이 끝날 때까지 대기 (요청 타임아웃 + 여유)
+            if (inFlight.tryAcquire(maxInFlight, requestTimeout.toMillis() + 1_000, TimeUnit.MILLISECONDS)) {
+                inFlight.release(maxInFlight);
+            }
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+
+        return report(stats, sent, dropped.sum(), (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private Map<String, Object> report(List<EndpointLoadStats> stats, long scheduled, long dropped, double elapsedSeconds) {
+        long completed = 0;
+        long errors = 0;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointLoadStats endpointStats : stats) {
+            completed += endpointStats.getRequests();
+            errors += endpointStats.getErrors();
+            endpoints.add(endpointStats.report(elapsedSeconds));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUri", baseUri.toString());
+        report.put("targetRate", targetRate);
+        report.put("durationSeconds", Math.round(elapsedSeconds * 1000) / 1000.0);
+        report.put("scheduled", scheduled);
+        report.put("completed", completed);
+        report.put("dropped", dropped);
+        report.put("errors", errors);
+        report.put("throughput", Math.round(completed / elapsedSeconds * 1000) / 1000.0);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private HttpRequest request(RequestTemplate template) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(template.getPathAndQuery()))
+                .timeout(requestTimeout);
+        template.getHeaders().forEach(builder::header);
+        headers.forEach(builder::setHeader);
+        byte[] body = template.getBody();
+        builder.method(template.getMethod(), body != null
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody());
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<RequestTemplate> templates(Builder builder) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<RequestTemplate> templates = new ArrayList<>();
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) builder.spec.getOrDefault("endpoints", List.of())) {
+            for (RequestTemplate template : RequestTemplate.fromEndpoint(endpoint, builder.methods, builder.values, objectMapper)) {
+                if (builder.excludedPrefixes.stream().noneMatch(template.getPath()::startsWith)) {
+                    templates.add(template);
+                }
+            }
+        }
+        return templates;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sasa-load-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 명령행 실행: {@code <spec-file> [--base-uri http://localhost:8080] [--rate 50] [--duration 30s]
+     * [--methods GET,POST] [--max-in-flight 256]}. 리포트는 JSON으로 표준 출력에 씁니다.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            System.err.println("Usage: SasaLoadGenerator <spec-file> [--base-uri URI] [--rate N] [--duration 30s] "
+                    + "[--methods GET,POST] [--max-in-flight N]");
+            System.exit(1);
+        }
+
+        Builder builder = builder(Path.of(args[0]));
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--base-uri" -> builder.baseUri(URI.create(value));
+                case "--rate" -> builder.targetRate(Double.parseDouble(value));
+                case "--duration" -> builder.duration(Duration.ofSeconds(Long.parseLong(value.replaceFirst("s$", ""))));
+                case "--methods" -> builder.methods(value.split(","));
+                case "--max-in-flight" -> builder.maxInFlight(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Map<String, Object> report = builder.build().run();
+        System.out.println(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    public static class Builder {
+        private final Map<String, Object> spec;
+        private URI baseUri = URI.create("http://localhost:8080");
+        private double targetRate = 50;
+        private Duration duration = Duration.ofSeconds(30);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private int maxInFlight = 256;
+        private Set<String> methods = Set.of("GET");
+        private Set<String> excludedPrefixes = DEFAULT_EXCLUDED_PREFIXES;
+        private final Map<String, String> values = new LinkedHashMap<>();
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private Executor executor;
+
+        private Builder(Map<String, Object> spec) {
+            if (spec == null) {
+                throw new IllegalArgumentException("Spec must not be null");
+            }
+            this.spec = spec;
+        }
+
+        /**
+         * 대상 애플리케이션 주소 (기본값: http://localhost:8080)
+         */
+        public Builder baseUri(URI baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * 목표 초당 요청 수, 전체 엔드포인트에 고르게 나눔 (기본값: 50, 최대 초당 10억)
+         */
+        public Builder targetRate(double targetRate) {
+            if (!(targetRate > 0)) {
+                throw new IllegalArgumentException("Target rate must be positive: " + targetRate);
+            }
+            if (targetRate > MAX_TARGET_RATE) {
+                throw new IllegalArgumentException("Target rate must be at most " + (long) MAX_TARGET_RATE
+                        + " requests per second: " + targetRate);
+            }
+            this.targetRate = targetRate;
+            return this;
+        }
+
+        /**
+         * 부하 시간 (기본값: 30초)
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * 요청별 타임아웃 (기본값: 10초)
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * 동시 요청 상한, 넘으면 요청을 보내지 않고 {@code dropped}로 셈 (기본값: 256)
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("Max in-flight must be positive: " + maxInFlight);
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * 호출할 HTTP 메서드 (기본값: GET)
+         */
+        public Builder methods(String... methods) {
+            Set<String> normalized = new LinkedHashSet<>();
+            Arrays.stream(methods).map(method -> method.trim().toUpperCase(Locale.ROOT)).forEach(normalized::add);
+            this.methods = normalized;
+            return this;
+        }
+
+        /**
+         * 제외할 경로 접두사 (기본값: /sasa/, /error)
+         */
+        public Builder excludePaths(String... prefixes) {
+            this.excludedPrefixes = Set.of(prefixes);
+            return this;
+        }
+
+        /**
+         * 경로 변수/요청 파라미터/헤더의 고정 값 (예: 실제 존재하는 id). 지정한 선택 파라미터도 함께 보냄
+         */
+        public Builder value(String name, String value) {
+            this.values.put(name, value);
+            return this;
+        }
+
+        /**
+         * 모든 요청에 붙일 헤더 (예: Authorization)
+         */
+        public Builder header(String name, String value) {
+            this.headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * {@link HttpClient} executor (지정하면 종료하지 않음).
+         * Java 21 이상에서는 {@code Executors.newVirtualThreadPerTaskExecutor()}를 넘길 수 있습니다.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public SasaLoadGenerator build() {
+            return new SasaLoadGenerator(this);
+        }
+    }
+}
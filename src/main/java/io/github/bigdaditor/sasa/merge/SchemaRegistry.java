@@ -0,0 +1,101 @@
+package io.github.bigdaditor.sasa.merge;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구조 해시 기준 스키마 중복 제거 저장소 (스레드 안전).
+ *
+ * <p>스키마를 키 정렬된 JSON으로 직렬화해 SHA-256 앞 16자리(64비트)를 구조 해시로 씁니다. 클래스 이름과 무관하게
+ * 필드/타입/검증 규칙이 같으면 같은 스키마이므로, 서비스마다 복사된 공용 DTO는 한 번만 저장됩니다.
+ * 메모리는 입력 크기가 아니라 고유 스키마 수에 비례합니다.</p>
+ */
+final class SchemaRegistry {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ObjectMapper canonicalMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong references = new AtomicLong();
+
+    /**
+     * 스키마를 등록하고 구조 해시를 반환합니다.
+     *
+     * @param schema   스키마 맵
+     * @param typeName 스키마의 타입 이름 (없으면 {@code null})
+     * @param service  스키마를 참조한 서비스
+     * @return 구조 해시
+     */
+    String register(Map<String, Object> schema, String typeName, String service) {
+        String hash = hash(schema);
+        Entry entry = entries.computeIfAbsent(hash, key -> new Entry(schema));
+        if (typeName != null) {
+            entry.types.add(typeName);
+        }
+        entry.services.add(service);
+        references.incrementAndGet();
+        return hash;
+    }
+
+    /**
+     * @return 고유 스키마 수
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return 등록 호출 수 (중복 포함)
+     */
+    long getReferenceCount() {
+        return references.get();
+    }
+
+    /**
+     * @return 해시 순으로 정렬된 {@code 해시 -> {types, services, schema}}
+     */
+    Map<String, Object> toCatalog() {
+        Map<String, Object> catalog = new LinkedHashMap<>();
+        new TreeMap<>(entries).forEach((hash, entry) -> {
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("types", new TreeSet<>(entry.types));
+            value.put("services", new TreeSet<>(entry.services));
+            value.put("schema", entry.schema);
+            catalog.put(hash, value);
+        });
+        return catalog;
+    }
+
+    private String hash(Map<String, Object> schema) {
+        try {
+            byte[] canonical = canonicalMapper.writeValueAsString(schema).getBytes(StandardCharsets.UTF_8);
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(canonical), 0, 8);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash schema", e);
+        }
+    }
+
+    private static final class Entry {
+        private final Map<String, Object> schema;
+        private final Set<String> types = ConcurrentHashMap.newKeySet();
+        private final Set<String> services = ConcurrentHashMap.newKeySet();
+
+        Entry(Map<String, Object> schema) {
+            this.schema = schema;
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package io.github.bigdaditor.sasa.merge;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.format.BinarySpecReader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 여러 서비스의 스펙 파일을 하나의 카탈로그로 합치는 오프라인 도구.
+ *
+ * <p>입력 파일({@code .json}, {@code .json.gz}, {@code .sasa})은 병렬로 읽습니다. JSON은 Jackson 스트리밍 파서로
+ * 엔드포인트를 하나씩 읽어 입력별로 크기가 제한된 큐로 넘기고, 호출 스레드가 입력 순서대로 큐에서 꺼내 바로
+ * 카탈로그에 씁니다. 따라서 같은 입력이면 카탈로그의 엔드포인트 순서도 같습니다.
+ * 입력 스펙 전체를 메모리에 올리지 않으므로 입력당 메모리는 파일 크기와 무관합니다.</p>
+ *
+ * <p>합치면서 다음을 처리합니다.</p>
+ * <ul>
+ *     <li>엔드포인트마다 {@code service}(입력 파일 이름에서 만든 입력별 고유 ID)를 붙임.
+ *         기본값({@code SASA})을 그대로 쓰는 서비스가 많아 applicationName은 ID로 쓰지 않고 {@code services}에만 남김</li>
+ *     <li>응답/요청 본문 스키마를 구조 해시로 중복 제거해 최상위 {@code schemas}에 한 번만 두고,
+ *         엔드포인트에는 {@code schemaRef}만 남김</li>
+ *     <li>서로 다른 서비스가 같은 (메서드, 경로)를 선언하면 {@code collisions}에 기록
+ *         (경로 변수 이름은 비교하지 않음: {@code /users/{id}}와 {@code /users/{userId}}는 충돌)</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * Map<String, Object> summary = SpecMerger.builder().build()
+ *         .merge(List.of(Path.of("orders/api-spec.json"), Path.of("users/api-spec.json.gz")), Path.of("catalog.json"));
+ * }</pre>
+ */
+public class SpecMerger {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Map<String, Object>>> LIST_TYPE = new TypeReference<>() {
+    };
+    private static final Object DONE = new Object();
+    /** 서비스 ID가 겹칠 때 앞에 붙여 볼 상위 디렉토리 수 */
+    private static final int MAX_ID_DIRECTORIES = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int parallelism;
+    private final int queueCapacity;
+
+    private SpecMerger(Builder builder) {
+        this.parallelism = builder.parallelism;
+        this.queueCapacity = builder.queueCapacity;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 스펙 파일들을 합쳐 카탈로그를 씁니다.
+     *
+     * <p>카탈로그는 같은 디렉토리의 임시 파일에 쓴 뒤 옮기므로, 실패해도 기존 출력 파일이 깨지지 않습니다.
+     * 출력 파일 이름이 {@code .gz}로 끝나면 gzip으로 압축합니다.</p>
+     *
+     * @param inputs 스펙 파일 또는 스펙 파일이 있는 디렉토리
+     * @param output 카탈로그 파일
+     * @return 서비스/엔드포인트/스키마/충돌 수 요약
+     */
+    public Map<String, Object> merge(List<Path> inputs, Path output) throws IOException {
+        List<Path> files = expand(inputs);
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No spec files found in " + inputs);
+        }
+
+        Path directory = output.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+        try {
+            Map<String, Object> summary;
+            try (OutputStream out = open(temporary, output.getFileName().toString().endsWith(".gz"))) {
+                summary = write(files, out);
+            }
+            move(temporary, output);
+            return summary;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private Map<String, Object> write(List<Path> files, OutputStream out) throws IOException {
+        SchemaRegistry schemas = new SchemaRegistry();
+        Map<String, Set<String>> routes = new ConcurrentHashMap<>();
+        String[] serviceIds = serviceIds(files);
+        ServiceSummary[] services = new ServiceSummary[files.size()];
+        List<BlockingQueue<Object>> queues = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            queues.add(new LinkedBlockingQueue<>(queueCapacity));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.size()), daemonThreads());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                int index = i;
+                BlockingQueue<Object> queue = queues.get(i);
+                executor.execute(() -> {
+                    try {
+                        services[index] = read(files.get(index), serviceIds[index], schemas, routes, queue);
+                        queue.put(DONE);
+                    } catch (InterruptedException e) {
+                        // 작성기가 이미 실패해 종료 중
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        try {
+                            queue.put(new Failure(files.get(index), e));
+                        } catch (InterruptedException interrupted) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+
+            long endpointCount = 0;
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeStringField("generatedAt", LocalDateTime.now().toString());
+
+                // 입력 순서대로 기록 (작업도 같은 순서로 시작되므로 기다리는 입력은 항상 실행 중이거나 끝난 상태)
+                generator.writeArrayFieldStart("endpoints");
+                for (BlockingQueue<Object> queue : queues) {
+                    for (Object item = queue.take(); item != DONE; item = queue.take()) {
+                        if (item instanceof Failure failure) {
+                            throw new IOException("Failed to read spec: " + failure.path, failure.cause);
+                        }
+                        generator.writeObject(item);
+                        endpointCount++;
+                    }
+                }
+                generator.writeEndArray();
+
+                generator.writeArrayFieldStart("exceptionHandlers");
+                for (ServiceSummary service : services) {
+                    for (Map<String, Object> handler : service.exceptionHandlers) {
+                        generator.writeObject(handler);
+                    }
+                }
+                generator.writeEndArray();
+
+                generator.writeObjectField("schemas", schemas.toCatalog());
+
+                List<Map<String, Object>> serviceList = new ArrayList<>();
+                for (ServiceSummary service : services) {
+                    serviceList.add(service.toMap());
+                }
+                generator.writeObjectField("services", serviceList);
+
+                List<Map<String, Object>> collisions = collisions(routes);
+                generator.writeObjectField("collisions", collisions);
+                generator.writeEndObject();
+
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("services", services.length);
+                summary.put("endpoints", endpointCount);
+                summary.put("schemaReferences", schemas.getReferenceCount());
+                summary.put("uniqueSchemas", schemas.size());
+                summary.put("collisions", collisions.size());
+                return summary;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while merging specs", e);
+        } finally {
+            // 실패 시 큐가 가득 차 대기 중인 파서도 깨워서 종료
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 스펙 파일 하나를 읽어 엔드포인트를 큐로 보냅니다 (파서 스레드).
+     */
+    private ServiceSummary read(Path file, String serviceId, SchemaRegistry schemas, Map<String, Set<String>> routes,
+                                BlockingQueue<Object> queue) throws IOException, InterruptedException {
+        String fileName = file.getFileName().toString();
+        ServiceSummary service = new ServiceSummary(file, serviceId);
+
+        if (fileName.endsWith(".sasa")) {
+            try (BinarySpecReader reader = BinarySpecReader.open(file)) {
+                service.metadata(reader.getMetadata());
+                for (int i = 0; i < reader.getEndpointCount(); i++) {
+                    queue.put(service.endpoint(reader.getEndpoint(i), schemas, routes));
+                }
+            }
+            return service;
+        }
+
+        try (InputStream in = openInput(file, fileName.endsWith(".gz"));
+             JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Spec must be a JSON object: " + file);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("endpoints".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        queue.put(service.endpoint(parser.readValueAs(MAP_TYPE), schemas, routes));
+                    }
+                } else if ("exceptionHandlers".equals(field) && token == JsonToken.START_ARRAY) {
+                    for (Map<String, Object> handler : parser.<List<Map<String, Object>>>readValueAs(LIST_TYPE)) {
+                        service.exceptionHandler(handler);
+                    }
+                } else if (token.isScalarValue()) {
+                    service.metadata(Map.of(field, parser.getText()));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return service;
+    }
+
+    private static List<Map<String, Object>> collisions(Map<String, Set<String>> routes) {
+        List<Map<String, Object>> collisions = new ArrayList<>();
+        new TreeMap<>(routes).forEach((route, services) -> {
+            if (services.size() > 1) {
+                int separator = route.indexOf(' ');
+                Map<String, Object> collision = new LinkedHashMap<>();
+                collision.put("method", route.substring(0, separator));
+                collision.put("path", route.substring(separator + 1));
+                collision.put("services", new TreeSet<>(services));
+                collisions.add(collision);
+            }
+        });
+        return collisions;
+    }
+
+    /**
+     * 입력별 고유 서비스 ID. 파일 이름(확장자 제외)을 쓰고, 겹치면 상위 디렉토리 이름을 앞에 붙이며
+     * 그래도 겹치면 입력 순번을 붙입니다 (예: {@code orders/api-spec}, {@code users/api-spec}).
+     */
+    static String[] serviceIds(List<Path> files) {
+        String[] ids = new String[files.size()];
+        Set<String> assigned = new HashSet<>();
+        for (int depth = 0; depth <= MAX_ID_DIRECTORIES; depth++) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == null) {
+                    counts.merge(serviceId(files.get(i), depth), 1, Integer::sum);
+                }
+            }
+            for (int i = 0; i < ids.length; i++) {
+                String id = serviceId(files.get(i), depth);
+                if (ids[i] == null && counts.get(id) == 1 && !assigned.contains(id)) {
+                    ids[i] = id;
+                    assigned.add(id);
+                }
+            }
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == null) {
+                ids[i] = serviceId(files.get(i), 0) + "#" + (i + 1);
+            }
+        }
+        return ids;
+    }
+
+    private static String serviceId(Path file, int directories) {
+        Path absolute = file.toAbsolutePath().normalize();
+        StringBuilder id = new StringBuilder(absolute.getFileName().toString().replaceFirst("(\\.json)?(\\.gz)?$|\\.sasa$", ""));
+        Path parent = absolute.getParent();
+        for (int i = 0; i < directories && parent != null && parent.getFileName() != null; i++) {
+            id.insert(0, parent.getFileName() + "/");
+            parent = parent.getParent();
+        }
+        return id.toString();
+    }
+
+    private static List<Path> expand(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (!Files.isDirectory(input)) {
+                files.add(input);
+                continue;
+            }
+            try (Stream<Path> children = Files.list(input)) {
+                children.filter(SpecMerger::isSpecFile).sorted().forEach(files::add);
+            }
+        }
+        return files;
+    }
+
+    private static boolean isSpecFile(Path path) {
+        String name = path.getFileName().toString();
+        return Files.isRegularFile(path) && (name.endsWith(".json") || name.endsWith(".json.gz") || name.endsWith(".sasa"));
+    }
+
+    private static InputStream openInput(Path path, boolean gzip) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024);
+        return gzip ? new GZIPInputStream(in, 64 * 1024) : in;
+    }
+
+    private static OutputStream open(Path path, boolean gzip) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024);
+        return gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sasa-merge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 명령행 실행: {@code <catalog-file> <spec-file-or-directory>...}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SpecMerger <catalog-file> <spec-file-or-directory>...");
+            System.exit(1);
+        }
+
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.add(Path.of(args[i]));
+        }
+        Map<String, Object> summary = builder().build().merge(inputs, Path.of(args[0]));
+        System.out.println("Merged " + summary + " into " + Path.of(args[0]).toAbsolutePath());
+    }
+
+    /**
+     * 한 입력 파일의 메타데이터와 예외 핸들러, 엔드포인트 변환 (해당 파서 스레드에서만 변경됨)
+     */
+    private static final class ServiceSummary {
+        private final Path source;
+        private final Map<String, Object> metadata = new LinkedHashMap<>();
+        private final List<Map<String, Object>> exceptionHandlers = new ArrayList<>();
+        private final String name;
+        private long endpointCount;
+
+        ServiceSummary(Path source, String id) {
+            this.source = source;
+            this.name = id;
+        }
+
+        void metadata(Map<String, Object> values) {
+            metadata.putAll(values);
+        }
+
+        void exceptionHandler(Map<String, Object> handler) {
+            Map<String, Object> tagged = new LinkedHashMap<>(handler);
+            tagged.put("service", name);
+            exceptionHandlers.add(tagged);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> endpoint(Map<String, Object> endpoint, SchemaRegistry schemas, Map<String, Set<String>> routes) {
+            endpointCount++;
+
+            Map<String, Object> merged = new LinkedHashMap<>();
+            merged.put("service", name);
+            merged.putAll(endpoint);
+
+            if (endpoint.get("response") instanceof Map<?, ?> response) {
+                Map<String, Object> copy = (Map<String, Object>) response;
+                Object typeName = copy.getOrDefault("elementFullType", copy.getOrDefault("genericFullType", copy.get("fullType")));
+                merged.put("response", withSchemaRef(copy, typeName, schemas));
+            }
+            if (endpoint.get("parameters") instanceof List<?> parameters) {
+                List<Object> copies = new ArrayList<>(parameters.size());
+                for (Object parameter : parameters) {
+                    Map<String, Object> copy = (Map<String, Object>) parameter;
+                    copies.add(withSchemaRef(copy, copy.get("fullType"), schemas));
+                }
+                merged.put("parameters", copies);
+            }
+
+            for (String path : strings(endpoint.get("paths"))) {
+                String normalized = path.replaceAll("\\{[^}]*}", "{}");
+                List<String> methods = strings(endpoint.get("methods"));
+                for (String method : methods.isEmpty() ? List.of("*") : methods) {
+                    routes.computeIfAbsent(method + " " + normalized, key -> ConcurrentHashMap.newKeySet()).add(name);
+                }
+            }
+            return merged;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> withSchemaRef(Map<String, Object> holder, Object typeName, SchemaRegistry schemas) {
+            if (!(holder.get("schema") instanceof Map<?, ?> schema) || schema.isEmpty()) {
+                return holder;
+            }
+            Map<String, Object> copy = new LinkedHashMap<>(holder);
+            copy.remove("schema");
+            copy.put("schemaRef", schemas.register((Map<String, Object>) schema,
+                    typeName instanceof String type ? type : null, name));
+            return copy;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("service", name);
+            map.put("source", source.toString());
+            map.putAll(metadata);
+            map.put("endpoints", endpointCount);
+            map.put("exceptionHandlers", exceptionHandlers.size());
+            return map;
+        }
+
+        private static List<String> strings(Object values) {
+            List<String> strings = new ArrayList<>();
+            if (values instanceof Collection<?> collection) {
+                for (Object value : collection) {
+                    strings.add(String.valueOf(value));
+                }
+            }
+            return strings;
+        }
+    }
+
+    private static final class Failure {
+        private final Path path;
+        private final Exception cause;
+
+        Failure(Path path, Exception cause) {
+            this.path = path;
+            this.cause = cause;
+        }
+    }
+
+    public static class Builder {
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 1024;
+
+        /**
+         * 동시에 읽을 입력 파일 수 (기본값: CPU 수)
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * 입력별 파서와 작성기 사이 대기 엔드포인트 수 상한 (기본값: 1024)
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public SpecMerger build() {
+            return new SpecMerger(this);
+        }
+    }
+}
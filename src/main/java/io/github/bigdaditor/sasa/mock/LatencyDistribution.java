@@ -0,0 +1,117 @@
+package io.github.bigdaditor.sasa.mock;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 목 응답에 추가할 인위적 지연 시간 분포.
+ *
+ * <pre>{@code
+ * LatencyDistribution.fixed(Duration.ofMillis(20));
+ * LatencyDistribution.uniform(Duration.ofMillis(5), Duration.ofMillis(50));
+ * LatencyDistribution.normal(Duration.ofMillis(30), Duration.ofMillis(10));
+ * LatencyDistribution.parse("normal:30ms,10ms");
+ * }</pre>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @return 다음 응답의 지연 시간 (나노초, 0 이하면 즉시 응답)
+     */
+    long nextDelayNanos();
+
+    /**
+     * @return 지연 없음
+     */
+    static LatencyDistribution none() {
+        return () -> 0;
+    }
+
+    /**
+     * @return 항상 같은 지연
+     */
+    static LatencyDistribution fixed(Duration delay) {
+        long nanos = delay.toNanos();
+        return () -> nanos;
+    }
+
+    /**
+     * @return {@code [min, max]} 구간의 균등 분포
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long low = min.toNanos();
+        long high = max.toNanos();
+        if (high < low) {
+            throw new IllegalArgumentException("Max latency must not be less than min: " + min + " > " + max);
+        }
+        return () -> low == high ? low : ThreadLocalRandom.current().nextLong(low, high + 1);
+    }
+
+    /**
+     * @return 정규 분포 (음수는 0으로 절삭)
+     */
+    static LatencyDistribution normal(Duration mean, Duration standardDeviation) {
+        long meanNanos = mean.toNanos();
+        long deviationNanos = standardDeviation.toNanos();
+        return () -> Math.max(0, meanNanos + (long) (ThreadLocalRandom.current().nextGaussian() * deviationNanos));
+    }
+
+    /**
+     * 명령행 형식의 분포를 해석합니다.
+     *
+     * <p>{@code none}, {@code fixed:20ms}, {@code uniform:5ms-50ms}, {@code normal:30ms,10ms}.
+     * 단위는 {@code ms}, {@code s}, {@code us}이며 생략하면 밀리초입니다.</p>
+     *
+     * @param text 분포 표현
+     * @return 지연 시간 분포
+     */
+    static LatencyDistribution parse(String text) {
+        String value = text.trim().toLowerCase();
+        if (value.isEmpty() || value.equals("none")) {
+            return none();
+        }
+        int colon = value.indexOf(':');
+        if (colon < 0) {
+            return fixed(parseDuration(value));
+        }
+        String kind = value.substring(0, colon);
+        String arguments = value.substring(colon + 1);
+        return switch (kind) {
+            case "fixed" -> fixed(parseDuration(arguments));
+            case "uniform" -> {
+                String[] range = arguments.split("-", 2);
+                if (range.length != 2) {
+                    throw new IllegalArgumentException("Uniform latency must be 'uniform:<min>-<max>': " + text);
+                }
+                yield uniform(parseDuration(range[0]), parseDuration(range[1]));
+            }
+            case "normal" -> {
+                String[] parameters = arguments.split(",", 2);
+                if (parameters.length != 2) {
+                    throw new IllegalArgumentException("Normal latency must be 'normal:<mean>,<stddev>': " + text);
+                }
+                yield normal(parseDuration(parameters[0]), parseDuration(parameters[1]));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + text);
+        };
+    }
+
+    private static Duration parseDuration(String text) {
+        String value = text.trim();
+        try {
+            if (value.endsWith("ms")) {
+                return Duration.ofNanos((long) (Double.parseDouble(value.substring(0, value.length() - 2)) * 1_000_000));
+            }
+            if (value.endsWith("us")) {
+                return Duration.ofNanos((long) (Double.parseDouble(value.substring(0, value.length() - 2)) * 1_000));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofNanos((long) (Double.parseDouble(value.substring(0, value.length() - 1)) * 1_000_000_000));
+            }
+            return Duration.ofNanos((long) (Double.parseDouble(value) * 1_000_000));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration: " + text, e);
+        }
+    }
+}
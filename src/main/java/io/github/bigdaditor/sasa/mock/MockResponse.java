@@ -0,0 +1,226 @@
+package io.github.bigdaditor.sasa.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 미리 직렬화된 목 응답 (불변).
+ *
+ * <p>엔드포인트 스펙의 {@code response}에서 예시 본문을 한 번만 만들어 바이트로 보관하므로,
+ * 요청마다 직렬화하지 않고 같은 바이트 배열을 그대로 씁니다.</p>
+ *
+ * <p>본문 모양은 {@code genericSignature}(없으면 {@code type})를 따라 만듭니다. {@code ResponseEntity}/{@code Optional}
+ * 같은 래퍼는 벗기고, 컬렉션/배열은 요소 예시 하나를 담은 배열, {@code Map}은 {@code "key"} 하나를 가진 객체가 되며,
+ * DTO 자리에는 {@code DefaultTypeSchemaExtractor}가 만든 {@code schema.example}이 들어갑니다.</p>
+ */
+public final class MockResponse {
+
+    private static final Set<String> WRAPPERS = Set.of("ResponseEntity", "HttpEntity", "Optional", "CompletableFuture",
+            "CompletionStage", "DeferredResult", "Callable", "WebAsyncTask", "Mono");
+    private static final Set<String> COLLECTIONS = Set.of("List", "Set", "Collection", "Iterable", "ArrayList", "LinkedList",
+            "HashSet", "LinkedHashSet", "TreeSet", "Flux", "Stream");
+    private static final Set<String> MAPS = Set.of("Map", "HashMap", "LinkedHashMap", "TreeMap", "ConcurrentHashMap");
+    private static final String JSON = "application/json";
+    private static final String TEXT = "text/plain;charset=UTF-8";
+
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+
+    public MockResponse(int status, String contentType, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body != null ? body : new byte[0];
+    }
+
+    /**
+     * 엔드포인트 스펙에서 예시 응답을 만듭니다.
+     *
+     * @param endpoint     엔드포인트 맵
+     * @param objectMapper 예시 직렬화용
+     * @return 목 응답
+     */
+    @SuppressWarnings("unchecked")
+    public static MockResponse fromEndpoint(Map<String, Object> endpoint, ObjectMapper objectMapper) {
+        Map<String, Object> response = (Map<String, Object>) endpoint.get("response");
+        if (response == null) {
+            return new MockResponse(200, JSON, new byte[0]);
+        }
+
+        Object signature = response.getOrDefault("genericSignature", response.get("type"));
+        Map<String, Object> schema = (Map<String, Object>) response.get("schema");
+        Object schemaExample = schema != null ? schema.get("example") : null;
+        boolean schemaIsElement = response.containsKey("elementType");
+
+        Object example = signature instanceof String text
+                ? exampleFor(TypeNode.parse(text), schemaExample, schemaIsElement)
+                : schemaExample;
+        if (example == NoBody.INSTANCE) {
+            return new MockResponse(200, JSON, new byte[0]);
+        }
+
+        String contentType = declaredContentType(endpoint.get("produces"));
+        if (example instanceof String text && (contentType == null || !contentType.contains("json"))) {
+            return new MockResponse(200, contentType != null ? contentType : TEXT, text.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            return new MockResponse(200, contentType != null ? contentType : JSON, objectMapper.writeValueAsBytes(example));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize mock response for " + endpoint.get("paths"), e);
+        }
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * @return 응답 본문 (공유 배열이므로 수정하지 않아야 함)
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    private static Object exampleFor(TypeNode node, Object schemaExample, boolean schemaIsElement) {
+        if (node.component != null) {
+            return List.of(exampleFor(node.component, schemaExample, schemaIsElement));
+        }
+        String name = node.name;
+        if (name.equals("void") || name.equals("Void")) {
+            return NoBody.INSTANCE;
+        }
+        if (WRAPPERS.contains(name)) {
+            return node.arguments.isEmpty() ? Map.of() : exampleFor(node.arguments.get(0), schemaExample, schemaIsElement);
+        }
+        if (COLLECTIONS.contains(name)) {
+            return node.arguments.isEmpty()
+                    ? List.of()
+                    : List.of(exampleFor(node.arguments.get(0), schemaExample, schemaIsElement));
+        }
+        if (MAPS.contains(name)) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            if (!node.arguments.isEmpty()) {
+                map.put("key", exampleFor(node.arguments.get(node.arguments.size() - 1), schemaExample, schemaIsElement));
+            }
+            return map;
+        }
+        Object scalar = scalarExample(name);
+        if (scalar != null) {
+            return scalar;
+        }
+        // 스키마가 요소 타입 것이면 이 제네릭 타입은 프레임워크 컨테이너(Page 등)이므로 내용물로 대체
+        if (schemaIsElement && !node.arguments.isEmpty()) {
+            return exampleFor(node.arguments.get(0), schemaExample, schemaIsElement);
+        }
+        return schemaExample != null ? schemaExample : Map.of();
+    }
+
+    /**
+     * {@code DefaultTypeSchemaExtractor}의 필드 예시 값과 같은 규칙
+     */
+    private static Object scalarExample(String type) {
+        return switch (type) {
+            case "String", "CharSequence" -> "string";
+            case "Integer", "int", "Short", "short", "Byte", "byte" -> 0;
+            case "Long", "long", "BigInteger" -> 0L;
+            case "Double", "double", "Float", "float", "BigDecimal" -> 0.0;
+            case "Boolean", "boolean" -> false;
+            case "LocalDateTime" -> "2024-01-01T00:00:00";
+            case "LocalDate" -> "2024-01-01";
+            case "LocalTime" -> "00:00:00";
+            case "Date", "Instant", "OffsetDateTime", "ZonedDateTime" -> "2024-01-01T00:00:00Z";
+            case "UUID" -> "00000000-0000-0000-0000-000000000000";
+            default -> null;
+        };
+    }
+
+    private static String declaredContentType(Object produces) {
+        if (produces instanceof Collection<?> types) {
+            for (Object type : types) {
+                if (type instanceof String text && !text.contains("*")) {
+                    return text;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 본문 없는 응답 표식 (void 반환)
+     */
+    private enum NoBody {
+        INSTANCE
+    }
+
+    /**
+     * {@code ResolvedType.getSignature()} 형식(예: {@code ResponseEntity<List<OrderDTO>>}, {@code Map<String, Foo>},
+     * {@code OrderDTO[]})의 파싱 결과
+     */
+    private static final class TypeNode {
+        private final String name;
+        private final List<TypeNode> arguments;
+        /** 배열이면 요소 타입, 아니면 {@code null} */
+        private final TypeNode component;
+
+        private TypeNode(String name, List<TypeNode> arguments, TypeNode component) {
+            this.name = name;
+            this.arguments = arguments;
+            this.component = component;
+        }
+
+        static TypeNode parse(String signature) {
+            return parse(signature, new int[]{0});
+        }
+
+        private static TypeNode parse(String signature, int[] position) {
+            String name = readName(signature, position);
+            List<TypeNode> arguments = new ArrayList<>();
+            if (position[0] < signature.length() && signature.charAt(position[0]) == '<') {
+                position[0]++;
+                while (position[0] < signature.length()) {
+                    arguments.add(parse(signature, position));
+                    char delimiter = signature.charAt(Math.min(position[0], signature.length() - 1));
+                    position[0]++;
+                    if (delimiter == '>') {
+                        break;
+                    }
+                }
+                // 제네릭 배열 (예: List<String>[])
+                name = name + readName(signature, position);
+            }
+
+            int dimensions = 0;
+            while (name.endsWith("[]")) {
+                name = name.substring(0, name.length() - 2);
+                dimensions++;
+            }
+            TypeNode node = new TypeNode(name, arguments, null);
+            for (int i = 0; i < dimensions; i++) {
+                node = new TypeNode(node.name + "[]", List.of(), node);
+            }
+            return node;
+        }
+
+        private static String readName(String signature, int[] position) {
+            int start = position[0];
+            while (position[0] < signature.length() && "<>,".indexOf(signature.charAt(position[0])) < 0) {
+                position[0]++;
+            }
+            String name = signature.substring(start, position[0]).trim();
+            // 정규화된 이름(java.util.List)도 단순 이름으로 비교
+            return name.substring(name.lastIndexOf('.') + 1);
+        }
+    }
+}
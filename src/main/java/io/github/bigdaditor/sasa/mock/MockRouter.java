@@ -0,0 +1,117 @@
+package io.github.bigdaditor.sasa.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스펙의 엔드포인트를 HTTP 메서드/경로로 찾는 라우터 (생성 후 불변).
+ *
+ * <p>변수가 없는 경로는 메서드별 해시 맵에서 바로 찾고, 패턴 경로는 {@link PathPattern}으로 구체적인 패턴부터 비교합니다.
+ * 메서드가 선언되지 않은 엔드포인트는 모든 메서드에 응답합니다.</p>
+ */
+class MockRouter {
+
+    private static final String ANY_METHOD = "*";
+
+    private final Map<String, Map<String, MockResponse>> exactRoutes = new HashMap<>();
+    private final Map<String, List<Route>> patternRoutes = new HashMap<>();
+    private int routeCount;
+
+    @SuppressWarnings("unchecked")
+    MockRouter(Map<String, Object> spec, ObjectMapper objectMapper) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) spec.getOrDefault("endpoints", List.of())) {
+            MockResponse response = MockResponse.fromEndpoint(endpoint, objectMapper);
+            List<String> methods = strings(endpoint.get("methods"));
+            if (methods.isEmpty()) {
+                methods = List.of(ANY_METHOD);
+            }
+            for (String path : strings(endpoint.get("paths"))) {
+                PathPattern pattern = parser.parse(path);
+                for (String method : methods) {
+                    if (pattern.hasPatternSyntax()) {
+                        patternRoutes.computeIfAbsent(method, key -> new ArrayList<>()).add(new Route(pattern, response));
+                    } else {
+                        exactRoutes.computeIfAbsent(method, key -> new HashMap<>()).putIfAbsent(path, response);
+                    }
+                    routeCount++;
+                }
+            }
+        }
+        patternRoutes.values().forEach(routes ->
+                routes.sort((left, right) -> PathPattern.SPECIFICITY_COMPARATOR.compare(left.pattern, right.pattern)));
+    }
+
+    /**
+     * @param method HTTP 메서드
+     * @param path   요청 경로 (인코딩된 원본)
+     * @return 목 응답, 일치하는 엔드포인트가 없으면 {@code null}
+     */
+    MockResponse match(String method, String path) {
+        MockResponse response = exact(method, path);
+        if (response == null) {
+            response = exact(ANY_METHOD, path);
+        }
+        if (response != null) {
+            return response;
+        }
+
+        List<Route> routes = patternRoutes.get(method);
+        List<Route> anyRoutes = patternRoutes.get(ANY_METHOD);
+        if (routes == null && anyRoutes == null) {
+            return null;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        response = matchPattern(routes, container);
+        return response != null ? response : matchPattern(anyRoutes, container);
+    }
+
+    int getRouteCount() {
+        return routeCount;
+    }
+
+    private MockResponse exact(String method, String path) {
+        Map<String, MockResponse> routes = exactRoutes.get(method);
+        return routes != null ? routes.get(path) : null;
+    }
+
+    private static MockResponse matchPattern(List<Route> routes, PathContainer path) {
+        if (routes == null) {
+            return null;
+        }
+        for (Route route : routes) {
+            if (route.pattern.matches(path)) {
+                return route.response;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> strings(Object values) {
+        List<String> strings = new ArrayList<>();
+        if (values instanceof Collection<?> collection) {
+            for (Object value : collection) {
+                strings.add(String.valueOf(value));
+            }
+        }
+        return strings;
+    }
+
+    private static final class Route {
+        private final PathPattern pattern;
+        private final MockResponse response;
+
+        Route(PathPattern pattern, MockResponse response) {
+            this.pattern = pattern;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package io.github.bigdaditor.sasa.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.bigdaditor.sasa.format.SpecFiles;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SASA 스펙으로 모든 엔드포인트에 응답하는 목 서버.
+ *
+ * <p>JDK 내장 HTTP 서버({@code com.sun.net.httpserver})를 사용하며, 응답 본문은 시작 시 스펙의 예시로부터 한 번만
+ * 직렬화됩니다({@link MockResponse}). 요청 처리는 경로 조회와 미리 만든 바이트 쓰기뿐입니다.
+ * 인위적 지연({@link LatencyDistribution})은 스레드를 재우지 않고 스케줄러로 응답 시점을 미루므로,
+ * 지연이 커도 작업 스레드 수가 처리량을 제한하지 않습니다.</p>
+ *
+ * <pre>{@code
+ * try (SasaMockServer server = SasaMockServer.builder(Path.of("build/api-spec.json"))
+ *         .port(8089)
+ *         .latency(LatencyDistribution.normal(Duration.ofMillis(30), Duration.ofMillis(10)))
+ *         .build()
+ *         .start()) {
+ *     // http://127.0.0.1:8089/api/users/1
+ * }
+ * }</pre>
+ *
+ * <p>명령행: {@code java -cp sasa.jar io.github.bigdaditor.sasa.mock.SasaMockServer api-spec.json --port 8089 --latency normal:30ms,10ms}</p>
+ */
+public class SasaMockServer implements Closeable {
+
+    private static final ObjectMapper ERROR_MAPPER = new ObjectMapper();
+
+    private final MockRouter router;
+    private final LatencyDistribution latency;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService scheduler;
+
+    private SasaMockServer(Builder builder) throws IOException {
+        this.router = new MockRouter(builder.spec, new ObjectMapper());
+        this.latency = builder.latency;
+        this.workers = builder.executor != null
+                ? builder.executor
+                : Executors.newFixedThreadPool(builder.threads, daemonThreads("sasa-mock-worker"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("sasa-mock-latency"));
+        this.server = HttpServer.create(new InetSocketAddress(builder.host, builder.port), builder.backlog);
+        this.server.setExecutor(workers);
+        this.server.createContext("/", this::handle);
+    }
+
+    public static Builder builder(Map<String, Object> spec) {
+        return new Builder(spec);
+    }
+
+    /**
+     * @param specFile 스펙 파일 ({@link SpecFiles}가 읽을 수 있는 형식)
+     */
+    public static Builder builder(Path specFile) throws IOException {
+        return new Builder(SpecFiles.read(specFile));
+    }
+
+    /**
+     * 서버를 시작합니다.
+     *
+     * @return this
+     */
+    public SasaMockServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return 실제 바인딩된 주소
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * @return 실제 바인딩된 포트 (포트 0으로 시작한 경우 확인용)
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return (메서드, 경로) 라우트 수
+     */
+    public int getRouteCount() {
+        return router.getRouteCount();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) {
+        // 본문을 다 읽지 않고 응답하면 서버가 keep-alive 연결을 닫을 수 있어, 재시도되지 않는 POST가 다음 요청에서 실패함
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            exchange.close();
+            return;
+        }
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getRawPath();
+        MockResponse response = router.match(method, path);
+        if (response == null) {
+            send(exchange, notFound(method, path));
+            return;
+        }
+
+        long delay = latency.nextDelayNanos();
+        if (delay <= 0) {
+            send(exchange, response);
+        } else {
+            // 지연 동안 작업 스레드를 점유하지 않도록 응답만 나중에 보냄
+            scheduler.schedule(() -> workers.execute(() -> send(exchange, response)), delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void send(HttpExchange exchange, MockResponse response) {
+        try {
+            byte[] body = response.getBody();
+            exchange.getResponseHeaders().set("Content-Type", response.getContentType());
+            exchange.sendResponseHeaders(response.getStatus(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등은 무시
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 라우트가 없는 요청의 404 응답 (경로에 따옴표 등이 있어도 올바른 JSON이 되도록 Jackson으로 직렬화)
+     */
+    static MockResponse notFound(String method, String path) {
+        try {
+            byte[] body = ERROR_MAPPER.writeValueAsBytes(Map.of("error", "No mock endpoint for " + method + " " + path));
+            return new MockResponse(404, "application/json", body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize not-found response", e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 명령행 실행: {@code <spec-file> [--host 127.0.0.1] [--port 8089] [--threads N] [--latency normal:30ms,10ms]}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SasaMockServer <spec-file> [--host HOST] [--port PORT] [--threads N] [--latency DIST]");
+            System.exit(1);
+        }
+
+        Builder builder = builder(Path.of(args[0]));
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--host" -> builder.host(args[i + 1]);
+                case "--port" -> builder.port(Integer.parseInt(args[i + 1]));
+                case "--threads" -> builder.threads(Integer.parseInt(args[i + 1]));
+                case "--latency" -> builder.latency(LatencyDistribution.parse(args[i + 1]));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        SasaMockServer server = builder.build().start();
+        System.out.println("SASA mock server listening on port " + server.getPort() + " (" + server.getRouteCount() + " routes)");
+    }
+
+    public static class Builder {
+        private final Map<String, Object> spec;
+        private String host = "127.0.0.1";
+        private int port = 8089;
+        private int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        private int backlog = 1024;
+        private ExecutorService executor;
+        private LatencyDistribution latency = LatencyDistribution.none();
+
+        private Builder(Map<String, Object> spec) {
+            if (spec == null) {
+                throw new IllegalArgumentException("Spec must not be null");
+            }
+            this.spec = spec;
+        }
+
+        /**
+         * 바인딩 주소 (기본값: 127.0.0.1, 로컬에서만 접속 가능). 다른 기기에서 접속하려면 {@code 0.0.0.0} 등을 지정
+         */
+        public Builder host(String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * 포트 (기본값: 8089, 0이면 임의 포트)
+         */
+        public Builder port(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port must be between 0 and 65535: " + port);
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * 작업 스레드 수 (기본값: CPU 수 x 2, 최소 4)
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Threads must be positive: " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * 연결 대기열 크기 (기본값: 1024)
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * 요청 처리 executor (지정하면 {@code threads}는 무시, 서버 종료 시 함께 종료됨).
+         * Java 21 이상에서는 {@code Executors.newVirtualThreadPerTaskExecutor()}를 넘길 수 있습니다.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 인위적 지연 시간 분포 (기본값: 없음)
+         */
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency != null ? latency : LatencyDistribution.none();
+            return this;
+        }
+
+        public SasaMockServer build() throws IOException {
+            return new SasaMockServer(this);
+        }
+    }
+}
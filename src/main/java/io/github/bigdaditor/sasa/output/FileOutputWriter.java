@@ -1,32 +1,143 @@
 package io.github.bigdaditor.sasa.output;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 파일 출력 작성기
+ *
+ * <p>gzip 출력이 활성화되면 원본 파일과 {@code .gz} 압축본을 한 번의 스트리밍으로 함께 기록합니다.
+ * 압축본은 원본을 다시 읽지 않고 같은 바이트 스트림에서 바로 생성됩니다.</p>
  */
 public class FileOutputWriter implements OutputWriter {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final boolean gzipCompanion;
+    private final int compressionLevel;
+
+    public FileOutputWriter() {
+        this(false, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param gzipCompanion    {@code .gz} 압축본 동시 생성 여부
+     * @param compressionLevel gzip 압축 레벨 ({@link Deflater} 레벨)
+     */
+    public FileOutputWriter(boolean gzipCompanion, int compressionLevel) {
+        this.gzipCompanion = gzipCompanion;
+        this.compressionLevel = compressionLevel;
+    }
+
     @Override
     public void write(String content, String filePath) {
+        writeStream(filePath, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(content);
+            writer.flush();
+        });
+    }
+
+    @Override
+    public void writeBytes(byte[] content, String filePath) {
+        writeStream(filePath, out -> out.write(content));
+    }
+
+    @Override
+    public void writeStream(String filePath, StreamBody body) {
         try {
             Path path = Paths.get(filePath);
             ensureDirectoryExists(path);
-            Files.write(path, content.getBytes(StandardCharsets.UTF_8));
-            System.out.println("Saved to: " + path.toAbsolutePath());
+
+            try (OutputStream out = openStream(path)) {
+                body.writeTo(out);
+            }
+            System.out.println("Saved to: " + path.toAbsolutePath() + (gzipCompanion ? " (+ .gz)" : ""));
         } catch (IOException e) {
             throw new RuntimeException("Failed to write to file: " + filePath, e);
         }
     }
 
+    private OutputStream openStream(Path path) throws IOException {
+        OutputStream plain = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+        if (!gzipCompanion) {
+            return plain;
+        }
+
+        Path gzipPath = Paths.get(path + ".gz");
+        try {
+            return new TeeOutputStream(plain, new LeveledGzipOutputStream(Files.newOutputStream(gzipPath), compressionLevel));
+        } catch (IOException e) {
+            plain.close();
+            throw e;
+        }
+    }
+
     private void ensureDirectoryExists(Path path) throws IOException {
         Path parent = path.getParent();
         if (parent != null && !Files.exists(parent)) {
             Files.createDirectories(parent);
         }
     }
+
+    /**
+     * 압축 레벨을 지정할 수 있는 GZIPOutputStream
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * 두 스트림에 동일한 바이트를 기록하는 스트림
+     */
+    private static class TeeOutputStream extends OutputStream {
+
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                first.close();
+            } finally {
+                second.close();
+            }
+        }
+    }
 }
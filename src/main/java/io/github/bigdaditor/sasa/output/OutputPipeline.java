@@ -0,0 +1,82 @@
+package io.github.bigdaditor.sasa.output;
+
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 하나의 API 스펙에 대해 여러 {@link OutputGenerator}를 독립 작업으로 병렬 실행하는 출력 파이프라인.
+ *
+ * <p>모든 생성기는 동일한 읽기 전용 스펙을 공유하며, 생성기별 렌더링 결과는 한 번만 계산되어
+ * 같은 생성기를 사용하는 모든 소비자(콘솔 출력, 파일 저장 등)가 재사용합니다.</p>
+ *
+ * <pre>{@code
+ * OutputPipeline pipeline = new OutputPipeline(spec, writer, executor);
+ * CompletableFuture<Void> json = pipeline.write(jsonGenerator, "build/api-spec.json");
+ * CompletableFuture<Void> html = pipeline.write(htmlGenerator, "build/api-spec.html");
+ * OutputPipeline.await(List.of(json, html));
+ * }</pre>
+ */
+public class OutputPipeline {
+
+    private final Map<String, Object> apiSpec;
+    private final OutputWriter outputWriter;
+    private final Executor executor;
+    private final Map<OutputGenerator, CompletableFuture<String>> renderings = new ConcurrentHashMap<>();
+
+    public OutputPipeline(Map<String, Object> apiSpec, OutputWriter outputWriter, Executor executor) {
+        this.apiSpec = Collections.unmodifiableMap(apiSpec);
+        this.outputWriter = outputWriter;
+        this.executor = executor;
+    }
+
+    /**
+     * 생성기로 스펙을 렌더링 (생성기당 한 번만 실행)
+     *
+     * @param generator 출력 생성기
+     * @return 렌더링 결과 future
+     */
+    public CompletableFuture<String> render(OutputGenerator generator) {
+        return renderings.computeIfAbsent(generator,
+                g -> CompletableFuture.supplyAsync(() -> g.generate(apiSpec), executor));
+    }
+
+    /**
+     * 생성기로 렌더링한 결과를 파일로 저장
+     *
+     * <p>스트리밍 생성기({@link OutputGenerator#isStreaming()})는 문자열을 거치지 않고 파일 스트림에 직접 기록합니다.</p>
+     *
+     * @param generator 출력 생성기
+     * @param filePath  저장 경로
+     * @return 저장 완료 future
+     */
+    public CompletableFuture<Void> write(OutputGenerator generator, String filePath) {
+        if (generator.isStreaming()) {
+            return outputWriter.writeStreamAsync(filePath, out -> generator.generate(apiSpec, out), executor);
+        }
+        return render(generator).thenCompose(content -> outputWriter.writeAsync(content, filePath, executor));
+    }
+
+    /**
+     * 모든 작업이 끝날 때까지 대기하고, 실패한 작업이 있으면 원인 예외를 다시 던짐
+     *
+     * @param tasks 대기할 작업 목록
+     */
+    public static void await(List<? extends CompletableFuture<?>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to write API spec output", cause);
+        }
+    }
+}
@@ -1,5 +1,15 @@
 package io.github.bigdaditor.sasa.output;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * 출력 작성 인터페이스
  */
@@ -12,4 +22,92 @@ public interface OutputWriter {
      * @param filePath 파일 경로
      */
     void write(String content, String filePath);
+
+    /**
+     * 바이트 콘텐츠를 지정된 경로에 저장
+     *
+     * <p>기본 구현은 문자열만 다루는 작성기를 위한 것으로, UTF-8 텍스트(예: NDJSON)만 {@link #write(String, String)}에
+     * 넘기고 텍스트가 아닌 바이너리(예: {@code .sasa} 아카이브)는 다른 형태로 바꿔 저장하지 않고 거부합니다.
+     * 바이너리 출력을 저장하려면 이 메서드를 재정의합니다.</p>
+     *
+     * @param content  저장할 콘텐츠
+     * @param filePath 파일 경로
+     * @throws UnsupportedOperationException 콘텐츠가 UTF-8 텍스트가 아닌 경우
+     */
+    default void writeBytes(byte[] content, String filePath) {
+        String text;
+        try {
+            text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
+        } catch (CharacterCodingException e) {
+            throw new UnsupportedOperationException(getClass().getName()
+                    + " cannot store binary output (override writeBytes): " + filePath, e);
+        }
+        write(text, filePath);
+    }
+
+    /**
+     * 스트림으로 기록되는 콘텐츠를 지정된 경로에 저장 (바이너리/스트리밍 출력용)
+     *
+     * <p>기본 구현은 콘텐츠를 메모리에 모은 뒤 {@link #writeBytes(byte[], String)}로 저장합니다.
+     * 파일처럼 스트림을 직접 열 수 있는 작성기는 이 메서드를 재정의해 버퍼링을 피합니다.</p>
+     *
+     * @param filePath 파일 경로
+     * @param body     출력 스트림에 콘텐츠를 기록하는 콜백
+     */
+    default void writeStream(String filePath, StreamBody body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+        try {
+            body.writeTo(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render output for: " + filePath, e);
+        }
+        writeBytes(buffer.toByteArray(), filePath);
+    }
+
+    /**
+     * 콘텐츠를 비동기로 저장 (작업이 끝나면 종료되는 전용 데몬 스레드 사용, 블로킹 쓰기가 공용 ForkJoinPool을 점유하지 않음)
+     *
+     * @param content  저장할 콘텐츠
+     * @param filePath 파일 경로
+     * @return 저장 완료 시 완료되는 future
+     */
+    default CompletableFuture<Void> writeAsync(String content, String filePath) {
+        return writeAsync(content, filePath, runnable -> {
+            Thread thread = new Thread(runnable, "sasa-output-writer");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * 콘텐츠를 지정된 executor에서 비동기로 저장
+     *
+     * @param content  저장할 콘텐츠
+     * @param filePath 파일 경로
+     * @param executor 작성 작업을 실행할 executor
+     * @return 저장 완료 시 완료되는 future
+     */
+    default CompletableFuture<Void> writeAsync(String content, String filePath, Executor executor) {
+        return CompletableFuture.runAsync(() -> write(content, filePath), executor);
+    }
+
+    /**
+     * 스트림 콘텐츠를 지정된 executor에서 비동기로 저장
+     *
+     * @param filePath 파일 경로
+     * @param body     출력 스트림에 콘텐츠를 기록하는 콜백
+     * @param executor 작성 작업을 실행할 executor
+     * @return 저장 완료 시 완료되는 future
+     */
+    default CompletableFuture<Void> writeStreamAsync(String filePath, StreamBody body, Executor executor) {
+        return CompletableFuture.runAsync(() -> writeStream(filePath, body), executor);
+    }
+
+    /**
+     * 출력 스트림에 콘텐츠를 기록하는 콜백
+     */
+    @FunctionalInterface
+    interface StreamBody {
+        void writeTo(OutputStream out) throws IOException;
+    }
 }
@@ -0,0 +1,237 @@
+package io.github.bigdaditor.sasa.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.SasaApplication;
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.extractor.api.ExceptionHandlerExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultEndpointExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultExceptionHandlerExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.EndpointDetailCache;
+import io.github.bigdaditor.sasa.extractor.impl.ErrorResponseIndex;
+import io.github.bigdaditor.sasa.extractor.impl.ReactiveEndpointExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.StringPool;
+import io.github.bigdaditor.sasa.generator.HtmlGenerator;
+import io.github.bigdaditor.sasa.util.ClassScopedCache;
+import io.github.bigdaditor.sasa.util.ETags;
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux 애플리케이션을 위한 API 스펙 제공 컨트롤러 ({@link io.github.bigdaditor.sasa.SasaViewController}의 리액티브 대응)
+ *
+ * <p>스펙 추출은 리플렉션과 캐시 채우기로 블로킹되므로 항상 주어진 스케줄러(기본값 {@link Schedulers#boundedElastic()})에서
+ * 실행되고, 이벤트 루프 스레드는 완성된 스냅샷을 받아 쓰기만 합니다. 동시에 들어온 첫 요청들은 추출 하나를 공유하며,
+ * 추출이 실패하면 결과를 캐시하지 않고 다음 요청에서 다시 시도합니다.</p>
+ *
+ * <p>스냅샷은 직렬화된 JSON 바이트와 ETag로 보관되고, 요청마다 복사 없이 {@link DataBuffer}로 감싸 내보냅니다.
+ * {@code If-None-Match}가 일치하면 본문 없이 304를 반환합니다. 실행 정보({@code RuntimeSpecContributor})는
+ * Servlet 필터 기반이므로 병합하지 않습니다.</p>
+ */
+@RestController
+public class SasaReactiveViewController implements DisposableBean {
+
+    private static final ObjectMapper SNAPSHOT_MAPPER = new ObjectMapper();
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final ApplicationContext applicationContext;
+    private final SasaConfig config;
+    private final ReactiveEndpointExtractor endpointExtractor;
+    private final ExceptionHandlerExtractor exceptionHandlerExtractor;
+    private final Scheduler scheduler;
+    private final EndpointDetailCache detailCache;
+    private volatile Mono<Snapshot> snapshot;
+
+    @Autowired
+    public SasaReactiveViewController(RequestMappingHandlerMapping handlerMapping, ApplicationContext applicationContext) {
+        this(handlerMapping, applicationContext, SasaConfig.builder().build());
+    }
+
+    /**
+     * @param config 추출 설정 (필터, 문자열 중복 제거, 상세 정보 지연 계산 등; 출력 설정은 사용하지 않음)
+     */
+    public SasaReactiveViewController(RequestMappingHandlerMapping handlerMapping, ApplicationContext applicationContext,
+                                      SasaConfig config) {
+        this(handlerMapping, applicationContext, config,
+                new ReactiveEndpointExtractor(DefaultEndpointExtractor.of(config)), Schedulers.boundedElastic());
+    }
+
+    /**
+     * @param endpointExtractor 엔드포인트 추출기
+     * @param scheduler         추출과 HTML 렌더링을 실행할 스케줄러 (블로킹이 허용되는 스케줄러여야 함)
+     */
+    public SasaReactiveViewController(RequestMappingHandlerMapping handlerMapping, ApplicationContext applicationContext,
+                                      SasaConfig config, ReactiveEndpointExtractor endpointExtractor, Scheduler scheduler) {
+        this.handlerMapping = handlerMapping;
+        this.applicationContext = applicationContext;
+        this.config = config;
+        this.endpointExtractor = endpointExtractor;
+        this.exceptionHandlerExtractor = new DefaultExceptionHandlerExtractor();
+        this.scheduler = scheduler;
+        this.detailCache = config.isLazyEndpointDetails()
+                ? new EndpointDetailCache(() -> handlerMapping.getHandlerMethods().values(),
+                        endpointExtractor.getEndpointExtractor(), config)
+                : null;
+        this.snapshot = newSnapshot();
+    }
+
+    /**
+     * 현재 애플리케이션의 API 스펙을 JSON으로 반환 (exception handler 포함)
+     */
+    @GetMapping(value = "/sasa/api-spec", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<DataBuffer> getApiSpec(ServerWebExchange exchange) {
+        return snapshot.mapNotNull(current -> exchange.checkNotModified(current.eTag)
+                ? null
+                : exchange.getResponse().bufferFactory().wrap(current.body));
+    }
+
+    /**
+     * 캐시된 스펙을 반환 (없으면 스케줄러에서 생성)
+     *
+     * <p>새로고침 전까지 같은 인스턴스를 내보냅니다. 반환된 맵은 수정하지 않아야 합니다.</p>
+     */
+    public Mono<Map<String, Object>> getSpecSnapshot() {
+        return snapshot.map(current -> current.spec);
+    }
+
+    /**
+     * 엔드포인트 하나의 전체 정보를 반환
+     *
+     * <p>상세 정보 지연 계산 모드에서는 빠진 파라미터/응답 스키마를 스케줄러에서 계산해 크기 제한 캐시에 보관합니다.</p>
+     *
+     * @param key 엔드포인트 키 ({@code handler.fullControllerName + "#" + handler.signature})
+     */
+    @GetMapping("/sasa/api-spec/endpoint")
+    public Mono<Map<String, Object>> getEndpoint(@RequestParam("key") String key) {
+        return snapshot.publishOn(scheduler).map(current -> endpoint(current.spec, key));
+    }
+
+    /**
+     * API 스펙을 HTML 문서로 반환 (스케줄러에서 렌더링)
+     */
+    @GetMapping(value = "/sasa/api-spec/html", produces = MediaType.TEXT_HTML_VALUE)
+    public Mono<String> getApiSpecHtml() {
+        return snapshot.publishOn(scheduler).map(current -> HtmlGenerator.generateHtml(current.spec));
+    }
+
+    /**
+     * API 스펙 캐시를 강제로 새로고침
+     */
+    @GetMapping(value = "/sasa/api-spec/refresh", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<DataBuffer> refreshApiSpec(ServerWebExchange exchange) {
+        snapshot = newSnapshot();
+        if (detailCache != null) {
+            detailCache.clear();
+        }
+        return snapshot.map(current -> exchange.getResponse().bufferFactory().wrap(current.body));
+    }
+
+    /**
+     * 캐시된 스펙의 문자열 중복 제거 리포트 (상세 정보 지연 계산 모드에서는 상세 정보 캐시 통계 포함)
+     */
+    @GetMapping("/sasa/api-spec/memory")
+    public Mono<Map<String, Object>> getMemoryReport() {
+        return snapshot.map(current -> {
+            if (detailCache == null) {
+                return current.memoryReport;
+            }
+            Map<String, Object> report = new LinkedHashMap<>(current.memoryReport);
+            report.put("endpointDetailCache", detailCache.stats());
+            return report;
+        });
+    }
+
+    /**
+     * ApplicationContext 종료 시 (devtools 재시작, 리디플로이) 스펙과 클래스 메타데이터 캐시를 비움.
+     * 종료 콜백은 생성된 빈에만 호출되므로, 한 번도 요청되지 않은 지연 컨트롤러는 종료 때도 만들어지지 않음
+     */
+    @Override
+    public void destroy() {
+        snapshot = newSnapshot();
+        if (detailCache != null) {
+            detailCache.clear();
+        }
+        ClassScopedCache.invalidateAll();
+    }
+
+    private Mono<Snapshot> newSnapshot() {
+        // 구독 전에는 추출하지 않고, 성공한 결과만 캐시
+        return Mono.fromCallable(this::extract)
+                .subscribeOn(scheduler)
+                .cache(value -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private Snapshot extract() throws JsonProcessingException {
+        // 풀은 추출 동안만 사용하고 리포트만 보관 (풀의 맵까지 유지하지 않도록)
+        StringPool stringPool = new StringPool();
+        List<Map<String, Object>> endpoints = endpointExtractor.extract(handlerMapping, config);
+
+        List<Map<String, Object>> exceptionHandlers = new ArrayList<>();
+        if (applicationContext != null) {
+            exceptionHandlers = exceptionHandlerExtractor.extract(applicationContext);
+            if (config.isIncludeErrorResponses()) {
+                ErrorResponseIndex.build(applicationContext, exceptionHandlerExtractor)
+                        .attach(handlerMapping.getHandlerMethods().values(), endpoints);
+            }
+        }
+
+        Map<String, Object> spec = SasaApplication.buildSpec(config, endpoints, exceptionHandlers, stringPool);
+        byte[] body = SNAPSHOT_MAPPER.writeValueAsBytes(spec);
+        return new Snapshot(spec, body, ETags.of(body), stringPool.report());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> endpoint(Map<String, Object> spec, String key) {
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) spec.getOrDefault("endpoints", List.of())) {
+            if (!key.equals(EndpointKey.of(endpoint))) {
+                continue;
+            }
+            Map<String, Object> copy = new LinkedHashMap<>(endpoint);
+            if (detailCache != null && Boolean.TRUE.equals(copy.remove("detailsDeferred"))) {
+                Map<String, Object> details = detailCache.get(key);
+                if (details != null) {
+                    copy.putAll(details);
+                }
+            }
+            return copy;
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown endpoint: " + key);
+    }
+
+    /**
+     * 스펙과 직렬화된 본문, ETag, 문자열 중복 제거 리포트
+     */
+    private static final class Snapshot {
+        private final Map<String, Object> spec;
+        private final byte[] body;
+        private final String eTag;
+        private final Map<String, Object> memoryReport;
+
+        Snapshot(Map<String, Object> spec, byte[] body, String eTag, Map<String, Object> memoryReport) {
+            this.spec = spec;
+            this.body = body;
+            this.eTag = eTag;
+            this.memoryReport = memoryReport;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 메모리 할당량/본문 크기 프로파일러.
+ *
+ * <p>{@link AllocationProfilingFilter}가 샘플링한 요청마다 요청 스레드의 할당 바이트
+ * ({@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}) 차이와 요청/응답 본문 크기를 넘기면,
+ * {@link HandlerMethod}별 {@link AllocationStats}에 누적합니다. 할당량 측정을 지원하지 않는 JVM에서는 본문 크기만 기록합니다.</p>
+ *
+ * <p>{@link RuntimeSpecContributor}로서 각 엔드포인트에 {@code allocation} 블록을 붙이고,
+ * 스펙 최상위에 요청당 평균 할당량 순으로 정렬한 {@code heaviestEndpoints} 목록을 붙입니다.</p>
+ *
+ * <pre>{@code
+ * @Bean
+ * AllocationProfiler allocationProfiler() {
+ *     return AllocationProfiler.builder().sampleRate(0.1).build();
+ * }
+ *
+ * @Bean
+ * AllocationProfilingFilter allocationProfilingFilter(AllocationProfiler profiler) {
+ *     return new AllocationProfilingFilter(profiler);
+ * }
+ * }</pre>
+ */
+public class AllocationProfiler implements RuntimeSpecContributor {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = allocationBean();
+
+    private final long samplingInterval;
+    private final int heaviestEndpoints;
+    private final EndpointStatsRegistry<AllocationStats> stats = new EndpointStatsRegistry<>(AllocationStats::new);
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    private AllocationProfiler(Builder builder) {
+        this.samplingInterval = builder.sampleRate <= 0 ? 0 : Math.max(1, Math.round(1 / builder.sampleRate));
+        this.heaviestEndpoints = builder.heaviestEndpoints;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 이번 요청을 샘플링할지 결정합니다 (카운터 증가 한 번).
+     *
+     * @return 샘플링 여부
+     */
+    public boolean shouldSample() {
+        return samplingInterval != 0 && requestCounter.incrementAndGet() % samplingInterval == 0;
+    }
+
+    /**
+     * @return 이 JVM에서 스레드별 할당량을 측정할 수 있는지
+     */
+    public static boolean isAllocationMeasurable() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * @return 현재 스레드가 지금까지 할당한 바이트, 측정 불가 시 -1
+     */
+    public static long currentThreadAllocatedBytes() {
+        return THREAD_BEAN != null ? THREAD_BEAN.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 샘플링된 요청 하나를 기록합니다.
+     *
+     * @param handlerMethod  요청을 처리한 핸들러
+     * @param allocatedBytes 요청 처리 중 할당한 바이트 (측정 불가 시 음수)
+     * @param requestBytes   요청 본문 크기 (모르면 음수)
+     * @param responseBytes  응답 본문 크기
+     */
+    public void record(HandlerMethod handlerMethod, long allocatedBytes, long requestBytes, long responseBytes) {
+        stats.get(handlerMethod).record(allocatedBytes, requestBytes, responseBytes);
+    }
+
+    /**
+     * @param endpointKey 엔드포인트 키
+     * @return 누적 통계, 기록된 적이 없으면 {@code null}
+     */
+    public AllocationStats getStats(String endpointKey) {
+        return stats.find(endpointKey);
+    }
+
+    @Override
+    public void contribute(String endpointKey, Map<String, Object> endpoint) {
+        AllocationStats endpointStats = stats.find(endpointKey);
+        if (endpointStats != null) {
+            endpoint.put("allocation", endpointStats.snapshot());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void contributeSpec(Map<String, Object> spec) {
+        List<Map<String, Object>> ranked = new ArrayList<>();
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) spec.getOrDefault("endpoints", List.of())) {
+            Map<String, Object> allocation = (Map<String, Object>) endpoint.get("allocation");
+            if (allocation == null || (long) allocation.get("sampledRequests") == 0) {
+                continue;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("path", first(endpoint.get("paths")));
+            entry.put("method", first(endpoint.get("methods")));
+            entry.put("handler", endpoint.get("handler"));
+            entry.putAll(allocation);
+            ranked.add(entry);
+        }
+        if (ranked.isEmpty()) {
+            return;
+        }
+
+        ranked.sort(Comparator.<Map<String, Object>>comparingLong(entry -> weight(entry, "avgAllocatedBytes"))
+                .thenComparingLong(entry -> weight(entry, "avgResponseBytes"))
+                .reversed());
+        spec.put("heaviestEndpoints", new ArrayList<>(ranked.subList(0, Math.min(heaviestEndpoints, ranked.size()))));
+    }
+
+    private static long weight(Map<String, Object> entry, String key) {
+        Object value = entry.get(key);
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    private static Object first(Object values) {
+        if (values instanceof Collection<?> collection && !collection.isEmpty()) {
+            return collection.iterator().next();
+        }
+        return null;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            // jdk.management 모듈이 없는 런타임
+        }
+        return null;
+    }
+
+    public static class Builder {
+        private double sampleRate = 0.1;
+        private int heaviestEndpoints = 10;
+
+        /**
+         * 샘플링 비율 (0.0 ~ 1.0, 기본값: 0.1 = 10건 중 1건, 0이면 비활성)
+         */
+        public Builder sampleRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + rate);
+            }
+            this.sampleRate = rate;
+            return this;
+        }
+
+        /**
+         * {@code heaviestEndpoints}에 포함할 엔드포인트 수 (기본값: 10)
+         */
+        public Builder heaviestEndpoints(int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("Heaviest endpoints count must be positive: " + count);
+            }
+            this.heaviestEndpoints = count;
+            return this;
+        }
+
+        public AllocationProfiler build() {
+            return new AllocationProfiler(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.SasaViewController;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 샘플링한 요청의 스레드 할당량과 요청/응답 본문 크기를 {@link AllocationProfiler}로 넘기는 필터.
+ *
+ * <p>할당량은 필터 체인 전후의 스레드 할당 바이트 차이이므로, 핸들러뿐 아니라 응답 직렬화와 이후 필터의 할당까지 포함합니다.
+ * 응답 본문 크기는 바이트를 복사하지 않고 세기만 하는 래퍼로 측정하며, 요청 본문 크기는 {@code Content-Length} 기준입니다.
+ * 샘플링되지 않은 요청의 비용은 카운터 증가 한 번입니다.</p>
+ *
+ * <p>비동기 처리로 넘어간 요청(다른 스레드에서 할당)과 SASA 자체 엔드포인트는 기록하지 않습니다.</p>
+ */
+public class AllocationProfilingFilter extends OncePerRequestFilter {
+
+    private final AllocationProfiler profiler;
+
+    public AllocationProfilingFilter(AllocationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!profiler.shouldSample()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TeeResponseWrapper responseWrapper = new TeeResponseWrapper(response, 0);
+        long allocatedBefore = AllocationProfiler.currentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            responseWrapper.flushWriter();
+            long allocatedAfter = AllocationProfiler.currentThreadAllocatedBytes();
+            if (!request.isAsyncStarted()) {
+                Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                if (handler instanceof HandlerMethod handlerMethod
+                        && !SasaViewController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+                    long allocated = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+                    profiler.record(handlerMethod, allocated, request.getContentLengthLong(),
+                            responseWrapper.getWrittenBytes());
+                }
+            }
+        }
+    }
+}
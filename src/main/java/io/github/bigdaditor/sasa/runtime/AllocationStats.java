@@ -0,0 +1,112 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 엔드포인트 하나의 할당량/본문 크기 누적 통계.
+ *
+ * <p>모든 값은 {@link Stripes}로 고른 stripe에 나눠 기록되므로 기록 경로에는 락과 할당이 없습니다.
+ * 배열이 64바이트 경계에 정렬된다는 보장은 없으므로, 배열 맨 앞과 stripe 사이마다 카운터 8개(64바이트) 크기의 여백을 둡니다.
+ * 그래서 서로 다른 stripe의 카운터는 정렬과 관계없이 같은 캐시 라인에 놓이지 않습니다.</p>
+ */
+public class AllocationStats {
+
+    private static final int SAMPLES = 0;
+    private static final int ALLOCATION_SAMPLES = 1;
+    private static final int ALLOCATED_SUM = 2;
+    private static final int ALLOCATED_MAX = 3;
+    private static final int REQUEST_SAMPLES = 4;
+    private static final int REQUEST_BYTES_SUM = 5;
+    private static final int RESPONSE_BYTES_SUM = 6;
+    private static final int RESPONSE_BYTES_MAX = 7;
+    private static final int COUNTERS = 8;
+    /** 캐시 라인 하나(64바이트) 크기의 여백 */
+    private static final int PADDING = 8;
+    private static final int STRIPE_WIDTH = COUNTERS + PADDING;
+
+    private final AtomicLongArray cells = new AtomicLongArray(PADDING + Stripes.COUNT * STRIPE_WIDTH);
+
+    /**
+     * 샘플링된 요청 하나를 기록합니다.
+     *
+     * @param allocatedBytes 요청 처리 중 스레드가 할당한 바이트 (측정 불가 시 음수)
+     * @param requestBytes   요청 본문 크기 ({@code Content-Length}를 모르면 음수)
+     * @param responseBytes  응답 본문 크기
+     */
+    public void record(long allocatedBytes, long requestBytes, long responseBytes) {
+        int base = base(Stripes.current());
+        cells.incrementAndGet(base + SAMPLES);
+        if (allocatedBytes >= 0) {
+            cells.incrementAndGet(base + ALLOCATION_SAMPLES);
+            cells.addAndGet(base + ALLOCATED_SUM, allocatedBytes);
+            updateMax(base + ALLOCATED_MAX, allocatedBytes);
+        }
+        if (requestBytes >= 0) {
+            cells.incrementAndGet(base + REQUEST_SAMPLES);
+            cells.addAndGet(base + REQUEST_BYTES_SUM, requestBytes);
+        }
+        cells.addAndGet(base + RESPONSE_BYTES_SUM, responseBytes);
+        updateMax(base + RESPONSE_BYTES_MAX, responseBytes);
+    }
+
+    /**
+     * @return 요청당 평균 할당량 (바이트), 측정된 샘플이 없으면 0
+     */
+    public long getAverageAllocatedBytes() {
+        long samples = sum(ALLOCATION_SAMPLES);
+        return samples == 0 ? 0 : sum(ALLOCATED_SUM) / samples;
+    }
+
+    /**
+     * @return 샘플 수, 요청당 평균/최대 할당량, 평균 요청/응답 본문 크기, 최대 응답 본문 크기 (바이트)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        long samples = sum(SAMPLES);
+        snapshot.put("sampledRequests", samples);
+        if (samples == 0) {
+            return snapshot;
+        }
+        long allocationSamples = sum(ALLOCATION_SAMPLES);
+        if (allocationSamples > 0) {
+            snapshot.put("avgAllocatedBytes", sum(ALLOCATED_SUM) / allocationSamples);
+            snapshot.put("maxAllocatedBytes", max(ALLOCATED_MAX));
+        }
+        long requestSamples = sum(REQUEST_SAMPLES);
+        if (requestSamples > 0) {
+            snapshot.put("avgRequestBytes", sum(REQUEST_BYTES_SUM) / requestSamples);
+        }
+        snapshot.put("avgResponseBytes", sum(RESPONSE_BYTES_SUM) / samples);
+        snapshot.put("maxResponseBytes", max(RESPONSE_BYTES_MAX));
+        return snapshot;
+    }
+
+    private void updateMax(int index, long value) {
+        long max;
+        do {
+            max = cells.get(index);
+        } while (value > max && !cells.compareAndSet(index, max, value));
+    }
+
+    private long sum(int offset) {
+        long sum = 0;
+        for (int stripe = 0; stripe < Stripes.COUNT; stripe++) {
+            sum += cells.get(base(stripe) + offset);
+        }
+        return sum;
+    }
+
+    private long max(int offset) {
+        long max = 0;
+        for (int stripe = 0; stripe < Stripes.COUNT; stripe++) {
+            max = Math.max(max, cells.get(base(stripe) + offset));
+        }
+        return max;
+    }
+
+    private static int base(int stripe) {
+        return PADDING + stripe * STRIPE_WIDTH;
+    }
+}
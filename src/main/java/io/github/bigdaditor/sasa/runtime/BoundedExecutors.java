@@ -0,0 +1,38 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 스레드에서 넘긴 작업을 처리하는 기본 executor.
+ */
+final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * 고정 크기 큐를 가진 단일 데몬 스레드 executor를 만듭니다.
+     *
+     * <p>큐가 가득 차면 {@link java.util.concurrent.RejectedExecutionException}을 던지므로 호출 측은 작업을 버리고
+     * 요청 스레드는 기다리지 않습니다. 유휴 스레드는 30초 후 종료됩니다.</p>
+     *
+     * @param threadName 스레드 이름
+     * @param capacity   큐 크기
+     * @return executor
+     */
+    static Executor dropping(String threadName, int capacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.time.Instant;
+
+/**
+ * 샘플링된 요청/응답 한 쌍 (불변).
+ *
+ * <p>{@link ExampleRedactor}는 {@code with*} 메서드로 본문을 바꾼 사본을 반환합니다.
+ * 본문은 {@link ExampleRecorder.Builder#maxBodyBytes(int)}까지만 캡처되며, 잘린 경우 {@code truncated} 플래그가 설정됩니다.</p>
+ */
+public final class CapturedExample {
+
+    private final String httpMethod;
+    private final String path;
+    private final String query;
+    private final String requestContentType;
+    private final String requestBody;
+    private final boolean requestTruncated;
+    private final int status;
+    private final String responseContentType;
+    private final String responseBody;
+    private final boolean responseTruncated;
+    private final Instant capturedAt;
+
+    public CapturedExample(String httpMethod, String path, String query,
+                           String requestContentType, String requestBody, boolean requestTruncated,
+                           int status, String responseContentType, String responseBody, boolean responseTruncated,
+                           Instant capturedAt) {
+        this.httpMethod = httpMethod;
+        this.path = path;
+        this.query = query;
+        this.requestContentType = requestContentType;
+        this.requestBody = requestBody;
+        this.requestTruncated = requestTruncated;
+        this.status = status;
+        this.responseContentType = responseContentType;
+        this.responseBody = responseBody;
+        this.responseTruncated = responseTruncated;
+        this.capturedAt = capturedAt;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String getRequestContentType() {
+        return requestContentType;
+    }
+
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    public boolean isRequestTruncated() {
+        return requestTruncated;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getResponseContentType() {
+        return responseContentType;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public boolean isResponseTruncated() {
+        return responseTruncated;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    public CapturedExample withQuery(String query) {
+        return new CapturedExample(httpMethod, path, query, requestContentType, requestBody, requestTruncated,
+                status, responseContentType, responseBody, responseTruncated, capturedAt);
+    }
+
+    public CapturedExample withRequestBody(String body) {
+        return new CapturedExample(httpMethod, path, query, requestContentType, body, requestTruncated,
+                status, responseContentType, responseBody, responseTruncated, capturedAt);
+    }
+
+    public CapturedExample withResponseBody(String body) {
+        return new CapturedExample(httpMethod, path, query, requestContentType, requestBody, requestTruncated,
+                status, responseContentType, body, responseTruncated, capturedAt);
+    }
+}
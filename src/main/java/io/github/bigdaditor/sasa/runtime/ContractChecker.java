@@ -0,0 +1,278 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 스펙과 실제 요청 사이의 계약 위반을 요청 스레드 밖에서 검사하는 shadow 모드 검사기.
+ *
+ * <p>{@link ShadowContractFilter}가 샘플링한 요청을 넘기면, 고정 크기 큐를 가진 백그라운드 executor에서
+ * {@link EndpointContract}로 검사하고 엔드포인트/규칙별 위반 횟수를 셉니다. 검사 결과는 요청에 영향을 주지 않으며,
+ * 큐가 가득 차면 샘플은 버려지므로 트래픽을 늦추지 않습니다.</p>
+ *
+ * <p>검사기는 스펙 스냅샷마다 한 번만 컴파일됩니다. {@code specSource}가 이전과 다른 스펙 인스턴스를 반환하면
+ * (예: {@code /sasa/api-spec/refresh} 이후) 다음 검사 때 다시 컴파일합니다.</p>
+ *
+ * <p>{@link RuntimeSpecContributor}로서 각 엔드포인트에 {@code contract} 블록을, 스펙 최상위에
+ * {@code contractChecks} 요약을 붙입니다.</p>
+ *
+ * <pre>{@code
+ * @Bean
+ * ContractChecker contractChecker(SasaViewController sasa) {
+ *     return ContractChecker.builder(sasa::getSpecSnapshot).sampleRate(0.05).build();
+ * }
+ *
+ * @Bean
+ * ShadowContractFilter shadowContractFilter(ContractChecker checker) {
+ *     return new ShadowContractFilter(checker);
+ * }
+ * }</pre>
+ */
+public class ContractChecker implements RuntimeSpecContributor {
+
+    private final Supplier<Map<String, Object>> specSource;
+    private final long samplingInterval;
+    private final int maxBodyBytes;
+    private final Executor executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointViolations> violations = new ConcurrentHashMap<>();
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong checked = new AtomicLong();
+    private volatile CompiledSpec compiled;
+
+    private ContractChecker(Builder builder) {
+        this.specSource = builder.specSource;
+        this.samplingInterval = builder.sampleRate <= 0 ? 0 : Math.max(1, Math.round(1 / builder.sampleRate));
+        this.maxBodyBytes = builder.maxBodyBytes;
+        this.executor = builder.executor != null
+                ? builder.executor
+                : BoundedExecutors.dropping("sasa-contract-checker", builder.queueCapacity);
+    }
+
+    /**
+     * @param specSource 검사 기준 스펙 (캐시된 스냅샷을 반환해야 하며, 인스턴스가 바뀔 때만 다시 컴파일)
+     */
+    public static Builder builder(Supplier<Map<String, Object>> specSource) {
+        return new Builder(specSource);
+    }
+
+    /**
+     * 이번 요청을 샘플링할지 결정합니다 (카운터 증가 한 번).
+     *
+     * @return 샘플링 여부
+     */
+    public boolean shouldSample() {
+        return samplingInterval != 0 && requestCounter.incrementAndGet() % samplingInterval == 0;
+    }
+
+    /**
+     * @return 요청 본문 최대 캡처 크기 (바이트, 넘으면 본문 검사 생략)
+     */
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * 요청 샘플을 백그라운드 검사 큐에 넣습니다. 큐가 가득 차면 버립니다.
+     *
+     * @param handlerMethod 요청을 처리한 핸들러
+     * @param sample        요청 샘플
+     */
+    public void submit(HandlerMethod handlerMethod, ContractSample sample) {
+        submitted.incrementAndGet();
+        try {
+            executor.execute(() -> check(EndpointKey.of(handlerMethod), sample));
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * 요청 샘플을 현재 스레드에서 검사합니다.
+     *
+     * @param endpointKey 엔드포인트 키
+     * @param sample      요청 샘플
+     * @return 위반한 규칙 이름 (스펙에 없는 엔드포인트면 빈 목록)
+     */
+    public List<String> check(String endpointKey, ContractSample sample) {
+        EndpointContract contract = contracts().get(endpointKey);
+        if (contract == null) {
+            return List.of();
+        }
+        List<String> violated = contract.validate(sample, objectMapper);
+        checked.incrementAndGet();
+        violations.computeIfAbsent(endpointKey, key -> new EndpointViolations()).record(violated);
+        return violated;
+    }
+
+    /**
+     * @return 검사 큐가 가득 차 버려진 샘플 수
+     */
+    public long getDroppedSamples() {
+        return dropped.get();
+    }
+
+    @Override
+    public void contribute(String endpointKey, Map<String, Object> endpoint) {
+        EndpointViolations endpointViolations = violations.get(endpointKey);
+        if (endpointViolations != null) {
+            endpoint.put("contract", endpointViolations.snapshot());
+        }
+    }
+
+    @Override
+    public void contributeSpec(Map<String, Object> spec) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("submitted", submitted.get());
+        summary.put("checked", checked.get());
+        summary.put("dropped", dropped.get());
+        summary.put("endpointsWithViolations",
+                violations.values().stream().filter(EndpointViolations::hasViolations).count());
+        spec.put("contractChecks", summary);
+    }
+
+    /**
+     * 스펙 스냅샷이 바뀌었으면 다시 컴파일 (검사 스레드에서만 호출)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, EndpointContract> contracts() {
+        Map<String, Object> spec = specSource.get();
+        CompiledSpec current = compiled;
+        if (current != null && current.source == spec) {
+            return current.contracts;
+        }
+
+        Map<String, EndpointContract> contracts = new HashMap<>();
+        if (spec != null) {
+            for (Map<String, Object> endpoint : (List<Map<String, Object>>) spec.getOrDefault("endpoints", List.of())) {
+                String endpointKey = EndpointKey.of(endpoint);
+                if (endpointKey != null) {
+                    contracts.put(endpointKey, EndpointContract.compile(endpoint));
+                }
+            }
+        }
+        compiled = new CompiledSpec(spec, Map.copyOf(contracts));
+        return contracts;
+    }
+
+    private static final class CompiledSpec {
+        private final Map<String, Object> source;
+        private final Map<String, EndpointContract> contracts;
+
+        CompiledSpec(Map<String, Object> source, Map<String, EndpointContract> contracts) {
+            this.source = source;
+            this.contracts = contracts;
+        }
+    }
+
+    /**
+     * 엔드포인트 하나의 검사 수와 규칙별 위반 수
+     */
+    private static final class EndpointViolations {
+        private final LongAdder checkedRequests = new LongAdder();
+        private final LongAdder violatingRequests = new LongAdder();
+        private final Map<String, LongAdder> byRule = new ConcurrentHashMap<>();
+
+        void record(List<String> violated) {
+            checkedRequests.increment();
+            if (violated.isEmpty()) {
+                return;
+            }
+            violatingRequests.increment();
+            for (String rule : violated) {
+                byRule.computeIfAbsent(rule, key -> new LongAdder()).increment();
+            }
+        }
+
+        boolean hasViolations() {
+            return violatingRequests.sum() > 0;
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("checkedRequests", checkedRequests.sum());
+            snapshot.put("violatingRequests", violatingRequests.sum());
+            Map<String, Long> rules = new LinkedHashMap<>();
+            byRule.entrySet().stream()
+                    .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                            (a, b) -> Long.compare(b.sum(), a.sum())).thenComparing(Map.Entry.comparingByKey()))
+                    .forEach(entry -> rules.put(entry.getKey(), entry.getValue().sum()));
+            snapshot.put("violations", rules);
+            return snapshot;
+        }
+    }
+
+    public static class Builder {
+        private final Supplier<Map<String, Object>> specSource;
+        private double sampleRate = 0.01;
+        private int maxBodyBytes = 16 * 1024;
+        private int queueCapacity = 256;
+        private Executor executor;
+
+        private Builder(Supplier<Map<String, Object>> specSource) {
+            if (specSource == null) {
+                throw new IllegalArgumentException("Spec source must not be null");
+            }
+            this.specSource = specSource;
+        }
+
+        /**
+         * 샘플링 비율 (0.0 ~ 1.0, 기본값: 0.01 = 100건 중 1건, 0이면 비활성)
+         */
+        public Builder sampleRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + rate);
+            }
+            this.sampleRate = rate;
+            return this;
+        }
+
+        /**
+         * 요청 본문 최대 캡처 크기 (기본값: 16KB, 넘으면 본문 검사 생략)
+         */
+        public Builder maxBodyBytes(int bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("Max body bytes must not be negative: " + bytes);
+            }
+            this.maxBodyBytes = bytes;
+            return this;
+        }
+
+        /**
+         * 검사 대기 큐 크기 (기본값: 256, 가득 차면 샘플을 버림)
+         */
+        public Builder queueCapacity(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+            }
+            this.queueCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * 검사를 실행할 executor (지정하면 {@code queueCapacity}는 무시, 거부 시 샘플을 버림)
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ContractChecker build() {
+            return new ContractChecker(this);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 계약 검사를 위해 요청 스레드에서 복사해 둔 요청 정보 (불변).
+ *
+ * <p>서블릿 컨테이너는 요청 객체를 재사용하므로, 검사 스레드로 넘기기 전에 필요한 값만 복사합니다.
+ * 헤더 이름은 소문자로 저장됩니다.</p>
+ */
+public final class ContractSample {
+
+    private final Map<String, String> pathVariables;
+    private final Map<String, String[]> queryParameters;
+    private final Map<String, String> headers;
+    private final byte[] body;
+    private final boolean bodyTruncated;
+
+    public ContractSample(Map<String, String> pathVariables, Map<String, String[]> queryParameters,
+                          Map<String, String> headers, byte[] body, boolean bodyTruncated) {
+        this.pathVariables = pathVariables != null ? Map.copyOf(pathVariables) : Map.of();
+        this.queryParameters = copyParameters(queryParameters);
+        this.headers = headers != null ? Map.copyOf(headers) : Map.of();
+        this.body = body != null ? body : new byte[0];
+        this.bodyTruncated = bodyTruncated;
+    }
+
+    /**
+     * 컨테이너가 재사용할 수 있는 값 배열까지 복사
+     */
+    private static Map<String, String[]> copyParameters(Map<String, String[]> parameters) {
+        if (parameters == null || parameters.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String[]> copy = new HashMap<>();
+        parameters.forEach((name, values) -> copy.put(name, values != null ? values.clone() : new String[0]));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    public Map<String, String> getPathVariables() {
+        return pathVariables;
+    }
+
+    public Map<String, String[]> getQueryParameters() {
+        return queryParameters;
+    }
+
+    /**
+     * @param name 헤더 이름 (대소문자 무관)
+     * @return 헤더 값, 없으면 {@code null}
+     */
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase());
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * @return 캡처 한도를 넘어 본문이 잘렸는지 (잘린 본문은 검사하지 않음)
+     */
+    public boolean isBodyTruncated() {
+        return bodyTruncated;
+    }
+}
@@ -0,0 +1,419 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.util.SchemaFields;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 엔드포인트 스펙에서 미리 컴파일한 요청 계약 검사기.
+ *
+ * <p>스펙의 {@code parameters}(경로 변수, 쿼리 파라미터, 헤더, 요청 본문)와 본문 필드의 {@code validations}를
+ * 한 번만 해석해 규칙 목록으로 만들어 두므로, 검사할 때는 문자열 비교나 정규식 컴파일 없이 규칙만 실행합니다.
+ * 규칙 이름은 {@code 위치.이름.규칙} 형식입니다 (예: {@code query.page.type}, {@code body.email.pattern},
+ * {@code body.nickname.undeclared}).</p>
+ *
+ * <p>Bean Validation과 같이 {@code null} 값은 {@code notNull}/{@code notEmpty}/{@code notBlank} 외의 규칙을 통과합니다.
+ * 날짜 규칙({@code past}, {@code future} 등)은 날짜 형식을 알 수 없어 검사하지 않습니다.</p>
+ */
+public final class EndpointContract {
+
+    /** Spring {@code ValueConstants.DEFAULT_NONE}(기본값 없음)에 포함된 문자 */
+    private static final String SPRING_DEFAULT_NONE_MARKER = "\uE000";
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+    private static final Pattern INTEGER = Pattern.compile("[+-]?\\d+");
+    private static final Set<String> INTEGER_TYPES = Set.of("int", "Integer", "long", "Long", "short", "Short", "byte", "Byte", "BigInteger");
+    private static final Set<String> NUMBER_TYPES = Set.of("double", "Double", "float", "Float", "BigDecimal");
+    private static final Set<String> BOOLEAN_TYPES = Set.of("boolean", "Boolean");
+    private static final Set<String> ARRAY_TYPES = Set.of("List", "Set", "Collection", "ArrayList", "LinkedList", "HashSet", "LinkedHashSet");
+    private static final Set<String> BOOLEAN_LITERALS = Set.of("true", "false", "on", "off", "yes", "no", "1", "0");
+
+    private final List<RequestRule> requestRules;
+    private final List<FieldRule> fieldRules;
+    private final Set<String> declaredFields;
+    private final boolean checksBody;
+    private final boolean bodyRequired;
+
+    private EndpointContract(List<RequestRule> requestRules, List<FieldRule> fieldRules, Set<String> declaredFields,
+                             boolean checksBody, boolean bodyRequired) {
+        this.requestRules = List.copyOf(requestRules);
+        this.fieldRules = List.copyOf(fieldRules);
+        this.declaredFields = Set.copyOf(declaredFields);
+        this.checksBody = checksBody;
+        this.bodyRequired = bodyRequired;
+    }
+
+    /**
+     * 엔드포인트 스펙 하나를 컴파일합니다.
+     *
+     * @param endpoint {@code /sasa/api-spec}의 엔드포인트 맵
+     * @return 검사기 (검사할 규칙이 없어도 반환)
+     */
+    @SuppressWarnings("unchecked")
+    public static EndpointContract compile(Map<String, Object> endpoint) {
+        List<RequestRule> requestRules = new ArrayList<>();
+        List<FieldRule> fieldRules = new ArrayList<>();
+        Set<String> declaredFields = new HashSet<>();
+        boolean checksBody = false;
+        boolean bodyRequired = false;
+
+        for (Map<String, Object> parameter : (List<Map<String, Object>>) endpoint.getOrDefault("parameters", List.of())) {
+            String parameterType = (String) parameter.get("parameterType");
+            String name = parameter.get("paramName") instanceof String paramName && !paramName.isEmpty()
+                    ? paramName
+                    : (String) parameter.get("name");
+            String type = (String) parameter.get("type");
+            boolean required = Boolean.TRUE.equals(parameter.get("required"))
+                    && !hasDefaultValue(parameter.get("defaultValue"));
+            if (parameterType == null || name == null) {
+                continue;
+            }
+
+            switch (parameterType) {
+                case "PATH_VARIABLE" -> {
+                    Predicate<String> valid = scalarType(type);
+                    if (valid != null) {
+                        requestRules.add(new RequestRule("path." + name + ".type", sample -> {
+                            String value = sample.getPathVariables().get(name);
+                            return value != null && !valid.test(value);
+                        }));
+                    }
+                }
+                case "REQUEST_PARAM" -> {
+                    if (required) {
+                        requestRules.add(new RequestRule("query." + name + ".required",
+                                sample -> !sample.getQueryParameters().containsKey(name)));
+                    }
+                    Predicate<String> valid = scalarType(type);
+                    if (valid != null) {
+                        requestRules.add(new RequestRule("query." + name + ".type", sample -> {
+                            String[] values = sample.getQueryParameters().get(name);
+                            if (values == null) {
+                                return false;
+                            }
+                            for (String value : values) {
+                                if (!value.isEmpty() && !valid.test(value)) {
+                                    return true;
+                                }
+                            }
+                            return false;
+                        }));
+                    }
+                }
+                case "REQUEST_HEADER" -> {
+                    if (required) {
+                        requestRules.add(new RequestRule("header." + name + ".required",
+                                sample -> sample.getHeader(name) == null));
+                    }
+                    Predicate<String> valid = scalarType(type);
+                    if (valid != null) {
+                        requestRules.add(new RequestRule("header." + name + ".type", sample -> {
+                            String value = sample.getHeader(name);
+                            return value != null && !valid.test(value);
+                        }));
+                    }
+                }
+                case "REQUEST_BODY" -> {
+                    checksBody = true;
+                    bodyRequired = required;
+                    Map<String, Object> schema = (Map<String, Object>) parameter.get("schema");
+                    for (Map<String, Object> field : SchemaFields.of(schema)) {
+                        String fieldName = (String) field.get("name");
+                        declaredFields.add(fieldName);
+                        compileField(fieldName, (String) field.get("type"),
+                                (Map<String, Object>) field.get("validations"), fieldRules);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return new EndpointContract(requestRules, fieldRules, declaredFields, checksBody, bodyRequired);
+    }
+
+    /**
+     * @return 컴파일된 규칙 수
+     */
+    public int ruleCount() {
+        return requestRules.size() + fieldRules.size() + (checksBody ? 1 : 0);
+    }
+
+    /**
+     * 요청이 위반한 규칙 이름 목록을 반환합니다.
+     *
+     * @param sample       요청 샘플
+     * @param objectMapper 본문 파싱용
+     * @return 위반한 규칙 이름 (없으면 빈 목록)
+     */
+    public List<String> validate(ContractSample sample, ObjectMapper objectMapper) {
+        List<String> violations = new ArrayList<>();
+        for (RequestRule rule : requestRules) {
+            if (rule.violated.test(sample)) {
+                violations.add(rule.name);
+            }
+        }
+        if (checksBody && !sample.isBodyTruncated()) {
+            validateBody(sample.getBody(), objectMapper, violations);
+        }
+        return violations;
+    }
+
+    private void validateBody(byte[] body, ObjectMapper objectMapper, List<String> violations) {
+        if (body.length == 0) {
+            if (bodyRequired) {
+                violations.add("body.required");
+            }
+            return;
+        }
+
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            violations.add("body.json");
+            return;
+        }
+        if (declaredFields.isEmpty() || !root.isObject()) {
+            return;
+        }
+
+        for (FieldRule rule : fieldRules) {
+            if (rule.violated.test(root.get(rule.field))) {
+                violations.add(rule.name);
+            }
+        }
+        for (Iterator<String> names = root.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!declaredFields.contains(name)) {
+                violations.add("body." + name + ".undeclared");
+            }
+        }
+    }
+
+    private static void compileField(String field, String type, Map<String, Object> validations, List<FieldRule> rules) {
+        String prefix = "body." + field + ".";
+
+        Predicate<JsonNode> typeMatches = jsonType(type);
+        if (typeMatches != null) {
+            rules.add(new FieldRule(field, prefix + "type", node -> present(node) && !typeMatches.test(node)));
+        }
+        if (validations == null) {
+            return;
+        }
+
+        for (Map.Entry<String, Object> validation : validations.entrySet()) {
+            Object value = validation.getValue();
+            String name = prefix + validation.getKey();
+            switch (validation.getKey()) {
+                case "notNull" -> rules.add(new FieldRule(field, name, node -> !present(node)));
+                case "notEmpty" -> rules.add(new FieldRule(field, name, node -> !present(node) || length(node) == 0));
+                case "notBlank" -> rules.add(new FieldRule(field, name,
+                        node -> !present(node) || (node.isTextual() && node.asText().isBlank())));
+                case "size" -> {
+                    Map<?, ?> size = (Map<?, ?>) value;
+                    long min = ((Number) size.get("min")).longValue();
+                    long max = ((Number) size.get("max")).longValue();
+                    rules.add(new FieldRule(field, name, node -> {
+                        long length = present(node) ? length(node) : -1;
+                        return length >= 0 && (length < min || length > max);
+                    }));
+                }
+                case "min" -> {
+                    BigDecimal min = BigDecimal.valueOf(((Number) value).longValue());
+                    rules.add(new FieldRule(field, name, node -> node != null && node.isNumber() && node.decimalValue().compareTo(min) < 0));
+                }
+                case "max" -> {
+                    BigDecimal max = BigDecimal.valueOf(((Number) value).longValue());
+                    rules.add(new FieldRule(field, name, node -> node != null && node.isNumber() && node.decimalValue().compareTo(max) > 0));
+                }
+                case "decimalMin" -> {
+                    BigDecimal min = parseDecimal(value);
+                    boolean inclusive = !Boolean.FALSE.equals(validations.get("decimalMinInclusive"));
+                    if (min != null) {
+                        rules.add(new FieldRule(field, name, node -> {
+                            BigDecimal decimal = decimal(node);
+                            return decimal != null && (inclusive ? decimal.compareTo(min) < 0 : decimal.compareTo(min) <= 0);
+                        }));
+                    }
+                }
+                case "decimalMax" -> {
+                    BigDecimal max = parseDecimal(value);
+                    boolean inclusive = !Boolean.FALSE.equals(validations.get("decimalMaxInclusive"));
+                    if (max != null) {
+                        rules.add(new FieldRule(field, name, node -> {
+                            BigDecimal decimal = decimal(node);
+                            return decimal != null && (inclusive ? decimal.compareTo(max) > 0 : decimal.compareTo(max) >= 0);
+                        }));
+                    }
+                }
+                case "positive" -> rules.add(new FieldRule(field, name, node -> sign(node) != null && sign(node) <= 0));
+                case "positiveOrZero" -> rules.add(new FieldRule(field, name, node -> sign(node) != null && sign(node) < 0));
+                case "negative" -> rules.add(new FieldRule(field, name, node -> sign(node) != null && sign(node) >= 0));
+                case "negativeOrZero" -> rules.add(new FieldRule(field, name, node -> sign(node) != null && sign(node) > 0));
+                case "pattern" -> {
+                    try {
+                        Pattern pattern = Pattern.compile((String) value);
+                        rules.add(new FieldRule(field, name,
+                                node -> node != null && node.isTextual() && !pattern.matcher(node.asText()).matches()));
+                    } catch (PatternSyntaxException e) {
+                        // Java 정규식으로 해석할 수 없는 패턴은 검사하지 않음
+                    }
+                }
+                case "email" -> rules.add(new FieldRule(field, name,
+                        node -> node != null && node.isTextual() && !node.asText().isEmpty()
+                                && !EMAIL.matcher(node.asText()).matches()));
+                case "digits" -> {
+                    Map<?, ?> digits = (Map<?, ?>) value;
+                    int integer = ((Number) digits.get("integer")).intValue();
+                    int fraction = ((Number) digits.get("fraction")).intValue();
+                    rules.add(new FieldRule(field, name, node -> {
+                        BigDecimal decimal = decimal(node);
+                        if (decimal == null) {
+                            return false;
+                        }
+                        decimal = decimal.stripTrailingZeros();
+                        int scale = Math.max(0, decimal.scale());
+                        return decimal.precision() - decimal.scale() > integer || scale > fraction;
+                    }));
+                }
+                default -> {
+                    // message, *Inclusive 등 부가 정보와 날짜 규칙
+                }
+            }
+        }
+    }
+
+    private static boolean hasDefaultValue(Object defaultValue) {
+        return defaultValue instanceof String value && !value.contains(SPRING_DEFAULT_NONE_MARKER);
+    }
+
+    /**
+     * 문자열로 전달되는 파라미터(경로/쿼리/헤더)의 형식 검사
+     */
+    private static Predicate<String> scalarType(String type) {
+        if (type == null) {
+            return null;
+        }
+        if (INTEGER_TYPES.contains(type)) {
+            return value -> INTEGER.matcher(value.trim()).matches();
+        }
+        if (NUMBER_TYPES.contains(type)) {
+            return value -> parseDecimal(value.trim()) != null;
+        }
+        if (BOOLEAN_TYPES.contains(type)) {
+            return value -> BOOLEAN_LITERALS.contains(value.trim().toLowerCase());
+        }
+        if ("UUID".equals(type)) {
+            return value -> {
+                try {
+                    UUID.fromString(value.trim());
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * JSON 본문 필드의 형식 검사
+     */
+    private static Predicate<JsonNode> jsonType(String type) {
+        if (type == null) {
+            return null;
+        }
+        if (INTEGER_TYPES.contains(type)) {
+            return JsonNode::isIntegralNumber;
+        }
+        if (NUMBER_TYPES.contains(type)) {
+            return JsonNode::isNumber;
+        }
+        if (BOOLEAN_TYPES.contains(type)) {
+            return JsonNode::isBoolean;
+        }
+        if ("String".equals(type)) {
+            return JsonNode::isTextual;
+        }
+        if (ARRAY_TYPES.contains(type) || type.endsWith("[]")) {
+            return JsonNode::isArray;
+        }
+        return null;
+    }
+
+    private static boolean present(JsonNode node) {
+        return node != null && !node.isNull();
+    }
+
+    private static long length(JsonNode node) {
+        if (node.isTextual()) {
+            return node.asText().length();
+        }
+        if (node.isContainerNode()) {
+            return node.size();
+        }
+        return -1;
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        return node.isTextual() ? parseDecimal(node.asText()) : null;
+    }
+
+    private static Integer sign(JsonNode node) {
+        return node != null && node.isNumber() ? node.decimalValue().signum() : null;
+    }
+
+    private static BigDecimal parseDecimal(Object value) {
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString());
+        }
+        if (value instanceof String string) {
+            try {
+                return new BigDecimal(string);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static final class RequestRule {
+        private final String name;
+        private final Predicate<ContractSample> violated;
+
+        RequestRule(String name, Predicate<ContractSample> violated) {
+            this.name = name;
+            this.violated = violated;
+        }
+    }
+
+    private static final class FieldRule {
+        private final String field;
+        private final String name;
+        private final Predicate<JsonNode> violated;
+
+        FieldRule(String field, String name, Predicate<JsonNode> violated) {
+            this.field = field;
+            this.name = name;
+            this.violated = violated;
+        }
+    }
+}
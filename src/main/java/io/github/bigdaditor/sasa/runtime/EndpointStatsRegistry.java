@@ -0,0 +1,69 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link HandlerMethod}별 통계 객체 저장소.
+ *
+ * <p>요청 경로의 조회는 컨트롤러 클래스에 매달린 {@link ClassValue}와 {@code Method} 키 맵 두 번의 조회로 끝나며,
+ * 통계 객체가 이미 있으면 할당이 없습니다. 통계 객체는 처음 생성될 때만 {@link EndpointKey} 문자열로도 등록되어
+ * 스펙과 병합할 때 사용됩니다. 클래스 쪽 캐시는 클래스와 함께 수집되므로 재시작된 클래스로더를 붙잡지 않습니다.</p>
+ *
+ * @param <T> 통계 객체 타입
+ */
+public class EndpointStatsRegistry<T> {
+
+    private final Supplier<T> factory;
+    private final Map<String, T> byKey = new ConcurrentHashMap<>();
+    private final ClassValue<Map<Method, T>> byHandler = new ClassValue<>() {
+        @Override
+        protected Map<Method, T> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * @param factory 엔드포인트별 통계 객체 생성 함수
+     */
+    public EndpointStatsRegistry(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 핸들러의 통계 객체를 반환하며, 없으면 생성합니다.
+     *
+     * @param handlerMethod 요청을 처리한 핸들러
+     * @return 통계 객체
+     */
+    public T get(HandlerMethod handlerMethod) {
+        Map<Method, T> methods = byHandler.get(handlerMethod.getBeanType());
+        T stats = methods.get(handlerMethod.getMethod());
+        if (stats != null) {
+            return stats;
+        }
+        return methods.computeIfAbsent(handlerMethod.getMethod(),
+                method -> byKey.computeIfAbsent(EndpointKey.of(handlerMethod), key -> factory.get()));
+    }
+
+    /**
+     * @param endpointKey 엔드포인트 키
+     * @return 통계 객체, 기록된 적이 없으면 {@code null}
+     */
+    public T find(String endpointKey) {
+        return endpointKey == null ? null : byKey.get(endpointKey);
+    }
+
+    /**
+     * @return 엔드포인트 키 → 통계 객체 (읽기 전용 뷰)
+     */
+    public Map<String, T> asMap() {
+        return Collections.unmodifiableMap(byKey);
+    }
+}
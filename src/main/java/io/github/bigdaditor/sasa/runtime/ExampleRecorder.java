@@ -0,0 +1,298 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트별 실제 요청/응답 예시 수집기.
+ *
+ * <p>{@link ExampleSamplingFilter}가 샘플링한 요청의 본문(최대 {@code maxBodyBytes})을 넘기면, 백그라운드 executor에서
+ * 디코딩 → {@link ExampleRedactor} 적용 → 엔드포인트별 {@link SampleRingBuffer}에 저장합니다.
+ * 샘플링되지 않은 요청의 비용은 카운터 증가 한 번이며, executor 큐가 가득 차면 샘플은 버려집니다.</p>
+ *
+ * <p>{@link RuntimeSpecContributor}로서 {@code /sasa/api-spec}의 각 엔드포인트에 {@code examples} 목록(최신순)을 붙입니다.</p>
+ *
+ * <pre>{@code
+ * @Bean
+ * ExampleRecorder exampleRecorder() {
+ *     return ExampleRecorder.builder().sampleRate(0.05).build();
+ * }
+ *
+ * @Bean
+ * ExampleSamplingFilter exampleSamplingFilter(ExampleRecorder recorder) {
+ *     return new ExampleSamplingFilter(recorder);
+ * }
+ * }</pre>
+ */
+public class ExampleRecorder implements RuntimeSpecContributor {
+
+    private final long samplingInterval;
+    private final int maxBodyBytes;
+    private final List<ExampleRedactor> redactors;
+    private final Executor executor;
+    private final EndpointStatsRegistry<SampleRingBuffer<Map<String, Object>>> buffers;
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final AtomicLong droppedSamples = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExampleRecorder(Builder builder) {
+        this.samplingInterval = builder.sampleRate <= 0 ? 0 : Math.max(1, Math.round(1 / builder.sampleRate));
+        this.maxBodyBytes = builder.maxBodyBytes;
+        this.redactors = List.copyOf(builder.redactors);
+        this.executor = builder.executor != null ? builder.executor : BoundedExecutors.dropping("sasa-example-recorder", 256);
+        int examplesPerEndpoint = builder.examplesPerEndpoint;
+        this.buffers = new EndpointStatsRegistry<>(() -> new SampleRingBuffer<>(examplesPerEndpoint));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 이번 요청을 샘플링할지 결정합니다 (카운터 증가 한 번).
+     *
+     * @return 샘플링 여부
+     */
+    public boolean shouldSample() {
+        return samplingInterval != 0 && requestCounter.incrementAndGet() % samplingInterval == 0;
+    }
+
+    /**
+     * @return 요청/응답 본문 최대 캡처 크기 (바이트)
+     */
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * @return executor 포화 또는 redactor 거부로 버려진 샘플 수
+     */
+    public long getDroppedSamples() {
+        return droppedSamples.get();
+    }
+
+    /**
+     * 캡처한 원본 샘플을 백그라운드에서 처리하도록 넘깁니다.
+     *
+     * @param handlerMethod 요청을 처리한 핸들러
+     * @param sample        캡처한 원본 샘플
+     */
+    public void submit(HandlerMethod handlerMethod, RawSample sample) {
+        try {
+            executor.execute(() -> record(handlerMethod, sample));
+        } catch (RejectedExecutionException e) {
+            droppedSamples.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param endpointKey 엔드포인트 키
+     * @return 최신순 예시 목록 (없으면 빈 목록)
+     */
+    public List<Map<String, Object>> getExamples(String endpointKey) {
+        SampleRingBuffer<Map<String, Object>> buffer = buffers.find(endpointKey);
+        return buffer == null ? List.of() : buffer.snapshot();
+    }
+
+    @Override
+    public void contribute(String endpointKey, Map<String, Object> endpoint) {
+        List<Map<String, Object>> examples = getExamples(endpointKey);
+        if (!examples.isEmpty()) {
+            endpoint.put("examples", examples);
+        }
+    }
+
+    private void record(HandlerMethod handlerMethod, RawSample sample) {
+        CapturedExample example = sample.decode();
+        for (ExampleRedactor redactor : redactors) {
+            example = redactor.redact(example);
+            if (example == null) {
+                droppedSamples.incrementAndGet();
+                return;
+            }
+        }
+        buffers.get(handlerMethod).add(toMap(example));
+    }
+
+    private Map<String, Object> toMap(CapturedExample example) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", example.getHttpMethod());
+        request.put("path", example.getPath());
+        if (example.getQuery() != null) {
+            request.put("query", example.getQuery());
+        }
+        putBody(request, example.getRequestContentType(), example.getRequestBody(), example.isRequestTruncated());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", example.getStatus());
+        putBody(response, example.getResponseContentType(), example.getResponseBody(), example.isResponseTruncated());
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("capturedAt", example.getCapturedAt().toString());
+        map.put("request", request);
+        map.put("response", response);
+        return map;
+    }
+
+    private void putBody(Map<String, Object> target, String contentType, String body, boolean truncated) {
+        if (contentType != null) {
+            target.put("contentType", contentType);
+        }
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        // 잘리지 않은 JSON 본문은 구조 그대로 예시로 사용
+        if (!truncated && contentType != null && contentType.contains("json")) {
+            try {
+                target.put("body", objectMapper.readValue(body, Object.class));
+                return;
+            } catch (Exception e) {
+                // 파싱 실패 시 문자열로 보관
+            }
+        }
+        target.put("body", body);
+        if (truncated) {
+            target.put("truncated", true);
+        }
+    }
+
+    /**
+     * 요청 스레드에서 캡처한 원본 샘플 (디코딩 전 바이트).
+     */
+    public static final class RawSample {
+        private final String httpMethod;
+        private final String path;
+        private final String query;
+        private final String requestContentType;
+        private final byte[] requestBody;
+        private final boolean requestTruncated;
+        private final String requestEncoding;
+        private final int status;
+        private final String responseContentType;
+        private final byte[] responseBody;
+        private final boolean responseTruncated;
+        private final String responseEncoding;
+        private final Instant capturedAt = Instant.now();
+
+        public RawSample(String httpMethod, String path, String query,
+                         String requestContentType, byte[] requestBody, boolean requestTruncated, String requestEncoding,
+                         int status, String responseContentType, byte[] responseBody, boolean responseTruncated,
+                         String responseEncoding) {
+            this.httpMethod = httpMethod;
+            this.path = path;
+            this.query = query;
+            this.requestContentType = requestContentType;
+            this.requestBody = requestBody;
+            this.requestTruncated = requestTruncated;
+            this.requestEncoding = requestEncoding;
+            this.status = status;
+            this.responseContentType = responseContentType;
+            this.responseBody = responseBody;
+            this.responseTruncated = responseTruncated;
+            this.responseEncoding = responseEncoding;
+        }
+
+        CapturedExample decode() {
+            return new CapturedExample(httpMethod, path, query,
+                    requestContentType, decode(requestBody, requestEncoding), requestTruncated,
+                    status, responseContentType, decode(responseBody, responseEncoding), responseTruncated,
+                    capturedAt);
+        }
+
+        private static String decode(byte[] body, String encoding) {
+            if (body == null || body.length == 0) {
+                return null;
+            }
+            Charset charset = StandardCharsets.UTF_8;
+            if (encoding != null) {
+                try {
+                    charset = Charset.forName(encoding);
+                } catch (IllegalArgumentException e) {
+                    // 알 수 없는 인코딩은 UTF-8로 처리
+                }
+            }
+            return new String(body, charset);
+        }
+    }
+
+    public static class Builder {
+        private double sampleRate = 0.01;
+        private int maxBodyBytes = 4 * 1024;
+        private int examplesPerEndpoint = 4;
+        private final List<ExampleRedactor> redactors = new ArrayList<>(List.of(
+                ExampleRedactor.maskFields("password", "secret", "token", "accessToken", "refreshToken", "authorization")));
+        private Executor executor;
+
+        /**
+         * 샘플링 비율 (0.0 ~ 1.0, 기본값: 0.01 = 100건 중 1건, 0이면 비활성)
+         */
+        public Builder sampleRate(double rate) {
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + rate);
+            }
+            this.sampleRate = rate;
+            return this;
+        }
+
+        /**
+         * 요청/응답 본문 최대 캡처 크기 (기본값: 4KB)
+         */
+        public Builder maxBodyBytes(int bytes) {
+            if (bytes < 0) {
+                throw new IllegalArgumentException("Max body bytes must not be negative: " + bytes);
+            }
+            this.maxBodyBytes = bytes;
+            return this;
+        }
+
+        /**
+         * 엔드포인트별 보관할 예시 수 (2의 거듭제곱으로 올림, 기본값: 4)
+         */
+        public Builder examplesPerEndpoint(int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("Examples per endpoint must be positive: " + count);
+            }
+            this.examplesPerEndpoint = count;
+            return this;
+        }
+
+        /**
+         * redactor 추가 (기본 민감 필드 마스킹 뒤에 적용)
+         */
+        public Builder addRedactor(ExampleRedactor redactor) {
+            this.redactors.add(redactor);
+            return this;
+        }
+
+        /**
+         * 기본 민감 필드 마스킹 제거
+         */
+        public Builder clearRedactors() {
+            this.redactors.clear();
+            return this;
+        }
+
+        /**
+         * 디코딩/redaction/저장을 실행할 executor (기본값: 큐 256의 단일 데몬 스레드, 가득 차면 버림)
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ExampleRecorder build() {
+            return new ExampleRecorder(this);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 캡처된 예시를 저장하기 전에 민감 정보를 가리는 훅.
+ *
+ * <p>{@link ExampleRecorder}의 백그라운드 스레드에서 호출되므로 요청 처리 시간에 영향을 주지 않습니다.
+ * {@code null}을 반환하면 해당 샘플은 버려집니다.</p>
+ */
+@FunctionalInterface
+public interface ExampleRedactor {
+
+    /** 가려진 값 표시 */
+    String MASK = "***";
+
+    /** 잘렸거나 해석할 수 없어 가릴 수 없는 본문 대신 저장되는 값 */
+    String OMITTED = "[omitted]";
+
+    /**
+     * @param example 캡처된 예시
+     * @return 가려진 예시, 버리려면 {@code null}
+     */
+    CapturedExample redact(CapturedExample example);
+
+    /**
+     * 지정한 이름의 값을 {@value #MASK}로 바꾸는 redactor.
+     *
+     * <p>쿼리 문자열과 {@code application/x-www-form-urlencoded} 본문은 파라미터 이름으로, JSON 본문은 필드 이름으로
+     * 재귀적으로 가립니다. 이름은 대소문자를 구분하지 않습니다.
+     * 잘렸거나 JSON/폼으로 해석할 수 없는 본문은 민감 정보가 남아 있을 수 있으므로 {@value #OMITTED}로 바꿉니다.</p>
+     *
+     * @param fieldNames 가릴 필드/파라미터 이름
+     * @return redactor
+     */
+    static ExampleRedactor maskFields(String... fieldNames) {
+        Set<String> names = Arrays.stream(fieldNames)
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        ObjectMapper mapper = new ObjectMapper();
+        return example -> example
+                .withQuery(FieldMasking.maskForm(example.getQuery(), names))
+                .withRequestBody(FieldMasking.mask(mapper, example.getRequestContentType(),
+                        example.getRequestBody(), example.isRequestTruncated(), names))
+                .withResponseBody(FieldMasking.mask(mapper, example.getResponseContentType(),
+                        example.getResponseBody(), example.isResponseTruncated(), names));
+    }
+
+    /**
+     * {@link #maskFields(String...)}와 같습니다.
+     *
+     * @param fieldNames 가릴 필드 이름
+     * @return redactor
+     * @deprecated 쿼리 문자열과 폼 본문도 가리므로 {@link #maskFields(String...)}를 사용하세요
+     */
+    @Deprecated
+    static ExampleRedactor maskJsonFields(String... fieldNames) {
+        return maskFields(fieldNames);
+    }
+
+    /**
+     * {@link #maskFields(String...)} 구현
+     */
+    final class FieldMasking {
+
+        private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+
+        private FieldMasking() {
+        }
+
+        static String mask(ObjectMapper mapper, String contentType, String body, boolean truncated, Set<String> names) {
+            if (body == null || body.isEmpty()) {
+                return body;
+            }
+            // 잘린 본문은 구조를 알 수 없어 민감한 값을 찾을 수 없음
+            if (truncated) {
+                return OMITTED;
+            }
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(FORM_CONTENT_TYPE)) {
+                return maskForm(body, names);
+            }
+            if (!looksLikeJson(body)) {
+                return OMITTED;
+            }
+            try {
+                JsonNode root = mapper.readTree(body);
+                return maskNode(root, names) ? mapper.writeValueAsString(root) : body;
+            } catch (Exception e) {
+                return OMITTED;
+            }
+        }
+
+        /**
+         * {@code name=value&...} 형식(쿼리 문자열, 폼 본문)에서 이름이 일치하는 값을 가립니다.
+         */
+        static String maskForm(String form, Set<String> names) {
+            if (form == null || form.isEmpty()) {
+                return form;
+            }
+            StringBuilder masked = new StringBuilder(form.length());
+            String[] pairs = form.split("&", -1);
+            for (int i = 0; i < pairs.length; i++) {
+                if (i > 0) {
+                    masked.append('&');
+                }
+                String pair = pairs[i];
+                int eq = pair.indexOf('=');
+                String name = eq < 0 ? pair : pair.substring(0, eq);
+                if (names.contains(decode(name).toLowerCase(Locale.ROOT))) {
+                    masked.append(name).append('=').append(MASK);
+                } else {
+                    masked.append(pair);
+                }
+            }
+            return masked.toString();
+        }
+
+        private static String decode(String value) {
+            try {
+                return URLDecoder.decode(value, StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                // 잘못된 % 인코딩은 원문 이름으로 비교
+                return value;
+            }
+        }
+
+        private static boolean maskNode(JsonNode node, Set<String> names) {
+            boolean changed = false;
+            if (node instanceof ObjectNode object) {
+                Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    if (names.contains(field.getKey().toLowerCase(Locale.ROOT))) {
+                        field.setValue(TextNode.valueOf(MASK));
+                        changed = true;
+                    } else {
+                        changed |= maskNode(field.getValue(), names);
+                    }
+                }
+            } else if (node instanceof ArrayNode array) {
+                for (JsonNode element : array) {
+                    changed |= maskNode(element, names);
+                }
+            }
+            return changed;
+        }
+
+        private static boolean looksLikeJson(String body) {
+            for (int i = 0; i < body.length(); i++) {
+                char c = body.charAt(i);
+                if (!Character.isWhitespace(c)) {
+                    return c == '{' || c == '[';
+                }
+            }
+            return false;
+        }
+    }
+}
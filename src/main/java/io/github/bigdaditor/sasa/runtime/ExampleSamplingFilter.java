@@ -0,0 +1,71 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.SasaViewController;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+
+/**
+ * 실제 요청/응답 본문을 샘플링하여 {@link ExampleRecorder}로 넘기는 필터.
+ *
+ * <p>샘플링되지 않은 요청은 {@link ExampleRecorder#shouldSample()}의 카운터 증가 한 번만 거친 뒤 그대로 통과합니다.
+ * 샘플링된 요청은 읽히는 요청 본문과 쓰이는 응답 본문을 그대로 흘려보내면서 앞부분(최대 {@code maxBodyBytes})만
+ * 복사하므로, 응답 전체를 버퍼링하지 않습니다. 디코딩과 redaction은 요청 스레드 밖에서 수행됩니다.</p>
+ *
+ * <p>비동기 처리로 넘어간 요청과 SASA 자체 엔드포인트는 기록하지 않습니다.</p>
+ */
+public class ExampleSamplingFilter extends OncePerRequestFilter {
+
+    private final ExampleRecorder recorder;
+
+    public ExampleSamplingFilter(ExampleRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!recorder.shouldSample()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int limit = recorder.getMaxBodyBytes();
+        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request, limit);
+        TeeResponseWrapper responseWrapper = new TeeResponseWrapper(response, limit);
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
+        } finally {
+            responseWrapper.flushWriter();
+            if (!requestWrapper.isAsyncStarted()) {
+                capture(requestWrapper, responseWrapper);
+            }
+        }
+    }
+
+    private void capture(ContentCachingRequestWrapper request, TeeResponseWrapper response) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || SasaViewController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return;
+        }
+
+        // 요청 본문 캐시는 limit까지만 쌓임 (Content-Length 없는 chunked 요청은 캐시가 가득 찼으면 잘린 것으로 간주)
+        byte[] requestBody = request.getContentAsByteArray();
+        int limit = recorder.getMaxBodyBytes();
+        boolean requestTruncated = request.getContentLengthLong() > limit || (limit > 0 && requestBody.length >= limit);
+
+        recorder.submit(handlerMethod, new ExampleRecorder.RawSample(
+                request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                request.getContentType(), requestBody, requestTruncated, request.getCharacterEncoding(),
+                response.getStatus(), response.getContentType(), response.getCapturedBytes(), response.isTruncated(),
+                response.getCharacterEncoding()));
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * lock-free 로그 버킷 지연 시간 히스토그램.
+ *
+ * <p>마이크로초 단위 값을 2의 거듭제곱 구간마다 {@value #SUB_BUCKETS}개 하위 버킷으로 나눠 셉니다
+ * (구간 중앙값 기준 상대 오차 최대 약 12.5%). 카운터는 {@link Stripes}로 고른 stripe에 나눠 기록되므로
+ * 기록 경로에는 락과 할당이 없고, 스레드 간 경합도 줄어듭니다. 통계는 모든 stripe를 합산해 계산합니다.</p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** 2^32µs(약 71분)까지 구분, 그 이상은 마지막 버킷 */
+    private static final int MAX_EXPONENT = 32;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    /** stripe별 [버킷..., count, sum, max] */
+    private static final int COUNT_OFFSET = BUCKET_COUNT;
+    private static final int SUM_OFFSET = BUCKET_COUNT + 1;
+    private static final int MAX_OFFSET = BUCKET_COUNT + 2;
+    private static final int STRIPE_WIDTH = BUCKET_COUNT + 3;
+
+    private final AtomicLongArray cells = new AtomicLongArray(Stripes.COUNT * STRIPE_WIDTH);
+    private final long createdAtMillis = System.currentTimeMillis();
+
+    /**
+     * 지연 시간을 기록합니다.
+     *
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        int base = Stripes.current() * STRIPE_WIDTH;
+        cells.incrementAndGet(base + bucketIndex(micros));
+        cells.incrementAndGet(base + COUNT_OFFSET);
+        cells.addAndGet(base + SUM_OFFSET, micros);
+        long max;
+        do {
+            max = cells.get(base + MAX_OFFSET);
+        } while (micros > max && !cells.compareAndSet(base + MAX_OFFSET, max, micros));
+    }
+
+    /**
+     * @return 요청 수, 초당 요청 수(생성 이후 평균), 평균/p50/p90/p99/최대 지연 시간(ms)
+     */
+    public Map<String, Object> snapshot() {
+        long[] buckets = new long[BUCKET_COUNT];
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        for (int stripe = 0; stripe < Stripes.COUNT; stripe++) {
+            int base = stripe * STRIPE_WIDTH;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] += cells.get(base + i);
+            }
+            count += cells.get(base + COUNT_OFFSET);
+            sum += cells.get(base + SUM_OFFSET);
+            max = Math.max(max, cells.get(base + MAX_OFFSET));
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", count);
+        double elapsedSeconds = Math.max(1, System.currentTimeMillis() - createdAtMillis) / 1000.0;
+        snapshot.put("requestsPerSecond", round(count / elapsedSeconds));
+        if (count == 0) {
+            return snapshot;
+        }
+        snapshot.put("meanMs", toMillis((double) sum / count));
+        snapshot.put("p50Ms", toMillis(Math.min(max, percentile(buckets, count, 0.50))));
+        snapshot.put("p90Ms", toMillis(Math.min(max, percentile(buckets, count, 0.90))));
+        snapshot.put("p99Ms", toMillis(Math.min(max, percentile(buckets, count, 0.99))));
+        snapshot.put("maxMs", toMillis(max));
+        return snapshot;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 버킷의 대표값 (구간 중앙, µs)
+     */
+    static double bucketMidpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + subBucket * width;
+        return lower + width / 2.0;
+    }
+
+    private static double percentile(long[] buckets, long count, double quantile) {
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return bucketMidpoint(i);
+            }
+        }
+        return bucketMidpoint(buckets.length - 1);
+    }
+
+    private static double toMillis(double micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
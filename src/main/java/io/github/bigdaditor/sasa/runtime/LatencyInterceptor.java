@@ -0,0 +1,140 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.SasaViewController;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * 엔드포인트별 핸들러 지연 시간을 {@link LatencyHistogram}에 기록하는 인터셉터.
+ *
+ * <p>시작 시각은 스레드별 고정 크기 {@code long[]} 스택에 저장하므로 (forward/include 중첩 포함)
+ * 요청 경로에서 박싱이나 요청 속성 할당이 없습니다. 스택은 가장 바깥 요청이 끝나면 스레드에서 제거되므로 (요청마다 새로 할당),
+ * 컨테이너 스레드가 웹 애플리케이션 클래스로더를 붙잡아 재배포 후에도 남지 않습니다. 히스토그램은 {@link EndpointStatsRegistry}로
+ * {@link HandlerMethod}에 매달리며, 첫 요청 이후에는 조회와 카운터 증가만 수행합니다.</p>
+ *
+ * <p>비동기 처리({@code Callable}, {@code DeferredResult} 등)로 넘어간 요청과 SASA 자체 엔드포인트는 기록하지 않습니다.</p>
+ *
+ * <p>{@link RuntimeSpecContributor}로서 {@code /sasa/api-spec}의 각 엔드포인트에 {@code latency} 블록을 붙입니다.</p>
+ *
+ * <pre>{@code
+ * @Bean
+ * LatencyInterceptor latencyInterceptor() {
+ *     return new LatencyInterceptor();
+ * }
+ *
+ * @Bean
+ * WebMvcConfigurer latencyConfigurer(LatencyInterceptor interceptor) {
+ *     return new WebMvcConfigurer() {
+ *         @Override
+ *         public void addInterceptors(InterceptorRegistry registry) {
+ *             registry.addInterceptor(interceptor);
+ *         }
+ *     };
+ * }
+ * }</pre>
+ */
+public class LatencyInterceptor implements AsyncHandlerInterceptor, RuntimeSpecContributor {
+
+    /** forward/include 중첩 허용 깊이 (초과분은 기록하지 않음) */
+    private static final int MAX_NESTING = 8;
+
+    private static final ThreadLocal<StartTimes> START_TIMES = ThreadLocal.withInitial(StartTimes::new);
+
+    private final EndpointStatsRegistry<LatencyHistogram> histograms = new EndpointStatsRegistry<>(LatencyHistogram::new);
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isTracked(request, handler)) {
+            START_TIMES.get().push(System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isTracked(request, handler)) {
+            // 비동기 처리는 핸들러 반환 시점이 응답 완료가 아니므로 버림
+            popStart();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!isTracked(request, handler)) {
+            return;
+        }
+        long start = popStart();
+        if (start != 0) {
+            histograms.get((HandlerMethod) handler).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 시작 시각을 꺼내고, 바깥 요청까지 끝났으면 스레드 로컬을 제거
+     */
+    private static long popStart() {
+        StartTimes startTimes = START_TIMES.get();
+        long start = startTimes.pop();
+        if (startTimes.isEmpty()) {
+            START_TIMES.remove();
+        }
+        return start;
+    }
+
+    /**
+     * @param endpointKey 엔드포인트 키
+     * @return 지연 시간 히스토그램, 기록된 적이 없으면 {@code null}
+     */
+    public LatencyHistogram getHistogram(String endpointKey) {
+        return histograms.find(endpointKey);
+    }
+
+    @Override
+    public void contribute(String endpointKey, Map<String, Object> endpoint) {
+        LatencyHistogram histogram = histograms.find(endpointKey);
+        if (histogram != null) {
+            endpoint.put("latency", histogram.snapshot());
+        }
+    }
+
+    /**
+     * preHandle과 afterCompletion/afterConcurrentHandlingStarted가 같은 판단을 해야 스택 짝이 맞음
+     */
+    private static boolean isTracked(HttpServletRequest request, Object handler) {
+        return handler instanceof HandlerMethod handlerMethod
+                && request.getDispatcherType() != DispatcherType.ASYNC
+                && !SasaViewController.class.isAssignableFrom(handlerMethod.getBeanType());
+    }
+
+    private static final class StartTimes {
+        private final long[] stack = new long[MAX_NESTING];
+        private int depth;
+
+        void push(long start) {
+            if (depth < MAX_NESTING) {
+                stack[depth] = start;
+            }
+            depth++;
+        }
+
+        /**
+         * @return 시작 시각, 깊이 초과로 저장되지 않았거나 짝이 없으면 0
+         */
+        long pop() {
+            if (depth == 0) {
+                return 0;
+            }
+            depth--;
+            return depth < MAX_NESTING ? stack[depth] : 0;
+        }
+
+        boolean isEmpty() {
+            return depth == 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.util.Map;
+
+/**
+ * 실행 중 수집한 정보를 스펙에 덧붙이는 확장 지점.
+ *
+ * <p>{@link io.github.bigdaditor.sasa.SasaViewController}는 ApplicationContext에 등록된 구현체를 찾아
+ * {@code /sasa/api-spec} 응답을 만들 때마다 호출합니다. 캐시된 스펙은 변경되지 않으며, 엔드포인트 맵의 사본이 전달됩니다.</p>
+ *
+ * @see io.github.bigdaditor.sasa.util.EndpointKey
+ */
+public interface RuntimeSpecContributor {
+
+    /**
+     * 엔드포인트 하나에 실행 정보를 덧붙입니다.
+     *
+     * @param endpointKey 엔드포인트 키 ({@link io.github.bigdaditor.sasa.util.EndpointKey})
+     * @param endpoint    엔드포인트 맵 사본 (수정 가능)
+     */
+    void contribute(String endpointKey, Map<String, Object> endpoint);
+
+    /**
+     * 스펙 최상위에 실행 정보를 덧붙입니다 (엔드포인트 처리 후 호출).
+     *
+     * @param spec 스펙 맵 사본 (수정 가능)
+     */
+    default void contributeSpec(Map<String, Object> spec) {
+    }
+}
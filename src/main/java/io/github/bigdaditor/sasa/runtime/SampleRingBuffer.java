@@ -0,0 +1,74 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼.
+ *
+ * <p>쓰기는 커서 증가 한 번과 슬롯 쓰기 한 번이며, 가득 차면 가장 오래된 항목을 덮어씁니다.
+ * 읽기는 최신 항목부터 스냅샷을 만들며, 동시 쓰기 중에는 일부 슬롯이 더 새로운 항목일 수 있습니다.</p>
+ *
+ * @param <T> 항목 타입
+ */
+public class SampleRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     * @param capacity 최대 보관 수 (2의 거듭제곱으로 올림)
+     */
+    public SampleRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 항목을 추가합니다 (가득 차면 가장 오래된 항목을 덮어씀).
+     */
+    public void add(T item) {
+        long index = cursor.getAndIncrement();
+        slots.set((int) (index & mask), item);
+    }
+
+    /**
+     * @return 최신 항목부터 정렬된 스냅샷
+     */
+    public List<T> snapshot() {
+        long end = cursor.get();
+        long start = Math.max(0, end - slots.length());
+        List<T> items = new ArrayList<>((int) (end - start));
+        for (long index = end - 1; index >= start; index--) {
+            T item = slots.get((int) (index & mask));
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * @return 지금까지 추가된 총 항목 수
+     */
+    public long totalAdded() {
+        return cursor.get();
+    }
+
+    /**
+     * @return 버퍼 크기
+     */
+    public int capacity() {
+        return slots.length();
+    }
+}
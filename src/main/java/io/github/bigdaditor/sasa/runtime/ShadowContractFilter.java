@@ -0,0 +1,81 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.SasaViewController;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 샘플링한 요청을 {@link ContractChecker}로 넘기는 shadow 모드 필터.
+ *
+ * <p>요청은 그대로 처리되고, 처리가 끝난 뒤 경로 변수/쿼리 파라미터/헤더와 핸들러가 읽은 요청 본문(최대 {@code maxBodyBytes})만
+ * 복사해 검사 큐에 넣습니다. 검사는 요청 스레드 밖에서 수행되며, 샘플링되지 않은 요청의 비용은 카운터 증가 한 번입니다.</p>
+ *
+ * <p>비동기 처리로 넘어간 요청과 SASA 자체 엔드포인트는 검사하지 않습니다.</p>
+ */
+public class ShadowContractFilter extends OncePerRequestFilter {
+
+    private final ContractChecker checker;
+
+    public ShadowContractFilter(ContractChecker checker) {
+        this.checker = checker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!checker.shouldSample()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request, checker.getMaxBodyBytes());
+        try {
+            filterChain.doFilter(requestWrapper, response);
+        } finally {
+            if (!requestWrapper.isAsyncStarted()) {
+                submit(requestWrapper);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void submit(ContentCachingRequestWrapper request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || SasaViewController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return;
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        for (Enumeration<String> names = request.getHeaderNames(); names != null && names.hasMoreElements(); ) {
+            String name = names.nextElement();
+            String value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name.toLowerCase(), value);
+            }
+        }
+
+        // 본문 캐시는 limit까지만 쌓임 (Content-Length 없는 chunked 요청은 캐시가 가득 찼으면 잘린 것으로 간주)
+        byte[] body = request.getContentAsByteArray();
+        int limit = checker.getMaxBodyBytes();
+        boolean truncated = request.getContentLengthLong() > limit || (limit > 0 && body.length >= limit);
+
+        checker.submit(handlerMethod, new ContractSample(
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE),
+                request.getParameterMap(),
+                headers,
+                body,
+                truncated));
+    }
+}
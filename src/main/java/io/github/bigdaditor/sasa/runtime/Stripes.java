@@ -0,0 +1,22 @@
+package io.github.bigdaditor.sasa.runtime;
+
+/**
+ * 스레드별로 분산된(striped) 카운터의 stripe 선택.
+ *
+ * <p>stripe 수는 CPU 수(최대 8)를 2의 거듭제곱으로 내림한 값이며, 스레드 ID로 stripe를 고릅니다.
+ * 같은 카운터를 여러 스레드가 동시에 갱신할 때의 캐시 라인 경합을 줄이고, 읽을 때 모든 stripe를 합산합니다.</p>
+ */
+final class Stripes {
+
+    static final int COUNT = Integer.highestOneBit(Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors())));
+
+    private Stripes() {
+    }
+
+    /**
+     * @return 현재 스레드의 stripe 번호 ({@code 0 ~ COUNT-1})
+     */
+    static int current() {
+        return (int) (Thread.currentThread().getId() & (COUNT - 1));
+    }
+}
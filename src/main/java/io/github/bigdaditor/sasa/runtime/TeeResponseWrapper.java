@@ -0,0 +1,149 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 응답 본문을 그대로 내보내면서 앞부분만 복사해 두는 응답 래퍼.
+ *
+ * <p>{@code ContentCachingResponseWrapper}와 달리 본문 전체를 버퍼링하지 않으므로 스트리밍/대용량 응답에도 안전합니다.
+ * {@code limit}이 0이면 복사 없이 쓰인 바이트 수만 셉니다.</p>
+ */
+class TeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int limit;
+    private final byte[] captured;
+    private int capturedLength;
+    private boolean truncated;
+    private long writtenBytes;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    TeeResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+        this.captured = new byte[limit];
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(getResponse().getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called for this response");
+        }
+        if (writer == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            outputStream = new TeeOutputStream(getResponse().getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /**
+     * getWriter()로 쓴 내용 중 버퍼에 남은 부분을 내보냄
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    byte[] getCapturedBytes() {
+        return Arrays.copyOf(captured, capturedLength);
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return 지금까지 쓰인 응답 본문 크기 (writer 사용 시 {@link #flushWriter()} 이후 기준)
+     */
+    long getWrittenBytes() {
+        return writtenBytes;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        int copy = Math.min(length, limit - capturedLength);
+        if (copy > 0) {
+            System.arraycopy(bytes, offset, captured, capturedLength, copy);
+            capturedLength += copy;
+        }
+        if (copy < length) {
+            truncated = true;
+        }
+    }
+
+    private class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            writtenBytes++;
+            if (capturedLength < limit) {
+                captured[capturedLength++] = (byte) b;
+            } else {
+                truncated = true;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            writtenBytes += len;
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
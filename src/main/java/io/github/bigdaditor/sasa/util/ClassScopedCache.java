@@ -0,0 +1,149 @@
+package io.github.bigdaditor.sasa.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 클래스 언로드를 막지 않는 클래스 단위 메타데이터 캐시.
+ *
+ * <p>값은 {@link ClassValue}를 통해 범위 클래스(scope) 자신에 매달리므로, 범위 클래스와 그 클래스로더가
+ * 더 이상 참조되지 않으면 캐시 값도 함께 수집됩니다. devtools 재시작이나 핫 리디플로이 후에도
+ * 이전 클래스로더가 캐시 때문에 남지 않습니다.</p>
+ *
+ * <p>키나 값이 범위 클래스의 클래스로더에서 보이지 않는 클래스(예: 자식 클래스로더의 클래스)를 참조하면
+ * 부모 쪽 클래스가 자식 클래스로더를 붙잡게 되므로, 이런 값은 캐시하지 않고 매번 계산합니다.</p>
+ *
+ * <pre>{@code
+ * ClassScopedCache<Type, Info> cache = new ClassScopedCache<>((type, info) -> info.referencedClasses());
+ * Info info = cache.get(ownerClass, type, key -> compute(key));
+ * }</pre>
+ *
+ * @param <K> 범위 클래스 내 키 타입
+ * @param <V> 값 타입
+ */
+public final class ClassScopedCache<K, V> {
+
+    /** {@link #invalidateAll()} 대상 (캐시 인스턴스 자체도 붙잡지 않도록 weak) */
+    private static final Set<ClassScopedCache<?, ?>> INSTANCES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final BiFunction<K, V, Iterable<Class<?>>> referencedClasses;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final ClassValue<Scoped<K, V>> values = new ClassValue<>() {
+        @Override
+        protected Scoped<K, V> computeValue(Class<?> type) {
+            return new Scoped<>(generation.get());
+        }
+    };
+
+    /**
+     * @param referencedClasses 키/값이 참조하는 클래스 목록 (클래스로더 가시성 검사용, {@code null}이면 검사 생략)
+     */
+    public ClassScopedCache(BiFunction<K, V, Iterable<Class<?>>> referencedClasses) {
+        this.referencedClasses = referencedClasses;
+        INSTANCES.add(this);
+    }
+
+    /**
+     * 캐시된 값을 반환하거나 계산하여 저장합니다.
+     *
+     * @param scope  값을 매달 범위 클래스
+     * @param key    범위 내 키
+     * @param loader 캐시 미스 시 값 계산 함수
+     * @return 값
+     */
+    public V get(Class<?> scope, K key, Function<K, V> loader) {
+        Map<K, V> scoped = values.get(scope).current(generation.get());
+        V value = scoped.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null && isCacheable(scope, key, value)) {
+            V existing = scoped.putIfAbsent(key, value);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 특정 클래스의 캐시 값을 제거합니다.
+     */
+    public void invalidate(Class<?> scope) {
+        values.remove(scope);
+    }
+
+    /**
+     * 모든 캐시 값을 제거합니다.
+     *
+     * <p>세대 번호를 올려 각 클래스의 캐시가 다음 조회 시 비워지도록 합니다. 클래스가 언로드되면 함께 수집됩니다.</p>
+     */
+    public void clear() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 생성된 모든 {@link ClassScopedCache}를 비웁니다 (ApplicationContext 종료 시 호출).
+     */
+    public static void invalidateAll() {
+        synchronized (INSTANCES) {
+            for (ClassScopedCache<?, ?> cache : INSTANCES) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * {@code referenced} 클래스가 {@code scope}의 클래스로더에서 보이는지 (같은 로더 또는 상위 로더) 확인
+     */
+    public static boolean isVisibleFrom(Class<?> scope, Class<?> referenced) {
+        ClassLoader target = referenced.getClassLoader();
+        if (target == null) {
+            // 부트스트랩 클래스는 어디서나 보임
+            return true;
+        }
+        for (ClassLoader loader = scope.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCacheable(Class<?> scope, K key, V value) {
+        if (referencedClasses == null) {
+            return true;
+        }
+        for (Class<?> referenced : referencedClasses.apply(key, value)) {
+            if (!isVisibleFrom(scope, referenced)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Scoped<K, V> {
+        private final Map<K, V> entries = new ConcurrentHashMap<>();
+        private int generation;
+
+        Scoped(int generation) {
+            this.generation = generation;
+        }
+
+        synchronized Map<K, V> current(int currentGeneration) {
+            if (generation != currentGeneration) {
+                entries.clear();
+                generation = currentGeneration;
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.bigdaditor.sasa.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 응답 본문으로 HTTP ETag를 만드는 유틸리티.
+ */
+public final class ETags {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private ETags() {
+    }
+
+    /**
+     * @param content 응답 본문
+     * @return 본문 SHA-256 앞 16자리로 만든 strong ETag (따옴표 포함, 예: {@code "3f2a9c0d1b7e4a55"})
+     */
+    public static String of(byte[] content) {
+        try {
+            return '"' + HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(content), 0, 8) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.bigdaditor.sasa.util;
+
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * 엔드포인트 식별 키.
+ *
+ * <p>추출 시점의 스펙 맵과 요청 시점의 {@link HandlerMethod}가 같은 키를 만들도록
+ * {@code 컨트롤러 전체 이름#메서드 시그니처} 형태를 사용합니다 (예: {@code com.example.UserController#getUser(java.lang.Long)}).
+ * 같은 상위 클래스 메서드를 상속한 여러 컨트롤러도 컨트롤러 이름으로 구분됩니다.</p>
+ */
+public final class EndpointKey {
+
+    private EndpointKey() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * @param handlerMethod 핸들러 메서드
+     * @return 엔드포인트 키
+     */
+    public static String of(HandlerMethod handlerMethod) {
+        return of(handlerMethod.getBeanType(), handlerMethod.getMethod());
+    }
+
+    /**
+     * @param beanType 컨트롤러 클래스
+     * @param method   핸들러 메서드
+     * @return 엔드포인트 키
+     */
+    public static String of(Class<?> beanType, Method method) {
+        return beanType.getName() + "#" + signature(method);
+    }
+
+    /**
+     * 스펙의 엔드포인트 맵에서 키를 만듭니다.
+     *
+     * @param endpoint 엔드포인트 맵 ({@code handler.fullControllerName}, {@code handler.signature} 필요)
+     * @return 엔드포인트 키, 정보가 없으면 {@code null}
+     */
+    public static String of(Map<String, Object> endpoint) {
+        if (!(endpoint.get("handler") instanceof Map<?, ?> handler)) {
+            return null;
+        }
+        Object controller = handler.get("fullControllerName");
+        Object signature = handler.get("signature");
+        if (controller == null || signature == null) {
+            return null;
+        }
+        return controller + "#" + signature;
+    }
+
+    /**
+     * @param method 메서드
+     * @return 메서드 시그니처 (예: {@code getUser(java.lang.Long)})
+     */
+    public static String signature(Method method) {
+        StringBuilder builder = new StringBuilder(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(parameterTypes[i].getTypeName());
+        }
+        return builder.append(')').toString();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.bigdaditor.sasa.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전).
+ *
+ * <p>용량을 넘으면 가장 오래 조회되지 않은 항목을 제거합니다. 값 계산은 락 밖에서 하므로 느린 계산이 다른 조회를
+ * 막지 않으며, 같은 키가 동시에 처음 조회되면 두 번 계산될 수 있습니다(먼저 저장된 값이 남음).</p>
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class LruCache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param capacity 최대 항목 수
+     */
+    public LruCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값을 반환하거나 계산하여 저장합니다.
+     *
+     * @param key    키
+     * @param loader 캐시 미스 시 값 계산 함수 ({@code null}을 반환하면 저장하지 않음)
+     * @return 값
+     */
+    public V get(K key, Function<K, V> loader) {
+        synchronized (this) {
+            V value = entries.get(key);
+            if (value != null) {
+                hits++;
+                return value;
+            }
+            misses++;
+        }
+
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        synchronized (this) {
+            V existing = entries.putIfAbsent(key, value);
+            return existing != null ? existing : value;
+        }
+    }
+
+    /**
+     * 모든 항목을 제거합니다 (통계는 유지).
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return 현재 항목 수, 용량, 조회 적중/미스 수, 제거 수
+     */
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("capacity", capacity);
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        return stats;
+    }
+}
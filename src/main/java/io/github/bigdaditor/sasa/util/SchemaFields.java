@@ -0,0 +1,38 @@
+package io.github.bigdaditor.sasa.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스키마 맵의 필드 목록 조회.
+ *
+ * <p>상속 구조의 스키마는 자신이 선언한 필드만 {@code fields}에 담고, 상속받은 필드는 공유된
+ * {@code superclass} 스키마에 둡니다. 스펙을 읽는 쪽은 이 클래스로 상위 클래스 필드부터 순서대로 모은 전체 목록을 얻습니다.</p>
+ */
+public final class SchemaFields {
+
+    private SchemaFields() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * @param schema 타입 스키마 ({@code null} 가능)
+     * @return 상속받은 필드를 포함한 전체 필드 (상위 클래스 필드가 먼저), 없으면 빈 목록
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> of(Map<String, Object> schema) {
+        if (schema == null) {
+            return List.of();
+        }
+        List<Map<String, Object>> own = schema.get("fields") instanceof List<?> fields
+                ? (List<Map<String, Object>>) fields
+                : List.of();
+        if (!(schema.get("superclass") instanceof Map<?, ?> superclass)) {
+            return own;
+        }
+        List<Map<String, Object>> all = new ArrayList<>(of((Map<String, Object>) superclass));
+        all.addAll(own);
+        return all;
+    }
+}
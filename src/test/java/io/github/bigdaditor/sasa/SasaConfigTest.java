@@ -19,6 +19,9 @@ class SasaConfigTest {
         assertTrue(config.getIncludeHttpMethods().isEmpty(), "Include methods should be empty");
         assertTrue(config.getExcludeHttpMethods().isEmpty(), "Exclude methods should be empty");
         assertNull(config.getCustomEndpointFilter(), "Custom filter should be null");
+        assertFalse(config.isEnableGzipOutput(), "Gzip output should be disabled by default");
+        assertEquals(9, config.getGzipCompressionLevel(), "Default gzip level should be best compression");
+        assertNull(config.getTypeSchemaExtractor(), "Default schema extractor should be used");
     }
 
     @Test
@@ -276,4 +279,21 @@ class SasaConfigTest {
         assertFalse(config.shouldIncludePath("/api/internal/metrics"));
         assertFalse(config.shouldIncludePath("/api/admin/users"));
     }
+
+    @Test
+    void testGzipOutputSettings() {
+        SasaConfig config = SasaConfig.builder()
+                .enableGzipOutput(true)
+                .gzipCompressionLevel(1)
+                .build();
+
+        assertTrue(config.isEnableGzipOutput());
+        assertEquals(1, config.getGzipCompressionLevel());
+    }
+
+    @Test
+    void testInvalidGzipCompressionLevel() {
+        assertThrows(IllegalArgumentException.class, () -> SasaConfig.builder().gzipCompressionLevel(10));
+        assertThrows(IllegalArgumentException.class, () -> SasaConfig.builder().gzipCompressionLevel(0));
+    }
 }
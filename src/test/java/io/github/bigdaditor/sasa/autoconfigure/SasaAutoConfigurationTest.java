@@ -0,0 +1,221 @@
+package io.github.bigdaditor.sasa.autoconfigure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.SasaViewController;
+import io.github.bigdaditor.sasa.extractor.impl.JacksonTypeSchemaExtractor;
+import io.github.bigdaditor.sasa.reactive.SasaReactiveViewController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SasaAutoConfigurationTest {
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(SasaAutoConfiguration.class))
+            .withUserConfiguration(MvcConfig.class);
+
+    @Test
+    void disabledByDefaultRegistersNothing() {
+        runner.run(context -> {
+            assertEquals(0, context.getBeanNamesForType(SasaProperties.class).length);
+            assertEquals(0, context.getBeanNamesForType(SasaViewController.class).length);
+            assertTrue(Arrays.stream(context.getBeanDefinitionNames()).noneMatch(name -> name.startsWith("sasa")));
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enabledRegistersControllerWithoutCreatingIt() {
+        runner.withPropertyValues("sasa.enabled=true", "sasa.application-name=Orders API", "sasa.exclude-paths=/error")
+                .run(context -> {
+                    // 핸들러 매핑에는 빈 이름으로만 등록되고 인스턴스는 아직 없음
+                    assertTrue(context.getBeanFactory().getBeanDefinition("sasaViewController").isLazyInit());
+                    assertFalse(context.getBeanFactory().containsSingleton("sasaViewController"));
+                    assertFalse(context.getBeanFactory().containsSingleton("sasaConfig"));
+                    assertTrue(context.getBean(RequestMappingHandlerMapping.class).getHandlerMethods().values().stream()
+                            .map(HandlerMethod::getBean)
+                            .anyMatch("sasaViewController"::equals));
+
+                    Map<String, Object> spec = context.getBean(SasaViewController.class).getSpecSnapshot();
+                    assertEquals("Orders API", spec.get("applicationName"));
+                    assertTrue(((List<Map<String, Object>>) spec.get("endpoints")).stream()
+                            .anyMatch(endpoint -> endpoint.get("paths").toString().contains("/ping")));
+                });
+    }
+
+    @Test
+    void userConfigAndControllerSwitchAreHonoured() {
+        runner.withPropertyValues("sasa.enabled=true", "sasa.controller.enabled=false")
+                .withBean(SasaConfig.class, () -> SasaConfig.builder().applicationName("Custom").build())
+                .run(context -> {
+                    assertEquals(0, context.getBeanNamesForType(SasaViewController.class).length);
+                    assertEquals("Custom", context.getBean(SasaConfig.class).getApplicationName());
+                });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void contextObjectMapperDrivesServedSchemas() {
+        runner.withPropertyValues("sasa.enabled=true")
+                .withBean(ObjectMapper.class, () -> new ObjectMapper()
+                        .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE))
+                .withUserConfiguration(ProfileConfig.class)
+                .run(context -> {
+                    assertInstanceOf(JacksonTypeSchemaExtractor.class,
+                            context.getBean(SasaConfig.class).getTypeSchemaExtractor());
+
+                    Map<String, Object> profile = ((List<Map<String, Object>>) context.getBean(SasaViewController.class)
+                            .getSpecSnapshot().get("endpoints")).stream()
+                            .filter(endpoint -> endpoint.get("paths").toString().contains("/profile"))
+                            .findFirst()
+                            .orElseThrow();
+                    Map<String, Object> schema = (Map<String, Object>) ((Map<String, Object>) profile.get("response")).get("schema");
+                    assertEquals(List.of("display_name"), ((List<Map<String, Object>>) schema.get("fields")).stream()
+                            .map(field -> field.get("name"))
+                            .toList());
+                });
+    }
+
+    @Test
+    void withoutObjectMapperTheDefaultSchemaExtractorIsUsed() {
+        runner.withPropertyValues("sasa.enabled=true")
+                .run(context -> assertNull(context.getBean(SasaConfig.class).getTypeSchemaExtractor()));
+    }
+
+    @Test
+    void warmUpExtractsWhenApplicationIsReady() {
+        runner.withPropertyValues("sasa.enabled=true", "sasa.startup.warm-up=true")
+                .run(context -> {
+                    assertFalse(context.getBeanFactory().containsSingleton("sasaViewController"));
+
+                    context.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0],
+                            context.getSourceApplicationContext(), Duration.ZERO));
+
+                    assertTrue(context.getBeanFactory().containsSingleton("sasaViewController"));
+                });
+    }
+
+    @Test
+    void reactiveApplicationsGetTheReactiveController() {
+        new ReactiveWebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(SasaAutoConfiguration.class))
+                .withUserConfiguration(WebFluxConfig.class)
+                .withPropertyValues("sasa.enabled=true")
+                .run(context -> {
+                    assertEquals(0, context.getBeanNamesForType(SasaViewController.class).length);
+                    assertFalse(context.getBeanFactory().containsSingleton("sasaReactiveViewController"));
+
+                    Map<String, Object> spec = context.getBean(SasaReactiveViewController.class).getSpecSnapshot().block();
+                    assertNotNull(spec);
+                    assertFalse(((List<?>) spec.get("endpoints")).isEmpty());
+                });
+    }
+
+    @Test
+    void enabledStartupAndShutdownCreateNoSasaComponents() {
+        List<Object> created = new ArrayList<>();
+        runner.withPropertyValues("sasa.enabled=true")
+                .withInitializer(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        created.add(bean);
+                        return bean;
+                    }
+                }))
+                .run(context -> assertTrue(context.isActive()));
+
+        // 시작부터 종료까지 만들어진 SASA 빈은 자동 설정과 속성 바인딩뿐이고, 컨트롤러·설정·추출기는 없음
+        List<String> sasaBeans = created.stream()
+                .map(bean -> bean.getClass().getName())
+                .filter(name -> name.startsWith("io.github.bigdaditor.sasa."))
+                .toList();
+        assertFalse(sasaBeans.isEmpty());
+        assertTrue(sasaBeans.stream().allMatch(name -> name.startsWith(SasaAutoConfiguration.class.getPackageName() + ".")),
+                sasaBeans::toString);
+        assertTrue(created.stream().noneMatch(bean -> bean instanceof SasaViewController || bean instanceof SasaConfig));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class MvcConfig {
+
+        @Bean
+        RequestMappingHandlerMapping requestMappingHandlerMapping() {
+            return new RequestMappingHandlerMapping();
+        }
+
+        @Bean
+        PingController pingController() {
+            return new PingController();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class WebFluxConfig {
+
+        @Bean
+        org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping requestMappingHandlerMapping() {
+            return new org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping();
+        }
+
+        @Bean
+        PingController pingController() {
+            return new PingController();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ProfileConfig {
+
+        @Bean
+        ProfileController profileController() {
+            return new ProfileController();
+        }
+    }
+
+    @RestController
+    static class ProfileController {
+
+        @GetMapping("/profile")
+        Profile profile() {
+            return new Profile();
+        }
+    }
+
+    static class Profile {
+
+        private String displayName;
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    @RestController
+    static class PingController {
+
+        @GetMapping("/ping")
+        String ping() {
+            return "pong";
+        }
+    }
+}
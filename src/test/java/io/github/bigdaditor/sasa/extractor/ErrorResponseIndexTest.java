@@ -0,0 +1,174 @@
+package io.github.bigdaditor.sasa.extractor;
+
+import io.github.bigdaditor.sasa.extractor.impl.DefaultExceptionHandlerExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.ErrorResponseIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseIndexTest {
+
+    @Test
+    void controllerHandlersShadowAdvicesAndScopesAreApplied() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(GlobalAdvice.class);
+            context.registerBean(OrdersAdvice.class);
+            context.registerBean(OtherPackageAdvice.class);
+            context.refresh();
+
+            ErrorResponseIndex index = ErrorResponseIndex.build(context, new DefaultExceptionHandlerExtractor());
+
+            List<Map<String, Object>> orders = index.errorResponses(OrdersController.class);
+            assertEquals(List.of("controller:IllegalStateException", "advice:IllegalArgumentException",
+                    "advice:RuntimeException"), describe(orders));
+            assertEquals("ErrorBody", ((Map<?, ?>) orders.get(1).get("response")).get("genericType"));
+
+            List<Map<String, Object>> users = index.errorResponses(UsersController.class);
+            // 같은 클래스 안의 handler 순서는 선언 순서에 의존하지 않음
+            assertEquals(Set.of("advice:IllegalStateException", "advice:RuntimeException"), Set.copyOf(describe(users)));
+            assertSame(users, index.errorResponses(UsersController.class));
+        }
+    }
+
+    @Test
+    void packagePrefixAndTypeHierarchyFollowSpringDispatch() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(PrefixAdvice.class);
+            context.registerBean(BroadAdvice.class);
+            context.registerBean(NarrowAdvice.class);
+            context.registerBean(ConflictAdvice.class);
+            context.refresh();
+
+            ErrorResponseIndex index = ErrorResponseIndex.build(context, new DefaultExceptionHandlerExtractor());
+
+            List<String> responses = describe(index.errorResponses(OrdersController.class));
+            // 접두사 "...sasa.extract"는 "...sasa.extractor" 패키지에도 적용되고, IllegalStateException은 컨트롤러와
+            // RuntimeException handler가 먼저 처리하므로 NarrowAdvice는 빠짐. 이름만 같은 예외는 가려지지 않음
+            assertEquals(5, responses.size(), responses::toString);
+            assertEquals(Set.of("controller:IllegalStateException", "advice:UnsupportedOperationException",
+                    "advice:RuntimeException", "advice:IllegalArgumentException", "advice:IllegalStateException"),
+                    Set.copyOf(responses));
+            assertEquals("controller:IllegalStateException", responses.get(0));
+            assertEquals("advice:IllegalStateException", responses.get(4));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> describe(List<Map<String, Object>> errorResponses) {
+        return errorResponses.stream()
+                .map(response -> response.get("scope") + ":" + String.join(",", (List<String>) response.get("exceptionTypes")))
+                .collect(Collectors.toList());
+    }
+
+    static class ErrorBody {
+        private String message;
+    }
+
+    @RestController
+    static class OrdersController {
+        @ExceptionHandler(IllegalStateException.class)
+        @ResponseStatus(HttpStatus.CONFLICT)
+        public ErrorBody handleIllegalState(IllegalStateException e) {
+            return new ErrorBody();
+        }
+    }
+
+    @RestController
+    static class UsersController {
+    }
+
+    /** 범위 없음: 모든 컨트롤러 (가장 낮은 우선순위) */
+    @RestControllerAdvice
+    @Order(10)
+    static class GlobalAdvice {
+        @ExceptionHandler(IllegalStateException.class)
+        public ErrorBody handleIllegalState(IllegalStateException e) {
+            return new ErrorBody();
+        }
+
+        @ExceptionHandler(RuntimeException.class)
+        @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+        public ErrorBody handleRuntime(RuntimeException e) {
+            return new ErrorBody();
+        }
+    }
+
+    @RestControllerAdvice(assignableTypes = OrdersController.class)
+    @Order(1)
+    static class OrdersAdvice {
+        @ExceptionHandler(IllegalArgumentException.class)
+        @ResponseStatus(HttpStatus.BAD_REQUEST)
+        public ResponseEntity<ErrorBody> handleIllegalArgument(IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorBody());
+        }
+    }
+
+    @RestControllerAdvice(basePackages = "io.github.bigdaditor.sasa.extract")
+    @Order(2)
+    static class PrefixAdvice {
+        @ExceptionHandler(UnsupportedOperationException.class)
+        public ErrorBody handleUnsupported(UnsupportedOperationException e) {
+            return new ErrorBody();
+        }
+    }
+
+    /** 같은 클래스의 handler는 서로 가리지 않음 */
+    @RestControllerAdvice
+    @Order(3)
+    static class BroadAdvice {
+        @ExceptionHandler(RuntimeException.class)
+        public ErrorBody handleRuntime(RuntimeException e) {
+            return new ErrorBody();
+        }
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public ErrorBody handleIllegalArgument(IllegalArgumentException e) {
+            return new ErrorBody();
+        }
+    }
+
+    @RestControllerAdvice
+    @Order(4)
+    static class NarrowAdvice {
+        @ExceptionHandler(IllegalStateException.class)
+        public ErrorBody handleIllegalState(IllegalStateException e) {
+            return new ErrorBody();
+        }
+    }
+
+    @RestControllerAdvice
+    @Order(5)
+    static class ConflictAdvice {
+        @ExceptionHandler(Conflicts.IllegalStateException.class)
+        public ErrorBody handleIllegalState(Conflicts.IllegalStateException e) {
+            return new ErrorBody();
+        }
+    }
+
+    static class Conflicts {
+        /** java.lang.IllegalStateException과 이름만 같은 검사 예외 */
+        static class IllegalStateException extends Exception {
+        }
+    }
+
+    @RestControllerAdvice(basePackages = "com.example.elsewhere")
+    static class OtherPackageAdvice {
+        @ExceptionHandler(UnsupportedOperationException.class)
+        public ErrorBody handleUnsupported(UnsupportedOperationException e) {
+            return new ErrorBody();
+        }
+    }
+}
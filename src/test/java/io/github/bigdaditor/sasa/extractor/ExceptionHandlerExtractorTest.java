@@ -0,0 +1,83 @@
+package io.github.bigdaditor.sasa.extractor;
+
+import io.github.bigdaditor.sasa.extractor.impl.DefaultExceptionHandlerExtractor;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionHandlerExtractorTest {
+
+    @Test
+    void lazyAdviceBeansAreNotInstantiated() {
+        LazyAdvice.INSTANCES.set(0);
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(LazyAdvice.class, definition -> definition.setLazyInit(true));
+            context.registerBean(PlainAdvice.class);
+            context.refresh();
+
+            List<Map<String, Object>> handlers = new DefaultExceptionHandlerExtractor().extract(context);
+
+            assertEquals(0, LazyAdvice.INSTANCES.get());
+            assertEquals(Set.of("LazyAdvice", "PlainAdvice"), controllers(handlers));
+        }
+    }
+
+    @Test
+    void handlersAreCachedPerAdviceClass() {
+        DefaultExceptionHandlerExtractor extractor = new DefaultExceptionHandlerExtractor();
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(PlainAdvice.class);
+            context.refresh();
+
+            List<Map<String, Object>> first = extractor.extract(context);
+            List<Map<String, Object>> second = extractor.extract(context);
+
+            assertEquals(1, first.size());
+            assertSame(first.get(0), second.get(0));
+            assertEquals(List.of("IllegalStateException"), first.get(0).get("exceptionTypes"));
+            assertEquals("ControllerAdvice", first.get(0).get("adviceType"));
+            assertEquals(409, ((Map<?, ?>) first.get(0).get("httpStatus")).get("code"));
+        }
+    }
+
+    private static Set<String> controllers(List<Map<String, Object>> handlers) {
+        return handlers.stream()
+                .map(handler -> (String) ((Map<?, ?>) handler.get("handler")).get("controller"))
+                .collect(Collectors.toSet());
+    }
+
+    @RestControllerAdvice
+    static class LazyAdvice {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        LazyAdvice() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @ExceptionHandler(IllegalArgumentException.class)
+        public String handleIllegalArgument(IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @ControllerAdvice
+    static class PlainAdvice {
+        @ExceptionHandler
+        @ResponseStatus(HttpStatus.CONFLICT)
+        public String handleIllegalState(IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+}
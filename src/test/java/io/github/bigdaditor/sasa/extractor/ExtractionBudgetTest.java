@@ -0,0 +1,130 @@
+package io.github.bigdaditor.sasa.extractor;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultTypeSchemaExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.ExtractionBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtractionBudgetTest {
+
+    private final DefaultTypeSchemaExtractor extractor = new DefaultTypeSchemaExtractor();
+
+    @Test
+    void withoutBudgetOnlyTopLevelFieldsAreExtracted() {
+        Map<String, Object> schema = extractor.extractTypeSchema(Category.class);
+
+        assertEquals(3, fields(schema).size());
+        fields(schema).forEach(field -> assertNull(field.get("schema")));
+        assertNull(schema.get("truncated"));
+    }
+
+    @Test
+    void nestedSchemasStopAtCyclesAndMaxDepth() {
+        SasaConfig config = SasaConfig.builder().maxSchemaDepth(2).build();
+        try (ExtractionBudget budget = ExtractionBudget.open(config)) {
+            Map<String, Object> schema = extractor.extractTypeSchema(Order.class);
+
+            Map<String, Object> customer = field(schema, "customer");
+            Map<String, Object> customerSchema = nested(customer);
+            assertEquals("cycle", field(customerSchema, "lastOrder").get("truncated"));
+            assertEquals("maxSchemaDepth", field(customerSchema, "address").get("truncated"));
+
+            Map<String, Object> lines = field(schema, "lines");
+            assertEquals(2, fields(nested(lines)).size());
+            assertInstanceOf(List.class, ((Map<?, ?>) schema.get("example")).get("lines"));
+
+            assertEquals(List.of("cycle", "maxSchemaDepth"), List.copyOf(budget.getTruncationReasons()));
+        }
+    }
+
+    @Test
+    void wideTypesAndNodeLimitAreTruncatedWithMarkers() {
+        SasaConfig config = SasaConfig.builder().maxFieldsPerType(2).build();
+        try (ExtractionBudget budget = ExtractionBudget.open(config)) {
+            Map<String, Object> schema = extractor.extractTypeSchema(Category.class);
+
+            assertEquals(2, fields(schema).size());
+            assertEquals("maxFieldsPerType", schema.get("truncated"));
+            assertEquals(1, schema.get("omittedFields"));
+        }
+
+        config = SasaConfig.builder().maxSchemaNodes(4).maxSchemaDepth(3).build();
+        try (ExtractionBudget budget = ExtractionBudget.open(config)) {
+            extractor.extractTypeSchema(Order.class);
+
+            assertEquals(4, budget.getNodeCount());
+            assertTrue(budget.getTruncationReasons().contains("maxSchemaNodes"));
+        }
+    }
+
+    @Test
+    void budgetsAreOptIn() {
+        SasaConfig config = SasaConfig.builder().build();
+        assertEquals(Integer.MAX_VALUE, config.getMaxFieldsPerType());
+        assertEquals(Long.MAX_VALUE, config.getMaxSchemaNodes());
+        assertNull(config.getExtractionTimeBudget());
+
+        try (ExtractionBudget budget = ExtractionBudget.open(config)) {
+            assertTrue(budget.tryAddNode());
+            assertTrue(budget.getTruncationReasons().isEmpty());
+        }
+    }
+
+    @Test
+    void invalidLimitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SasaConfig.builder().maxSchemaDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> SasaConfig.builder().maxFieldsPerType(0));
+        assertThrows(IllegalArgumentException.class, () -> SasaConfig.builder().maxSchemaNodes(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> SasaConfig.builder().extractionTimeBudget(java.time.Duration.ZERO));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> fields(Map<String, Object> schema) {
+        return (List<Map<String, Object>>) schema.get("fields");
+    }
+
+    private static Map<String, Object> field(Map<String, Object> schema, String name) {
+        return fields(schema).stream()
+                .filter(field -> name.equals(field.get("name")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> nested(Map<String, Object> field) {
+        return (Map<String, Object>) field.get("schema");
+    }
+
+    static class Category {
+        private String name;
+        private int rank;
+        private Category parent;
+    }
+
+    static class Order {
+        private Long id;
+        private Customer customer;
+        private List<OrderLine> lines;
+    }
+
+    static class Customer {
+        private String name;
+        private Order lastOrder;
+        private Address address;
+    }
+
+    static class Address {
+        private String city;
+    }
+
+    static class OrderLine {
+        private String sku;
+        private int quantity;
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.bigdaditor.sasa.extractor;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultTypeSchemaExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.ExtractionBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InheritedSchemaTest {
+
+    private final DefaultTypeSchemaExtractor extractor = new DefaultTypeSchemaExtractor();
+
+    @Test
+    void subclassReferencesSuperclassSchemaAndKeepsFullExample() {
+        Map<String, Object> schema = extractor.extractTypeSchema(UserDto.class);
+
+        assertEquals("BaseEntity<Long>", schema.get("extends"));
+        assertEquals(List.of("name"), names(schema));
+        assertEquals(List.of("id", "createdBy"), names(superclass(schema)));
+        assertEquals("Long", field(superclass(schema), "id").get("type"));
+        assertEquals(List.of("id", "createdBy", "name"), List.copyOf(((Map<?, ?>) schema.get("example")).keySet()));
+    }
+
+    @Test
+    void superclassSchemaIsExtractedOnceAndShared() {
+        Map<String, Object> user = extractor.extractTypeSchema(UserDto.class);
+        Map<String, Object> product = extractor.extractTypeSchema(ProductDto.class);
+        Map<String, Object> order = extractor.extractTypeSchema(OrderDto.class);
+
+        assertSame(superclass(user), superclass(product));
+        // 타입 인자가 다르면 별도 스키마
+        assertEquals("BaseEntity<String>", order.get("extends"));
+        assertEquals("String", field(superclass(order), "id").get("type"));
+    }
+
+    @Test
+    void multiLevelHierarchiesChainSuperclassSchemas() {
+        Map<String, Object> admin = extractor.extractTypeSchema(AdminDto.class);
+
+        assertEquals("UserDto", admin.get("extends"));
+        assertEquals(List.of("level"), names(admin));
+        assertSame(extractor.extractTypeSchema(UserDto.class).get("superclass"), superclass(admin).get("superclass"));
+        assertEquals(List.of("id", "createdBy", "name", "level"), List.copyOf(((Map<?, ?>) admin.get("example")).keySet()));
+    }
+
+    @Test
+    void cachedSuperclassSchemaRespectsLimitsAndChargesNodes() {
+        Map<String, Object> full = extractor.extractTypeSchema(UserDto.class);
+
+        try (ExtractionBudget budget = ExtractionBudget.open(SasaConfig.builder().maxFieldsPerType(1).build())) {
+            Map<String, Object> limited = extractor.extractTypeSchema(UserDto.class);
+            assertEquals(List.of("id"), names(superclass(limited)));
+            assertEquals(Set.of(ExtractionBudget.MAX_FIELDS_PER_TYPE), budget.getTruncationReasons());
+        }
+        assertEquals(List.of("id", "createdBy"), names(superclass(extractor.extractTypeSchema(UserDto.class))));
+
+        // 캐시에서 재사용해도 상위 클래스 필드 2개 + 자신 1개가 노드 한도에 반영됨
+        try (ExtractionBudget budget = ExtractionBudget.open(SasaConfig.builder().maxSchemaNodes(2).build())) {
+            extractor.extractTypeSchema(ProductDto.class);
+            extractor.extractTypeSchema(ProductDto.class);
+            assertEquals(2, budget.getNodeCount());
+            assertTrue(budget.getTruncationReasons().contains(ExtractionBudget.MAX_NODES));
+        }
+        assertEquals(List.of("id", "createdBy"), names(superclass(full)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> superclass(Map<String, Object> schema) {
+        return (Map<String, Object>) schema.get("superclass");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> names(Map<String, Object> schema) {
+        return ((List<Map<String, Object>>) schema.get("fields")).stream()
+                .map(field -> (String) field.get("name"))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> field(Map<String, Object> schema, String name) {
+        return ((List<Map<String, Object>>) schema.get("fields")).stream()
+                .filter(field -> name.equals(field.get("name")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    static class BaseEntity<ID> {
+        private ID id;
+        private String createdBy;
+    }
+
+    static class UserDto extends BaseEntity<Long> {
+        private String name;
+    }
+
+    static class ProductDto extends BaseEntity<Long> {
+        private String title;
+    }
+
+    static class OrderDto extends BaseEntity<String> {
+        private Integer total;
+    }
+
+    static class AdminDto extends UserDto {
+        private int level;
+    }
+}
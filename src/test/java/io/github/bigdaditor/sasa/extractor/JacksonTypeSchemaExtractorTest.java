@@ -0,0 +1,85 @@
+package io.github.bigdaditor.sasa.extractor;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultTypeSchemaExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.JacksonTypeSchemaExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonTypeSchemaExtractorTest {
+
+    @Test
+    void schemaFollowsSerializedProperties() {
+        ObjectMapper mapper = new ObjectMapper();
+        JacksonTypeSchemaExtractor extractor = new JacksonTypeSchemaExtractor(mapper);
+
+        Map<String, Object> schema = extractor.extractTypeSchema(Account.class);
+
+        // 실제 직렬화 결과와 같은 이름, 같은 순서
+        Map<?, ?> serialized = mapper.convertValue(new Account(), Map.class);
+        assertEquals(List.copyOf(serialized.keySet()), names(schema));
+        assertEquals(List.of("id", "active", "display_name"), names(schema));
+        assertEquals("Boolean", field(schema, "active").get("type"));
+    }
+
+    @Test
+    void namingStrategyAndRecordsAreApplied() {
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        JacksonTypeSchemaExtractor extractor = new JacksonTypeSchemaExtractor(mapper);
+
+        Map<String, Object> schema = extractor.extractTypeSchema(Address.class);
+
+        assertEquals(List.of("street_name", "zip_code"), names(schema));
+        assertEquals("String", field(schema, "zip_code").get("type"));
+        assertEquals(Map.of("street_name", "string", "zip_code", "string"), schema.get("example"));
+    }
+
+    @Test
+    void fieldBasedExtractorStillListsDeclaredFields() {
+        Map<String, Object> schema = new DefaultTypeSchemaExtractor()
+                .extractTypeSchema(Account.class);
+
+        assertEquals(List.of("id", "name", "password", "internal"), names(schema));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> names(Map<String, Object> schema) {
+        return ((List<Map<String, Object>>) schema.get("fields")).stream()
+                .map(field -> (String) field.get("name"))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> field(Map<String, Object> schema, String name) {
+        return ((List<Map<String, Object>>) schema.get("fields")).stream()
+                .filter(field -> name.equals(field.get("name")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @JsonIgnoreProperties("internal")
+    static class Account {
+        public Long id;
+        @JsonProperty("display_name")
+        public String name;
+        @JsonIgnore
+        public String password;
+        public String internal;
+
+        public Boolean getActive() {
+            return true;
+        }
+    }
+
+    record Address(String streetName, String zipCode) {
+    }
+}
@@ -132,6 +132,60 @@ class ResponseExtractorTest {
         // the extraction behavior depends on runtime type information
     }
 
+    @Test
+    void testExtractNestedGenericResponse() throws Exception {
+        Method method = TestController.class.getMethod("getPageOfListOfUserDTO");
+        Map<String, Object> response = responseExtractor.extractResponseInfo(method);
+
+        assertEquals("ResponseEntity", response.get("type"));
+        assertEquals("PageResponse", response.get("genericType"));
+        assertEquals("ResponseEntity<PageResponse<List<UserDTO>>>", response.get("genericSignature"));
+
+        // 제네릭 DTO 필드의 타입 변수가 실제 타입으로 치환되어야 함
+        @SuppressWarnings("unchecked")
+        Map<String, Object> schema = (Map<String, Object>) response.get("schema");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> fields = (List<Map<String, Object>>) schema.get("fields");
+        Map<String, Object> content = fields.stream()
+                .filter(field -> "content".equals(field.get("name")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("List", content.get("type"));
+        assertEquals("List<List<UserDTO>>", content.get("genericSignature"));
+    }
+
+    @Test
+    void testExtractMapResponseUsesValueType() throws Exception {
+        Method method = TestController.class.getMethod("getMapOfUserDTO");
+        Map<String, Object> response = responseExtractor.extractResponseInfo(method);
+
+        assertEquals("Map", response.get("type"));
+        assertEquals("UserDTO", response.get("genericType"));
+        assertEquals("Map<String, UserDTO>", response.get("genericSignature"));
+        assertNotNull(response.get("schema"));
+    }
+
+    @Test
+    void testExtractArrayResponse() throws Exception {
+        Method method = TestController.class.getMethod("getUserDTOArray");
+        Map<String, Object> response = responseExtractor.extractResponseInfo(method);
+
+        assertEquals("UserDTO[]", response.get("type"));
+        assertEquals("UserDTO", response.get("elementType"));
+        assertNotNull(response.get("schema"));
+    }
+
+    @Test
+    void testExtractResponseFromGenericBaseController() throws Exception {
+        Method method = BaseController.class.getMethod("findOne");
+        Map<String, Object> response = responseExtractor.extractResponseInfo(method, UserController.class);
+
+        assertEquals("ResponseEntity", response.get("type"));
+        assertEquals("UserDTO", response.get("genericType"));
+        assertEquals("io.github.bigdaditor.sasa.dto.UserDTO", response.get("genericFullType"));
+        assertNotNull(response.get("schema"));
+    }
+
     // Test methods for extractSimpleResponseInfo
 
     @Test
@@ -221,5 +275,33 @@ class ResponseExtractorTest {
         public List<UserDTO> getListOfUserDTO() {
             return List.of(new UserDTO());
         }
+
+        public ResponseEntity<PageResponse<List<UserDTO>>> getPageOfListOfUserDTO() {
+            return ResponseEntity.ok(new PageResponse<>());
+        }
+
+        public Map<String, UserDTO> getMapOfUserDTO() {
+            return Map.of();
+        }
+
+        public UserDTO[] getUserDTOArray() {
+            return new UserDTO[0];
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class PageResponse<T> {
+        private List<T> content;
+        private long totalElements;
+    }
+
+    @SuppressWarnings("unused")
+    abstract static class BaseController<T> {
+        public ResponseEntity<T> findOne() {
+            return ResponseEntity.ok().build();
+        }
+    }
+
+    static class UserController extends BaseController<UserDTO> {
     }
 }
\ No newline at end of file
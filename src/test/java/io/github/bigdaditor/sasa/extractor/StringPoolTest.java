@@ -0,0 +1,68 @@
+package io.github.bigdaditor.sasa.extractor;
+
+import io.github.bigdaditor.sasa.extractor.impl.StringPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTest {
+
+    @Test
+    void testInternReturnsSameInstanceForEqualStrings() {
+        StringPool pool = new StringPool();
+        String first = new String("java.lang.String");
+        String second = new String("java.lang.String");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void testDeduplicateSharesStringsAcrossSpec() {
+        StringPool pool = new StringPool();
+        Map<String, Object> spec = new LinkedHashMap<>();
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put(new String("fullType"), new String("io.github.bigdaditor.sasa.dto.UserDTO"));
+            endpoint.put(new String("produces"), new HashSet<>(Set.of(new String("application/json"))));
+            endpoints.add(endpoint);
+        }
+        spec.put("endpoints", endpoints);
+
+        Map<String, Object> deduplicated = pool.deduplicate(spec);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> result = (List<Map<String, Object>>) deduplicated.get("endpoints");
+        assertEquals(endpoints, result);
+        assertSame(result.get(0).get("fullType"), result.get(2).get("fullType"));
+        assertSame(((Set<?>) result.get(0).get("produces")).iterator().next(),
+                ((Set<?>) result.get(1).get("produces")).iterator().next());
+
+        Map<String, Object> report = pool.report();
+        assertEquals(5, report.get("uniqueStrings"));
+        assertEquals(8L, report.get("duplicatesRemoved"));
+        assertTrue((Long) report.get("bytesSaved") > 0);
+    }
+
+    @Test
+    void testSharedCollectionsStaySharedAndImmutable() {
+        StringPool pool = new StringPool();
+        List<Map<String, Object>> errorResponses = List.of(Map.of("status", 404));
+        Map<String, Object> first = new LinkedHashMap<>(Map.of("errorResponses", errorResponses));
+        Map<String, Object> second = new LinkedHashMap<>(Map.of("errorResponses", errorResponses));
+        Map<String, Object> spec = new LinkedHashMap<>(Map.of("endpoints", List.of(first, second)));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) pool.deduplicate(spec).get("endpoints");
+
+        Object copied = endpoints.get(0).get("errorResponses");
+        assertSame(copied, endpoints.get(1).get("errorResponses"));
+        assertEquals(errorResponses, copied);
+        assertThrows(UnsupportedOperationException.class, () -> endpoints.add(Map.of()));
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) copied).clear());
+    }
+}
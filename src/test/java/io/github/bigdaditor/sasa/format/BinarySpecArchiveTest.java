@@ -0,0 +1,143 @@
+package io.github.bigdaditor.sasa.format;
+
+import io.github.bigdaditor.sasa.generator.impl.BinarySpecOutputGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySpecArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFindEndpointByIdWithoutReadingWholeSpec() throws Exception {
+        Path archive = writeArchive(createSpec(500));
+
+        try (BinarySpecReader reader = BinarySpecReader.open(archive)) {
+            assertEquals(500, reader.getEndpointCount());
+
+            Map<String, Object> endpoint = reader.findEndpoint("GET /api/items/123").orElseThrow();
+            assertEquals(List.of("/api/items/123"), endpoint.get("paths"));
+            assertEquals(123, endpoint.get("index"));
+            assertEquals(true, endpoint.get("deprecated"));
+
+            assertTrue(reader.findEndpoint("GET /api/unknown").isEmpty());
+        }
+    }
+
+    @Test
+    void testSharedSchemasAreResolved() throws Exception {
+        Path archive = writeArchive(createSpec(10));
+
+        try (BinarySpecReader reader = BinarySpecReader.open(archive)) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> response = (Map<String, Object>) reader.getEndpoint(0).get("response");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> schema = (Map<String, Object>) response.get("schema");
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> fields = (List<Map<String, Object>>) schema.get("fields");
+
+            assertEquals("id", fields.get(0).get("name"));
+            assertEquals("Long", fields.get(0).get("type"));
+        }
+    }
+
+    @Test
+    void testMetadataAndIdsAreSorted() throws Exception {
+        Path archive = writeArchive(createSpec(3));
+
+        try (BinarySpecReader reader = BinarySpecReader.open(archive)) {
+            assertEquals(List.of("GET /api/items/0", "GET /api/items/1", "GET /api/items/2"), reader.getEndpointIds());
+            assertEquals("Test", reader.getMetadata().get("applicationName"));
+            assertFalse(reader.getMetadata().containsKey("endpoints"));
+        }
+    }
+
+    @Test
+    void testEndpointsDifferingOnlyByConditionsGetDistinctIds() throws Exception {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("endpoints", List.of(
+                endpoint("/api/users", "search(java.lang.String)", 0),
+                endpoint("/api/users", "list()", 1),
+                endpoint("/api/orders", "list()", 2)));
+        Path archive = writeArchive(spec);
+
+        try (BinarySpecReader reader = BinarySpecReader.open(archive)) {
+            assertEquals(List.of("GET /api/orders",
+                    "GET /api/users com.example.UserController#list()",
+                    "GET /api/users com.example.UserController#search(java.lang.String)"), reader.getEndpointIds());
+            assertEquals(0, reader.findEndpoint("GET /api/users com.example.UserController#search(java.lang.String)")
+                    .orElseThrow().get("index"));
+            assertTrue(reader.findEndpoint("GET /api/users").isEmpty());
+        }
+
+        Map<String, Object> ambiguous = Map.of("endpoints", List.of(
+                Map.of("methods", List.of("GET"), "paths", List.of("/a")),
+                Map.of("methods", List.of("GET"), "paths", List.of("/a"))));
+        assertThrows(IllegalArgumentException.class, () -> writeArchive(ambiguous));
+    }
+
+    @Test
+    void testArchiveHasNoTextForm() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> new BinarySpecOutputGenerator().generate(Map.of("endpoints", List.of())));
+    }
+
+    private static Map<String, Object> endpoint(String path, String signature, int index) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("methods", List.of("GET"));
+        endpoint.put("paths", List.of(path));
+        endpoint.put("handler", Map.of("fullControllerName", "com.example.UserController", "signature", signature));
+        endpoint.put("index", index);
+        return endpoint;
+    }
+
+    @Test
+    void testRejectsNonArchiveFile() throws Exception {
+        Path file = tempDir.resolve("api-spec.json");
+        Files.writeString(file, "{\"endpoints\":[]}");
+
+        assertThrows(IllegalArgumentException.class, () -> BinarySpecReader.open(file));
+    }
+
+    private Path writeArchive(Map<String, Object> spec) throws Exception {
+        Path archive = tempDir.resolve("api-spec.sasa");
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            new BinarySpecOutputGenerator().generate(spec, out);
+        }
+        return archive;
+    }
+
+    private Map<String, Object> createSpec(int endpointCount) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("fields", List.of(Map.of("name", "id", "type", "Long")));
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (int i = 0; i < endpointCount; i++) {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("type", "ItemDTO");
+            response.put("schema", schema);
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("paths", Set.of("/api/items/" + i));
+            endpoint.put("methods", Set.of("GET"));
+            endpoint.put("index", i);
+            endpoint.put("deprecated", true);
+            endpoint.put("response", response);
+            endpoints.add(endpoint);
+        }
+
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("applicationName", "Test");
+        spec.put("endpoints", endpoints);
+        spec.put("exceptionHandlers", List.of());
+        return spec;
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.bigdaditor.sasa.gateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.bigdaditor.sasa.util.ETags;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecCatalogGatewayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUnchangedSpecsAreNotRefetched() throws Exception {
+        StandInService orders = new StandInService(spec("order-service", "/api/orders"));
+        StandInService users = new StandInService(spec("user-service", "/api/users"));
+        try (orders; users; SpecCatalogGateway gateway = gateway(orders, users)) {
+            assertTrue(gateway.poll());
+            String eTag = gateway.getCatalog().getETag();
+
+            Map<String, Object> catalog = objectMapper.readValue(gateway.getCatalog().getBody(), Map.class);
+            List<Map<String, Object>> endpoints = (List<Map<String, Object>>) catalog.get("endpoints");
+            assertEquals(List.of("orders", "users"), endpoints.stream().map(endpoint -> endpoint.get("service")).toList());
+
+            assertFalse(gateway.poll());
+            assertEquals(eTag, gateway.getCatalog().getETag());
+            assertEquals(1, orders.notModified.get());
+            assertEquals(1, users.notModified.get());
+
+            users.spec = spec("user-service", "/api/users", "/api/users/{id}");
+            assertTrue(gateway.poll());
+            assertNotEquals(eTag, gateway.getCatalog().getETag());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedInstanceKeepsLastGoodSpec() throws Exception {
+        StandInService orders = new StandInService(spec("order-service", "/api/orders"));
+        try (SpecCatalogGateway gateway = gateway(orders)) {
+            gateway.poll();
+            orders.close();
+
+            assertTrue(gateway.poll());
+            Map<String, Object> catalog = objectMapper.readValue(gateway.getCatalog().getBody(), Map.class);
+            Map<String, Object> service = ((List<Map<String, Object>>) catalog.get("services")).get(0);
+            assertEquals("STALE", service.get("status"));
+            assertNotNull(service.get("lastError"));
+            assertEquals(1, ((List<Object>) catalog.get("endpoints")).size());
+        }
+    }
+
+    private static SpecCatalogGateway gateway(StandInService... services) {
+        SpecCatalogGateway.Builder builder = SpecCatalogGateway.builder().requestTimeout(Duration.ofSeconds(2));
+        String[] names = {"orders", "users"};
+        for (int i = 0; i < services.length; i++) {
+            builder.instance(names[i], services[i].baseUri());
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> spec(String applicationName, String... paths) {
+        return Map.of("applicationName", applicationName,
+                "endpoints", Arrays.stream(paths).map(path -> Map.of("paths", List.of(path))).toList());
+    }
+
+    /**
+     * ETag/If-None-Match를 지원하는 {@code /sasa/api-spec} 대역 서버
+     */
+    private class StandInService implements AutoCloseable {
+        private final HttpServer server;
+        private final AtomicInteger notModified = new AtomicInteger();
+        private volatile Map<String, Object> spec;
+
+        StandInService(Map<String, Object> spec) throws IOException {
+            this.spec = spec;
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/sasa/api-spec", exchange -> {
+                byte[] body = objectMapper.writeValueAsBytes(this.spec);
+                String eTag = ETags.of(body);
+                exchange.getResponseHeaders().set("ETag", eTag);
+                if (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                }
+                exchange.close();
+            });
+            server.start();
+        }
+
+        URI baseUri() {
+            return URI.create("http://localhost:" + server.getAddress().getPort());
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.bigdaditor.sasa.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.generator.impl.NdjsonOutputGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonOutputGeneratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesHeaderThenOneRecordPerEndpointAndHandler() throws Exception {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("applicationName", "Orders API");
+        spec.put("version", "0.0.1-SNAPSHOT");
+        spec.put("endpoints", List.of(
+                Map.of("paths", List.of("/api/orders"), "methods", List.of("GET")),
+                Map.of("paths", List.of("/api/orders/{id}"), "methods", List.of("GET"), "summary", "한 줄\n설명")));
+        spec.put("exceptionHandlers", List.of(Map.of("exceptionTypes", List.of("NotFoundException"))));
+
+        String output = new NdjsonOutputGenerator().generate(spec);
+
+        assertTrue(output.endsWith("\n"));
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : output.split("\n")) {
+            // 줄마다 독립된 JSON 값 (문자열 안의 줄바꿈은 이스케이프됨)
+            records.add(objectMapper.readTree(line));
+        }
+        assertEquals(4, records.size());
+
+        JsonNode header = records.get(0);
+        assertEquals("header", header.get("record").asText());
+        assertEquals("Orders API", header.get("applicationName").asText());
+        assertEquals(2, header.get("endpointCount").asInt());
+        assertEquals(1, header.get("exceptionHandlerCount").asInt());
+        assertFalse(header.has("endpoints"));
+        assertFalse(header.has("exceptionHandlers"));
+
+        assertEquals("endpoint", records.get(1).get("record").asText());
+        assertEquals("/api/orders", records.get(1).at("/paths/0").asText());
+        assertEquals("endpoint", records.get(2).get("record").asText());
+        assertEquals("한 줄\n설명", records.get(2).get("summary").asText());
+        assertEquals("exceptionHandler", records.get(3).get("record").asText());
+        assertEquals("NotFoundException", records.get(3).at("/exceptionTypes/0").asText());
+    }
+
+    @Test
+    void streamingOutputMatchesStringOutput() throws Exception {
+        Map<String, Object> spec = Map.of("applicationName", "Empty");
+        NdjsonOutputGenerator generator = new NdjsonOutputGenerator();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator.generate(spec, out);
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertEquals(generator.generate(spec), output);
+        JsonNode header = objectMapper.readTree(output.trim());
+        assertEquals("header", header.get("record").asText());
+        assertEquals(0, header.get("endpointCount").asInt());
+    }
+}
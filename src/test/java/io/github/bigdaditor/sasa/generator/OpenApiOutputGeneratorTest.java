@@ -0,0 +1,139 @@
+package io.github.bigdaditor.sasa.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.generator.impl.OpenApiOutputGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenApiOutputGeneratorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void operationsReferenceOnlyTheirOwnErrorResponses() throws Exception {
+        Map<String, Object> notFound = handler(404, "NotFoundException");
+        Map<String, Object> conflict = handler(409, "ConflictException");
+        // 200을 반환하는 advice는 성공 응답과 겹치므로 기록하지 않음
+        Map<String, Object> ok = handler(200, "IgnoredException");
+
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("endpoints", List.of(
+                endpoint("/users", List.of(notFound, ok)),
+                endpoint("/orders", List.of(conflict))));
+        spec.put("exceptionHandlers", List.of(notFound, conflict, ok));
+
+        JsonNode document = objectMapper.readTree(new OpenApiOutputGenerator().generate(spec));
+
+        JsonNode users = document.at("/paths/~1users/get/responses");
+        assertEquals(List.of("200", "404"), fieldNames(users));
+        assertEquals("OK", users.at("/200/description").asText());
+        assertEquals("#/components/responses/Error404", users.at("/404/$ref").asText());
+        assertEquals(List.of("200", "409"), fieldNames(document.at("/paths/~1orders/get/responses")));
+    }
+
+    @Test
+    void schemasAreReferencedRegardlessOfEndpointOrder() throws Exception {
+        // 경로 순으로 먼저 기록되는 /bulk는 스키마 없이 UserDto만 참조하고, 스키마는 나중의 /users에서 등록됨
+        Map<String, Object> parameter = new LinkedHashMap<>();
+        parameter.put("parameterType", "REQUEST_BODY");
+        parameter.put("type", "UserDto");
+        parameter.put("fullType", "com.example.UserDto");
+        Map<String, Object> bulk = endpoint("/bulk", List.of());
+        bulk.put("parameters", List.of(parameter));
+        Map<String, Object> users = endpoint("/users", List.of());
+        users.put("response", Map.of("type", "UserDto", "fullType", "com.example.UserDto",
+                "schema", Map.of("fields", List.of(Map.of("name", "id", "type", "Long")))));
+
+        JsonNode document = objectMapper.readTree(new OpenApiOutputGenerator().generate(Map.of("endpoints", List.of(users, bulk))));
+
+        assertEquals("#/components/schemas/UserDto",
+                document.at("/paths/~1bulk/get/requestBody/content/application~1json/schema/$ref").asText());
+        assertTrue(document.at("/components/schemas/UserDto").isObject());
+    }
+
+    @Test
+    void nestedDtoFieldsAreRegisteredAsComponents() throws Exception {
+        Map<String, Object> address = Map.of("fields", List.of(Map.of("name", "city", "type", "String")));
+        Map<String, Object> item = Map.of("fields", List.of(Map.of("name", "sku", "type", "String")));
+        Map<String, Object> tag = Map.of("fields", List.of(Map.of("name", "label", "type", "String")));
+        Map<String, Object> order = Map.of("fields", List.of(
+                Map.of("name", "address", "type", "AddressDto", "fullType", "com.example.AddressDto", "schema", address),
+                Map.of("name", "items", "type", "List", "fullType", "java.util.List",
+                        "genericTypes", List.of("ItemDto"), "schema", item),
+                Map.of("name", "tags", "type", "TagDto[]", "fullType", "[Lcom.example.TagDto;", "schema", tag)));
+        Map<String, Object> orders = endpoint("/orders", List.of());
+        orders.put("response", Map.of("type", "OrderDto", "fullType", "com.example.OrderDto", "schema", order));
+
+        JsonNode document = objectMapper.readTree(new OpenApiOutputGenerator().generate(Map.of("endpoints", List.of(orders))));
+
+        JsonNode properties = document.at("/components/schemas/OrderDto/properties");
+        assertEquals("#/components/schemas/AddressDto", properties.at("/address/$ref").asText());
+        assertEquals("array", properties.at("/items/type").asText());
+        assertEquals("#/components/schemas/ItemDto", properties.at("/items/items/$ref").asText());
+        assertEquals("#/components/schemas/TagDto", properties.at("/tags/items/$ref").asText());
+        assertEquals(List.of("OrderDto", "AddressDto", "ItemDto", "TagDto"), fieldNames(document.at("/components/schemas")));
+        assertEquals("string", document.at("/components/schemas/AddressDto/properties/city/type").asText());
+    }
+
+    @Test
+    void validationsAreMappedToJsonSchemaKeywords() throws Exception {
+        Map<String, Object> user = Map.of("fields", List.of(
+                Map.of("name", "name", "type", "String",
+                        "validations", Map.of("notNull", true, "size", Map.of("min", 2, "max", 20))),
+                Map.of("name", "age", "type", "Integer", "validations", Map.of("min", 0L, "max", 150L)),
+                Map.of("name", "price", "type", "BigDecimal",
+                        "validations", Map.of("decimalMin", "0.5", "decimalMinInclusive", false)),
+                Map.of("name", "code", "type", "String", "validations", Map.of("pattern", "^[A-Z]{3}$")),
+                Map.of("name", "tags", "type", "List", "genericTypes", List.of("String"),
+                        "validations", Map.of("size", Map.of("min", 1, "max", Integer.MAX_VALUE)))));
+        Map<String, Object> users = endpoint("/users", List.of());
+        users.put("response", Map.of("type", "UserDto", "fullType", "com.example.UserDto", "schema", user));
+
+        JsonNode document = objectMapper.readTree(new OpenApiOutputGenerator().generate(Map.of("endpoints", List.of(users))));
+
+        JsonNode schema = document.at("/components/schemas/UserDto");
+        JsonNode properties = schema.get("properties");
+        assertEquals(2, properties.at("/name/minLength").asInt());
+        assertEquals(20, properties.at("/name/maxLength").asInt());
+        assertEquals(0, properties.at("/age/minimum").asInt());
+        assertEquals(150, properties.at("/age/maximum").asInt());
+        assertEquals(0.5, properties.at("/price/exclusiveMinimum").asDouble());
+        assertTrue(properties.at("/price/minimum").isMissingNode());
+        assertEquals("^[A-Z]{3}$", properties.at("/code/pattern").asText());
+        // 컬렉션의 @Size는 요소 개수 제약이고, 기본 상한(Integer.MAX_VALUE)은 기록하지 않음
+        assertEquals(1, properties.at("/tags/minItems").asInt());
+        assertTrue(properties.at("/tags/maxItems").isMissingNode());
+        assertTrue(properties.at("/tags/minLength").isMissingNode());
+        assertEquals(List.of("name"), objectMapper.convertValue(schema.get("required"), List.class));
+    }
+
+    private static Map<String, Object> handler(int code, String exceptionType) {
+        Map<String, Object> handler = new LinkedHashMap<>();
+        handler.put("exceptionTypes", List.of(exceptionType));
+        handler.put("httpStatus", Map.of("code", code, "reasonPhrase", "Status " + code));
+        return handler;
+    }
+
+    private static Map<String, Object> endpoint(String path, List<Map<String, Object>> errorResponses) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("paths", List.of(path));
+        endpoint.put("methods", List.of("GET"));
+        endpoint.put("handler", Map.of("controller", "TestController", "method", path.substring(1)));
+        endpoint.put("response", Map.of("type", "String", "fullType", "java.lang.String"));
+        endpoint.put("errorResponses", errorResponses);
+        return endpoint;
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
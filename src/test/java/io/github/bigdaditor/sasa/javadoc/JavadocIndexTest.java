@@ -0,0 +1,167 @@
+package io.github.bigdaditor.sasa.javadoc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JavadocIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void lookupFindsEntriesInMappedFile() throws Exception {
+        Path file = tempDir.resolve("javadoc.idx");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            JavadocIndex.write(Map.of(
+                    "com.example.A#get()", "Gets A.",
+                    "com.example.A#name", "이름",
+                    "com.example.B#list(int[])", "Lists B."), out);
+        }
+
+        JavadocIndex index = JavadocIndex.open(file);
+
+        assertEquals(3, index.size());
+        assertEquals("Gets A.", index.find("com.example.A#get()"));
+        assertEquals("이름", index.find("com.example.A#name"));
+        assertEquals("Lists B.", index.find("com.example.B#list(int[])"));
+        assertNull(index.find("com.example.A#missing"));
+        assertNull(index.find(""));
+    }
+
+    @Test
+    void loadSkipsForeignAndTruncatedIndexes() throws Exception {
+        Path foreign = tempDir.resolve("foreign/" + JavadocIndex.RESOURCE);
+        Files.createDirectories(foreign.getParent());
+        Files.writeString(foreign, "not an index");
+
+        Path valid = tempDir.resolve("valid/" + JavadocIndex.RESOURCE);
+        Files.createDirectories(valid.getParent());
+        try (OutputStream out = Files.newOutputStream(valid)) {
+            JavadocIndex.write(Map.of("com.example.A#get()", "Gets A."), out);
+        }
+
+        Path truncated = tempDir.resolve("truncated/" + JavadocIndex.RESOURCE);
+        Files.createDirectories(truncated.getParent());
+        byte[] bytes = Files.readAllBytes(valid);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 3));
+
+        URL[] roots = {tempDir.resolve("foreign").toUri().toURL(), tempDir.resolve("truncated").toUri().toURL(),
+                tempDir.resolve("valid").toUri().toURL()};
+        try (URLClassLoader classLoader = new URLClassLoader(roots, null)) {
+            JavadocIndex index = JavadocIndex.load(classLoader);
+
+            assertEquals(1, index.size());
+            assertEquals("Gets A.", index.find("com.example.A#get()"));
+        }
+    }
+
+    @Test
+    void processorIndexesControllerMethodsAndFields() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> sources = List.of(
+                source("demo.UserController", """
+                        package demo;
+
+                        @org.springframework.web.bind.annotation.RestController
+                        public class UserController {
+                            /**
+                             * Finds users by {@code ids}.
+                             * Second line.
+                             *
+                             * @param ids user ids
+                             * @return users
+                             */
+                            public String find(java.util.List<Long> ids, int[] flags) { return ""; }
+
+                            public String undocumented() { return ""; }
+                        }
+                        """),
+                source("demo.UserDto", """
+                        package demo;
+
+                        public class UserDto {
+                            /** 사용자 이메일 */
+                            private String email;
+
+                            /** Not indexed: not a controller. */
+                            public String helper() { return ""; }
+
+                            public static class Address {
+                                /** City name. */
+                                private String city;
+                            }
+                        }
+                        """));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-d", tempDir.toString(), "-classpath", System.getProperty("java.class.path"),
+                        "-A" + JavadocIndexProcessor.OPTION + "=true"),
+                null, sources);
+        task.setProcessors(List.of(new JavadocIndexProcessor()));
+        assertTrue(task.call());
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> controller = classLoader.loadClass("demo.UserController");
+            Class<?> dto = classLoader.loadClass("demo.UserDto");
+            Class<?> address = classLoader.loadClass("demo.UserDto$Address");
+            JavadocIndex index = JavadocIndex.load(classLoader);
+
+            assertEquals("Finds users by ids.\nSecond line.",
+                    index.find(controller.getMethod("find", List.class, int[].class)));
+            assertNull(index.find(controller.getMethod("undocumented")));
+            assertEquals("사용자 이메일", index.find(dto.getDeclaredField("email")));
+            assertEquals("City name.", index.find(address.getDeclaredField("city")));
+            assertNull(index.find(dto.getMethod("helper")));
+        }
+    }
+
+    @Test
+    void processorWritesNothingUnlessEnabled() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> sources = List.of(source("demo.PingController", """
+                package demo;
+
+                @org.springframework.web.bind.annotation.RestController
+                public class PingController {
+                    /** Pings. */
+                    public String ping() { return "pong"; }
+                }
+                """));
+
+        // 자동 탐색으로 실행되더라도 옵션이 없으면 색인을 만들지 않음
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-d", tempDir.toString(), "-classpath", System.getProperty("java.class.path")),
+                null, sources);
+        task.setProcessors(List.of(new JavadocIndexProcessor()));
+        assertTrue(task.call());
+
+        assertTrue(Files.exists(tempDir.resolve("demo/PingController.class")));
+        assertFalse(Files.exists(tempDir.resolve(JavadocIndex.RESOURCE)));
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
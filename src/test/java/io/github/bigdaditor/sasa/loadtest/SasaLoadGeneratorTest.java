@@ -0,0 +1,149 @@
+package io.github.bigdaditor.sasa.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bigdaditor.sasa.mock.SasaMockServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SasaLoadGeneratorTest {
+
+    /** Spring {@code ValueConstants.DEFAULT_NONE} */
+    private static final String DEFAULT_NONE = "\n\t\t\n\t\t\n\uE000\uE001\uE002\n\t\t\t\t\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testTemplateFillsVariablesAndRequiredParameters() {
+        List<RequestTemplate> templates = RequestTemplate.fromEndpoint(getUser(), Set.of("GET"), Map.of(), objectMapper);
+
+        assertEquals(1, templates.size());
+        RequestTemplate template = templates.get(0);
+        assertEquals("GET", template.getMethod());
+        assertEquals("/api/users/{id}", template.getPath());
+        assertEquals("/api/users/1?fields=sample", template.getPathAndQuery());
+        assertEquals(Map.of("X-Tenant", "sample"), template.getHeaders());
+        assertNull(template.getBody());
+
+        RequestTemplate overridden = RequestTemplate.fromEndpoint(getUser(), Set.of("GET"),
+                Map.of("id", "42", "page", "3"), objectMapper).get(0);
+        assertEquals("/api/users/42?fields=sample&page=3", overridden.getPathAndQuery());
+    }
+
+    @Test
+    void testBodyExampleSatisfiesValidations() throws Exception {
+        assertTrue(RequestTemplate.fromEndpoint(createUser(), Set.of("GET"), Map.of(), objectMapper).isEmpty());
+
+        RequestTemplate template = RequestTemplate.fromEndpoint(createUser(), Set.of("POST"), Map.of(), objectMapper).get(0);
+        assertEquals("application/json", template.getHeaders().get("Content-Type"));
+
+        Map<?, ?> body = objectMapper.readValue(new String(template.getBody(), StandardCharsets.UTF_8), Map.class);
+        assertEquals("user@example.com", body.get("email"));
+        assertEquals("stringaa", body.get("name"));
+        assertEquals(18, ((Number) body.get("age")).intValue());
+    }
+
+    @Test
+    void testRunReportsPerEndpointStats() throws Exception {
+        Map<String, Object> spec = Map.of("endpoints", List.of(getUser(), createUser(), sasaEndpoint()));
+
+        try (SasaMockServer server = SasaMockServer.builder(spec).port(0).build().start()) {
+            SasaLoadGenerator generator = SasaLoadGenerator.builder(spec)
+                    .baseUri(URI.create("http://localhost:" + server.getPort()))
+                    .methods("GET", "POST")
+                    .targetRate(100)
+                    .duration(Duration.ofMillis(500))
+                    .build();
+            assertEquals(2, generator.getTargetCount());
+
+            Map<String, Object> report = generator.run();
+
+            assertEquals(0L, report.get("errors"));
+            assertTrue((Long) report.get("completed") > 0, report.toString());
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> endpoints = (List<Map<String, Object>>) report.get("endpoints");
+            assertEquals(2, endpoints.size());
+            for (Map<String, Object> endpoint : endpoints) {
+                assertTrue((Long) endpoint.get("requests") > 0, endpoint.toString());
+                assertEquals(0.0, endpoint.get("errorRate"));
+                assertTrue(((Map<?, ?>) endpoint.get("latency")).containsKey("p99Ms"));
+            }
+
+            // 같은 인스턴스로 다시 실행해도 새 executor와 새 통계로 동작
+            Map<String, Object> second = generator.run();
+            assertEquals(0L, second.get("errors"));
+            assertTrue((Long) second.get("completed") > 0, second.toString());
+            assertTrue((Long) second.get("completed") <= (Long) second.get("scheduled"), second.toString());
+        }
+    }
+
+    @Test
+    void testTargetRateMustFitNanosecondInterval() {
+        SasaLoadGenerator.Builder builder = SasaLoadGenerator.builder(Map.of("endpoints", List.of()));
+
+        builder.targetRate(1_000_000_000);
+        assertThrows(IllegalArgumentException.class, () -> builder.targetRate(2e9));
+        assertThrows(IllegalArgumentException.class, () -> builder.targetRate(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> builder.targetRate(0));
+    }
+
+    private static Map<String, Object> getUser() {
+        return endpoint("GET", "/api/users/{id}", List.of(
+                parameter("id", "Long", "PATH_VARIABLE", true, null),
+                parameter("fields", "String", "REQUEST_PARAM", true, DEFAULT_NONE),
+                parameter("page", "Integer", "REQUEST_PARAM", false, "0"),
+                parameter("X-Tenant", "String", "REQUEST_HEADER", true, DEFAULT_NONE)));
+    }
+
+    private static Map<String, Object> createUser() {
+        Map<String, Object> example = new LinkedHashMap<>();
+        example.put("email", "string");
+        example.put("name", "string");
+        example.put("age", 0);
+
+        Map<String, Object> schema = Map.of(
+                "fields", List.of(
+                        Map.of("name", "email", "type", "String", "validations", Map.of("email", true)),
+                        Map.of("name", "name", "type", "String", "validations", Map.of("size", Map.of("min", 8, "max", 20))),
+                        Map.of("name", "age", "type", "int", "validations", Map.of("min", 18L, "max", 150L))),
+                "example", example);
+
+        Map<String, Object> body = parameter("request", "UserDTO", "REQUEST_BODY", true, null);
+        body.put("schema", schema);
+        return endpoint("POST", "/api/users", List.of(body));
+    }
+
+    private static Map<String, Object> sasaEndpoint() {
+        return endpoint("GET", "/sasa/api-spec", List.of());
+    }
+
+    private static Map<String, Object> endpoint(String method, String path, List<Map<String, Object>> parameters) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("paths", List.of(path));
+        endpoint.put("methods", List.of(method));
+        endpoint.put("parameters", parameters);
+        return endpoint;
+    }
+
+    private static Map<String, Object> parameter(String name, String type, String parameterType, boolean required,
+                                                 String defaultValue) {
+        Map<String, Object> parameter = new LinkedHashMap<>();
+        parameter.put("name", name);
+        parameter.put("type", type);
+        parameter.put("parameterType", parameterType);
+        parameter.put("paramName", name);
+        parameter.put("required", required);
+        if (defaultValue != null) {
+            parameter.put("defaultValue", defaultValue);
+        }
+        return parameter;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.bigdaditor.sasa.merge;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpecMergerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMergeDeduplicatesSchemasAndDetectsCollisions() throws Exception {
+        writeJson(directory.resolve("orders.json"), spec("order-service", endpoint("GET", "/api/orders/{id}", "com.example.order.UserDTO")));
+        writeGzip(directory.resolve("users.json.gz"), spec("user-service",
+                endpoint("GET", "/api/users/{userId}", "com.example.user.UserDTO"),
+                endpoint("GET", "/api/orders/{orderId}", "com.example.user.UserDTO")));
+        Path output = directory.resolve("out/catalog.json");
+
+        Map<String, Object> summary = SpecMerger.builder().parallelism(2).queueCapacity(1).build()
+                .merge(List.of(directory), output);
+
+        assertEquals(2, summary.get("services"));
+        assertEquals(3L, summary.get("endpoints"));
+        assertEquals(3L, summary.get("schemaReferences"));
+        assertEquals(1, summary.get("uniqueSchemas"));
+        assertEquals(1, summary.get("collisions"));
+
+        Map<String, Object> catalog = objectMapper.readValue(output.toFile(), Map.class);
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) catalog.get("endpoints");
+        assertEquals(3, endpoints.size());
+        for (Map<String, Object> endpoint : endpoints) {
+            Map<String, Object> response = (Map<String, Object>) endpoint.get("response");
+            assertFalse(response.containsKey("schema"));
+            assertTrue(((Map<String, Object>) catalog.get("schemas")).containsKey(response.get("schemaRef")));
+        }
+
+        Map<String, Object> schema = (Map<String, Object>) ((Map<String, Object>) catalog.get("schemas")).values().iterator().next();
+        assertEquals(List.of("com.example.order.UserDTO", "com.example.user.UserDTO"), schema.get("types"));
+        assertEquals(List.of("orders", "users"), schema.get("services"));
+
+        List<Map<String, Object>> collisions = (List<Map<String, Object>>) catalog.get("collisions");
+        assertEquals("GET", collisions.get(0).get("method"));
+        assertEquals("/api/orders/{}", collisions.get(0).get("path"));
+
+        List<Map<String, Object>> handlers = (List<Map<String, Object>>) catalog.get("exceptionHandlers");
+        assertEquals(2, handlers.size());
+        assertNotNull(handlers.get(0).get("service"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testServicesWithDefaultNamesAreKeptApartInInputOrder() throws Exception {
+        Path orders = Files.createDirectories(directory.resolve("orders")).resolve("api-spec.json");
+        Path users = Files.createDirectories(directory.resolve("users")).resolve("api-spec.json");
+        writeJson(orders, spec("SASA", endpoint("GET", "/api/items", "Item"), endpoint("GET", "/api/orders", "Order")));
+        writeJson(users, spec("SASA", endpoint("GET", "/api/items", "Item")));
+        Path output = directory.resolve("catalog.json");
+
+        Map<String, Object> summary = SpecMerger.builder().parallelism(2).queueCapacity(1).build()
+                .merge(List.of(users, orders), output);
+
+        assertEquals(1, summary.get("collisions"));
+        Map<String, Object> catalog = objectMapper.readValue(output.toFile(), Map.class);
+        List<Map<String, Object>> collisions = (List<Map<String, Object>>) catalog.get("collisions");
+        assertEquals(List.of("orders/api-spec", "users/api-spec"), collisions.get(0).get("services"));
+
+        List<String> tags = ((List<Map<String, Object>>) catalog.get("endpoints")).stream()
+                .map(endpoint -> (String) endpoint.get("service"))
+                .toList();
+        assertEquals(List.of("users/api-spec", "orders/api-spec", "orders/api-spec"), tags);
+        assertEquals("SASA", ((List<Map<String, Object>>) catalog.get("services")).get(0).get("applicationName"));
+    }
+
+    @Test
+    void testMalformedInputKeepsExistingOutput() throws Exception {
+        writeJson(directory.resolve("orders.json"), spec("order-service", endpoint("GET", "/api/orders", "Order")));
+        Path broken = directory.resolve("broken.json");
+        Files.writeString(broken, "{\"endpoints\": [{\"paths\": ");
+        Path output = directory.resolve("catalog.json");
+        Files.writeString(output, "previous");
+
+        assertThrows(IOException.class, () -> SpecMerger.builder().build()
+                .merge(List.of(directory.resolve("orders.json"), broken), output));
+        assertEquals("previous", Files.readString(output));
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.filter(path -> path.toString().endsWith(".tmp")).count());
+        }
+    }
+
+    private void writeJson(Path path, Map<String, Object> spec) throws IOException {
+        objectMapper.writeValue(path.toFile(), spec);
+    }
+
+    private void writeGzip(Path path, Map<String, Object> spec) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            objectMapper.writeValue(out, spec);
+        }
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> spec(String applicationName, Map<String, Object>... endpoints) {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("applicationName", applicationName);
+        spec.put("version", "1.0.0");
+        spec.put("endpoints", List.of(endpoints));
+        spec.put("exceptionHandlers", List.of(Map.of("exceptionTypes", List.of("IllegalArgumentException"))));
+        return spec;
+    }
+
+    private static Map<String, Object> endpoint(String method, String path, String dtoType) {
+        // 같은 구조의 DTO가 서비스마다 다른 패키지에 복사된 상황
+        Map<String, Object> schema = Map.of(
+                "fields", List.of(Map.of("name", "id", "type", "Long"), Map.of("name", "name", "type", "String")),
+                "example", Map.of("id", 0, "name", "string"));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("type", "ResponseEntity");
+        response.put("genericFullType", dtoType);
+        response.put("schema", schema);
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("paths", List.of(path));
+        endpoint.put("methods", List.of(method));
+        endpoint.put("response", response);
+        return endpoint;
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.bigdaditor.sasa.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SasaMockServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void testServesExamplesFromSpec() throws Exception {
+        try (SasaMockServer server = SasaMockServer.builder(spec()).port(0).build().start()) {
+            assertEquals(3, server.getRouteCount());
+
+            HttpResponse<String> list = get(server, "/api/users");
+            assertEquals(200, list.statusCode());
+            assertEquals("application/json", list.headers().firstValue("Content-Type").orElse(null));
+            assertEquals("[{\"id\":0,\"name\":\"string\"}]", list.body());
+
+            HttpResponse<String> single = get(server, "/api/users/42");
+            assertEquals(200, single.statusCode());
+            assertEquals("{\"id\":0,\"name\":\"string\"}", single.body());
+
+            HttpResponse<String> deleted = send(server, "/api/users/42", "DELETE");
+            assertEquals(200, deleted.statusCode());
+            assertEquals("", deleted.body());
+        }
+    }
+
+    @Test
+    void testUnknownRouteReturnsNotFound() throws Exception {
+        try (SasaMockServer server = SasaMockServer.builder(spec()).port(0).build().start()) {
+            HttpResponse<String> response = send(server, "/api/users", "PUT");
+            assertEquals(404, response.statusCode());
+            assertTrue(response.body().contains("PUT /api/users"), response.body());
+        }
+    }
+
+    @Test
+    void testNotFoundBodyIsValidJsonForAnyPath() throws Exception {
+        MockResponse response = SasaMockServer.notFound("GET", "/api/\"quoted\"/back\\slash");
+
+        assertEquals(404, response.getStatus());
+        JsonNode body = new ObjectMapper().readTree(response.getBody());
+        assertEquals("No mock endpoint for GET /api/\"quoted\"/back\\slash", body.get("error").asText());
+    }
+
+    @Test
+    void testBindsToLoopbackByDefault() throws Exception {
+        try (SasaMockServer server = SasaMockServer.builder(spec()).port(0).build().start()) {
+            assertTrue(server.getAddress().getAddress().isLoopbackAddress(), server.getAddress().toString());
+        }
+    }
+
+    @Test
+    void testLatencyIsApplied() throws Exception {
+        try (SasaMockServer server = SasaMockServer.builder(spec())
+                .port(0)
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(50)))
+                .build()
+                .start()) {
+            long start = System.nanoTime();
+            assertEquals(200, get(server, "/api/users/1").statusCode());
+            assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+        }
+    }
+
+    @Test
+    void testParseLatencyDistribution() {
+        assertEquals(0, LatencyDistribution.parse("none").nextDelayNanos());
+        assertEquals(Duration.ofMillis(20).toNanos(), LatencyDistribution.parse("fixed:20ms").nextDelayNanos());
+        assertEquals(Duration.ofSeconds(1).toNanos(), LatencyDistribution.parse("fixed:1s").nextDelayNanos());
+
+        long uniform = LatencyDistribution.parse("uniform:5ms-10ms").nextDelayNanos();
+        assertTrue(uniform >= Duration.ofMillis(5).toNanos() && uniform <= Duration.ofMillis(10).toNanos());
+        assertTrue(LatencyDistribution.parse("normal:30ms,10ms").nextDelayNanos() >= 0);
+
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("gamma:1ms"));
+    }
+
+    private HttpResponse<String> get(SasaMockServer server, String path) throws Exception {
+        return send(server, path, "GET");
+    }
+
+    private HttpResponse<String> send(SasaMockServer server, String path, String method) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static Map<String, Object> spec() {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", 0);
+        user.put("name", "string");
+
+        return Map.of("endpoints", List.of(
+                endpoint(List.of("GET"), "/api/users", "java.util.List<com.example.UserDTO>", user),
+                endpoint(List.of("GET"), "/api/users/{id}", "com.example.UserDTO", user),
+                endpoint(List.of("DELETE"), "/api/users/{id}", "void", null)));
+    }
+
+    private static Map<String, Object> endpoint(List<String> methods, String path, String type, Map<String, Object> example) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("type", type);
+        response.put("genericSignature", type);
+        if (example != null) {
+            response.put("schema", Map.of("type", "object", "example", example));
+        }
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("paths", List.of(path));
+        endpoint.put("methods", methods);
+        endpoint.put("response", response);
+        return endpoint;
+    }
+}
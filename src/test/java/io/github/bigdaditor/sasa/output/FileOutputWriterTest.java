@@ -0,0 +1,43 @@
+package io.github.bigdaditor.sasa.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileOutputWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testWritesPlainFileOnlyByDefault() throws Exception {
+        Path target = tempDir.resolve("api-spec.json");
+
+        new FileOutputWriter().write("{\"a\":1}", target.toString());
+
+        assertEquals("{\"a\":1}", Files.readString(target));
+        assertFalse(Files.exists(tempDir.resolve("api-spec.json.gz")));
+    }
+
+    @Test
+    void testWritesGzipCompanionWithSameContent() throws Exception {
+        Path target = tempDir.resolve("nested/api-spec.html");
+        String content = "<html>" + "사용자 ".repeat(10_000) + "</html>";
+
+        new FileOutputWriter(true, 9).write(content, target.toString());
+
+        Path gzip = tempDir.resolve("nested/api-spec.html.gz");
+        assertEquals(content, Files.readString(target));
+        assertTrue(Files.size(gzip) < Files.size(target), "Compressed file should be smaller");
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzip))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.bigdaditor.sasa.output;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.core.DefaultApiSpecGenerator;
+import io.github.bigdaditor.sasa.generator.api.OutputGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutputPipelineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRenderIsReusedForAllConsumers() {
+        CountingGenerator generator = new CountingGenerator(".json");
+        RecordingWriter writer = new RecordingWriter();
+        OutputPipeline pipeline = new OutputPipeline(Map.of("applicationName", "Test"), writer, Runnable::run);
+
+        CompletableFuture<String> console = pipeline.render(generator);
+        CompletableFuture<Void> file = pipeline.write(generator, "out/api-spec.json");
+        OutputPipeline.await(List.of(console, file));
+
+        assertEquals(1, generator.invocations.get(), "Generator should render only once");
+        assertEquals("Test.json", console.join());
+        assertEquals("Test.json", writer.written.get("out/api-spec.json"));
+    }
+
+    @Test
+    void testEachGeneratorWritesIndependently() {
+        RecordingWriter writer = new RecordingWriter();
+        OutputPipeline pipeline = new OutputPipeline(Map.of("applicationName", "Test"), writer, Runnable::run);
+
+        OutputPipeline.await(List.of(
+                pipeline.write(new CountingGenerator(".json"), "out/api-spec.json"),
+                pipeline.write(new CountingGenerator(".html"), "out/api-spec.html")));
+
+        assertEquals(2, writer.written.size());
+        assertEquals("Test.html", writer.written.get("out/api-spec.html"));
+    }
+
+    @Test
+    void testFailurePropagatesOriginalException() {
+        OutputGenerator failing = new CountingGenerator(".json") {
+            @Override
+            public String generate(Map<String, Object> apiSpec) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        OutputPipeline pipeline = new OutputPipeline(Map.of(), new RecordingWriter(), Runnable::run);
+
+        assertThrows(IllegalStateException.class,
+                () -> OutputPipeline.await(List.of(pipeline.write(failing, "out/api-spec.json"))));
+    }
+
+    @Test
+    void testSpecIsReadOnlyForGenerators() {
+        OutputGenerator mutating = new CountingGenerator(".json") {
+            @Override
+            public String generate(Map<String, Object> apiSpec) {
+                apiSpec.put("mutated", true);
+                return "";
+            }
+        };
+        OutputPipeline pipeline = new OutputPipeline(new java.util.HashMap<>(), new RecordingWriter(), Runnable::run);
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> OutputPipeline.await(List.of(pipeline.render(mutating))));
+    }
+
+    @Test
+    void testStreamingGeneratorsWorkWithStringOnlyWriters() {
+        RecordingWriter writer = new RecordingWriter();
+        OutputPipeline pipeline = new OutputPipeline(Map.of("applicationName", "Test"), writer, Runnable::run);
+
+        OutputPipeline.await(List.of(
+                pipeline.write(new StreamingGenerator("{\"a\":1}\n".getBytes(StandardCharsets.UTF_8)), "out/api-spec.ndjson")));
+        assertEquals("{\"a\":1}\n", writer.written.get("out/api-spec.ndjson"));
+
+        // 바이너리는 다른 형태로 바꿔 저장하지 않고 거부
+        CompletableFuture<Void> binary = pipeline.write(
+                new StreamingGenerator(new byte[]{(byte) 0xCA, (byte) 0xFE, 0, 1}), "out/api-spec.sasa");
+        assertThrows(UnsupportedOperationException.class, () -> OutputPipeline.await(List.of(binary)));
+        assertFalse(writer.written.containsKey("out/api-spec.sasa"));
+    }
+
+    static class StreamingGenerator extends CountingGenerator {
+        private final byte[] bytes;
+
+        StreamingGenerator(byte[] bytes) {
+            super(".bin");
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void generate(Map<String, Object> apiSpec, OutputStream out) throws IOException {
+            out.write(bytes);
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+    }
+
+    @Test
+    void testDefaultExecutorsStayOffTheCommonPool() {
+        Thread[] writerThread = new Thread[1];
+        OutputWriter writer = (content, filePath) -> writerThread[0] = Thread.currentThread();
+        writer.writeAsync("{}", "out/api-spec.json").join();
+        assertFalse(writerThread[0] instanceof ForkJoinWorkerThread);
+
+        ThreadRecordingGenerator generator = new ThreadRecordingGenerator();
+        SasaConfig config = SasaConfig.builder()
+                .enableConsoleOutput(false)
+                .enableFileOutput(true)
+                .outputFilePath(tempDir.resolve("api-spec.json").toString())
+                .addOutputGenerator(generator)
+                .build();
+        new DefaultApiSpecGenerator(config).output(
+                Map.of("applicationName", "Test", "endpoints", List.of(), "exceptionHandlers", List.of()));
+
+        assertFalse(generator.thread instanceof ForkJoinWorkerThread);
+        assertTrue(generator.thread.getName().startsWith("sasa-output-"), generator.thread.getName());
+    }
+
+    static class ThreadRecordingGenerator extends CountingGenerator {
+        volatile Thread thread;
+
+        ThreadRecordingGenerator() {
+            super(".txt");
+        }
+
+        @Override
+        public String generate(Map<String, Object> apiSpec) {
+            thread = Thread.currentThread();
+            return super.generate(apiSpec);
+        }
+    }
+
+    static class CountingGenerator implements OutputGenerator {
+        final AtomicInteger invocations = new AtomicInteger();
+        private final String extension;
+
+        CountingGenerator(String extension) {
+            this.extension = extension;
+        }
+
+        @Override
+        public String generate(Map<String, Object> apiSpec) {
+            invocations.incrementAndGet();
+            return apiSpec.get("applicationName") + extension;
+        }
+
+        @Override
+        public String getFileExtension() {
+            return extension;
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/plain";
+        }
+    }
+
+    static class RecordingWriter implements OutputWriter {
+        final Map<String, String> written = new ConcurrentHashMap<>();
+
+        @Override
+        public void write(String content, String filePath) {
+            written.put(filePath, content);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.bigdaditor.sasa.reactive;
+
+import io.github.bigdaditor.sasa.SasaConfig;
+import io.github.bigdaditor.sasa.extractor.impl.DefaultEndpointExtractor;
+import io.github.bigdaditor.sasa.extractor.impl.ReactiveEndpointExtractor;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SasaReactiveViewControllerTest {
+
+    @Test
+    void extractsOnBoundedElasticAndUnwrapsReactiveTypes() {
+        try (GenericApplicationContext context = context()) {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            DefaultEndpointExtractor recording = new DefaultEndpointExtractor() {
+                @Override
+                public Map<String, Object> extractDetails(HandlerMethod handlerMethod, SasaConfig config) {
+                    threads.add(Thread.currentThread().getName());
+                    return super.extractDetails(handlerMethod, config);
+                }
+            };
+            SasaReactiveViewController controller = new SasaReactiveViewController(
+                    context.getBean(RequestMappingHandlerMapping.class), context, SasaConfig.builder().build(),
+                    new ReactiveEndpointExtractor(recording), Schedulers.boundedElastic());
+
+            Map<String, Object> spec = controller.getSpecSnapshot().block();
+
+            assertFalse(threads.isEmpty());
+            assertTrue(threads.stream().allMatch(name -> name.startsWith("boundedElastic")), threads::toString);
+            assertSame(spec, controller.getSpecSnapshot().block());
+
+            Map<String, Map<String, Object>> responses = responsesByHandler(spec);
+            assertEquals("UserDto", responses.get("get").get("type"));
+            assertEquals("Mono", responses.get("get").get("reactiveType"));
+            assertEquals("List", responses.get("list").get("type"));
+            assertEquals("UserDto", responses.get("list").get("genericType"));
+            assertEquals("Flux", responses.get("list").get("reactiveType"));
+        }
+    }
+
+    @Test
+    void servesSnapshotBytesWithETag() {
+        try (GenericApplicationContext context = context()) {
+            SasaReactiveViewController controller = new SasaReactiveViewController(
+                    context.getBean(RequestMappingHandlerMapping.class), context);
+
+            MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/sasa/api-spec"));
+            DataBuffer body = controller.getApiSpec(first).block();
+            assertNotNull(body);
+            assertTrue(body.toString(StandardCharsets.UTF_8).contains("/users/{id}"));
+            String eTag = first.getResponse().getHeaders().getETag();
+            assertNotNull(eTag);
+
+            MockServerWebExchange second = MockServerWebExchange.from(
+                    MockServerHttpRequest.get("/sasa/api-spec").ifNoneMatch(eTag));
+            assertNull(controller.getApiSpec(second).block());
+            assertEquals(304, second.getResponse().getStatusCode().value());
+        }
+    }
+
+    private static GenericApplicationContext context() {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(UserController.class);
+        context.registerBean(RequestMappingHandlerMapping.class);
+        context.refresh();
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> responsesByHandler(Map<String, Object> spec) {
+        Map<String, Map<String, Object>> responses = new HashMap<>();
+        for (Map<String, Object> endpoint : (List<Map<String, Object>>) spec.get("endpoints")) {
+            Map<String, Object> handler = (Map<String, Object>) endpoint.get("handler");
+            responses.put((String) handler.get("method"), (Map<String, Object>) endpoint.get("response"));
+        }
+        return responses;
+    }
+
+    static class UserDto {
+        private Long id;
+        private String name;
+    }
+
+    @RestController
+    static class UserController {
+
+        @GetMapping("/users/{id}")
+        public Mono<UserDto> get(@PathVariable Long id) {
+            return Mono.empty();
+        }
+
+        @GetMapping("/users")
+        public Flux<UserDto> list() {
+            return Flux.empty();
+        }
+    }
+}
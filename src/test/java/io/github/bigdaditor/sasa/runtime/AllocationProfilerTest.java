@@ -0,0 +1,80 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationProfilerTest {
+
+    @Test
+    void testStatsAverageOnlyMeasuredSamples() {
+        AllocationStats stats = new AllocationStats();
+        stats.record(1000, 200, 4000);
+        stats.record(3000, -1, 2000);
+        stats.record(-1, 100, 0);
+
+        Map<String, Object> snapshot = stats.snapshot();
+        assertEquals(3L, snapshot.get("sampledRequests"));
+        assertEquals(2000L, snapshot.get("avgAllocatedBytes"));
+        assertEquals(3000L, snapshot.get("maxAllocatedBytes"));
+        assertEquals(150L, snapshot.get("avgRequestBytes"));
+        assertEquals(2000L, snapshot.get("avgResponseBytes"));
+        assertEquals(4000L, snapshot.get("maxResponseBytes"));
+    }
+
+    @Test
+    void testHeaviestEndpointsRankedByAverageAllocation() {
+        AllocationProfiler profiler = AllocationProfiler.builder().heaviestEndpoints(2).build();
+
+        Map<String, Object> spec = new LinkedHashMap<>();
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        endpoints.add(endpoint("/light", 1_000));
+        endpoints.add(endpoint("/heavy", 50_000));
+        endpoints.add(endpoint("/medium", 8_000));
+        endpoints.add(endpoint("/unsampled", -1));
+        spec.put("endpoints", endpoints);
+
+        profiler.contributeSpec(spec);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> heaviest = (List<Map<String, Object>>) spec.get("heaviestEndpoints");
+        assertEquals(2, heaviest.size());
+        assertEquals("/heavy", heaviest.get(0).get("path"));
+        assertEquals("GET", heaviest.get(0).get("method"));
+        assertEquals("/medium", heaviest.get(1).get("path"));
+    }
+
+    @Test
+    void testCurrentThreadAllocatedBytesGrows() {
+        assumeTrue(AllocationProfiler.isAllocationMeasurable());
+
+        long before = AllocationProfiler.currentThreadAllocatedBytes();
+        byte[][] garbage = new byte[64][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[1024];
+        }
+        long after = AllocationProfiler.currentThreadAllocatedBytes();
+
+        assertTrue(after - before >= 64 * 1024, "allocated " + (after - before) + " bytes for " + garbage.length + " arrays");
+    }
+
+    private static Map<String, Object> endpoint(String path, long allocatedBytes) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("paths", new LinkedHashSet<>(Set.of(path)));
+        endpoint.put("methods", new LinkedHashSet<>(Set.of("GET")));
+        if (allocatedBytes >= 0) {
+            AllocationStats stats = new AllocationStats();
+            stats.record(allocatedBytes, 0, 100);
+            endpoint.put("allocation", stats.snapshot());
+        }
+        return endpoint;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractCheckerTest {
+
+    private static final String KEY = "com.example.UserController#create(com.example.UserDTO,java.lang.Integer)";
+
+    @Test
+    void testValidRequestHasNoViolations() {
+        ContractChecker checker = ContractChecker.builder(ContractCheckerTest::spec).build();
+
+        List<String> violations = checker.check(KEY, sample(Map.of("page", new String[]{"2"}),
+                "{\"email\":\"kim@example.com\",\"name\":\"Kim\",\"age\":30}"));
+
+        assertEquals(List.of(), violations);
+    }
+
+    @Test
+    void testViolationsAreCountedPerRule() {
+        ContractChecker checker = ContractChecker.builder(ContractCheckerTest::spec).build();
+
+        List<String> violations = checker.check(KEY, sample(Map.of("page", new String[]{"two"}),
+                "{\"email\":\"not-an-email\",\"name\":\" \",\"age\":-1,\"nickname\":\"k\"}"));
+        checker.check(KEY, sample(Map.of(), "{\"email\":\"kim@example.com\",\"name\":\"Kim\",\"age\":\"30\"}"));
+
+        assertTrue(violations.containsAll(List.of("query.page.type", "body.email.email", "body.name.notBlank",
+                "body.age.min", "body.nickname.undeclared")), violations.toString());
+
+        Map<String, Object> endpoint = endpoint();
+        checker.contribute(KEY, endpoint);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> contract = (Map<String, Object>) endpoint.get("contract");
+        assertEquals(2L, contract.get("checkedRequests"));
+        assertEquals(2L, contract.get("violatingRequests"));
+        @SuppressWarnings("unchecked")
+        Map<String, Long> byRule = (Map<String, Long>) contract.get("violations");
+        assertEquals(1L, byRule.get("query.page.required"));
+        assertEquals(1L, byRule.get("body.age.type"));
+    }
+
+    @Test
+    void testTruncatedAndMissingBodies() {
+        ContractChecker checker = ContractChecker.builder(ContractCheckerTest::spec).build();
+        Map<String, String[]> query = Map.of("page", new String[]{"1"});
+
+        assertEquals(List.of("body.required"), checker.check(KEY, sample(query, "")));
+        assertEquals(List.of("body.json"), checker.check(KEY, sample(query, "{\"email\":")));
+        assertEquals(List.of(), checker.check(KEY,
+                new ContractSample(null, query, null, "{\"email\":".getBytes(StandardCharsets.UTF_8), true)));
+    }
+
+    @Test
+    void testContractsCompiledOncePerSnapshot() {
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, Object> snapshot = spec();
+        ContractChecker checker = ContractChecker.builder(() -> {
+            calls.incrementAndGet();
+            return snapshot;
+        }).build();
+
+        checker.check(KEY, sample(Map.of(), "{}"));
+        checker.check(KEY, sample(Map.of(), "{}"));
+
+        assertEquals(2, calls.get());
+        assertEquals(List.of(), checker.check("unknown#key()", sample(Map.of(), "{}")));
+    }
+
+    @Test
+    void testFullQueueDropsInsteadOfBlocking() throws Exception {
+        ContractChecker checker = ContractChecker.builder(ContractCheckerTest::spec)
+                .sampleRate(1.0)
+                .executor(task -> {
+                    throw new RejectedExecutionException("full");
+                })
+                .build();
+        HandlerMethod handlerMethod = new HandlerMethod(new SampleController(), SampleController.class.getMethod("create", String.class));
+
+        checker.submit(handlerMethod, sample(Map.of(), "{}"));
+
+        Map<String, Object> spec = new LinkedHashMap<>();
+        checker.contributeSpec(spec);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> summary = (Map<String, Object>) spec.get("contractChecks");
+        assertEquals(1L, summary.get("submitted"));
+        assertEquals(1L, summary.get("dropped"));
+        assertEquals(0L, summary.get("checked"));
+    }
+
+    private static ContractSample sample(Map<String, String[]> query, String body) {
+        return new ContractSample(Map.of(), query, Map.of(), body.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    private static Map<String, Object> spec() {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("endpoints", List.of(endpoint()));
+        return spec;
+    }
+
+    private static Map<String, Object> endpoint() {
+        Map<String, Object> handler = new LinkedHashMap<>();
+        handler.put("fullControllerName", "com.example.UserController");
+        handler.put("signature", "create(com.example.UserDTO,java.lang.Integer)");
+
+        List<Map<String, Object>> fields = new ArrayList<>();
+        fields.add(field("email", "String", Map.of("notBlank", true, "email", true)));
+        fields.add(field("name", "String", Map.of("notBlank", true, "size", Map.of("min", 1, "max", 20))));
+        fields.add(field("age", "Integer", Map.of("min", 0L, "max", 150L)));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "user");
+        body.put("type", "UserDTO");
+        body.put("parameterType", "REQUEST_BODY");
+        body.put("required", true);
+        body.put("schema", Map.of("fields", fields));
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("name", "page");
+        page.put("type", "Integer");
+        page.put("parameterType", "REQUEST_PARAM");
+        page.put("paramName", "page");
+        page.put("required", true);
+        page.put("defaultValue", "\n\t\t\n\t\t\n\n\t\t\t\t\n");
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("handler", handler);
+        endpoint.put("parameters", List.of(body, page));
+        return endpoint;
+    }
+
+    private static Map<String, Object> field(String name, String type, Map<String, Object> validations) {
+        Map<String, Object> field = new LinkedHashMap<>();
+        field.put("name", name);
+        field.put("type", type);
+        field.put("validations", validations);
+        return field;
+    }
+
+    static class SampleController {
+        public String create(String body) {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.HandlerMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExampleRecorderTest {
+
+    @Test
+    void testSampleRateControlsSampling() {
+        ExampleRecorder recorder = ExampleRecorder.builder().sampleRate(0.25).build();
+
+        int sampled = 0;
+        for (int i = 0; i < 100; i++) {
+            if (recorder.shouldSample()) {
+                sampled++;
+            }
+        }
+        assertEquals(25, sampled);
+        assertFalse(ExampleRecorder.builder().sampleRate(0).build().shouldSample());
+    }
+
+    @Test
+    void testRecordedExampleIsRedactedAndAttached() throws Exception {
+        ExampleRecorder recorder = ExampleRecorder.builder()
+                .sampleRate(1)
+                .executor(Runnable::run)
+                .build();
+        HandlerMethod handlerMethod = new HandlerMethod(new SampleController(), SampleController.class.getMethod("login", String.class));
+
+        recorder.submit(handlerMethod, new ExampleRecorder.RawSample(
+                "POST", "/login", null,
+                "application/json", bytes("{\"username\":\"kim\",\"password\":\"p@ss\"}"), false, "UTF-8",
+                200, "application/json", bytes("{\"token\":\"abc\",\"expiresIn\":3600}"), false, "UTF-8"));
+
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        recorder.contribute(EndpointKey.of(handlerMethod), endpoint);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> examples = (List<Map<String, Object>>) endpoint.get("examples");
+        assertEquals(1, examples.size());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> requestBody = (Map<String, Object>) ((Map<String, Object>) examples.get(0).get("request")).get("body");
+        assertEquals("kim", requestBody.get("username"));
+        assertEquals(ExampleRedactor.MASK, requestBody.get("password"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> response = (Map<String, Object>) examples.get(0).get("response");
+        assertEquals(200, response.get("status"));
+        assertEquals(ExampleRedactor.MASK, ((Map<?, ?>) response.get("body")).get("token"));
+    }
+
+    @Test
+    void testQueryAndFormBodyAreMaskedAndUncheckableBodiesOmitted() {
+        ExampleRedactor redactor = ExampleRedactor.maskFields("password", "token");
+
+        CapturedExample form = redactor.redact(new CapturedExample("POST", "/login", "token=abc&page=1",
+                "application/x-www-form-urlencoded; charset=UTF-8", "username=kim&Password=p%40ss", false,
+                200, "application/json", "{\"token\":\"abc\"", true, null));
+        assertEquals("token=***&page=1", form.getQuery());
+        assertEquals("username=kim&Password=***", form.getRequestBody());
+        assertEquals(ExampleRedactor.OMITTED, form.getResponseBody());
+
+        CapturedExample text = redactor.redact(new CapturedExample("POST", "/login", null,
+                "text/plain", "password: p@ss", false, 200, null, null, false, null));
+        assertEquals(ExampleRedactor.OMITTED, text.getRequestBody());
+        assertNull(text.getResponseBody());
+    }
+
+    @Test
+    void testRingBufferKeepsNewestSamples() {
+        SampleRingBuffer<Integer> buffer = new SampleRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 1; i <= 6; i++) {
+            buffer.add(i);
+        }
+        assertEquals(List.of(6, 5, 4, 3), buffer.snapshot());
+        assertEquals(6, buffer.totalAdded());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unused")
+    static class SampleController {
+        public String login(String body) {
+            return body;
+        }
+    }
+}
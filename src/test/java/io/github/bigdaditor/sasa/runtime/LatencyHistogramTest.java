@@ -0,0 +1,70 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000L);
+        }
+
+        Map<String, Object> snapshot = histogram.snapshot();
+        assertEquals(1000L, snapshot.get("count"));
+        assertEquals(500.5, (double) snapshot.get("meanMs"), 0.001);
+        assertEquals(1000.0, (double) snapshot.get("maxMs"), 0.001);
+        // 하위 버킷 4개 → 상대 오차 12.5% 이내
+        assertEquals(500, (double) snapshot.get("p50Ms"), 500 * 0.125);
+        assertEquals(900, (double) snapshot.get("p90Ms"), 900 * 0.125);
+        assertEquals(990, (double) snapshot.get("p99Ms"), 990 * 0.125);
+    }
+
+    @Test
+    void testEmptyHistogramHasNoPercentiles() {
+        Map<String, Object> snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0L, snapshot.get("count"));
+        assertFalse(snapshot.containsKey("p50Ms"));
+    }
+
+    @Test
+    void testBucketIndexIsMonotonicAndBounded() {
+        int previous = -1;
+        for (long micros = 0; micros < 1_000_000; micros += 37) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertTrue(index >= previous);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testConcurrentRecordingKeepsEveryCount() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(2_000_000L);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<String, Object> snapshot = histogram.snapshot();
+        assertEquals(80_000L, snapshot.get("count"));
+        assertEquals(2.0, (double) snapshot.get("maxMs"), 0.001);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.bigdaditor.sasa.runtime;
+
+import io.github.bigdaditor.sasa.util.EndpointKey;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyInterceptorTest {
+
+    private final LatencyInterceptor interceptor = new LatencyInterceptor();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearThreadState() throws Exception {
+        startTimes().remove();
+    }
+
+    @Test
+    void nestedDispatchesAreRecordedAndThreadStateIsReleasedAfterOuterRequest() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new PingController(), PingController.class.getMethod("ping"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ping");
+        MockHttpServletRequest forward = new MockHttpServletRequest("GET", "/ping");
+        forward.setDispatcherType(DispatcherType.FORWARD);
+
+        interceptor.preHandle(request, response, handler);
+        Object outer = startTimes().get();
+        interceptor.preHandle(forward, response, handler);
+        interceptor.afterCompletion(forward, response, handler, null);
+        // 바깥 요청이 끝나기 전에는 같은 스택을 유지
+        assertSame(outer, startTimes().get());
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // 요청이 끝난 스레드에는 이 클래스로더의 객체가 남지 않아야 함
+        assertNotSame(outer, startTimes().get());
+        assertEquals(2L, interceptor.getHistogram(EndpointKey.of(handler)).snapshot().get("count"));
+    }
+
+    @Test
+    void asyncHandoffReleasesThreadState() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new PingController(), PingController.class.getMethod("ping"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ping");
+
+        interceptor.preHandle(request, response, handler);
+        Object started = startTimes().get();
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertNotSame(started, startTimes().get());
+        assertNull(interceptor.getHistogram(EndpointKey.of(handler)));
+    }
+
+    private static ThreadLocal<?> startTimes() throws Exception {
+        Field field = LatencyInterceptor.class.getDeclaredField("START_TIMES");
+        field.setAccessible(true);
+        return (ThreadLocal<?>) field.get(null);
+    }
+
+    static class PingController {
+
+        public String ping() {
+            return "pong";
+        }
+    }
+}
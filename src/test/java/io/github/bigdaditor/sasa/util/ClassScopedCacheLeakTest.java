@@ -0,0 +1,133 @@
+package io.github.bigdaditor.sasa.util;
+
+import io.github.bigdaditor.sasa.extractor.impl.DefaultTypeSchemaExtractor;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassScopedCacheLeakTest {
+
+    private static final int RELOADS = 5;
+
+    @Test
+    void testReloadedClassLoadersAreCollected() throws Exception {
+        DefaultTypeSchemaExtractor extractor = new DefaultTypeSchemaExtractor();
+
+        List<WeakReference<ClassLoader>> loaders = new ArrayList<>();
+        for (int i = 0; i < RELOADS; i++) {
+            loaders.add(loadAndExtract(extractor));
+        }
+
+        // Spring ResolvableType 자체 캐시는 soft reference라 GC 압박 전까지 남으므로 비움 (컨텍스트 refresh 시 Spring도 동일)
+        ResolvableType.clearCache();
+
+        assertTrue(awaitCollected(loaders), "Reloaded class loaders should not be pinned by SASA caches");
+    }
+
+    @Test
+    void testValueReferencingChildClassIsNotCachedOnParentClass() throws Exception {
+        ClassLoader child = new ProbeClassLoader(getClass().getClassLoader());
+        Class<?> probe = child.loadClass(LeakProbeHolder.class.getName());
+
+        AtomicInteger loads = new AtomicInteger();
+        ClassScopedCache<String, Class<?>> cache = new ClassScopedCache<>((key, value) -> List.of(value));
+
+        cache.get(Object.class, "probe", key -> { loads.incrementAndGet(); return probe; });
+        cache.get(Object.class, "probe", key -> { loads.incrementAndGet(); return probe; });
+        assertEquals(2, loads.get());
+
+        cache.get(probe, "probe", key -> { loads.incrementAndGet(); return probe; });
+        cache.get(probe, "probe", key -> { loads.incrementAndGet(); return probe; });
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testInvalidateAllClearsEntries() {
+        AtomicInteger loads = new AtomicInteger();
+        ClassScopedCache<String, String> cache = new ClassScopedCache<>(null);
+
+        cache.get(String.class, "key", key -> "v" + loads.incrementAndGet());
+        assertEquals("v1", cache.get(String.class, "key", key -> "v" + loads.incrementAndGet()));
+
+        ClassScopedCache.invalidateAll();
+        assertEquals("v2", cache.get(String.class, "key", key -> "v" + loads.incrementAndGet()));
+    }
+
+    private static WeakReference<ClassLoader> loadAndExtract(DefaultTypeSchemaExtractor extractor) throws Exception {
+        ClassLoader loader = new ProbeClassLoader(ClassScopedCacheLeakTest.class.getClassLoader());
+        Class<?> holder = loader.loadClass(LeakProbeHolder.class.getName());
+        assertNotSame(LeakProbeHolder.class, holder);
+
+        Map<String, Object> schema = extractor.extractTypeSchema(holder);
+        assertFalse(schema.isEmpty());
+        return new WeakReference<>(loader);
+    }
+
+    private static boolean awaitCollected(List<WeakReference<ClassLoader>> loaders) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            if (loaders.stream().allMatch(reference -> reference.get() == null)) {
+                return true;
+            }
+            System.gc();
+            Thread.sleep(20);
+        }
+        return loaders.stream().allMatch(reference -> reference.get() == null);
+    }
+
+    /**
+     * 프로브 클래스만 자식 우선으로 다시 정의하는 클래스로더 (재시작/리디플로이 시뮬레이션)
+     */
+    private static class ProbeClassLoader extends ClassLoader {
+
+        private static final Set<String> PROBES = Set.of(LeakProbeDto.class.getName(), LeakProbeHolder.class.getName());
+
+        ProbeClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!PROBES.contains(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    if (in == null) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
+
+@SuppressWarnings("unused")
+class LeakProbeDto<T> {
+    private List<T> items;
+    private Map<String, T> index;
+}
+
+@SuppressWarnings("unused")
+class LeakProbeHolder {
+    private LeakProbeDto<String> page;
+    private List<LeakProbeDto<Integer>> pages;
+    private String name;
+}
@@ -0,0 +1,57 @@
+package io.github.bigdaditor.sasa.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        LruCache<String, String> cache = new LruCache<>(2);
+
+        cache.get("a", key -> key + loads.incrementAndGet());
+        cache.get("b", key -> key + loads.incrementAndGet());
+        // a를 다시 조회해 b가 가장 오래된 항목이 됨
+        assertEquals("a1", cache.get("a", key -> key + loads.incrementAndGet()));
+        cache.get("c", key -> key + loads.incrementAndGet());
+
+        assertEquals("a1", cache.get("a", key -> key + loads.incrementAndGet()));
+        assertEquals("b4", cache.get("b", key -> key + loads.incrementAndGet()));
+        assertEquals(4, loads.get());
+
+        Map<String, Object> stats = cache.stats();
+        assertEquals(2, stats.get("size"));
+        assertEquals(2, stats.get("capacity"));
+        assertEquals(2L, stats.get("hits"));
+        assertEquals(4L, stats.get("misses"));
+        assertEquals(2L, stats.get("evictions"));
+    }
+
+    @Test
+    void testNullValuesAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        LruCache<String, String> cache = new LruCache<>(4);
+
+        assertNull(cache.get("missing", key -> { loads.incrementAndGet(); return null; }));
+        assertNull(cache.get("missing", key -> { loads.incrementAndGet(); return null; }));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.stats().get("size"));
+    }
+
+    @Test
+    void testClearKeepsStats() {
+        LruCache<String, String> cache = new LruCache<>(4);
+        cache.get("a", key -> "value");
+        cache.clear();
+
+        assertEquals(0, cache.stats().get("size"));
+        assertEquals(1L, cache.stats().get("misses"));
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    }
+}